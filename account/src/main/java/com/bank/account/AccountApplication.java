@@ -4,9 +4,11 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.netflix.eureka.EnableEurekaClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableEurekaClient
 @EnableFeignClients
+@EnableScheduling
 @SpringBootApplication(scanBasePackages = {"com.bank.common", "com.bank.account"})
 public class AccountApplication {
     public static void main(String[] args) {
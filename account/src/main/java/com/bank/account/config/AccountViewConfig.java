@@ -0,0 +1,62 @@
+package com.bank.account.config;
+
+import com.bank.account.client.BankDetailsFeignClient;
+import com.bank.account.dto.BankDetailsDto;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * Пул и near cache для составного представления аккаунта.
+ */
+@Configuration
+public class AccountViewConfig {
+
+    public static final String ACCOUNT_VIEW_EXECUTOR = "accountViewExecutor";
+
+    /**
+     * @param poolSize размер пула для параллельных запросов в profile-app и public-info-app
+     * @return {@link ThreadPoolTaskExecutor}
+     */
+    @Bean(ACCOUNT_VIEW_EXECUTOR)
+    public ThreadPoolTaskExecutor accountViewExecutor(@Value("${account.view.pool-size:16}") int poolSize) {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 64);
+        executor.setThreadNamePrefix("account-view-");
+        return executor;
+    }
+
+    /**
+     * Реквизиты банка почти не меняются, поэтому держатся в памяти короткий TTL.
+     * Одновременные промахи по одному id делят одну загрузку.
+     *
+     * @return {@link AsyncLoadingCache} реквизитов банка по id
+     */
+    @Bean
+    public AsyncLoadingCache<Long, BankDetailsDto> bankDetailsCache(
+            BankDetailsFeignClient bankDetailsClient,
+            @Qualifier(ACCOUNT_VIEW_EXECUTOR) Executor executor,
+            MeterRegistry meterRegistry,
+            @Value("${account.view.bank-details.ttl:PT5M}") Duration ttl,
+            @Value("${account.view.bank-details.max-size:1000}") long maxSize) {
+        final AsyncLoadingCache<Long, BankDetailsDto> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .executor(executor)
+                .recordStats()
+                .buildAsync(bankDetailsClient::readById);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "bankDetails");
+        return cache;
+    }
+}
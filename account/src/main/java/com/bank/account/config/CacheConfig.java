@@ -0,0 +1,18 @@
+package com.bank.account.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Кэши account-app. Размер, TTL и сбор статистики задаются в spring.cache.caffeine.spec,
+ * попадания и промахи публикуются в метрике cache.gets.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Кэш {@link com.bank.account.dto.AccountDetailsDto} по номеру счёта.
+     */
+    public static final String ACCOUNT_DETAILS_BY_NUMBER = "accountDetailsByNumber";
+}
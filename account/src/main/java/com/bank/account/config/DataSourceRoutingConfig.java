@@ -0,0 +1,86 @@
+package com.bank.account.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseDataSource;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Источники данных при включённой маршрутизации чтений на реплики.
+ * Без account.datasource.routing.enabled остаётся источник, который создаёт Spring Boot.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "account.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    public static final String PRIMARY_DATA_SOURCE = "primaryDataSource";
+
+    /**
+     * Liquibase и preliquibase всегда работают с primary.
+     *
+     * @param properties spring.datasource
+     * @return пул соединений primary
+     */
+    @Bean(PRIMARY_DATA_SOURCE)
+    @LiquibaseDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    /**
+     * @param primary    пул соединений primary
+     * @param properties {@link ReplicaRoutingProperties}
+     * @return {@link ReplicaRoutingDataSource}
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier(PRIMARY_DATA_SOURCE) DataSource primary,
+                                                             ReplicaRoutingProperties properties) {
+        final List<DataSource> replicas = new ArrayList<>();
+        for (int index = 0; index < properties.getReplicas().size(); index++) {
+            replicas.add(replicaDataSource(properties.getReplicas().get(index), index));
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, properties.getMaxLag(),
+                properties.getCheckInterval().multipliedBy(properties.getStaleAfterChecks()));
+    }
+
+    /**
+     * @param routingDataSource {@link ReplicaRoutingDataSource}
+     * @return источник для JPA, берущий физическое соединение при первом запросе
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * Пул реплики стартует без проверки соединения, чтобы недоступная реплика не мешала запуску.
+     */
+    private DataSource replicaDataSource(ReplicaRoutingProperties.Replica replica, int index) {
+        final HikariConfig config = new HikariConfig();
+        config.setPoolName("account-replica-" + index);
+        config.setJdbcUrl(replica.getUrl());
+        config.setUsername(replica.getUsername());
+        config.setPassword(replica.getPassword());
+        config.setMaximumPoolSize(replica.getMaximumPoolSize());
+        config.setReadOnly(true);
+        config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+}
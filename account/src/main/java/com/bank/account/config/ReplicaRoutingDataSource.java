@@ -0,0 +1,159 @@
+package com.bank.account.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Отдаёт соединения реплик для readOnly-транзакций и чтений вне транзакции, остальные - с primary.
+ * Реплики перебираются по кругу. Реплика, которая отстаёт больше допустимого или не отдала соединение,
+ * исключается до следующей успешной проверки, а при отсутствии доступных реплик чтения идут на primary.
+ * Реплика, которую давно не проверяли (например, поток планировщика занят), тоже считается устаревшей.
+ * Флаги транзакции известны только после её начала, поэтому источник оборачивается
+ * в {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    /**
+     * Отставание в миллисекундах. Реплика, которая проиграла весь полученный WAL, не отстаёт,
+     * только если её WAL receiver в состоянии streaming: иначе полученного WAL больше не будет,
+     * и отставание неизвестно (null). Статус receiver виден только роли с pg_read_all_stats.
+     * На primary запрос возвращает 0.
+     */
+    static final String LAG_QUERY = "select case when not pg_is_in_recovery() then 0 " +
+            "when not exists (select 1 from pg_stat_wal_receiver where status = 'streaming') then null " +
+            "when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0 " +
+            "else (extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000)::bigint end";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final long staleAfterMillis;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * @param primary  основной источник
+     * @param replicas источники реплик
+     * @param maxLag     допустимое отставание реплики
+     * @param staleAfter время, после которого результат последней проверки реплики не используется
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration maxLag,
+                                    Duration staleAfter) {
+        this.primary = primary;
+        final long now = System.currentTimeMillis();
+        this.replicas = replicas.stream()
+                .map(dataSource -> new Replica(dataSource, now))
+                .toList();
+        this.maxLagMillis = maxLag.toMillis();
+        this.staleAfterMillis = staleAfter.toMillis();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return isReadRoute() ? getReadConnection() : primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Замеряет отставание каждой реплики и включает или исключает её из маршрутизации.
+     */
+    public void checkReplicas() {
+        replicas.forEach(replica -> {
+            final boolean available = measureLagMillis(replica) <= maxLagMillis;
+            if (available != replica.available) {
+                log.info("Реплика {} доступна для чтения: {}", replica.dataSource, available);
+            }
+            replica.available = available;
+            replica.checkedAt = System.currentTimeMillis();
+        });
+    }
+
+    /**
+     * @return число реплик, на которые сейчас уходят чтения
+     */
+    public long availableReplicaCount() {
+        final long now = System.currentTimeMillis();
+        return replicas.stream()
+                .filter(replica -> replica.isUsable(now))
+                .count();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static boolean isReadRoute() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ||
+                !TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    private Connection getReadConnection() throws SQLException {
+        final long now = System.currentTimeMillis();
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            final Replica replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+            if (!replica.isUsable(now)) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException ex) {
+                replica.available = false;
+                log.warn("Реплика {} недоступна, чтение уходит на primary", replica.dataSource, ex);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    private long measureLagMillis(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            if (!resultSet.next()) {
+                return Long.MAX_VALUE;
+            }
+            final long lagMillis = resultSet.getLong(1);
+            return resultSet.wasNull() ? Long.MAX_VALUE : lagMillis;
+        } catch (SQLException ex) {
+            log.warn("Не удалось замерить отставание реплики {}", replica.dataSource, ex);
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Реплика, её доступность для чтений и время последней проверки.
+     */
+    private final class Replica {
+
+        private final DataSource dataSource;
+        private volatile boolean available = true;
+        private volatile long checkedAt;
+
+        private Replica(DataSource dataSource, long checkedAt) {
+            this.dataSource = dataSource;
+            this.checkedAt = checkedAt;
+        }
+
+        private boolean isUsable(long now) {
+            return available && now - checkedAt <= staleAfterMillis;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.bank.account.config;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Настройки маршрутизации чтений на реплики PostgreSQL.
+ */
+@Getter
+@Setter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ConfigurationProperties(prefix = "account.datasource.routing")
+public class ReplicaRoutingProperties {
+
+    boolean enabled;
+
+    /**
+     * Допустимое отставание реплики, при большем отставании чтения уходят на primary.
+     */
+    Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * Период проверки отставания реплик.
+     */
+    Duration checkInterval = Duration.ofSeconds(5);
+
+    /**
+     * Сколько пропущенных проверок подряд делают результат последней проверки устаревшим.
+     */
+    int staleAfterChecks = 2;
+
+    List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * Подключение к одной реплике.
+     */
+    @Getter
+    @Setter
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static class Replica {
+        String url;
+        String username;
+        String password;
+        int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,43 @@
+package com.bank.account.controller;
+
+import com.bank.account.dto.BulkCreateResultDto;
+import com.bank.account.entity.AccountDetailsEntity;
+import com.bank.account.service.AccountDetailsBulkService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+
+/**
+ * Контроллер массовой загрузки {@link AccountDetailsEntity}
+ */
+@Tag(name = "Массовая загрузка аккаунтов", description = "Создание аккаунтов при миграции банков")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/details")
+public class AccountDetailsBulkController {
+
+    private final AccountDetailsBulkService service;
+
+    /**
+     * @param request запрос, тело которого - JSON-массив аккаунтов
+     * @return {@link BulkCreateResultDto}
+     * @throws IOException при ошибке чтения тела запроса
+     */
+    @Operation(
+            summary = "Создать аккаунты",
+            description = "Потоково создаёт аккаунты из JSON-массива чанками и возвращает ошибки по строкам. "
+                    + "Загрузка не атомарна: при некорректном JSON посреди массива строки до ошибки "
+                    + "остаются созданы, а ошибка возвращается в отчёте"
+    )
+    @PostMapping(value = "/create/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BulkCreateResultDto createBulk(HttpServletRequest request) throws IOException {
+        return service.createAll(request.getInputStream());
+    }
+}
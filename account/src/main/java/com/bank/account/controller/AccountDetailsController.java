@@ -1,6 +1,7 @@
 package com.bank.account.controller;
 
 import com.bank.account.dto.AccountDetailsDto;
+import com.bank.account.dto.AccountDetailsPageDto;
 import com.bank.account.entity.AccountDetailsEntity;
 import com.bank.account.service.AccountDetailsService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -27,6 +29,8 @@ import java.util.List;
 @RequestMapping("/details")
 public class AccountDetailsController {
 
+    private static final String DEFAULT_PAGE_SIZE = "20";
+
     private final AccountDetailsService service;
 
     /**
@@ -42,6 +46,53 @@ public class AccountDetailsController {
         return service.findById(id);
     }
 
+    /**
+     * @param accountNumber номер счёта {@link AccountDetailsEntity}
+     * @return {@link AccountDetailsDto}
+     */
+    @Operation(
+            summary = "Получить аккаунт по номеру счёта",
+            description = "Позволяет получить информацию об аккаунте по номеру счёта"
+    )
+    @GetMapping("/number/{accountNumber}")
+    public AccountDetailsDto readByAccountNumber(@PathVariable("accountNumber") Long accountNumber) {
+        return service.findByAccountNumber(accountNumber);
+    }
+
+    /**
+     * @param profileId технический идентификатор профиля
+     * @param afterId   курсор, nextAfterId предыдущей страницы
+     * @param limit     размер страницы
+     * @return {@link AccountDetailsPageDto}
+     */
+    @Operation(
+            summary = "Получить аккаунты профиля",
+            description = "Постранично возвращает аккаунты профиля по курсору afterId"
+    )
+    @GetMapping("/profile/{profileId}")
+    public AccountDetailsPageDto readByProfileId(@PathVariable("profileId") Long profileId,
+                                                 @RequestParam(required = false) Long afterId,
+                                                 @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+        return service.findPageByProfileId(profileId, afterId, limit);
+    }
+
+    /**
+     * @param passportId технический идентификатор паспорта
+     * @param afterId    курсор, nextAfterId предыдущей страницы
+     * @param limit      размер страницы
+     * @return {@link AccountDetailsPageDto}
+     */
+    @Operation(
+            summary = "Получить аккаунты паспорта",
+            description = "Постранично возвращает аккаунты паспорта по курсору afterId"
+    )
+    @GetMapping("/passport/{passportId}")
+    public AccountDetailsPageDto readByPassportId(@PathVariable("passportId") Long passportId,
+                                                  @RequestParam(required = false) Long afterId,
+                                                  @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+        return service.findPageByPassportId(passportId, afterId, limit);
+    }
+
     /**
      * @param accountDetails - сущность для создания в виде {@link AccountDetailsDto}
      * @return {@link ResponseEntity<AccountDetailsDto>}
@@ -82,4 +133,45 @@ public class AccountDetailsController {
     public ResponseEntity<List<AccountDetailsDto>> readAll(@RequestParam List<Long> ids) {
         return ResponseEntity.ok(service.findAllById(ids));
     }
+
+    /**
+     * @param ids лист технических идентификаторов {@link AccountDetailsEntity} в теле запроса
+     * @return {@link ResponseEntity} c {@link List<AccountDetailsDto>}.
+     */
+    @Operation(
+            summary = "Получить список аккаунтов по большому списку id",
+            description = "Позволяет получить список аккаунтов по списку id, переданному в теле запроса"
+    )
+    @PostMapping("read/all")
+    public ResponseEntity<List<AccountDetailsDto>> readAllByBody(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(service.findAllById(ids));
+    }
+
+    /**
+     * @param id     технический идентификатор {@link AccountDetailsEntity}
+     * @param amount сумма зачисления
+     * @return {@link ResponseEntity<AccountDetailsDto>}
+     */
+    @Operation(
+            summary = "Зачислить средства",
+            description = "Атомарно увеличивает баланс аккаунта на указанную сумму"
+    )
+    @PostMapping("/{id}/credit")
+    public ResponseEntity<AccountDetailsDto> credit(@PathVariable("id") Long id, @RequestParam BigDecimal amount) {
+        return ResponseEntity.ok(service.credit(id, amount));
+    }
+
+    /**
+     * @param id     технический идентификатор {@link AccountDetailsEntity}
+     * @param amount сумма списания
+     * @return {@link ResponseEntity<AccountDetailsDto>}
+     */
+    @Operation(
+            summary = "Списать средства",
+            description = "Атомарно уменьшает баланс аккаунта, учитывая право на отрицательный баланс"
+    )
+    @PostMapping("/{id}/debit")
+    public ResponseEntity<AccountDetailsDto> debit(@PathVariable("id") Long id, @RequestParam BigDecimal amount) {
+        return ResponseEntity.ok(service.debit(id, amount));
+    }
 }
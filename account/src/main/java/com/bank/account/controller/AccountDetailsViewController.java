@@ -0,0 +1,38 @@
+package com.bank.account.controller;
+
+import com.bank.account.dto.AccountDetailsViewDto;
+import com.bank.account.entity.AccountDetailsEntity;
+import com.bank.account.service.AccountDetailsViewService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Контроллер составного представления {@link AccountDetailsEntity}
+ */
+@Tag(name = "Представление аккаунта", description = "Аккаунт вместе с профилем и реквизитами банка")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/view")
+public class AccountDetailsViewController {
+
+    private final AccountDetailsViewService service;
+
+    /**
+     * @param id технический идентификатор {@link AccountDetailsEntity}
+     * @return {@link ResponseEntity<AccountDetailsViewDto>}
+     */
+    @Operation(
+            summary = "Получить аккаунт с профилем и реквизитами банка",
+            description = "Параллельно запрашивает profile-app и public-info-app и возвращает одно представление"
+    )
+    @GetMapping("/{id}")
+    public ResponseEntity<AccountDetailsViewDto> read(@PathVariable("id") Long id) {
+        return ResponseEntity.ok(service.findById(id));
+    }
+}
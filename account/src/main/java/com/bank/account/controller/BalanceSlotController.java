@@ -0,0 +1,91 @@
+package com.bank.account.controller;
+
+import com.bank.account.dto.AccountBalanceDto;
+import com.bank.account.entity.AccountDetailsEntity;
+import com.bank.account.service.BalanceSlotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+
+/**
+ * Контроллер слотов баланса горячих {@link AccountDetailsEntity}
+ */
+@Tag(name = "Слоты баланса", description = "Шардирование баланса горячих счетов по слотам")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/slots")
+public class BalanceSlotController {
+
+    private final BalanceSlotService service;
+
+    /**
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @param count            число слотов, 0 выключает шардирование
+     * @return {@link ResponseEntity<AccountBalanceDto>}
+     */
+    @Operation(
+            summary = "Задать число слотов",
+            description = "Включает, перестраивает или выключает шардирование баланса счёта"
+    )
+    @PutMapping("/{accountDetailsId}")
+    public ResponseEntity<AccountBalanceDto> resize(@PathVariable("accountDetailsId") Long accountDetailsId,
+                                                    @RequestParam int count) {
+        return ResponseEntity.ok(service.resize(accountDetailsId, count));
+    }
+
+    /**
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @param amount           сумма зачисления
+     * @param postingKey       ключ проводки, по хэшу которого выбирается слот
+     * @return {@link ResponseEntity}
+     */
+    @Operation(
+            summary = "Зачислить средства в слот",
+            description = "Зачисляет сумму в слот, выбранный по хэшу ключа проводки"
+    )
+    @PostMapping("/{accountDetailsId}/credit")
+    public ResponseEntity<Void> credit(@PathVariable("accountDetailsId") Long accountDetailsId,
+                                       @RequestParam BigDecimal amount,
+                                       @RequestParam(required = false) String postingKey) {
+        service.credit(accountDetailsId, amount, postingKey);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @param amount           сумма списания
+     * @return {@link ResponseEntity<AccountBalanceDto>}
+     */
+    @Operation(
+            summary = "Списать средства из слотов",
+            description = "Списывает сумму, последовательно выбирая её из слотов и баланса счёта"
+    )
+    @PostMapping("/{accountDetailsId}/debit")
+    public ResponseEntity<AccountBalanceDto> debit(@PathVariable("accountDetailsId") Long accountDetailsId,
+                                                   @RequestParam BigDecimal amount) {
+        return ResponseEntity.ok(service.debit(accountDetailsId, amount));
+    }
+
+    /**
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @return {@link ResponseEntity<AccountBalanceDto>}
+     */
+    @Operation(
+            summary = "Получить баланс",
+            description = "Возвращает баланс счёта с учётом всех слотов"
+    )
+    @GetMapping("/{accountDetailsId}/balance")
+    public ResponseEntity<AccountBalanceDto> balance(@PathVariable("accountDetailsId") Long accountDetailsId) {
+        return ResponseEntity.ok(service.getBalance(accountDetailsId));
+    }
+}
@@ -0,0 +1,51 @@
+package com.bank.account.controller;
+
+import com.bank.account.dto.BankBalanceAggregateDto;
+import com.bank.account.entity.BankBalanceAggregateEntity;
+import com.bank.account.service.BankBalanceAggregateService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Контроллер для {@link BankBalanceAggregateEntity}
+ */
+@Tag(name = "Итоги по банкам", description = "Сумма балансов и число счетов по реквизитам банка")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/aggregates/banks")
+public class BankBalanceAggregateController {
+
+    private final BankBalanceAggregateService service;
+
+    /**
+     * @return {@link List<BankBalanceAggregateDto>}
+     */
+    @Operation(
+            summary = "Получить итоги всех банков",
+            description = "Возвращает сумму балансов и число счетов по каждому bank_details_id"
+    )
+    @GetMapping
+    public List<BankBalanceAggregateDto> readAll() {
+        return service.findAll();
+    }
+
+    /**
+     * @param bankDetailsId технический идентификатор на реквизиты банка
+     * @return {@link BankBalanceAggregateDto}
+     */
+    @Operation(
+            summary = "Получить итоги банка",
+            description = "Возвращает сумму балансов и число счетов по bank_details_id"
+    )
+    @GetMapping("/{bankDetailsId}")
+    public BankBalanceAggregateDto read(@PathVariable("bankDetailsId") Long bankDetailsId) {
+        return service.findByBankDetailsId(bankDetailsId);
+    }
+}
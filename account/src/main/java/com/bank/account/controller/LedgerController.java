@@ -0,0 +1,107 @@
+package com.bank.account.controller;
+
+import com.bank.account.dto.AccountBalanceDto;
+import com.bank.account.dto.LedgerPostingDto;
+import com.bank.account.dto.LedgerTransferDto;
+import com.bank.account.entity.AccountDetailsEntity;
+import com.bank.account.service.LedgerService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+
+/**
+ * Контроллер журнала проводок по {@link AccountDetailsEntity}
+ */
+@Tag(name = "Проводки", description = "Зачисление и списание средств через журнал проводок")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/ledger")
+public class LedgerController {
+
+    private final LedgerService service;
+
+    /**
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @param amount           сумма зачисления
+     * @return {@link ResponseEntity<LedgerPostingDto>}
+     */
+    @Operation(
+            summary = "Зачислить средства",
+            description = "Добавляет проводку зачисления в журнал счёта"
+    )
+    @PostMapping("/{accountDetailsId}/credit")
+    public ResponseEntity<LedgerPostingDto> credit(@PathVariable("accountDetailsId") Long accountDetailsId,
+                                                   @RequestParam BigDecimal amount) {
+        return ResponseEntity.ok(service.credit(accountDetailsId, amount));
+    }
+
+    /**
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @param amount           сумма списания
+     * @return {@link ResponseEntity<LedgerPostingDto>}
+     */
+    @Operation(
+            summary = "Списать средства",
+            description = "Добавляет проводку списания в журнал счёта"
+    )
+    @PostMapping("/{accountDetailsId}/debit")
+    public ResponseEntity<LedgerPostingDto> debit(@PathVariable("accountDetailsId") Long accountDetailsId,
+                                                  @RequestParam BigDecimal amount) {
+        return ResponseEntity.ok(service.debit(accountDetailsId, amount));
+    }
+
+    /**
+     * @param transferId идентификатор перевода в модуле transfer
+     * @param from       технический идентификатор счёта отправителя
+     * @param to         технический идентификатор счёта получателя
+     * @param amount     сумма перевода
+     * @return {@link ResponseEntity<LedgerTransferDto>}
+     */
+    @Operation(
+            summary = "Перевести средства между счетами",
+            description = "Одной транзакцией добавляет проводки списания и зачисления. Идемпотентен по transferId: "
+                    + "повтор возвращает сохранённый итог, в том числе отказ, повтор с другими параметрами - 409"
+    )
+    @PostMapping("/transfer/{transferId}")
+    public ResponseEntity<LedgerTransferDto> transfer(@PathVariable("transferId") Long transferId,
+                                                      @RequestParam Long from,
+                                                      @RequestParam Long to,
+                                                      @RequestParam BigDecimal amount) {
+        return ResponseEntity.ok(service.transfer(transferId, from, to, amount));
+    }
+
+    /**
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @return {@link ResponseEntity<AccountBalanceDto>}
+     */
+    @Operation(
+            summary = "Получить баланс",
+            description = "Возвращает баланс счёта: последний снимок плюс проводки после него"
+    )
+    @GetMapping("/{accountDetailsId}/balance")
+    public ResponseEntity<AccountBalanceDto> balance(@PathVariable("accountDetailsId") Long accountDetailsId) {
+        return ResponseEntity.ok(service.getBalance(accountDetailsId));
+    }
+
+    /**
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @return {@link ResponseEntity<AccountBalanceDto>}
+     */
+    @Operation(
+            summary = "Снять снимок баланса",
+            description = "Сворачивает проводки счёта в снимок баланса"
+    )
+    @PostMapping("/{accountDetailsId}/snapshot")
+    public ResponseEntity<AccountBalanceDto> snapshot(@PathVariable("accountDetailsId") Long accountDetailsId) {
+        return ResponseEntity.ok(service.snapshot(accountDetailsId));
+    }
+}
@@ -0,0 +1,26 @@
+package com.bank.account.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * DTO объект для передачи текущего баланса счёта: снимок плюс проводки после него.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class AccountBalanceDto implements Serializable {
+    Long accountDetailsId;
+    BigDecimal money;
+}
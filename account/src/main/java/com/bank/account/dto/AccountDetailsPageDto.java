@@ -0,0 +1,27 @@
+package com.bank.account.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * DTO объект для передачи страницы аккаунтов. nextAfterId - курсор следующей страницы,
+ * null если страница последняя.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class AccountDetailsPageDto implements Serializable {
+    List<AccountDetailsDto> content;
+    Long nextAfterId;
+}
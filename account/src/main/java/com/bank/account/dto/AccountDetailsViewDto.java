@@ -0,0 +1,27 @@
+package com.bank.account.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+
+/**
+ * DTO объект для передачи аккаунта вместе с профилем и реквизитами банка.
+ * profile и bankDetails равны null, если соответствующий сервис не ответил вовремя.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class AccountDetailsViewDto implements Serializable {
+    AccountDetailsDto accountDetails;
+    ProfileDto profile;
+    BankDetailsDto bankDetails;
+}
@@ -0,0 +1,27 @@
+package com.bank.account.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * DTO объект для передачи итогов по реквизитам банка.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BankBalanceAggregateDto implements Serializable {
+    Long bankDetailsId;
+    BigDecimal money;
+    Long accountCount;
+}
@@ -0,0 +1,26 @@
+package com.bank.account.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+
+/**
+ * DTO объект для передачи ошибки создания одной строки массовой загрузки.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BulkCreateErrorDto implements Serializable {
+    Long row;
+    Long accountNumber;
+    String message;
+}
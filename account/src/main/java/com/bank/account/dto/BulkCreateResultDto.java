@@ -0,0 +1,28 @@
+package com.bank.account.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * DTO объект для передачи итога массовой загрузки: число созданных и отклонённых строк
+ * и ошибки по строкам (не больше ограничения на размер отчёта).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BulkCreateResultDto implements Serializable {
+    long created;
+    long failed;
+    List<BulkCreateErrorDto> errors;
+}
@@ -0,0 +1,30 @@
+package com.bank.account.dto;
+
+import com.bank.account.entity.LedgerPostingEntity;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+/**
+ * DTO сущности {@link LedgerPostingEntity}
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class LedgerPostingDto implements Serializable {
+    Long id;
+    Long accountDetailsId;
+    BigDecimal amount;
+    Timestamp createdAt;
+}
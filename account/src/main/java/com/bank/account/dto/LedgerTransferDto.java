@@ -0,0 +1,34 @@
+package com.bank.account.dto;
+
+import com.bank.account.entity.LedgerTransferEntity;
+import com.bank.account.entity.LedgerTransferStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+/**
+ * DTO сущности {@link LedgerTransferEntity}
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class LedgerTransferDto implements Serializable {
+    Long transferId;
+    Long fromAccountDetailsId;
+    Long toAccountDetailsId;
+    BigDecimal amount;
+    LedgerTransferStatus status;
+    String failureReason;
+    Timestamp createdAt;
+}
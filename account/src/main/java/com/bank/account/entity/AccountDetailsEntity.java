@@ -13,6 +13,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.Column;
+import javax.persistence.SequenceGenerator;
 import java.math.BigDecimal;
 import java.util.Objects;
 
@@ -29,7 +30,9 @@ import java.util.Objects;
 public class AccountDetailsEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_details_seq")
+    @SequenceGenerator(name = "account_details_seq", sequenceName = "account_details_seq",
+            schema = "account", allocationSize = 50)
     @Column(name = "id")
     Long  id;
 
@@ -0,0 +1,65 @@
+package com.bank.account.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Entity для таблицы balance_slot.
+ * Часть баланса горячего счёта: зачисления распределяются по слотам, чтобы не упираться в блокировку одной строки.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "balance_slot", schema = "account")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BalanceSlotEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    Long id;
+
+    @Column(name = "account_details_id")
+    Long accountDetailsId;
+
+    @Column(name = "slot")
+    Integer slot;
+
+    @Column(name = "money")
+    BigDecimal money;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BalanceSlotEntity balanceSlot = (BalanceSlotEntity) o;
+        return Objects.equals(id, balanceSlot.id) &&
+                Objects.equals(accountDetailsId, balanceSlot.accountDetailsId) &&
+                Objects.equals(slot, balanceSlot.slot) &&
+                Objects.equals(money, balanceSlot.money);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, accountDetailsId, slot, money);
+    }
+}
@@ -0,0 +1,63 @@
+package com.bank.account.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Objects;
+
+/**
+ * Entity для таблицы balance_snapshot.
+ * Баланс счёта с учётом всех проводок до last_posting_id включительно.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "balance_snapshot", schema = "account")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BalanceSnapshotEntity {
+
+    @Id
+    @Column(name = "account_details_id")
+    Long accountDetailsId;
+
+    @Column(name = "money")
+    BigDecimal money;
+
+    @Column(name = "last_posting_id")
+    Long lastPostingId;
+
+    @Column(name = "created_at")
+    Timestamp createdAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BalanceSnapshotEntity snapshot = (BalanceSnapshotEntity) o;
+        return Objects.equals(accountDetailsId, snapshot.accountDetailsId) &&
+                Objects.equals(money, snapshot.money) &&
+                Objects.equals(lastPostingId, snapshot.lastPostingId) &&
+                Objects.equals(createdAt, snapshot.createdAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(accountDetailsId, money, lastPostingId, createdAt);
+    }
+}
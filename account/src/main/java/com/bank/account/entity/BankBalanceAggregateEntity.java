@@ -0,0 +1,58 @@
+package com.bank.account.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Entity для таблицы bank_balance_aggregate.
+ * Сумма балансов и число счетов по bank_details_id без учёта ещё не свёрнутых изменений из bank_balance_delta.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "bank_balance_aggregate", schema = "account")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BankBalanceAggregateEntity {
+
+    @Id
+    @Column(name = "bank_details_id")
+    Long bankDetailsId;
+
+    @Column(name = "money")
+    BigDecimal money;
+
+    @Column(name = "account_count")
+    Long accountCount;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BankBalanceAggregateEntity aggregate = (BankBalanceAggregateEntity) o;
+        return Objects.equals(bankDetailsId, aggregate.bankDetailsId) &&
+                Objects.equals(money, aggregate.money) &&
+                Objects.equals(accountCount, aggregate.accountCount);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(bankDetailsId, money, accountCount);
+    }
+}
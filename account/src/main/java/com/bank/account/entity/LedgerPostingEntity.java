@@ -0,0 +1,68 @@
+package com.bank.account.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Objects;
+
+/**
+ * Entity для таблицы ledger_posting.
+ * Проводка неизменяема: зачисление хранится с положительной суммой, списание - с отрицательной.
+ * Журнал односторонний, а не двойная запись: у внешних зачислений и списаний нет контрсчёта в этом сервисе,
+ * поэтому проводка - одна строка на счёт со знаковой суммой.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "ledger_posting", schema = "account")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class LedgerPostingEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    Long id;
+
+    @Column(name = "account_details_id")
+    Long accountDetailsId;
+
+    @Column(name = "amount")
+    BigDecimal amount;
+
+    @Column(name = "created_at")
+    Timestamp createdAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final LedgerPostingEntity posting = (LedgerPostingEntity) o;
+        return Objects.equals(id, posting.id) &&
+                Objects.equals(accountDetailsId, posting.accountDetailsId) &&
+                Objects.equals(amount, posting.amount) &&
+                Objects.equals(createdAt, posting.createdAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, accountDetailsId, amount, createdAt);
+    }
+}
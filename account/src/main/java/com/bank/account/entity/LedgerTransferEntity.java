@@ -0,0 +1,81 @@
+package com.bank.account.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Objects;
+
+/**
+ * Entity для таблицы ledger_transfer.
+ * Итог перевода между счетами по идентификатору перевода из модуля transfer: повторный вызов
+ * с тем же transfer_id возвращает сохранённый итог, не записывая проводки заново.
+ * При COMPLETED перевод связывает две проводки журнала: списание у отправителя и зачисление получателю.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "ledger_transfer", schema = "account")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class LedgerTransferEntity {
+
+    @Id
+    @Column(name = "transfer_id")
+    Long transferId;
+
+    @Column(name = "from_account_details_id")
+    Long fromAccountDetailsId;
+
+    @Column(name = "to_account_details_id")
+    Long toAccountDetailsId;
+
+    @Column(name = "amount")
+    BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    LedgerTransferStatus status;
+
+    @Column(name = "failure_reason")
+    String failureReason;
+
+    @Column(name = "created_at")
+    Timestamp createdAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final LedgerTransferEntity transfer = (LedgerTransferEntity) o;
+        return Objects.equals(transferId, transfer.transferId) &&
+                Objects.equals(fromAccountDetailsId, transfer.fromAccountDetailsId) &&
+                Objects.equals(toAccountDetailsId, transfer.toAccountDetailsId) &&
+                Objects.equals(amount, transfer.amount) &&
+                status == transfer.status &&
+                Objects.equals(failureReason, transfer.failureReason) &&
+                Objects.equals(createdAt, transfer.createdAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(transferId, fromAccountDetailsId, toAccountDetailsId, amount, status, failureReason,
+                createdAt);
+    }
+}
@@ -0,0 +1,17 @@
+package com.bank.account.entity;
+
+/**
+ * Итог перевода между счетами в журнале проводок.
+ */
+public enum LedgerTransferStatus {
+
+    /**
+     * Проводки списания и зачисления записаны.
+     */
+    COMPLETED,
+
+    /**
+     * В переводе отказано, проводок нет, причина в failure_reason.
+     */
+    REJECTED
+}
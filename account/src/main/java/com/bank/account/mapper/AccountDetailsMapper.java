@@ -34,11 +34,14 @@ public interface AccountDetailsMapper {
     List<AccountDetailsDto> toDtoList(List<AccountDetailsEntity> accountDetailsList);
 
     /**
+     * money меняется только проводками и снимками баланса, поэтому при обновлении не переносится.
+     *
      * @param accountDetails    {@link AccountDetailsEntity}
      * @param accountDetailsDto {@link AccountDetailsDto}
      * @return {@link AccountDetailsEntity}
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "money", ignore = true)
     AccountDetailsEntity mergeToEntity(@MappingTarget AccountDetailsEntity accountDetails,
                                        AccountDetailsDto accountDetailsDto);
 }
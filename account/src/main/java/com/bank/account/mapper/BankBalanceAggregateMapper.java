@@ -0,0 +1,26 @@
+package com.bank.account.mapper;
+
+import com.bank.account.dto.BankBalanceAggregateDto;
+import com.bank.account.entity.BankBalanceAggregateEntity;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+/**
+ * Mapper для {@link BankBalanceAggregateEntity} и {@link BankBalanceAggregateDto}
+ */
+@Mapper(componentModel = "spring")
+public interface BankBalanceAggregateMapper {
+
+    /**
+     * @param aggregate {@link BankBalanceAggregateEntity}
+     * @return {@link BankBalanceAggregateDto}
+     */
+    BankBalanceAggregateDto toDto(BankBalanceAggregateEntity aggregate);
+
+    /**
+     * @param aggregates {@link List<BankBalanceAggregateEntity>}
+     * @return {@link List<BankBalanceAggregateDto>}
+     */
+    List<BankBalanceAggregateDto> toDtoList(List<BankBalanceAggregateEntity> aggregates);
+}
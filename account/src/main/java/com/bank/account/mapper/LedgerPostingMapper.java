@@ -0,0 +1,18 @@
+package com.bank.account.mapper;
+
+import com.bank.account.dto.LedgerPostingDto;
+import com.bank.account.entity.LedgerPostingEntity;
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper для {@link LedgerPostingEntity} и {@link LedgerPostingDto}
+ */
+@Mapper(componentModel = "spring")
+public interface LedgerPostingMapper {
+
+    /**
+     * @param posting {@link LedgerPostingEntity}
+     * @return {@link LedgerPostingDto}
+     */
+    LedgerPostingDto toDto(LedgerPostingEntity posting);
+}
@@ -0,0 +1,18 @@
+package com.bank.account.mapper;
+
+import com.bank.account.dto.LedgerTransferDto;
+import com.bank.account.entity.LedgerTransferEntity;
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper для {@link LedgerTransferEntity} и {@link LedgerTransferDto}
+ */
+@Mapper(componentModel = "spring")
+public interface LedgerTransferMapper {
+
+    /**
+     * @param transfer {@link LedgerTransferEntity}
+     * @return {@link LedgerTransferDto}
+     */
+    LedgerTransferDto toDto(LedgerTransferEntity transfer);
+}
@@ -1,10 +1,126 @@
 package com.bank.account.repository;
 
 import com.bank.account.entity.AccountDetailsEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Репозиторий для {@link AccountDetailsEntity}
  */
 public interface AccountDetailsRepository extends JpaRepository<AccountDetailsEntity, Long> {
+
+    /**
+     * @param accountNumber номер счёта
+     * @return {@link AccountDetailsEntity}
+     */
+    Optional<AccountDetailsEntity> findByAccountNumber(Long accountNumber);
+
+    /**
+     * Keyset-страница счетов профиля, читается по индексу (profile_id, id).
+     *
+     * @param profileId технический идентификатор профиля
+     * @param afterId   id последнего счёта предыдущей страницы
+     * @param pageable  размер страницы
+     * @return {@link List<AccountDetailsEntity>}
+     */
+    List<AccountDetailsEntity> findByProfileIdAndIdGreaterThanOrderByIdAsc(Long profileId, Long afterId,
+                                                                           Pageable pageable);
+
+    /**
+     * Keyset-страница счетов паспорта, читается по индексу (passport_id, id).
+     *
+     * @param passportId технический идентификатор паспорта
+     * @param afterId    id последнего счёта предыдущей страницы
+     * @param pageable   размер страницы
+     * @return {@link List<AccountDetailsEntity>}
+     */
+    List<AccountDetailsEntity> findByPassportIdAndIdGreaterThanOrderByIdAsc(Long passportId, Long afterId,
+                                                                            Pageable pageable);
+
+    /**
+     * @param accountNumbers номера счетов
+     * @return те из переданных номеров, которые уже заняты
+     */
+    @Query("select a.accountNumber from AccountDetailsEntity a where a.accountNumber in :accountNumbers")
+    Set<Long> findExistingAccountNumbers(@Param("accountNumbers") Collection<Long> accountNumbers);
+
+    /**
+     * @param id технический идентификатор {@link AccountDetailsEntity}
+     * @return {@link AccountDetailsEntity}, заблокированная до конца транзакции
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from AccountDetailsEntity a where a.id = :id")
+    Optional<AccountDetailsEntity> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Строки блокируются по возрастанию id, поэтому встречные переводы между одной парой счетов
+     * не взаимоблокируются.
+     *
+     * @param ids технические идентификаторы {@link AccountDetailsEntity}
+     * @return найденные {@link AccountDetailsEntity}, заблокированные до конца транзакции
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from AccountDetailsEntity a where a.id in (:ids) order by a.id")
+    List<AccountDetailsEntity> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Скалярная выборка не кладёт сущность в контекст персистентности.
+     *
+     * @param id технический идентификатор {@link AccountDetailsEntity}
+     * @return признак права на минус или пусто, если счёт не найден
+     */
+    @Query("select a.negativeBalance from AccountDetailsEntity a where a.id = :id")
+    Optional<Boolean> findNegativeBalanceById(@Param("id") Long id);
+
+    /**
+     * FOR KEY SHARE до конца транзакции: проводки по счёту не блокируют друг друга и обновления money,
+     * но снимок баланса с FOR UPDATE дожидается их фиксации.
+     *
+     * @param id технический идентификатор {@link AccountDetailsEntity}
+     * @return id счёта или пусто, если счёт не найден
+     */
+    @Query(value = "select a.id from account.account_details a where a.id = :id for key share", nativeQuery = true)
+    Optional<Long> lockForPosting(@Param("id") Long id);
+
+    /**
+     * Атомарно увеличивает money одним UPDATE, строка блокируется только на время запроса.
+     *
+     * @param id     технический идентификатор {@link AccountDetailsEntity}
+     * @param amount сумма зачисления
+     * @return количество изменённых строк, 0 если счёт не найден
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update AccountDetailsEntity a set a.money = a.money + :amount where a.id = :id")
+    int credit(@Param("id") Long id, @Param("amount") BigDecimal amount);
+
+    /**
+     * Уменьшает money одним UPDATE. Если у счёта нет права на минус, списание применяется только
+     * когда money вместе со слотами баланса и ещё не свёрнутыми проводками журнала покрывает сумму.
+     * Подзапросы видят снимок начала запроса, поэтому строку счёта нужно заблокировать FOR UPDATE
+     * отдельным запросом до вызова.
+     *
+     * @param id     технический идентификатор {@link AccountDetailsEntity}
+     * @param amount сумма списания
+     * @return количество изменённых строк, 0 если счёт не найден или средств недостаточно
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update account.account_details a set money = a.money - :amount " +
+            "where a.id = :id and (a.negative_balance or a.money - :amount + " +
+            "(select coalesce(sum(p.amount), 0) from account.ledger_posting p " +
+            "where p.account_details_id = a.id and p.id > coalesce(" +
+            "(select s.last_posting_id from account.balance_snapshot s where s.account_details_id = a.id), 0)" +
+            ") + (select coalesce(sum(b.money), 0) from account.balance_slot b where b.account_details_id = a.id" +
+            ") >= 0)", nativeQuery = true)
+    int debit(@Param("id") Long id, @Param("amount") BigDecimal amount);
 }
@@ -0,0 +1,52 @@
+package com.bank.account.repository;
+
+import com.bank.account.entity.BalanceSlotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Репозиторий для {@link BalanceSlotEntity}
+ */
+public interface BalanceSlotRepository extends JpaRepository<BalanceSlotEntity, Long> {
+
+    /**
+     * Слоты блокируются по возрастанию номера, поэтому параллельные списания не взаимоблокируются.
+     *
+     * @param accountDetailsId технический идентификатор счёта
+     * @return слоты счёта, заблокированные до конца транзакции
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from BalanceSlotEntity s where s.accountDetailsId = :accountDetailsId order by s.slot")
+    List<BalanceSlotEntity> findAllForUpdate(@Param("accountDetailsId") Long accountDetailsId);
+
+    /**
+     * @param accountDetailsId технический идентификатор счёта
+     * @return сумма money по всем слотам счёта, 0 если слотов нет
+     */
+    @Query("select coalesce(sum(s.money), 0) from BalanceSlotEntity s where s.accountDetailsId = :accountDetailsId")
+    BigDecimal sumMoney(@Param("accountDetailsId") Long accountDetailsId);
+
+    /**
+     * Зачисляет сумму в слот hash mod N одним UPDATE, где N - число слотов счёта.
+     *
+     * @param accountDetailsId технический идентификатор счёта
+     * @param hash             неотрицательный хэш проводки
+     * @param amount           сумма зачисления
+     * @return количество изменённых строк, 0 если у счёта нет слотов
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update account.balance_slot s set money = s.money + :amount " +
+            "where s.account_details_id = :accountDetailsId and s.slot = mod(:hash, " +
+            "(select nullif(count(*), 0) from account.balance_slot c where c.account_details_id = :accountDetailsId))",
+            nativeQuery = true)
+    int credit(@Param("accountDetailsId") Long accountDetailsId,
+               @Param("hash") int hash,
+               @Param("amount") BigDecimal amount);
+}
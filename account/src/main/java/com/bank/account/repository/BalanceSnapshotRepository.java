@@ -0,0 +1,10 @@
+package com.bank.account.repository;
+
+import com.bank.account.entity.BalanceSnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Репозиторий для {@link BalanceSnapshotEntity}
+ */
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshotEntity, Long> {
+}
@@ -0,0 +1,91 @@
+package com.bank.account.repository;
+
+import com.bank.account.entity.BankBalanceAggregateEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Репозиторий для {@link BankBalanceAggregateEntity}.
+ * Изменения итогов пишутся вставками в bank_balance_delta, чтобы операции по счетам
+ * не конкурировали за строку итога банка. Чтение складывает итог с ещё не свёрнутыми изменениями.
+ */
+@Repository
+public interface BankBalanceAggregateRepository extends JpaRepository<BankBalanceAggregateEntity, Long> {
+
+    /**
+     * @param bankDetailsId технический идентификатор на реквизиты банка
+     * @param money         изменение суммы балансов
+     * @param accountCount  изменение числа счетов
+     * @return количество вставленных строк
+     */
+    @Modifying
+    @Query(value = "insert into account.bank_balance_delta (bank_details_id, money, account_count) " +
+            "values (:bankDetailsId, :money, :accountCount)", nativeQuery = true)
+    int insertDelta(@Param("bankDetailsId") Long bankDetailsId, @Param("money") BigDecimal money,
+                    @Param("accountCount") long accountCount);
+
+    /**
+     * @param accountDetailsId технический идентификатор счёта
+     * @param money            изменение баланса счёта
+     * @return количество вставленных строк, 0 если счёт не найден
+     */
+    @Modifying
+    @Query(value = "insert into account.bank_balance_delta (bank_details_id, money, account_count) " +
+            "select a.bank_details_id, :money, 0 from account.account_details a " +
+            "where a.id = :accountDetailsId", nativeQuery = true)
+    int insertAccountDelta(@Param("accountDetailsId") Long accountDetailsId, @Param("money") BigDecimal money);
+
+    /**
+     * @param accountDetailsIds технические идентификаторы только что созданных счетов
+     * @return количество вставленных строк, по одной на банк
+     */
+    @Modifying
+    @Query(value = "insert into account.bank_balance_delta (bank_details_id, money, account_count) " +
+            "select a.bank_details_id, sum(a.money), count(*) from account.account_details a " +
+            "where a.id in (:accountDetailsIds) group by a.bank_details_id", nativeQuery = true)
+    int insertCreatedAccountsDelta(@Param("accountDetailsIds") Collection<Long> accountDetailsIds);
+
+    /**
+     * Одним запросом удаляет накопленные изменения и прибавляет их к итогам.
+     *
+     * @return количество изменённых итогов
+     */
+    @Modifying
+    @Query(value = "with moved as (delete from account.bank_balance_delta " +
+            "returning bank_details_id, money, account_count) " +
+            "insert into account.bank_balance_aggregate as agg (bank_details_id, money, account_count) " +
+            "select bank_details_id, sum(money), sum(account_count) from moved group by bank_details_id " +
+            "on conflict (bank_details_id) do update set money = agg.money + excluded.money, " +
+            "account_count = agg.account_count + excluded.account_count", nativeQuery = true)
+    int fold();
+
+    /**
+     * @return итоги всех банков с учётом не свёрнутых изменений
+     */
+    @Query(value = "select t.bank_details_id, sum(t.money) as money, " +
+            "cast(sum(t.account_count) as bigint) as account_count " +
+            "from (select bank_details_id, money, account_count from account.bank_balance_aggregate " +
+            "union all select bank_details_id, money, account_count from account.bank_balance_delta) t " +
+            "group by t.bank_details_id order by t.bank_details_id", nativeQuery = true)
+    List<BankBalanceAggregateEntity> findAllTotals();
+
+    /**
+     * @param bankDetailsId технический идентификатор на реквизиты банка
+     * @return итог банка с учётом не свёрнутых изменений, пустой список если у банка нет счетов
+     */
+    @Query(value = "select t.bank_details_id, sum(t.money) as money, " +
+            "cast(sum(t.account_count) as bigint) as account_count " +
+            "from (select bank_details_id, money, account_count from account.bank_balance_aggregate " +
+            "where bank_details_id = :bankDetailsId " +
+            "union all select bank_details_id, money, account_count from account.bank_balance_delta " +
+            "where bank_details_id = :bankDetailsId) t " +
+            "group by t.bank_details_id", nativeQuery = true)
+    List<BankBalanceAggregateEntity> findTotalsByBankDetailsId(@Param("bankDetailsId") Long bankDetailsId);
+}
@@ -0,0 +1,90 @@
+package com.bank.account.repository;
+
+import com.bank.account.entity.LedgerPostingEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Репозиторий для {@link LedgerPostingEntity}
+ */
+public interface LedgerPostingRepository extends JpaRepository<LedgerPostingEntity, Long> {
+
+    /**
+     * @param accountDetailsId технический идентификатор счёта
+     * @param fromId           идентификатор проводки, после которой начинается суммирование (не включительно)
+     * @return сумма проводок счёта с id больше fromId
+     */
+    @Query("select coalesce(sum(p.amount), 0) from LedgerPostingEntity p " +
+            "where p.accountDetailsId = :accountDetailsId and p.id > :fromId")
+    BigDecimal sumAfter(@Param("accountDetailsId") Long accountDetailsId, @Param("fromId") Long fromId);
+
+    /**
+     * @param accountDetailsId технический идентификатор счёта
+     * @return сумма проводок счёта, ещё не свёрнутых в снимок баланса
+     */
+    @Query(value = "select coalesce(sum(p.amount), 0) from account.ledger_posting p " +
+            "where p.account_details_id = :accountDetailsId and p.id > coalesce(" +
+            "(select s.last_posting_id from account.balance_snapshot s " +
+            "where s.account_details_id = :accountDetailsId), 0)", nativeQuery = true)
+    BigDecimal sumUnsnapshotted(@Param("accountDetailsId") Long accountDetailsId);
+
+    /**
+     * @param accountDetailsId технический идентификатор счёта
+     * @param fromId           нижняя граница id проводки (не включительно)
+     * @param toId             верхняя граница id проводки (включительно)
+     * @return сумма проводок счёта в интервале (fromId, toId]
+     */
+    @Query("select coalesce(sum(p.amount), 0) from LedgerPostingEntity p " +
+            "where p.accountDetailsId = :accountDetailsId and p.id > :fromId and p.id <= :toId")
+    BigDecimal sumBetween(@Param("accountDetailsId") Long accountDetailsId,
+                          @Param("fromId") Long fromId,
+                          @Param("toId") Long toId);
+
+    /**
+     * @param accountDetailsId технический идентификатор счёта
+     * @param fromId           идентификатор последней проводки в снимке
+     * @return максимальный id проводки после fromId или null, если таких нет
+     */
+    @Query("select max(p.id) from LedgerPostingEntity p " +
+            "where p.accountDetailsId = :accountDetailsId and p.id > :fromId")
+    Long findLastId(@Param("accountDetailsId") Long accountDetailsId, @Param("fromId") Long fromId);
+
+    /**
+     * @return id последней проводки, до которой планировщик уже свернул снимки
+     */
+    @Query(value = "select w.last_posting_id from account.ledger_snapshot_watermark w where w.id = 1",
+            nativeQuery = true)
+    Long findSnapshotWatermark();
+
+    /**
+     * @param postingId id последней просмотренной проводки
+     * @return количество изменённых строк
+     */
+    @Modifying
+    @Query(value = "update account.ledger_snapshot_watermark " +
+            "set last_posting_id = greatest(last_posting_id, :postingId) where id = 1", nativeQuery = true)
+    int advanceSnapshotWatermark(@Param("postingId") Long postingId);
+
+    /**
+     * @param afterId id проводки, после которой начинается пачка (не включительно)
+     * @param limit   размер пачки
+     * @return максимальный id в пачке из limit проводок после afterId или null, если проводок нет
+     */
+    @Query(value = "select max(t.id) from (select p.id from account.ledger_posting p " +
+            "where p.id > :afterId order by p.id limit :limit) t", nativeQuery = true)
+    Long findBatchUpperBound(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /**
+     * @param fromId нижняя граница id проводки (не включительно)
+     * @param toId   верхняя граница id проводки (включительно)
+     * @return технические идентификаторы счетов, у которых есть проводки в интервале (fromId, toId]
+     */
+    @Query(value = "select distinct p.account_details_id from account.ledger_posting p " +
+            "where p.id > :fromId and p.id <= :toId", nativeQuery = true)
+    List<Long> findAccountDetailsIdsBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
@@ -0,0 +1,10 @@
+package com.bank.account.repository;
+
+import com.bank.account.entity.LedgerTransferEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Репозиторий для {@link LedgerTransferEntity}
+ */
+public interface LedgerTransferRepository extends JpaRepository<LedgerTransferEntity, Long> {
+}
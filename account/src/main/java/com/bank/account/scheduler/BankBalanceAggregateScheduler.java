@@ -0,0 +1,31 @@
+package com.bank.account.scheduler;
+
+import com.bank.account.service.BankBalanceAggregateService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Периодически сворачивает bank_balance_delta в итоги банков, чтобы чтение итогов
+ * складывало только короткий хвост изменений.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BankBalanceAggregateScheduler {
+
+    private final BankBalanceAggregateService aggregateService;
+
+    /**
+     * Свёртка изменений итогов.
+     */
+    @Scheduled(fixedDelayString = "${account.bank-aggregate.fold-fixed-delay:10000}")
+    public void fold() {
+        try {
+            aggregateService.fold();
+        } catch (RuntimeException ex) {
+            log.error("Не удалось свернуть изменения итогов банков", ex);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.bank.account.scheduler;
+
+import com.bank.account.entity.BalanceSnapshotEntity;
+import com.bank.account.repository.LedgerPostingRepository;
+import com.bank.account.service.LedgerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Периодически сворачивает журнал проводок в {@link BalanceSnapshotEntity},
+ * чтобы хвост проводок, суммируемый при чтении баланса, оставался коротким.
+ * Журнал читается пачками по первичному ключу после сохранённой границы, поэтому каждый запуск
+ * просматривает только новые проводки. Проводка, зафиксированная уже после того, как граница прошла её id,
+ * по-прежнему учитывается при чтении баланса и свернётся вместе со следующей проводкой счёта.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LedgerSnapshotScheduler {
+
+    private final LedgerPostingRepository postingRepository;
+    private final LedgerService ledgerService;
+
+    @Value("${ledger.snapshot.batch-size:10000}")
+    private int batchSize;
+
+    /**
+     * Снимок каждого счёта делается в отдельной транзакции, ошибка по одному счёту не останавливает остальные.
+     */
+    @Scheduled(fixedDelayString = "${ledger.snapshot.fixed-delay:60000}")
+    public void takeSnapshots() {
+        Long watermark = postingRepository.findSnapshotWatermark();
+        Long upperBound = postingRepository.findBatchUpperBound(watermark, batchSize);
+        while (upperBound != null) {
+            postingRepository.findAccountDetailsIdsBetween(watermark, upperBound).forEach(this::snapshot);
+            ledgerService.advanceSnapshotWatermark(upperBound);
+            watermark = upperBound;
+            upperBound = postingRepository.findBatchUpperBound(watermark, batchSize);
+        }
+    }
+
+    private void snapshot(Long accountDetailsId) {
+        try {
+            ledgerService.snapshot(accountDetailsId);
+        } catch (RuntimeException ex) {
+            log.error("Не удалось снять снимок баланса счёта id = {}", accountDetailsId, ex);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.bank.account.scheduler;
+
+import com.bank.account.config.ReplicaRoutingDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Периодически проверяет отставание реплик, чтобы чтения не уходили на устаревшие данные.
+ * Задачи планировщика выполняются пулом spring.task.scheduling.pool, поэтому долгий снимок
+ * или свёртка агрегатов не задерживают проверку.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "account.datasource.routing", name = "enabled", havingValue = "true")
+public class ReplicaLagScheduler {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+
+    /**
+     * Замер отставания реплик.
+     */
+    @Scheduled(fixedDelayString = "${account.datasource.routing.check-interval:5000}")
+    public void checkReplicas() {
+        routingDataSource.checkReplicas();
+    }
+}
@@ -0,0 +1,21 @@
+package com.bank.account.service;
+
+import com.bank.account.dto.BulkCreateResultDto;
+import com.bank.account.entity.AccountDetailsEntity;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Сервис массового создания {@link AccountDetailsEntity}.
+ * Загрузка не атомарна: строки сохраняются чанками и при ошибке не откатываются.
+ */
+public interface AccountDetailsBulkService {
+
+    /**
+     * @param input JSON-массив аккаунтов в виде {@link com.bank.account.dto.AccountDetailsDto}
+     * @return {@link BulkCreateResultDto}
+     * @throws IOException при ошибке чтения входного потока
+     */
+    BulkCreateResultDto createAll(InputStream input) throws IOException;
+}
@@ -0,0 +1,185 @@
+package com.bank.account.service;
+
+import com.bank.account.dto.AccountDetailsDto;
+import com.bank.account.dto.BulkCreateErrorDto;
+import com.bank.account.dto.BulkCreateResultDto;
+import com.bank.account.entity.AccountDetailsEntity;
+import com.bank.account.mapper.AccountDetailsMapper;
+import com.bank.account.repository.AccountDetailsRepository;
+import com.bank.common.exception.ValidationException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Реализация {@link AccountDetailsBulkService}.
+ * Входной массив читается потоково и сохраняется чанками, каждый чанк в своей транзакции
+ * одной пакетной вставкой. Если чанк не сохранился, его строки сохраняются по одной,
+ * чтобы отклонить только ошибочные строки, а не всю загрузку.
+ * Элемент, который не является объектом или не приводится к {@link AccountDetailsDto}, отклоняется
+ * как отдельная строка. Загрузка не атомарна: при синтаксической ошибке JSON посреди массива чтение
+ * прекращается, строки до ошибки остаются сохранены, а ошибка возвращается в отчёте как отклонённая строка.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountDetailsBulkServiceImpl implements AccountDetailsBulkService {
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final String NOT_ARRAY_MESSAGE = "Ожидается JSON-массив аккаунтов";
+    private static final String DUPLICATE_NUMBER_MESSAGE = "Счёт с таким номером уже существует";
+    private static final String INVALID_JSON_PREFIX = "Некорректный JSON, чтение прервано: ";
+    private static final String NOT_OBJECT_MESSAGE = "Элемент массива не является объектом аккаунта";
+    private static final String INVALID_ROW_PREFIX = "Некорректная строка: ";
+    private static final String ACCOUNT_NUMBER_FIELD = "accountNumber";
+
+    private final AccountDetailsRepository repository;
+    private final AccountDetailsMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final BankBalanceAggregateService aggregateService;
+
+    @Value("${account.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * @param input JSON-массив аккаунтов в виде {@link AccountDetailsDto}
+     * @return {@link BulkCreateResultDto}
+     * @throws IOException при ошибке чтения входного потока
+     */
+    @Override
+    public BulkCreateResultDto createAll(InputStream input) throws IOException {
+        final BulkCreateResultDto result = new BulkCreateResultDto(0L, 0L, new ArrayList<>());
+        final Map<Long, AccountDetailsDto> chunk = new LinkedHashMap<>();
+        try (JsonParser parser = objectMapper.createParser(input)) {
+            startArray(parser);
+            long row = 0;
+            try {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    final AccountDetailsDto accountDetails = toAccountDetails(parser.readValueAsTree(), row, result);
+                    if (accountDetails != null) {
+                        chunk.put(row, accountDetails);
+                    }
+                    row++;
+                    if (chunk.size() >= chunkSize) {
+                        persistChunk(chunk, result);
+                        chunk.clear();
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                reject(result, row, null, INVALID_JSON_PREFIX + e.getOriginalMessage());
+            }
+        }
+        persistChunk(chunk, result);
+        log.info("Массовая загрузка аккаунтов: создано {}, отклонено {}", result.getCreated(), result.getFailed());
+        return result;
+    }
+
+    /**
+     * Элемент массива читается деревом целиком, поэтому ошибка в одной строке не сбивает чтение следующих.
+     *
+     * @return {@link AccountDetailsDto} или null, если строка отклонена
+     */
+    private AccountDetailsDto toAccountDetails(JsonNode node, long row, BulkCreateResultDto result) {
+        if (node == null || !node.isObject()) {
+            reject(result, row, null, NOT_OBJECT_MESSAGE);
+            return null;
+        }
+        try {
+            return objectMapper.treeToValue(node, AccountDetailsDto.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            final JsonNode accountNumber = node.path(ACCOUNT_NUMBER_FIELD);
+            reject(result, row, accountNumber.canConvertToLong() ? accountNumber.asLong() : null,
+                    INVALID_ROW_PREFIX + e.getMessage());
+            return null;
+        }
+    }
+
+    private void startArray(JsonParser parser) throws IOException {
+        try {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ValidationException(NOT_ARRAY_MESSAGE);
+            }
+        } catch (JsonProcessingException e) {
+            throw new ValidationException(NOT_ARRAY_MESSAGE + ": " + e.getOriginalMessage());
+        }
+    }
+
+    private void persistChunk(Map<Long, AccountDetailsDto> chunk, BulkCreateResultDto result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        final Set<Long> numbers = new HashSet<>(repository.findExistingAccountNumbers(
+                chunk.values().stream().map(AccountDetailsDto::getAccountNumber).toList()));
+        final Map<Long, AccountDetailsDto> accepted = new LinkedHashMap<>();
+        chunk.forEach((row, accountDetails) -> {
+            if (numbers.add(accountDetails.getAccountNumber())) {
+                accepted.put(row, accountDetails);
+            } else {
+                reject(result, row, accountDetails.getAccountNumber(), DUPLICATE_NUMBER_MESSAGE);
+            }
+        });
+        try {
+            save(accepted.values());
+            result.setCreated(result.getCreated() + accepted.size());
+        } catch (DataAccessException | PersistenceException e) {
+            log.warn("Чанк из {} аккаунтов не сохранён, сохраняем по одному: {}", accepted.size(), e.getMessage());
+            entityManager.clear();
+            accepted.forEach((row, accountDetails) -> persistRow(row, accountDetails, result));
+        }
+    }
+
+    private void persistRow(Long row, AccountDetailsDto accountDetails, BulkCreateResultDto result) {
+        try {
+            save(List.of(accountDetails));
+            result.setCreated(result.getCreated() + 1);
+        } catch (DataAccessException | PersistenceException e) {
+            entityManager.clear();
+            reject(result, row, accountDetails.getAccountNumber(),
+                    NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        }
+    }
+
+    private void save(Collection<AccountDetailsDto> accountDetails) {
+        if (accountDetails.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            final List<AccountDetailsEntity> saved = repository.saveAll(
+                    accountDetails.stream().map(mapper::toEntity).toList());
+            repository.flush();
+            aggregateService.recordAccountsCreated(saved.stream().map(AccountDetailsEntity::getId).toList());
+            entityManager.clear();
+        });
+    }
+
+    private void reject(BulkCreateResultDto result, Long row, Long accountNumber, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(new BulkCreateErrorDto(row, accountNumber, message));
+        }
+    }
+}
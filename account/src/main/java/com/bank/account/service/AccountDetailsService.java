@@ -1,8 +1,10 @@
 package com.bank.account.service;
 
 import com.bank.account.dto.AccountDetailsDto;
+import com.bank.account.dto.AccountDetailsPageDto;
 import com.bank.account.entity.AccountDetailsEntity;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -16,12 +18,34 @@ public interface AccountDetailsService {
      */
     AccountDetailsDto findById(Long id);
 
+    /**
+     * @param accountNumber номер счёта {@link AccountDetailsEntity}
+     * @return {@link AccountDetailsDto}
+     */
+    AccountDetailsDto findByAccountNumber(Long accountNumber);
+
     /**
      * @param ids лист технических идентификаторов {@link AccountDetailsEntity}
      * @return {@link List<AccountDetailsDto>}
      */
     List<AccountDetailsDto> findAllById(List<Long> ids);
 
+    /**
+     * @param profileId технический идентификатор профиля
+     * @param afterId   курсор, id последнего счёта предыдущей страницы, null для первой страницы
+     * @param limit     размер страницы
+     * @return {@link AccountDetailsPageDto}
+     */
+    AccountDetailsPageDto findPageByProfileId(Long profileId, Long afterId, int limit);
+
+    /**
+     * @param passportId технический идентификатор паспорта
+     * @param afterId    курсор, id последнего счёта предыдущей страницы, null для первой страницы
+     * @param limit      размер страницы
+     * @return {@link AccountDetailsPageDto}
+     */
+    AccountDetailsPageDto findPageByPassportId(Long passportId, Long afterId, int limit);
+
     /**
      * @param accountDetails {@link AccountDetailsDto}
      * @return {@link AccountDetailsDto}
@@ -34,4 +58,18 @@ public interface AccountDetailsService {
      * @return {@link AccountDetailsDto}
      */
     AccountDetailsDto update(Long id, AccountDetailsDto accountDetails);
+
+    /**
+     * @param id     технический идентификатор {@link AccountDetailsEntity}
+     * @param amount сумма зачисления
+     * @return {@link AccountDetailsDto}
+     */
+    AccountDetailsDto credit(Long id, BigDecimal amount);
+
+    /**
+     * @param id     технический идентификатор {@link AccountDetailsEntity}
+     * @param amount сумма списания
+     * @return {@link AccountDetailsDto}
+     */
+    AccountDetailsDto debit(Long id, BigDecimal amount);
 }
@@ -1,15 +1,28 @@
 package com.bank.account.service;
 
+import com.bank.account.config.CacheConfig;
 import com.bank.account.dto.AccountDetailsDto;
+import com.bank.account.dto.AccountDetailsPageDto;
 import com.bank.account.entity.AccountDetailsEntity;
 import com.bank.account.mapper.AccountDetailsMapper;
 import com.bank.account.repository.AccountDetailsRepository;
 import com.bank.account.service.common.ExceptionReturner;
+import com.bank.common.exception.ValidationException;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
+import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
 
 /**
  * Реализация {@link AccountDetailsService}
@@ -18,11 +31,41 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AccountDetailsServiceImpl implements AccountDetailsService {
 
+    static final int MAX_PAGE_SIZE = 100;
+
     private static final String MESSAGE_PREFIX = "Не существующий id = ";
+    private static final String MISSING_IDS_PREFIX = "Не существующие id = ";
+    private static final String ACCOUNT_NUMBER_PREFIX = "Не существующий номер счёта = ";
+    private static final String NOT_ENOUGH_MONEY_PREFIX = "Недостаточно средств на счёте id = ";
+    private static final String NOT_POSITIVE_AMOUNT_MESSAGE = "Сумма операции должна быть больше нуля";
+    private static final String PAGE_SIZE_MESSAGE = "Размер страницы должен быть от 1 до " + MAX_PAGE_SIZE;
+
+    /**
+     * Время атомарного UPDATE money с тегами operation и outcome. При конкуренции за строку
+     * в него входит ожидание блокировки, поэтому рост задержки показывает горячие счета.
+     */
+    private static final String MONEY_CHANGE_METRIC = "account.details.money.change";
+    private static final String CREDIT = "credit";
+    private static final String DEBIT = "debit";
+
+    /**
+     * Размер пачки для запроса IN (...). Степень двойки вместе с hibernate.query.in_clause_parameter_padding
+     * оставляет PostgreSQL несколько форм запроса, планы которых переиспользуются.
+     */
+    private static final int READ_CHUNK_SIZE = 512;
+
+    /**
+     * Курсор первой страницы: id счетов выдаются последовательностью и всегда больше нуля.
+     */
+    private static final long FIRST_PAGE_CURSOR = 0L;
+
     private final AccountDetailsMapper mapper;
     private final AccountDetailsRepository repository;
 
     private final ExceptionReturner exceptionReturner;
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final BankBalanceAggregateService aggregateService;
 
     /**
      * @param id технический идентификатор {@link AccountDetailsEntity}
@@ -36,17 +79,76 @@ public class AccountDetailsServiceImpl implements AccountDetailsService {
     }
 
     /**
+     * Результат кэшируется в {@link CacheConfig#ACCOUNT_DETAILS_BY_NUMBER} и вытесняется при save/update.
+     *
+     * @param accountNumber номер счёта {@link AccountDetailsEntity}
+     * @return {@link AccountDetailsDto}
+     */
+    @Override
+    @Cacheable(cacheNames = CacheConfig.ACCOUNT_DETAILS_BY_NUMBER, key = "#accountNumber")
+    public AccountDetailsDto findByAccountNumber(Long accountNumber) {
+        return mapper.toDto(repository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> exceptionReturner.getEntityNotFoundException(ACCOUNT_NUMBER_PREFIX + accountNumber))
+        );
+    }
+
+    /**
+     * Читает счета пачками по {@link #READ_CHUNK_SIZE} id, сохраняя порядок запроса.
+     * Если часть id не найдена, в исключении перечисляются все отсутствующие id.
+     *
      * @param ids лист технических идентификаторов {@link AccountDetailsEntity}
      * @return {@link List<AccountDetailsDto>}
      */
     @Override
     public List<AccountDetailsDto> findAllById(List<Long> ids) {
 
-        final List<AccountDetailsEntity> accountDetailsList = ids.stream()
-                .map(id -> repository.findById(id)
-                        .orElseThrow(() -> exceptionReturner.getEntityNotFoundException(MESSAGE_PREFIX + id)))
+        final List<Long> distinctIds = ids.stream()
+                .distinct()
+                .toList();
+        final Map<Long, AccountDetailsEntity> accountDetailsById = new HashMap<>();
+        for (int from = 0; from < distinctIds.size(); from += READ_CHUNK_SIZE) {
+            final List<Long> chunk = distinctIds.subList(from, Math.min(from + READ_CHUNK_SIZE, distinctIds.size()));
+            repository.findAllById(chunk)
+                    .forEach(accountDetails -> accountDetailsById.put(accountDetails.getId(), accountDetails));
+        }
+
+        final List<Long> missingIds = distinctIds.stream()
+                .filter(id -> !accountDetailsById.containsKey(id))
                 .toList();
-        return mapper.toDtoList(accountDetailsList);
+        if (!missingIds.isEmpty()) {
+            throw exceptionReturner.getEntityNotFoundException(MISSING_IDS_PREFIX + missingIds);
+        }
+
+        return mapper.toDtoList(ids.stream()
+                .map(accountDetailsById::get)
+                .toList()
+        );
+    }
+
+    /**
+     * @param profileId технический идентификатор профиля
+     * @param afterId   курсор, id последнего счёта предыдущей страницы, null для первой страницы
+     * @param limit     размер страницы
+     * @return {@link AccountDetailsPageDto}
+     */
+    @Override
+    public AccountDetailsPageDto findPageByProfileId(Long profileId, Long afterId, int limit) {
+        checkPageSize(limit);
+        return toPage(repository.findByProfileIdAndIdGreaterThanOrderByIdAsc(profileId,
+                Optional.ofNullable(afterId).orElse(FIRST_PAGE_CURSOR), PageRequest.ofSize(limit + 1)), limit);
+    }
+
+    /**
+     * @param passportId технический идентификатор паспорта
+     * @param afterId    курсор, id последнего счёта предыдущей страницы, null для первой страницы
+     * @param limit      размер страницы
+     * @return {@link AccountDetailsPageDto}
+     */
+    @Override
+    public AccountDetailsPageDto findPageByPassportId(Long passportId, Long afterId, int limit) {
+        checkPageSize(limit);
+        return toPage(repository.findByPassportIdAndIdGreaterThanOrderByIdAsc(passportId,
+                Optional.ofNullable(afterId).orElse(FIRST_PAGE_CURSOR), PageRequest.ofSize(limit + 1)), limit);
     }
 
     /**
@@ -60,11 +162,16 @@ public class AccountDetailsServiceImpl implements AccountDetailsService {
         final AccountDetailsEntity accountDetails = repository.save(
                 mapper.toEntity(accountDetailsDto)
         );
+        evictAccountNumber(accountDetails.getAccountNumber());
+        aggregateService.recordAccountsCreated(List.of(accountDetails.getId()));
 
         return mapper.toDto(accountDetails);
     }
 
     /**
+     * Строка блокируется до конца транзакции: иначе запись всей сущности вернула бы money,
+     * прочитанный до снимка баланса, и стёрла бы свёрнутые в него проводки.
+     *
      * @param id                технический идентификатор {@link AccountDetailsEntity}
      * @param accountDetailsDto {@link AccountDetailsDto}
      * @return {@link AccountDetailsDto}
@@ -73,14 +180,103 @@ public class AccountDetailsServiceImpl implements AccountDetailsService {
     @Transactional
     public AccountDetailsDto update(Long id, AccountDetailsDto accountDetailsDto) {
 
-        final AccountDetailsEntity accountDetails = repository.findById(id)
+        final AccountDetailsEntity accountDetails = repository.findByIdForUpdate(id)
                 .orElseThrow(() -> exceptionReturner.getEntityNotFoundException(MESSAGE_PREFIX + id));
+        evictAccountNumber(accountDetails.getAccountNumber());
+        final Long bankDetailsIdBefore = accountDetails.getBankDetailsId();
+        final BigDecimal moneyBefore = accountDetails.getMoney();
 
         final AccountDetailsEntity updateAccountDetails = repository.save(
                 mapper.mergeToEntity(accountDetails, accountDetailsDto)
         );
+        evictAccountNumber(updateAccountDetails.getAccountNumber());
+        aggregateService.recordAccountUpdated(updateAccountDetails, bankDetailsIdBefore, moneyBefore);
 
         return mapper.toDto(updateAccountDetails);
     }
+
+    /**
+     * @param id     технический идентификатор {@link AccountDetailsEntity}
+     * @param amount сумма зачисления
+     * @return {@link AccountDetailsDto}
+     */
+    @Override
+    @Transactional
+    public AccountDetailsDto credit(Long id, BigDecimal amount) {
+        checkAmount(amount);
+        if (changeMoney(CREDIT, () -> repository.credit(id, amount)) == 0) {
+            throw exceptionReturner.getEntityNotFoundException(MESSAGE_PREFIX + id);
+        }
+        aggregateService.recordMoneyChange(id, amount);
+
+        return reloadAfterMoneyChange(id);
+    }
+
+    /**
+     * Строка счёта блокируется FOR UPDATE до списания, как в списаниях журнала и слотов: подзапросы UPDATE
+     * читают снимок начала запроса, поэтому конкурирующее списание должно зафиксироваться раньше этого запроса.
+     *
+     * @param id     технический идентификатор {@link AccountDetailsEntity}
+     * @param amount сумма списания
+     * @return {@link AccountDetailsDto}
+     */
+    @Override
+    @Transactional
+    public AccountDetailsDto debit(Long id, BigDecimal amount) {
+        checkAmount(amount);
+        repository.findByIdForUpdate(id)
+                .orElseThrow(() -> exceptionReturner.getEntityNotFoundException(MESSAGE_PREFIX + id));
+        if (changeMoney(DEBIT, () -> repository.debit(id, amount)) == 0) {
+            throw new ValidationException(NOT_ENOUGH_MONEY_PREFIX + id);
+        }
+        aggregateService.recordMoneyChange(id, amount.negate());
+
+        return reloadAfterMoneyChange(id);
+    }
+
+    private int changeMoney(String operation, IntSupplier update) {
+        final long start = System.nanoTime();
+        final int updated = update.getAsInt();
+        final String outcome = updated == 0 ? "rejected" : "applied";
+        meterRegistry.timer(MONEY_CHANGE_METRIC, "operation", operation, "outcome", outcome)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return updated;
+    }
+
+    private AccountDetailsDto reloadAfterMoneyChange(Long id) {
+        final AccountDetailsEntity accountDetails = repository.findById(id)
+                .orElseThrow(() -> exceptionReturner.getEntityNotFoundException(MESSAGE_PREFIX + id));
+        evictAccountNumber(accountDetails.getAccountNumber());
+
+        return mapper.toDto(accountDetails);
+    }
+
+    /**
+     * Страница запрашивается на одну строку больше limit: лишняя строка означает, что есть следующая страница.
+     */
+    private AccountDetailsPageDto toPage(List<AccountDetailsEntity> rows, int limit) {
+        if (rows.size() <= limit) {
+            return new AccountDetailsPageDto(mapper.toDtoList(rows), null);
+        }
+        final List<AccountDetailsEntity> page = rows.subList(0, limit);
+        return new AccountDetailsPageDto(mapper.toDtoList(page), page.get(limit - 1).getId());
+    }
+
+    private void checkPageSize(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ValidationException(PAGE_SIZE_MESSAGE);
+        }
+    }
+
+    private void checkAmount(BigDecimal amount) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new ValidationException(NOT_POSITIVE_AMOUNT_MESSAGE);
+        }
+    }
+
+    private void evictAccountNumber(Long accountNumber) {
+        Optional.ofNullable(cacheManager.getCache(CacheConfig.ACCOUNT_DETAILS_BY_NUMBER))
+                .ifPresent(cache -> cache.evict(accountNumber));
+    }
 }
 
@@ -0,0 +1,16 @@
+package com.bank.account.service;
+
+import com.bank.account.dto.AccountDetailsViewDto;
+import com.bank.account.entity.AccountDetailsEntity;
+
+/**
+ * Сервис составного представления {@link AccountDetailsEntity} с профилем и реквизитами банка.
+ */
+public interface AccountDetailsViewService {
+
+    /**
+     * @param id технический идентификатор {@link AccountDetailsEntity}
+     * @return {@link AccountDetailsViewDto}
+     */
+    AccountDetailsViewDto findById(Long id);
+}
@@ -0,0 +1,75 @@
+package com.bank.account.service;
+
+import com.bank.account.client.ProfileFeignClient;
+import com.bank.account.config.AccountViewConfig;
+import com.bank.account.dto.AccountDetailsDto;
+import com.bank.account.dto.AccountDetailsViewDto;
+import com.bank.account.dto.BankDetailsDto;
+import com.bank.account.dto.ProfileDto;
+import com.bank.account.entity.AccountDetailsEntity;
+import com.bank.account.service.common.InFlightRequestCoalescer;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Реализация {@link AccountDetailsViewService}.
+ * Профиль и реквизиты банка запрашиваются параллельно, каждый со своим таймаутом,
+ * поэтому задержка равна самому медленному из вызовов, а не их сумме.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountDetailsViewServiceImpl implements AccountDetailsViewService {
+
+    private final AccountDetailsService accountDetailsService;
+    private final ProfileFeignClient profileClient;
+    private final AsyncLoadingCache<Long, BankDetailsDto> bankDetailsCache;
+    @Qualifier(AccountViewConfig.ACCOUNT_VIEW_EXECUTOR)
+    private final Executor executor;
+    private final InFlightRequestCoalescer<Long, ProfileDto> profileRequests = new InFlightRequestCoalescer<>();
+
+    @Value("${account.view.timeout:PT2S}")
+    private Duration timeout;
+
+    /**
+     * @param id технический идентификатор {@link AccountDetailsEntity}
+     * @return {@link AccountDetailsViewDto}
+     */
+    @Override
+    public AccountDetailsViewDto findById(Long id) {
+        final AccountDetailsDto accountDetails = accountDetailsService.findById(id);
+
+        final CompletableFuture<ProfileDto> profile = withTimeout(
+                profileRequests.execute(accountDetails.getProfileId(),
+                        profileId -> CompletableFuture.supplyAsync(() -> profileClient.readById(profileId), executor)),
+                "profile-app", accountDetails.getProfileId()
+        );
+        final CompletableFuture<BankDetailsDto> bankDetails = withTimeout(
+                bankDetailsCache.get(accountDetails.getBankDetailsId()),
+                "public-info-app", accountDetails.getBankDetailsId()
+        );
+
+        return new AccountDetailsViewDto(accountDetails, profile.join(), bankDetails.join());
+    }
+
+    /**
+     * Таймаут навешивается на копию, чтобы не завершить ошибкой общий для нескольких запросов future.
+     */
+    private <T> CompletableFuture<T> withTimeout(CompletableFuture<T> future, String service, Long id) {
+        return future.copy()
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(ex -> {
+                    log.warn("{} не вернул данные для id = {}: {}", service, id, ex.toString());
+                    return null;
+                });
+    }
+}
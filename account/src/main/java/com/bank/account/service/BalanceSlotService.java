@@ -0,0 +1,39 @@
+package com.bank.account.service;
+
+import com.bank.account.dto.AccountBalanceDto;
+import com.bank.account.entity.AccountDetailsEntity;
+
+import java.math.BigDecimal;
+
+/**
+ * Сервис шардирования баланса {@link AccountDetailsEntity} по слотам.
+ */
+public interface BalanceSlotService {
+
+    /**
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @param slotCount        новое число слотов, 0 отключает шардирование
+     * @return {@link AccountBalanceDto}
+     */
+    AccountBalanceDto resize(Long accountDetailsId, int slotCount);
+
+    /**
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @param amount           сумма зачисления
+     * @param postingKey       ключ проводки для выбора слота, при null слот выбирается случайно
+     */
+    void credit(Long accountDetailsId, BigDecimal amount, String postingKey);
+
+    /**
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @param amount           сумма списания
+     * @return {@link AccountBalanceDto}
+     */
+    AccountBalanceDto debit(Long accountDetailsId, BigDecimal amount);
+
+    /**
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @return {@link AccountBalanceDto}
+     */
+    AccountBalanceDto getBalance(Long accountDetailsId);
+}
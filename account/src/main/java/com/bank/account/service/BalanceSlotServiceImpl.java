@@ -0,0 +1,154 @@
+package com.bank.account.service;
+
+import com.bank.account.dto.AccountBalanceDto;
+import com.bank.account.entity.AccountDetailsEntity;
+import com.bank.account.entity.BalanceSlotEntity;
+import com.bank.account.repository.AccountDetailsRepository;
+import com.bank.account.repository.BalanceSlotRepository;
+import com.bank.account.repository.LedgerPostingRepository;
+import com.bank.account.service.common.ExceptionReturner;
+import com.bank.common.exception.ValidationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Реализация {@link BalanceSlotService}.
+ * Зачисление блокирует только один слот. Списание блокирует строку счёта и все его слоты
+ * по возрастанию номера и выбирает сумму из слотов, остаток списывается с money счёта.
+ */
+@Service
+@RequiredArgsConstructor
+public class BalanceSlotServiceImpl implements BalanceSlotService {
+
+    static final int MAX_SLOT_COUNT = 256;
+
+    private static final String MESSAGE_PREFIX = "Не существующий id = ";
+    private static final String NOT_SHARDED_PREFIX = "У счёта нет слотов баланса, id = ";
+    private static final String NOT_ENOUGH_MONEY_PREFIX = "Недостаточно средств на счёте id = ";
+    private static final String NOT_POSITIVE_AMOUNT_MESSAGE = "Сумма операции должна быть больше нуля";
+    private static final String SLOT_COUNT_MESSAGE = "Число слотов должно быть от 0 до " + MAX_SLOT_COUNT;
+
+    private final BalanceSlotRepository slotRepository;
+    private final AccountDetailsRepository accountDetailsRepository;
+    private final LedgerPostingRepository postingRepository;
+    private final ExceptionReturner exceptionReturner;
+    private final BankBalanceAggregateService aggregateService;
+
+    /**
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @param slotCount        новое число слотов
+     * @return {@link AccountBalanceDto}
+     */
+    @Override
+    @Transactional
+    public AccountBalanceDto resize(Long accountDetailsId, int slotCount) {
+        if (slotCount < 0 || slotCount > MAX_SLOT_COUNT) {
+            throw new ValidationException(SLOT_COUNT_MESSAGE);
+        }
+        final AccountDetailsEntity accountDetails = lockAccountDetails(accountDetailsId);
+        final List<BalanceSlotEntity> slots = slotRepository.findAllForUpdate(accountDetailsId);
+
+        final List<BalanceSlotEntity> removedSlots = slots.stream()
+                .filter(slot -> slot.getSlot() >= slotCount)
+                .toList();
+        removedSlots.forEach(slot -> accountDetails.setMoney(accountDetails.getMoney().add(slot.getMoney())));
+        slotRepository.deleteAllInBatch(removedSlots);
+
+        final List<BalanceSlotEntity> addedSlots = new ArrayList<>();
+        for (int slot = slots.size() - removedSlots.size(); slot < slotCount; slot++) {
+            addedSlots.add(new BalanceSlotEntity(null, accountDetailsId, slot, BigDecimal.ZERO));
+        }
+        slotRepository.saveAll(addedSlots);
+        accountDetailsRepository.save(accountDetails);
+
+        return new AccountBalanceDto(accountDetailsId, accountDetails.getMoney().add(
+                slotRepository.sumMoney(accountDetailsId))
+        );
+    }
+
+    /**
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @param amount           сумма зачисления
+     * @param postingKey       ключ проводки для выбора слота, при null слот выбирается случайно
+     */
+    @Override
+    @Transactional
+    public void credit(Long accountDetailsId, BigDecimal amount, String postingKey) {
+        checkAmount(amount);
+        final int hash = postingKey == null ?
+                ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE) :
+                postingKey.hashCode() & Integer.MAX_VALUE;
+
+        if (slotRepository.credit(accountDetailsId, hash, amount) == 0) {
+            throw new ValidationException(NOT_SHARDED_PREFIX + accountDetailsId);
+        }
+        aggregateService.recordMoneyChange(accountDetailsId, amount);
+    }
+
+    /**
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @param amount           сумма списания
+     * @return {@link AccountBalanceDto}
+     */
+    @Override
+    @Transactional
+    public AccountBalanceDto debit(Long accountDetailsId, BigDecimal amount) {
+        checkAmount(amount);
+        final AccountDetailsEntity accountDetails = lockAccountDetails(accountDetailsId);
+        final List<BalanceSlotEntity> slots = slotRepository.findAllForUpdate(accountDetailsId);
+
+        final BigDecimal balance = slots.stream()
+                .map(BalanceSlotEntity::getMoney)
+                .reduce(accountDetails.getMoney(), BigDecimal::add)
+                .add(postingRepository.sumUnsnapshotted(accountDetailsId));
+        if (!accountDetails.getNegativeBalance() && balance.compareTo(amount) < 0) {
+            throw new ValidationException(NOT_ENOUGH_MONEY_PREFIX + accountDetailsId);
+        }
+
+        BigDecimal remaining = amount;
+        for (BalanceSlotEntity slot : slots) {
+            final BigDecimal taken = slot.getMoney().max(BigDecimal.ZERO).min(remaining);
+            slot.setMoney(slot.getMoney().subtract(taken));
+            remaining = remaining.subtract(taken);
+        }
+        accountDetails.setMoney(accountDetails.getMoney().subtract(remaining));
+        slotRepository.saveAll(slots);
+        accountDetailsRepository.save(accountDetails);
+        aggregateService.recordMoneyChange(accountDetailsId, amount.negate());
+
+        return new AccountBalanceDto(accountDetailsId, balance.subtract(amount));
+    }
+
+    /**
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @return {@link AccountBalanceDto}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public AccountBalanceDto getBalance(Long accountDetailsId) {
+        final AccountDetailsEntity accountDetails = accountDetailsRepository.findById(accountDetailsId)
+                .orElseThrow(() -> exceptionReturner.getEntityNotFoundException(MESSAGE_PREFIX + accountDetailsId));
+
+        return new AccountBalanceDto(accountDetailsId, accountDetails.getMoney()
+                .add(slotRepository.sumMoney(accountDetailsId))
+                .add(postingRepository.sumUnsnapshotted(accountDetailsId))
+        );
+    }
+
+    private AccountDetailsEntity lockAccountDetails(Long accountDetailsId) {
+        return accountDetailsRepository.findByIdForUpdate(accountDetailsId)
+                .orElseThrow(() -> exceptionReturner.getEntityNotFoundException(MESSAGE_PREFIX + accountDetailsId));
+    }
+
+    private void checkAmount(BigDecimal amount) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new ValidationException(NOT_POSITIVE_AMOUNT_MESSAGE);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.bank.account.service;
+
+import com.bank.account.dto.BankBalanceAggregateDto;
+import com.bank.account.entity.AccountDetailsEntity;
+import com.bank.account.entity.BankBalanceAggregateEntity;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Сервис итогов {@link BankBalanceAggregateEntity} по реквизитам банка.
+ * Методы record* вызываются внутри транзакции, меняющей баланс, и фиксируются вместе с ней.
+ * Баланс счёта считается так же, как в {@link LedgerService}.
+ */
+public interface BankBalanceAggregateService {
+
+    /**
+     * @param accountDetailsIds технические идентификаторы созданных {@link AccountDetailsEntity}
+     */
+    void recordAccountsCreated(Collection<Long> accountDetailsIds);
+
+    /**
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @param amount           изменение баланса счёта, отрицательное при списании
+     */
+    void recordMoneyChange(Long accountDetailsId, BigDecimal amount);
+
+    /**
+     * @param accountDetails      {@link AccountDetailsEntity} после изменения
+     * @param bankDetailsIdBefore bank_details_id до изменения
+     * @param moneyBefore         money до изменения
+     */
+    void recordAccountUpdated(AccountDetailsEntity accountDetails, Long bankDetailsIdBefore, BigDecimal moneyBefore);
+
+    /**
+     * @return количество изменённых итогов
+     */
+    int fold();
+
+    /**
+     * @return {@link List<BankBalanceAggregateDto>} по всем банкам
+     */
+    List<BankBalanceAggregateDto> findAll();
+
+    /**
+     * @param bankDetailsId технический идентификатор на реквизиты банка
+     * @return {@link BankBalanceAggregateDto}
+     */
+    BankBalanceAggregateDto findByBankDetailsId(Long bankDetailsId);
+}
@@ -0,0 +1,110 @@
+package com.bank.account.service;
+
+import com.bank.account.dto.BankBalanceAggregateDto;
+import com.bank.account.entity.AccountDetailsEntity;
+import com.bank.account.mapper.BankBalanceAggregateMapper;
+import com.bank.account.repository.BalanceSlotRepository;
+import com.bank.account.repository.BankBalanceAggregateRepository;
+import com.bank.account.repository.LedgerPostingRepository;
+import com.bank.account.service.common.ExceptionReturner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Реализация {@link BankBalanceAggregateService}.
+ * Каждое изменение - вставка строки в bank_balance_delta, строки итогов банков меняет только {@link #fold()}.
+ */
+@Service
+@RequiredArgsConstructor
+public class BankBalanceAggregateServiceImpl implements BankBalanceAggregateService {
+
+    private static final String MESSAGE_PREFIX = "Нет счетов с bank_details_id = ";
+
+    private final BankBalanceAggregateRepository aggregateRepository;
+    private final BalanceSlotRepository slotRepository;
+    private final LedgerPostingRepository postingRepository;
+    private final BankBalanceAggregateMapper mapper;
+    private final ExceptionReturner exceptionReturner;
+
+    /**
+     * @param accountDetailsIds технические идентификаторы созданных {@link AccountDetailsEntity}
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAccountsCreated(Collection<Long> accountDetailsIds) {
+        if (!accountDetailsIds.isEmpty()) {
+            aggregateRepository.insertCreatedAccountsDelta(accountDetailsIds);
+        }
+    }
+
+    /**
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @param amount           изменение баланса счёта, отрицательное при списании
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordMoneyChange(Long accountDetailsId, BigDecimal amount) {
+        if (amount.signum() != 0) {
+            aggregateRepository.insertAccountDelta(accountDetailsId, amount);
+        }
+    }
+
+    /**
+     * При смене банка весь баланс счёта, включая слоты и не свёрнутые проводки, переносится в итог нового банка.
+     *
+     * @param accountDetails      {@link AccountDetailsEntity} после изменения
+     * @param bankDetailsIdBefore bank_details_id до изменения
+     * @param moneyBefore         money до изменения
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAccountUpdated(AccountDetailsEntity accountDetails, Long bankDetailsIdBefore,
+                                     BigDecimal moneyBefore) {
+        if (Objects.equals(bankDetailsIdBefore, accountDetails.getBankDetailsId())) {
+            recordMoneyChange(accountDetails.getId(), accountDetails.getMoney().subtract(moneyBefore));
+            return;
+        }
+        final BigDecimal pending = slotRepository.sumMoney(accountDetails.getId())
+                .add(postingRepository.sumUnsnapshotted(accountDetails.getId()));
+        aggregateRepository.insertDelta(bankDetailsIdBefore, moneyBefore.add(pending).negate(), -1);
+        aggregateRepository.insertDelta(accountDetails.getBankDetailsId(), accountDetails.getMoney().add(pending), 1);
+    }
+
+    /**
+     * @return количество изменённых итогов
+     */
+    @Override
+    @Transactional
+    public int fold() {
+        return aggregateRepository.fold();
+    }
+
+    /**
+     * @return {@link List<BankBalanceAggregateDto>} по всем банкам
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<BankBalanceAggregateDto> findAll() {
+        return mapper.toDtoList(aggregateRepository.findAllTotals());
+    }
+
+    /**
+     * @param bankDetailsId технический идентификатор на реквизиты банка
+     * @return {@link BankBalanceAggregateDto}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public BankBalanceAggregateDto findByBankDetailsId(Long bankDetailsId) {
+        return aggregateRepository.findTotalsByBankDetailsId(bankDetailsId).stream()
+                .findFirst()
+                .map(mapper::toDto)
+                .orElseThrow(() -> exceptionReturner.getEntityNotFoundException(MESSAGE_PREFIX + bankDetailsId));
+    }
+}
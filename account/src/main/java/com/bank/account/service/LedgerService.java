@@ -0,0 +1,67 @@
+package com.bank.account.service;
+
+import com.bank.account.dto.AccountBalanceDto;
+import com.bank.account.dto.LedgerPostingDto;
+import com.bank.account.dto.LedgerTransferDto;
+import com.bank.account.entity.AccountDetailsEntity;
+import com.bank.account.entity.BalanceSnapshotEntity;
+import com.bank.account.entity.LedgerPostingEntity;
+import com.bank.account.entity.LedgerTransferEntity;
+
+import java.math.BigDecimal;
+
+/**
+ * Сервис журнала проводок {@link LedgerPostingEntity}.
+ * Баланс счёта = money у {@link AccountDetailsEntity} + слоты баланса + проводки после {@link BalanceSnapshotEntity}.
+ * Снимок переносит видимые проводки в money и сдвигает last_posting_id.
+ */
+public interface LedgerService {
+
+    /**
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @param amount           сумма зачисления
+     * @return {@link LedgerPostingDto}
+     */
+    LedgerPostingDto credit(Long accountDetailsId, BigDecimal amount);
+
+    /**
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @param amount           сумма списания
+     * @return {@link LedgerPostingDto}
+     */
+    LedgerPostingDto debit(Long accountDetailsId, BigDecimal amount);
+
+    /**
+     * Списание у отправителя и зачисление получателю одной транзакцией. Итог, в том числе отказ,
+     * сохраняется в {@link LedgerTransferEntity}: повтор с тем же transferId возвращает его без новых проводок.
+     *
+     * @param transferId           идентификатор перевода в модуле transfer
+     * @param fromAccountDetailsId технический идентификатор счёта отправителя
+     * @param toAccountDetailsId   технический идентификатор счёта получателя
+     * @param amount               сумма перевода
+     * @return {@link LedgerTransferDto}
+     */
+    LedgerTransferDto transfer(Long transferId, Long fromAccountDetailsId, Long toAccountDetailsId,
+                               BigDecimal amount);
+
+    /**
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @return {@link AccountBalanceDto}
+     */
+    AccountBalanceDto getBalance(Long accountDetailsId);
+
+    /**
+     * Сворачивает видимые проводки в {@link BalanceSnapshotEntity}.
+     *
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @return {@link AccountBalanceDto}
+     */
+    AccountBalanceDto snapshot(Long accountDetailsId);
+
+    /**
+     * Сдвигает границу журнала, до которой планировщик уже свернул снимки.
+     *
+     * @param postingId id последней просмотренной проводки
+     */
+    void advanceSnapshotWatermark(Long postingId);
+}
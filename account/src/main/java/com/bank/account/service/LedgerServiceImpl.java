@@ -0,0 +1,270 @@
+package com.bank.account.service;
+
+import com.bank.account.config.CacheConfig;
+import com.bank.account.dto.AccountBalanceDto;
+import com.bank.account.dto.LedgerPostingDto;
+import com.bank.account.dto.LedgerTransferDto;
+import com.bank.account.entity.AccountDetailsEntity;
+import com.bank.account.entity.BalanceSnapshotEntity;
+import com.bank.account.entity.LedgerPostingEntity;
+import com.bank.account.entity.LedgerTransferEntity;
+import com.bank.account.entity.LedgerTransferStatus;
+import com.bank.account.mapper.LedgerPostingMapper;
+import com.bank.account.mapper.LedgerTransferMapper;
+import com.bank.account.repository.AccountDetailsRepository;
+import com.bank.account.repository.BalanceSlotRepository;
+import com.bank.account.repository.BalanceSnapshotRepository;
+import com.bank.account.repository.LedgerPostingRepository;
+import com.bank.account.repository.LedgerTransferRepository;
+import com.bank.account.service.common.ExceptionReturner;
+import com.bank.common.exception.ValidationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Реализация {@link LedgerService}.
+ * Каждая проводка держит строку {@link AccountDetailsEntity} в FOR KEY SHARE до фиксации:
+ * проводки друг друга не ждут, а снимок баланса (FOR UPDATE) ждёт все начатые проводки.
+ * Списания со счетов без права на минус блокируют строку счёта FOR UPDATE,
+ * чтобы проверка баланса и вставка проводки были атомарны.
+ * Перевод между счетами блокирует обе строки FOR UPDATE по возрастанию id и пишет обе проводки
+ * в одной транзакции.
+ */
+@Service
+@RequiredArgsConstructor
+public class LedgerServiceImpl implements LedgerService {
+
+    private static final String MESSAGE_PREFIX = "Не существующий id = ";
+    private static final String NOT_ENOUGH_MONEY_PREFIX = "Недостаточно средств на счёте id = ";
+    private static final String NOT_POSITIVE_AMOUNT_MESSAGE = "Сумма проводки должна быть больше нуля";
+    private static final String SAME_ACCOUNT_MESSAGE = "Счёт отправителя совпадает со счётом получателя";
+    private static final String SOURCE_NOT_FOUND_PREFIX = "Не найден счёт отправителя id = ";
+    private static final String DESTINATION_NOT_FOUND_PREFIX = "Не найден счёт получателя id = ";
+    private static final String TRANSFER_CONFLICT_PREFIX = "Перевод уже проведён с другими параметрами, id = ";
+
+    private final LedgerPostingRepository postingRepository;
+    private final BalanceSnapshotRepository snapshotRepository;
+    private final BalanceSlotRepository slotRepository;
+    private final AccountDetailsRepository accountDetailsRepository;
+    private final LedgerTransferRepository transferRepository;
+    private final LedgerPostingMapper mapper;
+    private final LedgerTransferMapper transferMapper;
+    private final ExceptionReturner exceptionReturner;
+    private final CacheManager cacheManager;
+    private final BankBalanceAggregateService aggregateService;
+
+    /**
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @param amount           сумма зачисления
+     * @return {@link LedgerPostingDto}
+     */
+    @Override
+    @Transactional
+    public LedgerPostingDto credit(Long accountDetailsId, BigDecimal amount) {
+        checkAmount(amount);
+        lockForPosting(accountDetailsId);
+        aggregateService.recordMoneyChange(accountDetailsId, amount);
+
+        return mapper.toDto(append(accountDetailsId, amount));
+    }
+
+    /**
+     * Признак права на минус читается скалярно, без загрузки сущности: иначе выборка FOR UPDATE
+     * вернула бы уже загруженный экземпляр с money до последнего снимка.
+     *
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @param amount           сумма списания
+     * @return {@link LedgerPostingDto}
+     */
+    @Override
+    @Transactional
+    public LedgerPostingDto debit(Long accountDetailsId, BigDecimal amount) {
+        checkAmount(amount);
+        final Boolean negativeBalance = accountDetailsRepository.findNegativeBalanceById(accountDetailsId)
+                .orElseThrow(() -> exceptionReturner.getEntityNotFoundException(MESSAGE_PREFIX + accountDetailsId));
+
+        if (negativeBalance) {
+            lockForPosting(accountDetailsId);
+        } else if (calculateBalance(findAccountDetailsForUpdate(accountDetailsId)).compareTo(amount) < 0) {
+            throw new ValidationException(NOT_ENOUGH_MONEY_PREFIX + accountDetailsId);
+        }
+
+        aggregateService.recordMoneyChange(accountDetailsId, amount.negate());
+
+        return mapper.toDto(append(accountDetailsId, amount.negate()));
+    }
+
+    /**
+     * Строки счетов блокируются до чтения сохранённого итога, поэтому повтор с тем же transferId
+     * дожидается фиксации первого вызова и возвращает его итог. Отказ сохраняется, а не откатывается:
+     * у перевода один итог на все повторы.
+     *
+     * @param transferId           идентификатор перевода в модуле transfer
+     * @param fromAccountDetailsId технический идентификатор счёта отправителя
+     * @param toAccountDetailsId   технический идентификатор счёта получателя
+     * @param amount               сумма перевода
+     * @return {@link LedgerTransferDto}
+     */
+    @Override
+    @Transactional
+    public LedgerTransferDto transfer(Long transferId, Long fromAccountDetailsId, Long toAccountDetailsId,
+                                      BigDecimal amount) {
+        checkAmount(amount);
+        if (fromAccountDetailsId.equals(toAccountDetailsId)) {
+            throw new ValidationException(SAME_ACCOUNT_MESSAGE);
+        }
+        final Map<Long, AccountDetailsEntity> accounts = accountDetailsRepository
+                .findAllByIdForUpdate(List.of(fromAccountDetailsId, toAccountDetailsId)).stream()
+                .collect(Collectors.toMap(AccountDetailsEntity::getId, Function.identity()));
+        final Optional<LedgerTransferEntity> recorded = transferRepository.findById(transferId);
+        if (recorded.isPresent()) {
+            return transferMapper.toDto(replay(recorded.get(), fromAccountDetailsId, toAccountDetailsId, amount));
+        }
+
+        final Optional<String> failureReason = checkTransfer(accounts, fromAccountDetailsId, toAccountDetailsId,
+                amount);
+        if (failureReason.isEmpty()) {
+            aggregateService.recordMoneyChange(fromAccountDetailsId, amount.negate());
+            append(fromAccountDetailsId, amount.negate());
+            aggregateService.recordMoneyChange(toAccountDetailsId, amount);
+            append(toAccountDetailsId, amount);
+        }
+
+        return transferMapper.toDto(transferRepository.save(new LedgerTransferEntity(transferId,
+                fromAccountDetailsId, toAccountDetailsId, amount,
+                failureReason.isPresent() ? LedgerTransferStatus.REJECTED : LedgerTransferStatus.COMPLETED,
+                failureReason.orElse(null), Timestamp.from(Instant.now()))));
+    }
+
+    /**
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @return {@link AccountBalanceDto}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public AccountBalanceDto getBalance(Long accountDetailsId) {
+        return new AccountBalanceDto(accountDetailsId, calculateBalance(findAccountDetails(accountDetailsId)));
+    }
+
+    /**
+     * Блокировка FOR UPDATE дожидается фиксации всех начатых проводок счёта, а новые проводки
+     * получат id уже после снимка. Поэтому все видимые проводки сворачиваются по максимальному id,
+     * и проводка с меньшим id не может зафиксироваться позже.
+     *
+     * @param accountDetailsId технический идентификатор {@link AccountDetailsEntity}
+     * @return {@link AccountBalanceDto}
+     */
+    @Override
+    @Transactional
+    public AccountBalanceDto snapshot(Long accountDetailsId) {
+        final AccountDetailsEntity accountDetails = findAccountDetailsForUpdate(accountDetailsId);
+        final BalanceSnapshotEntity snapshot = snapshotRepository.findById(accountDetailsId)
+                .orElseGet(() -> new BalanceSnapshotEntity(accountDetailsId, accountDetails.getMoney(), 0L, null));
+
+        final Long lastPostingId = postingRepository.findLastId(accountDetailsId, snapshot.getLastPostingId());
+        if (lastPostingId != null) {
+            final BigDecimal money = accountDetails.getMoney().add(
+                    postingRepository.sumBetween(accountDetailsId, snapshot.getLastPostingId(), lastPostingId)
+            );
+            snapshot.setMoney(money);
+            snapshot.setLastPostingId(lastPostingId);
+            snapshot.setCreatedAt(Timestamp.from(Instant.now()));
+            snapshotRepository.save(snapshot);
+            accountDetails.setMoney(money);
+            accountDetailsRepository.save(accountDetails);
+            Optional.ofNullable(cacheManager.getCache(CacheConfig.ACCOUNT_DETAILS_BY_NUMBER))
+                    .ifPresent(cache -> cache.evict(accountDetails.getAccountNumber()));
+        }
+
+        return new AccountBalanceDto(accountDetailsId, accountDetails.getMoney()
+                .add(slotRepository.sumMoney(accountDetailsId))
+                .add(postingRepository.sumAfter(accountDetailsId, snapshot.getLastPostingId()))
+        );
+    }
+
+    /**
+     * @param postingId id последней просмотренной проводки
+     */
+    @Override
+    @Transactional
+    public void advanceSnapshotWatermark(Long postingId) {
+        postingRepository.advanceSnapshotWatermark(postingId);
+    }
+
+    private AccountDetailsEntity findAccountDetails(Long accountDetailsId) {
+        return accountDetailsRepository.findById(accountDetailsId)
+                .orElseThrow(() -> exceptionReturner.getEntityNotFoundException(MESSAGE_PREFIX + accountDetailsId));
+    }
+
+    private AccountDetailsEntity findAccountDetailsForUpdate(Long accountDetailsId) {
+        return accountDetailsRepository.findByIdForUpdate(accountDetailsId)
+                .orElseThrow(() -> exceptionReturner.getEntityNotFoundException(MESSAGE_PREFIX + accountDetailsId));
+    }
+
+    private void lockForPosting(Long accountDetailsId) {
+        if (accountDetailsRepository.lockForPosting(accountDetailsId).isEmpty()) {
+            throw exceptionReturner.getEntityNotFoundException(MESSAGE_PREFIX + accountDetailsId);
+        }
+    }
+
+    private BigDecimal calculateBalance(AccountDetailsEntity accountDetails) {
+        final Long lastPostingId = snapshotRepository.findById(accountDetails.getId())
+                .map(BalanceSnapshotEntity::getLastPostingId)
+                .orElse(0L);
+
+        return accountDetails.getMoney()
+                .add(slotRepository.sumMoney(accountDetails.getId()))
+                .add(postingRepository.sumAfter(accountDetails.getId(), lastPostingId));
+    }
+
+    /**
+     * @return причина отказа, пустой {@link Optional} если перевод можно провести
+     */
+    private Optional<String> checkTransfer(Map<Long, AccountDetailsEntity> accounts, Long fromAccountDetailsId,
+                                           Long toAccountDetailsId, BigDecimal amount) {
+        final AccountDetailsEntity from = accounts.get(fromAccountDetailsId);
+        if (from == null) {
+            return Optional.of(SOURCE_NOT_FOUND_PREFIX + fromAccountDetailsId);
+        }
+        if (!accounts.containsKey(toAccountDetailsId)) {
+            return Optional.of(DESTINATION_NOT_FOUND_PREFIX + toAccountDetailsId);
+        }
+        if (!from.getNegativeBalance() && calculateBalance(from).compareTo(amount) < 0) {
+            return Optional.of(NOT_ENOUGH_MONEY_PREFIX + fromAccountDetailsId);
+        }
+        return Optional.empty();
+    }
+
+    private LedgerTransferEntity replay(LedgerTransferEntity transfer, Long fromAccountDetailsId,
+                                        Long toAccountDetailsId, BigDecimal amount) {
+        if (!transfer.getFromAccountDetailsId().equals(fromAccountDetailsId) ||
+                !transfer.getToAccountDetailsId().equals(toAccountDetailsId) ||
+                transfer.getAmount().compareTo(amount) != 0) {
+            throw new IllegalStateException(TRANSFER_CONFLICT_PREFIX + transfer.getTransferId());
+        }
+        return transfer;
+    }
+
+    private LedgerPostingEntity append(Long accountDetailsId, BigDecimal amount) {
+        return postingRepository.save(
+                new LedgerPostingEntity(null, accountDetailsId, amount, Timestamp.from(Instant.now()))
+        );
+    }
+
+    private void checkAmount(BigDecimal amount) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new ValidationException(NOT_POSITIVE_AMOUNT_MESSAGE);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.bank.account.service.common;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Склеивает одинаковые одновременные запросы: пока запрос по ключу выполняется,
+ * все вызывающие получают один и тот же {@link CompletableFuture}. Результат не кэшируется.
+ *
+ * @param <K> ключ запроса
+ * @param <V> результат запроса
+ */
+public class InFlightRequestCoalescer<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param key     ключ запроса
+     * @param request запускает запрос, вызывается только если по ключу нет выполняющегося запроса
+     * @return {@link CompletableFuture} с результатом, общий для всех одновременных вызовов по ключу
+     */
+    public CompletableFuture<V> execute(K key, Function<K, CompletableFuture<V>> request) {
+        final CompletableFuture<V> created = new CompletableFuture<>();
+        final CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            request.apply(key).whenComplete((value, ex) -> complete(key, created, value, ex));
+        } catch (RuntimeException ex) {
+            complete(key, created, null, ex);
+        }
+        return created;
+    }
+
+    /**
+     * @return число выполняющихся запросов
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private void complete(K key, CompletableFuture<V> future, V value, Throwable ex) {
+        inFlight.remove(key, future);
+        if (ex == null) {
+            future.complete(value);
+        } else {
+            future.completeExceptionally(ex);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.bank.account.benchmark;
+
+import com.bank.account.AccountApplication;
+import com.bank.account.dto.AccountDetailsDto;
+import com.bank.account.entity.AccountDetailsEntity;
+import com.bank.account.repository.AccountDetailsRepository;
+import com.bank.account.service.AccountDetailsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Задержка {@link AccountDetailsService#findAllById} в зависимости от числа id:
+ * прежний путь (findById на каждый id) против чтения пачками IN (...).
+ * Требует локальную PostgreSQL из application-local.yaml, запуск через {@link #main}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountDetailsBulkReadBenchmark {
+
+    @Param({"1", "10", "100", "500", "2000"})
+    private int idCount;
+
+    private ConfigurableApplicationContext context;
+    private AccountDetailsService accountDetailsService;
+    private AccountDetailsRepository repository;
+    private List<Long> ids;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AccountDetailsBulkReadBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(AccountApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("eureka.client.enabled=false")
+                .run();
+        accountDetailsService = context.getBean(AccountDetailsService.class);
+        repository = context.getBean(AccountDetailsRepository.class);
+
+        final long base = System.nanoTime();
+        ids = new ArrayList<>(idCount);
+        for (int i = 0; i < idCount; i++) {
+            ids.add(accountDetailsService.save(
+                    new AccountDetailsDto(null, 1L, base + i, base + i, BigDecimal.ZERO, false, 1L)
+            ).getId());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        repository.deleteAllByIdInBatch(ids);
+        context.close();
+    }
+
+    @Benchmark
+    public List<AccountDetailsEntity> perIdPath() {
+        return ids.stream()
+                .map(id -> repository.findById(id).orElseThrow())
+                .toList();
+    }
+
+    @Benchmark
+    public List<AccountDetailsDto> bulkPath() {
+        return accountDetailsService.findAllById(ids);
+    }
+}
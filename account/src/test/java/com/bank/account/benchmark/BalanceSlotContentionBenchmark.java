@@ -0,0 +1,86 @@
+package com.bank.account.benchmark;
+
+import com.bank.account.AccountApplication;
+import com.bank.account.dto.AccountDetailsDto;
+import com.bank.account.service.AccountDetailsService;
+import com.bank.account.service.BalanceSlotService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Пропускная способность зачислений на один горячий счёт при 1, 8 и 32 слотах баланса.
+ * При одном слоте все потоки конкурируют за одну строку, с ростом числа слотов блокировки расходятся.
+ * Требует локальную PostgreSQL из application-local.yaml, запуск через {@link #main}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(32)
+public class BalanceSlotContentionBenchmark {
+
+    private static final BigDecimal AMOUNT = BigDecimal.ONE;
+
+    @Param({"1", "8", "32"})
+    private int slotCount;
+
+    private ConfigurableApplicationContext context;
+    private BalanceSlotService balanceSlotService;
+    private Long accountDetailsId;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BalanceSlotContentionBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(AccountApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("eureka.client.enabled=false")
+                .run();
+        balanceSlotService = context.getBean(BalanceSlotService.class);
+
+        final long unique = System.nanoTime();
+        accountDetailsId = context.getBean(AccountDetailsService.class).save(
+                new AccountDetailsDto(null, 1L, unique, unique, BigDecimal.ZERO, false, 1L)
+        ).getId();
+        balanceSlotService.resize(accountDetailsId, slotCount);
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("%d slots: balance %s%n", slotCount,
+                balanceSlotService.getBalance(accountDetailsId).getMoney());
+        context.close();
+    }
+
+    @Benchmark
+    public void credit() {
+        balanceSlotService.credit(accountDetailsId, AMOUNT, null);
+    }
+}
@@ -0,0 +1,107 @@
+package com.bank.account.benchmark;
+
+import com.bank.account.AccountApplication;
+import com.bank.account.dto.AccountDetailsDto;
+import com.bank.account.service.AccountDetailsService;
+import com.bank.account.service.LedgerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Сравнение пропускной способности зачислений на один "горячий" счёт:
+ * read-modify-write через {@link AccountDetailsService#update} против дописывания проводки
+ * через {@link LedgerService#credit}.
+ * Требует локальную PostgreSQL из application-local.yaml, запуск через {@link #main}.
+ * После прогона печатает число потерянных обновлений для каждого пути.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(16)
+public class LedgerPostingBenchmark {
+
+    private static final BigDecimal AMOUNT = BigDecimal.ONE;
+
+    private final AtomicLong updateCount = new AtomicLong();
+    private final AtomicLong creditCount = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private AccountDetailsService accountDetailsService;
+    private LedgerService ledgerService;
+    private Long updateAccountId;
+    private Long ledgerAccountId;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LedgerPostingBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(AccountApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("eureka.client.enabled=false", "ledger.snapshot.fixed-delay=1000")
+                .run();
+        accountDetailsService = context.getBean(AccountDetailsService.class);
+        ledgerService = context.getBean(LedgerService.class);
+        updateAccountId = createAccount();
+        ledgerAccountId = createAccount();
+    }
+
+    @TearDown
+    public void tearDown() {
+        final BigDecimal updateMoney = accountDetailsService.findById(updateAccountId).getMoney();
+        final BigDecimal ledgerMoney = ledgerService.getBalance(ledgerAccountId).getMoney();
+        System.out.printf("update path: %d credits, %s lost%n",
+                updateCount.get(), BigDecimal.valueOf(updateCount.get()).subtract(updateMoney));
+        System.out.printf("ledger path: %d credits, %s lost%n",
+                creditCount.get(), BigDecimal.valueOf(creditCount.get()).subtract(ledgerMoney));
+        context.close();
+    }
+
+    @Benchmark
+    public void updatePath() {
+        final AccountDetailsDto accountDetails = accountDetailsService.findById(updateAccountId);
+        accountDetails.setMoney(accountDetails.getMoney().add(AMOUNT));
+        accountDetailsService.update(updateAccountId, accountDetails);
+        updateCount.incrementAndGet();
+    }
+
+    @Benchmark
+    public void ledgerPath() {
+        ledgerService.credit(ledgerAccountId, AMOUNT);
+        creditCount.incrementAndGet();
+    }
+
+    private Long createAccount() {
+        final long unique = System.nanoTime();
+        return accountDetailsService.save(
+                new AccountDetailsDto(null, 1L, unique, unique, BigDecimal.ZERO, false, 1L)
+        ).getId();
+    }
+}
@@ -0,0 +1,141 @@
+package com.bank.account.config;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    DataSource primary;
+    @Mock
+    DataSource replica;
+    @Mock
+    Connection primaryConnection;
+    @Mock
+    Connection replicaConnection;
+
+    ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica), Duration.ofSeconds(5),
+                Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("пишущая транзакция получает соединение primary")
+    void writeTransactionRoutesToPrimaryTest() throws SQLException {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertSame(primaryConnection, routingDataSource.getConnection());
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("readOnly-транзакция получает соединение реплики")
+    void readOnlyTransactionRoutesToReplicaTest() throws SQLException {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        assertSame(replicaConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    @DisplayName("чтение вне транзакции получает соединение реплики")
+    void nonTransactionalReadRoutesToReplicaTest() throws SQLException {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        assertSame(replicaConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    @DisplayName("при отказе реплики чтение уходит на primary, реплика исключается")
+    void replicaFailureFallsBackToPrimaryTest() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertSame(primaryConnection, routingDataSource.getConnection());
+        assertEquals(0, routingDataSource.availableReplicaCount());
+    }
+
+    @Test
+    @DisplayName("реплика с отставанием больше допустимого исключается до следующей проверки")
+    void laggingReplicaIsExcludedTest() throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(replicaConnection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(ReplicaRoutingDataSource.LAG_QUERY)).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(10_000L, 100L);
+
+        routingDataSource.checkReplicas();
+        assertEquals(0, routingDataSource.availableReplicaCount());
+
+        routingDataSource.checkReplicas();
+        assertEquals(1, routingDataSource.availableReplicaCount());
+    }
+
+    @Test
+    @DisplayName("реплика с неизвестным отставанием (WAL receiver не в streaming) исключается")
+    void unknownLagReplicaIsExcludedTest() throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(replicaConnection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(ReplicaRoutingDataSource.LAG_QUERY)).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(0L);
+        when(resultSet.wasNull()).thenReturn(true);
+
+        routingDataSource.checkReplicas();
+
+        assertEquals(0, routingDataSource.availableReplicaCount());
+    }
+
+    @Test
+    @DisplayName("реплика без свежей проверки исключается, чтение уходит на primary")
+    void staleCheckFallsBackToPrimaryTest() throws Exception {
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica), Duration.ofSeconds(5),
+                Duration.ofMillis(1));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        Thread.sleep(10);
+
+        assertSame(primaryConnection, routingDataSource.getConnection());
+        assertEquals(0, routingDataSource.availableReplicaCount());
+        verify(replica, never()).getConnection();
+    }
+}
@@ -0,0 +1,56 @@
+package com.bank.account.controller;
+
+import com.bank.account.dto.BulkCreateErrorDto;
+import com.bank.account.dto.BulkCreateResultDto;
+import com.bank.account.service.AccountDetailsBulkServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AccountDetailsBulkController.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class AccountDetailsBulkControllerTest {
+
+    @MockBean
+    AccountDetailsBulkServiceImpl bulkService;
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("массовое создание, позитивный сценарий")
+    void createBulkPositiveTest() throws Exception {
+        BulkCreateResultDto expectedResult = new BulkCreateResultDto(1L, 1L,
+                List.of(new BulkCreateErrorDto(1L, 2L, "Счёт с таким номером уже существует")));
+
+        when(bulkService.createAll(any())).thenReturn(expectedResult);
+        MvcResult result = mockMvc.perform(post("/details/create/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"accountNumber\":1},{\"accountNumber\":2}]"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        BulkCreateResultDto actualResult = objectMapper.readValue(
+                result.getResponse().getContentAsString(StandardCharsets.UTF_8), BulkCreateResultDto.class);
+
+        assertEquals(expectedResult, actualResult);
+    }
+}
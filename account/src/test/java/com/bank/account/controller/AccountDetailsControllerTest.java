@@ -1,6 +1,7 @@
 package com.bank.account.controller;
 
 import com.bank.account.dto.AccountDetailsDto;
+import com.bank.account.dto.AccountDetailsPageDto;
 import com.bank.account.service.AccountDetailsServiceImpl;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -58,6 +59,53 @@ class AccountDetailsControllerTest {
         verify(accountDetailsService, times(1)).findById(accountId);
     }
 
+    @Test
+    @DisplayName("чтение по номеру счёта, позитивный сценарий")
+    void readByAccountNumberPositiveTest() throws Exception {
+        AccountDetailsDto expectedResult = getDetailsDto();
+
+        when(accountDetailsService.findByAccountNumber(expectedResult.getAccountNumber())).thenReturn(expectedResult);
+        MvcResult result = mockMvc.perform(get("/details/number/" + expectedResult.getAccountNumber()))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        AccountDetailsDto actualResult = objectMapper.readValue(result.getResponse().getContentAsString(),
+                AccountDetailsDto.class);
+
+        assertEquals(expectedResult, actualResult);
+        verify(accountDetailsService, times(1)).findByAccountNumber(expectedResult.getAccountNumber());
+    }
+
+    @Test
+    @DisplayName("страница аккаунтов профиля, позитивный сценарий")
+    void readByProfileIdPositiveTest() throws Exception {
+        AccountDetailsPageDto expectedResult = new AccountDetailsPageDto(List.of(getDetailsDto()), 10L);
+
+        when(accountDetailsService.findPageByProfileId(290L, 5L, 1)).thenReturn(expectedResult);
+        MvcResult result = mockMvc.perform(get("/details/profile/290")
+                        .param("afterId", "5")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        AccountDetailsPageDto actualResult = objectMapper.readValue(result.getResponse().getContentAsString(),
+                AccountDetailsPageDto.class);
+
+        assertEquals(expectedResult, actualResult);
+    }
+
+    @Test
+    @DisplayName("первая страница аккаунтов паспорта с размером по умолчанию, позитивный сценарий")
+    void readByPassportIdPositiveTest() throws Exception {
+        AccountDetailsPageDto expectedResult = new AccountDetailsPageDto(List.of(getDetailsDto()), null);
+
+        when(accountDetailsService.findPageByPassportId(230L, null, 20)).thenReturn(expectedResult);
+        mockMvc.perform(get("/details/passport/230"))
+                .andExpect(status().isOk());
+
+        verify(accountDetailsService, times(1)).findPageByPassportId(230L, null, 20);
+    }
+
     @Test
     @DisplayName("создание AccountDetails, позитивный сценарий")
     void createByAccountDetailsPositiveTest() throws Exception {
@@ -125,6 +173,59 @@ class AccountDetailsControllerTest {
         verify(accountDetailsService, times(1)).findAllById(ids);
     }
 
+    @Test
+    @DisplayName("чтение по списку ids из тела запроса, позитивный сценарий")
+    void readAllByBodyPositiveTest() throws Exception {
+        List<Long> ids = new ArrayList<>(Arrays.asList(1L, 2L, 3L));
+        List<AccountDetailsDto> expectedResult = getDetailsDtoList();
+
+        when(accountDetailsService.findAllById(ids)).thenReturn(expectedResult);
+        MvcResult result = mockMvc.perform(post("/details/read/all")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        List<AccountDetailsDto> actualResult = objectMapper.readValue(result.getResponse().getContentAsString(),
+                new TypeReference<>() {
+                }
+        );
+
+        assertEquals(expectedResult, actualResult);
+        verify(accountDetailsService, times(1)).findAllById(ids);
+    }
+
+    @Test
+    @DisplayName("атомарное зачисление, позитивный сценарий")
+    void creditPositiveTest() throws Exception {
+        AccountDetailsDto expectedResult = getDetailsDto();
+
+        when(accountDetailsService.credit(1L, new BigDecimal("15"))).thenReturn(expectedResult);
+        MvcResult result = mockMvc.perform(post("/details/1/credit")
+                        .param("amount", "15"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        AccountDetailsDto actualResult = objectMapper.readValue(result.getResponse().getContentAsString(),
+                AccountDetailsDto.class);
+
+        assertEquals(expectedResult, actualResult);
+        verify(accountDetailsService, times(1)).credit(1L, new BigDecimal("15"));
+    }
+
+    @Test
+    @DisplayName("атомарное списание, позитивный сценарий")
+    void debitPositiveTest() throws Exception {
+        AccountDetailsDto expectedResult = getDetailsDto();
+
+        when(accountDetailsService.debit(1L, new BigDecimal("15"))).thenReturn(expectedResult);
+        mockMvc.perform(post("/details/1/debit")
+                        .param("amount", "15"))
+                .andExpect(status().isOk());
+
+        verify(accountDetailsService, times(1)).debit(1L, new BigDecimal("15"));
+    }
+
     private AccountDetailsDto getDetailsDto() {
         return new AccountDetailsDto(1L, 230L, 123L, 790L,
                 new BigDecimal("109"), false, 290L);
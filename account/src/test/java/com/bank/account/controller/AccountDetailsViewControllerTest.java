@@ -0,0 +1,54 @@
+package com.bank.account.controller;
+
+import com.bank.account.dto.AccountDetailsDto;
+import com.bank.account.dto.AccountDetailsViewDto;
+import com.bank.account.service.AccountDetailsViewServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AccountDetailsViewController.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class AccountDetailsViewControllerTest {
+
+    @MockBean
+    AccountDetailsViewServiceImpl viewService;
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("чтение представления аккаунта, позитивный сценарий")
+    void readPositiveTest() throws Exception {
+        AccountDetailsViewDto expectedResult = new AccountDetailsViewDto(new AccountDetailsDto(1L, 230L, 123L,
+                790L, new BigDecimal("109"), false, 290L), null, null);
+
+        when(viewService.findById(1L)).thenReturn(expectedResult);
+        MvcResult result = mockMvc.perform(get("/view/1"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        AccountDetailsViewDto actualResult = objectMapper.readValue(result.getResponse().getContentAsString(),
+                AccountDetailsViewDto.class);
+
+        assertEquals(expectedResult, actualResult);
+        verify(viewService, times(1)).findById(1L);
+    }
+}
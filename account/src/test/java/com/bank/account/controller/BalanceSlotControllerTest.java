@@ -0,0 +1,66 @@
+package com.bank.account.controller;
+
+import com.bank.account.dto.AccountBalanceDto;
+import com.bank.account.service.BalanceSlotServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(BalanceSlotController.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class BalanceSlotControllerTest {
+
+    static final Long ACCOUNT_ID = 1L;
+
+    @MockBean
+    BalanceSlotServiceImpl balanceSlotService;
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("изменение числа слотов, позитивный сценарий")
+    void resizePositiveTest() throws Exception {
+        AccountBalanceDto expectedResult = new AccountBalanceDto(ACCOUNT_ID, new BigDecimal("100"));
+
+        when(balanceSlotService.resize(ACCOUNT_ID, 8)).thenReturn(expectedResult);
+        MvcResult result = mockMvc.perform(put("/slots/" + ACCOUNT_ID)
+                        .param("count", "8"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        AccountBalanceDto actualResult = objectMapper.readValue(result.getResponse().getContentAsString(),
+                AccountBalanceDto.class);
+
+        assertEquals(expectedResult, actualResult);
+    }
+
+    @Test
+    @DisplayName("зачисление в слот, позитивный сценарий")
+    void creditPositiveTest() throws Exception {
+        mockMvc.perform(post("/slots/" + ACCOUNT_ID + "/credit")
+                        .param("amount", "10")
+                        .param("postingKey", "payroll-42"))
+                .andExpect(status().isOk());
+
+        verify(balanceSlotService, times(1)).credit(ACCOUNT_ID, BigDecimal.TEN, "payroll-42");
+    }
+}
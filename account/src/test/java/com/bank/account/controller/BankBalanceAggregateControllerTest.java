@@ -0,0 +1,70 @@
+package com.bank.account.controller;
+
+import com.bank.account.dto.BankBalanceAggregateDto;
+import com.bank.account.service.BankBalanceAggregateServiceImpl;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(BankBalanceAggregateController.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class BankBalanceAggregateControllerTest {
+
+    @MockBean
+    BankBalanceAggregateServiceImpl aggregateService;
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("итоги всех банков, позитивный сценарий")
+    void readAllPositiveTest() throws Exception {
+        List<BankBalanceAggregateDto> expectedResult = List.of(
+                new BankBalanceAggregateDto(790L, new BigDecimal("150.00"), 1L),
+                new BankBalanceAggregateDto(791L, new BigDecimal("20.00"), 1L));
+
+        when(aggregateService.findAll()).thenReturn(expectedResult);
+        MvcResult result = mockMvc.perform(get("/aggregates/banks"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        List<BankBalanceAggregateDto> actualResult = objectMapper.readValue(
+                result.getResponse().getContentAsString(), new TypeReference<>() {
+                });
+
+        assertEquals(expectedResult, actualResult);
+    }
+
+    @Test
+    @DisplayName("итоги банка, позитивный сценарий")
+    void readPositiveTest() throws Exception {
+        BankBalanceAggregateDto expectedResult = new BankBalanceAggregateDto(790L, new BigDecimal("150.00"), 1L);
+
+        when(aggregateService.findByBankDetailsId(790L)).thenReturn(expectedResult);
+        MvcResult result = mockMvc.perform(get("/aggregates/banks/790"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        BankBalanceAggregateDto actualResult = objectMapper.readValue(result.getResponse().getContentAsString(),
+                BankBalanceAggregateDto.class);
+
+        assertEquals(expectedResult, actualResult);
+    }
+}
@@ -0,0 +1,120 @@
+package com.bank.account.controller;
+
+import com.bank.account.dto.AccountBalanceDto;
+import com.bank.account.dto.LedgerPostingDto;
+import com.bank.account.dto.LedgerTransferDto;
+import com.bank.account.entity.LedgerTransferStatus;
+import com.bank.account.service.LedgerServiceImpl;
+import com.bank.common.exception.ValidationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(LedgerController.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class LedgerControllerTest {
+
+    static final Long ACCOUNT_ID = 1L;
+
+    @MockBean
+    LedgerServiceImpl ledgerService;
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("зачисление, позитивный сценарий")
+    void creditPositiveTest() throws Exception {
+        LedgerPostingDto expectedResult = new LedgerPostingDto(5L, ACCOUNT_ID, new BigDecimal("10.50"), null);
+
+        when(ledgerService.credit(ACCOUNT_ID, new BigDecimal("10.50"))).thenReturn(expectedResult);
+        MvcResult result = mockMvc.perform(post("/ledger/" + ACCOUNT_ID + "/credit")
+                        .param("amount", "10.50"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        LedgerPostingDto actualResult = objectMapper.readValue(result.getResponse().getContentAsString(),
+                LedgerPostingDto.class);
+
+        assertEquals(expectedResult, actualResult);
+        verify(ledgerService, times(1)).credit(ACCOUNT_ID, new BigDecimal("10.50"));
+    }
+
+    @Test
+    @DisplayName("списание при недостаточном балансе, негативный сценарий")
+    void debitNotEnoughMoneyNegativeTest() throws Exception {
+        when(ledgerService.debit(ACCOUNT_ID, new BigDecimal("10")))
+                .thenThrow(new ValidationException("Недостаточно средств на счёте id = " + ACCOUNT_ID));
+
+        mockMvc.perform(post("/ledger/" + ACCOUNT_ID + "/debit")
+                        .param("amount", "10"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    @DisplayName("перевод между счетами, позитивный сценарий")
+    void transferPositiveTest() throws Exception {
+        LedgerTransferDto expectedResult = new LedgerTransferDto(500L, ACCOUNT_ID, 2L, new BigDecimal("10"),
+                LedgerTransferStatus.COMPLETED, null, null);
+
+        when(ledgerService.transfer(500L, ACCOUNT_ID, 2L, new BigDecimal("10"))).thenReturn(expectedResult);
+        MvcResult result = mockMvc.perform(post("/ledger/transfer/500")
+                        .param("from", ACCOUNT_ID.toString())
+                        .param("to", "2")
+                        .param("amount", "10"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        LedgerTransferDto actualResult = objectMapper.readValue(result.getResponse().getContentAsString(),
+                LedgerTransferDto.class);
+
+        assertEquals(expectedResult, actualResult);
+    }
+
+    @Test
+    @DisplayName("повтор перевода с другими параметрами, негативный сценарий")
+    void transferConflictNegativeTest() throws Exception {
+        when(ledgerService.transfer(500L, ACCOUNT_ID, 2L, new BigDecimal("10")))
+                .thenThrow(new IllegalStateException("Перевод уже проведён с другими параметрами, id = 500"));
+
+        mockMvc.perform(post("/ledger/transfer/500")
+                        .param("from", ACCOUNT_ID.toString())
+                        .param("to", "2")
+                        .param("amount", "10"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("чтение баланса, позитивный сценарий")
+    void balancePositiveTest() throws Exception {
+        AccountBalanceDto expectedResult = new AccountBalanceDto(ACCOUNT_ID, new BigDecimal("42.00"));
+
+        when(ledgerService.getBalance(ACCOUNT_ID)).thenReturn(expectedResult);
+        MvcResult result = mockMvc.perform(get("/ledger/" + ACCOUNT_ID + "/balance"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        AccountBalanceDto actualResult = objectMapper.readValue(result.getResponse().getContentAsString(),
+                AccountBalanceDto.class);
+
+        assertEquals(expectedResult, actualResult);
+    }
+}
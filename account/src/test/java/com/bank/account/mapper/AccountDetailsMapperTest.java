@@ -88,7 +88,7 @@ class AccountDetailsMapperTest {
     }
 
     @Test
-    @DisplayName("слияние в энтити")
+    @DisplayName("слияние в энтити, money не переносится")
     void mergeToEntityTest() {
 
         AccountDetailsDto accountDetailsDto = new AccountDetailsDto(120L, 123L, 645L, 9341L,
@@ -97,7 +97,7 @@ class AccountDetailsMapperTest {
         AccountDetailsEntity actualResult = mapper.mergeToEntity(entityResult1, accountDetailsDto);
 
         AccountDetailsEntity expectedResult = new AccountDetailsEntity(10L, 123L, 645L, 9341L,
-                new BigDecimal("432"), true, 1230L);
+                new BigDecimal("109"), true, 1230L);
 
         assertEquals(actualResult, expectedResult);
     }
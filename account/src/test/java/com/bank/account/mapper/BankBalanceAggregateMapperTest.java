@@ -0,0 +1,43 @@
+package com.bank.account.mapper;
+
+import com.bank.account.dto.BankBalanceAggregateDto;
+import com.bank.account.entity.BankBalanceAggregateEntity;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+class BankBalanceAggregateMapperTest {
+
+    BankBalanceAggregateMapper mapper = Mappers.getMapper(BankBalanceAggregateMapper.class);
+
+    BankBalanceAggregateEntity entity = new BankBalanceAggregateEntity(790L, new BigDecimal("150.00"), 3L);
+
+    BankBalanceAggregateDto dto = new BankBalanceAggregateDto(790L, new BigDecimal("150.00"), 3L);
+
+    @Test
+    @DisplayName("маппинг в дто")
+    void toDtoTest() {
+        assertEquals(dto, mapper.toDto(entity));
+    }
+
+    @Test
+    @DisplayName("маппинг в дто, на вход подан null")
+    void toDtoNullTest() {
+        assertNull(mapper.toDto(null));
+    }
+
+    @Test
+    @DisplayName("маппинг списка в дто")
+    void toDtoListTest() {
+        assertEquals(List.of(dto), mapper.toDtoList(List.of(entity)));
+    }
+}
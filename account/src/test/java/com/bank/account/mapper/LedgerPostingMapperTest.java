@@ -0,0 +1,39 @@
+package com.bank.account.mapper;
+
+import com.bank.account.dto.LedgerPostingDto;
+import com.bank.account.entity.LedgerPostingEntity;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+class LedgerPostingMapperTest {
+
+    LedgerPostingMapper mapper = Mappers.getMapper(LedgerPostingMapper.class);
+
+    Timestamp createdAt = Timestamp.valueOf("2023-10-17 10:00:00");
+
+    LedgerPostingEntity entity = new LedgerPostingEntity(1L, 10L, new BigDecimal("-25.50"), createdAt);
+
+    LedgerPostingDto dto = new LedgerPostingDto(1L, 10L, new BigDecimal("-25.50"), createdAt);
+
+    @Test
+    @DisplayName("маппинг в дто")
+    void toDtoTest() {
+        assertEquals(dto, mapper.toDto(entity));
+    }
+
+    @Test
+    @DisplayName("маппинг в дто, на вход подан null")
+    void toDtoNullTest() {
+        assertNull(mapper.toDto(null));
+    }
+}
@@ -0,0 +1,42 @@
+package com.bank.account.mapper;
+
+import com.bank.account.dto.LedgerTransferDto;
+import com.bank.account.entity.LedgerTransferEntity;
+import com.bank.account.entity.LedgerTransferStatus;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+class LedgerTransferMapperTest {
+
+    LedgerTransferMapper mapper = Mappers.getMapper(LedgerTransferMapper.class);
+
+    Timestamp createdAt = Timestamp.valueOf("2023-10-17 10:00:00");
+
+    LedgerTransferEntity entity = new LedgerTransferEntity(500L, 10L, 11L, new BigDecimal("25.50"),
+            LedgerTransferStatus.REJECTED, "Недостаточно средств", createdAt);
+
+    LedgerTransferDto dto = new LedgerTransferDto(500L, 10L, 11L, new BigDecimal("25.50"),
+            LedgerTransferStatus.REJECTED, "Недостаточно средств", createdAt);
+
+    @Test
+    @DisplayName("маппинг в дто")
+    void toDtoTest() {
+        assertEquals(dto, mapper.toDto(entity));
+    }
+
+    @Test
+    @DisplayName("маппинг в дто, на вход подан null")
+    void toDtoNullTest() {
+        assertNull(mapper.toDto(null));
+    }
+}
@@ -0,0 +1,160 @@
+package com.bank.account.service;
+
+import com.bank.account.dto.AccountDetailsDto;
+import com.bank.account.dto.BulkCreateErrorDto;
+import com.bank.account.dto.BulkCreateResultDto;
+import com.bank.account.entity.AccountDetailsEntity;
+import com.bank.account.mapper.AccountDetailsMapper;
+import com.bank.account.repository.AccountDetailsRepository;
+import com.bank.common.exception.ValidationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class AccountDetailsBulkServiceImplTest {
+
+    final ObjectMapper objectMapper = new ObjectMapper();
+    final AccountDetailsMapper mapper = Mappers.getMapper(AccountDetailsMapper.class);
+
+    @Mock
+    AccountDetailsRepository repository;
+    @Mock
+    PlatformTransactionManager transactionManager;
+    @Mock
+    EntityManager entityManager;
+    @Mock
+    BankBalanceAggregateService aggregateService;
+
+    AccountDetailsBulkServiceImpl bulkService;
+
+    @BeforeEach
+    void setUp() {
+        bulkService = new AccountDetailsBulkServiceImpl(repository, mapper, objectMapper,
+                new TransactionTemplate(transactionManager), entityManager, aggregateService);
+        ReflectionTestUtils.setField(bulkService, "chunkSize", 2);
+    }
+
+    @Test
+    @DisplayName("массовое создание чанками, позитивный сценарий")
+    @SuppressWarnings("unchecked")
+    void createAllPositiveTest() throws Exception {
+        BulkCreateResultDto result = bulkService.createAll(toJson(getDetailsDto(1L), getDetailsDto(2L),
+                getDetailsDto(3L)));
+
+        ArgumentCaptor<List<AccountDetailsEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(2)).saveAll(captor.capture());
+        verify(repository, times(2)).flush();
+        assertEquals(2, captor.getAllValues().get(0).size());
+        assertEquals(1, captor.getAllValues().get(1).size());
+        assertEquals(new BulkCreateResultDto(3L, 0L, List.of()), result);
+    }
+
+    @Test
+    @DisplayName("занятые и повторяющиеся номера счетов отклоняются до вставки")
+    void createAllDuplicateNumberTest() throws Exception {
+        ReflectionTestUtils.setField(bulkService, "chunkSize", 3);
+        when(repository.findExistingAccountNumbers(List.of(1L, 2L, 2L))).thenReturn(Set.of(1L));
+
+        BulkCreateResultDto result = bulkService.createAll(toJson(getDetailsDto(1L), getDetailsDto(2L),
+                getDetailsDto(2L)));
+
+        assertEquals(1L, result.getCreated());
+        assertEquals(2L, result.getFailed());
+        assertEquals(List.of(0L, 2L), result.getErrors().stream().map(BulkCreateErrorDto::getRow).toList());
+        verify(repository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("при ошибке чанка строки сохраняются по одной, отклоняется только ошибочная")
+    void createAllChunkFailureTest() throws Exception {
+        when(repository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("batch"))
+                .thenReturn(List.of())
+                .thenThrow(new DataIntegrityViolationException("row", new SQLException("duplicate key")));
+
+        BulkCreateResultDto result = bulkService.createAll(toJson(getDetailsDto(1L), getDetailsDto(2L)));
+
+        assertEquals(new BulkCreateResultDto(1L, 1L, List.of(new BulkCreateErrorDto(1L, 2L, "duplicate key"))),
+                result);
+        verify(repository, times(3)).saveAll(anyList());
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    @DisplayName("тело запроса не массив, негативный сценарий")
+    void createAllNotArrayNegativeTest() {
+        InputStream input = new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(ValidationException.class, () -> bulkService.createAll(input));
+        verify(repository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("некорректный JSON посреди массива, сохранённые строки попадают в отчёт")
+    void createAllBrokenJsonTest() throws Exception {
+        InputStream input = new ByteArrayInputStream(
+                "[{\"accountNumber\":1},{\"accountNumber\":2},{\"accountNumber\":3},{\"account"
+                        .getBytes(StandardCharsets.UTF_8));
+
+        BulkCreateResultDto result = bulkService.createAll(input);
+
+        assertEquals(3L, result.getCreated());
+        assertEquals(1L, result.getFailed());
+        assertEquals(3L, result.getErrors().get(0).getRow());
+        verify(repository, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("не объект и несовпадение типов отклоняются по строкам, чтение продолжается")
+    void createAllInvalidRowsTest() throws Exception {
+        InputStream input = new ByteArrayInputStream(
+                "[{\"accountNumber\":1},null,5,{\"accountNumber\":\"x\"},{\"accountNumber\":4}]"
+                        .getBytes(StandardCharsets.UTF_8));
+
+        BulkCreateResultDto result = bulkService.createAll(input);
+
+        assertEquals(2L, result.getCreated());
+        assertEquals(3L, result.getFailed());
+        assertEquals(List.of(1L, 2L, 3L), result.getErrors().stream().map(BulkCreateErrorDto::getRow).toList());
+        verify(repository, times(1)).saveAll(anyList());
+    }
+
+    private InputStream toJson(AccountDetailsDto... accountDetails) throws Exception {
+        return new ByteArrayInputStream(objectMapper.writeValueAsBytes(List.of(accountDetails)));
+    }
+
+    private AccountDetailsDto getDetailsDto(Long accountNumber) {
+        return new AccountDetailsDto(null, 1L, accountNumber, accountNumber, BigDecimal.ZERO, false, 1L);
+    }
+}
@@ -1,18 +1,27 @@
 package com.bank.account.service;
 
 import com.bank.account.dto.AccountDetailsDto;
+import com.bank.account.dto.AccountDetailsPageDto;
 import com.bank.account.entity.AccountDetailsEntity;
 import com.bank.account.mapper.AccountDetailsMapper;
 import com.bank.account.repository.AccountDetailsRepository;
 import com.bank.account.service.common.ExceptionReturner;
+import com.bank.common.exception.ValidationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
 
 import javax.persistence.EntityNotFoundException;
 import java.math.BigDecimal;
@@ -20,12 +29,15 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 
@@ -39,6 +51,14 @@ class AccountDetailsServiceImplTest {
     AccountDetailsRepository repository;
     @Mock
     ExceptionReturner exceptionReturner;
+    @Mock
+    CacheManager cacheManager;
+    @Mock
+    Cache cache;
+    @Spy
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @Mock
+    BankBalanceAggregateService aggregateService;
     @InjectMocks
     AccountDetailsServiceImpl accountDetailsService;
 
@@ -72,6 +92,35 @@ class AccountDetailsServiceImplTest {
         verify(mapper, never()).toDto(any());
     }
 
+    @Test
+    @DisplayName("поиск по номеру счёта, позитивный сценарий")
+    void findByAccountNumberPositiveTest() {
+        AccountDetailsEntity detailsEntity = getDetailsEntity();
+        AccountDetailsDto detailsDto = getDetailsDto();
+        when(repository.findByAccountNumber(detailsEntity.getAccountNumber())).thenReturn(Optional.of(detailsEntity));
+        when(mapper.toDto(detailsEntity)).thenReturn(detailsDto);
+
+        AccountDetailsDto actualResult = accountDetailsService.findByAccountNumber(detailsEntity.getAccountNumber());
+
+        assertEquals(detailsDto, actualResult);
+    }
+
+    @Test
+    @DisplayName("поиск по номеру счёта, негативный сценарий")
+    void findByNonExistAccountNumberNegativeTest() {
+        Long invalidNumber = 404L;
+
+        when(repository.findByAccountNumber(invalidNumber)).thenReturn(Optional.empty());
+        when(exceptionReturner.getEntityNotFoundException("Не существующий номер счёта = " + invalidNumber))
+                .thenReturn(new EntityNotFoundException("Не существующий номер счёта = " + invalidNumber));
+
+        assertThrows(EntityNotFoundException.class,
+                () -> accountDetailsService.findByAccountNumber(invalidNumber)
+        );
+
+        verify(mapper, never()).toDto(any());
+    }
+
     @Test
     @DisplayName("поиск списка AccountDetailsEntity по списку id, позитивный сценарий")
     void findAllByIdsPositiveTest() {
@@ -84,9 +133,7 @@ class AccountDetailsServiceImplTest {
         AccountDetailsEntity entity3 = new AccountDetailsEntity(3L, 230L, 123L, 790L,
                 new BigDecimal("109"), false, 290L);
 
-        when(repository.findById(1L)).thenReturn(Optional.of(entity1));
-        when(repository.findById(2L)).thenReturn(Optional.of(entity2));
-        when(repository.findById(3L)).thenReturn(Optional.of(entity3));
+        when(repository.findAllById(ids)).thenReturn(Arrays.asList(entity3, entity1, entity2));
 
         List<AccountDetailsDto> expectedResult = getDetailsDtoList();
 
@@ -116,6 +163,43 @@ class AccountDetailsServiceImplTest {
         verify(mapper, never()).toDto(any());
     }
 
+    @Test
+    @DisplayName("поиск списка по списку id, все отсутствующие id в одном исключении")
+    void findAllByIdsReportsAllMissingIdsTest() {
+        List<Long> ids = List.of(1L, 2L, 3L, 2L);
+        AccountDetailsEntity entity1 = new AccountDetailsEntity(1L, 230L, 123L, 790L,
+                new BigDecimal("109"), false, 290L);
+
+        when(repository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(entity1));
+        when(exceptionReturner.getEntityNotFoundException("Не существующие id = [2, 3]"))
+                .thenReturn(new EntityNotFoundException("Не существующие id = [2, 3]"));
+
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> accountDetailsService.findAllById(ids)
+        );
+        assertEquals("Не существующие id = [2, 3]", exception.getMessage());
+
+        verify(mapper, never()).toDtoList(any());
+    }
+
+    @Test
+    @DisplayName("поиск списка по списку id, запрос разбивается на пачки с сохранением порядка")
+    void findAllByIdsChunkedTest() {
+        List<Long> ids = LongStream.rangeClosed(1, 1000).boxed().toList();
+        List<AccountDetailsEntity> entities = ids.stream()
+                .map(id -> new AccountDetailsEntity(id, 230L, id, id, new BigDecimal("109"), false, 290L))
+                .toList();
+
+        when(repository.findAllById(ids.subList(0, 512))).thenReturn(entities.subList(0, 512));
+        when(repository.findAllById(ids.subList(512, 1000))).thenReturn(entities.subList(512, 1000));
+        when(mapper.toDtoList(entities)).thenReturn(List.of());
+
+        accountDetailsService.findAllById(ids);
+
+        verify(repository, times(2)).findAllById(any());
+        verify(repository, never()).findById(any());
+    }
+
     @Test
     @DisplayName("сохранение AccountDetailsEntity, позитивный сценарий")
     void savePositiveTest() {
@@ -128,6 +212,7 @@ class AccountDetailsServiceImplTest {
         AccountDetailsDto actualResult = accountDetailsService.save(expectedResult);
 
         assertEquals(expectedResult, actualResult);
+        verify(aggregateService).recordAccountsCreated(List.of(detailsEntity.getId()));
     }
 
     @Test
@@ -137,7 +222,7 @@ class AccountDetailsServiceImplTest {
         AccountDetailsDto expectedResult = getDetailsDto();
         AccountDetailsEntity detailsEntity = getDetailsEntity();
 
-        when(repository.findById(id)).thenReturn(Optional.of(detailsEntity));
+        when(repository.findByIdForUpdate(id)).thenReturn(Optional.of(detailsEntity));
         when(mapper.mergeToEntity(detailsEntity, expectedResult)).thenReturn(detailsEntity);
         when(repository.save(detailsEntity)).thenReturn(detailsEntity);
         when(mapper.toDto(detailsEntity)).thenReturn(expectedResult);
@@ -145,6 +230,144 @@ class AccountDetailsServiceImplTest {
         AccountDetailsDto actualResult = accountDetailsService.update(id, expectedResult);
 
         assertEquals(expectedResult, actualResult);
+        verify(aggregateService).recordAccountUpdated(detailsEntity, 790L, new BigDecimal("109"));
+    }
+
+    @Test
+    @DisplayName("обновление вытесняет из кэша старый и новый номер счёта")
+    void updateEvictsAccountNumberCacheTest() {
+        Long id = 10L;
+        AccountDetailsDto accountDetailsDto = getDetailsDto();
+        AccountDetailsEntity detailsEntity = getDetailsEntity();
+        AccountDetailsEntity updatedEntity = new AccountDetailsEntity(10L, 230L, 321L, 790L,
+                new BigDecimal("109"), false, 290L);
+
+        when(cacheManager.getCache("accountDetailsByNumber")).thenReturn(cache);
+        when(repository.findByIdForUpdate(id)).thenReturn(Optional.of(detailsEntity));
+        when(mapper.mergeToEntity(detailsEntity, accountDetailsDto)).thenReturn(updatedEntity);
+        when(repository.save(updatedEntity)).thenReturn(updatedEntity);
+
+        accountDetailsService.update(id, accountDetailsDto);
+
+        verify(cache).evict(123L);
+        verify(cache).evict(321L);
+    }
+
+    @Test
+    @DisplayName("атомарное зачисление, позитивный сценарий")
+    void creditPositiveTest() {
+        Long id = 10L;
+        AccountDetailsDto expectedResult = getDetailsDto();
+        AccountDetailsEntity detailsEntity = getDetailsEntity();
+
+        when(repository.credit(id, BigDecimal.TEN)).thenReturn(1);
+        when(repository.findById(id)).thenReturn(Optional.of(detailsEntity));
+        when(mapper.toDto(detailsEntity)).thenReturn(expectedResult);
+
+        AccountDetailsDto actualResult = accountDetailsService.credit(id, BigDecimal.TEN);
+
+        assertEquals(expectedResult, actualResult);
+        assertEquals(1, meterRegistry.get("account.details.money.change")
+                .tag("operation", "credit").tag("outcome", "applied").timer().count());
+        verify(aggregateService).recordMoneyChange(id, BigDecimal.TEN);
+    }
+
+    @Test
+    @DisplayName("списание блокирует строку счёта до UPDATE, позитивный сценарий")
+    void debitPositiveTest() {
+        Long id = 10L;
+        AccountDetailsDto expectedResult = getDetailsDto();
+        AccountDetailsEntity detailsEntity = getDetailsEntity();
+
+        when(repository.findByIdForUpdate(id)).thenReturn(Optional.of(detailsEntity));
+        when(repository.debit(id, BigDecimal.TEN)).thenReturn(1);
+        when(repository.findById(id)).thenReturn(Optional.of(detailsEntity));
+        when(mapper.toDto(detailsEntity)).thenReturn(expectedResult);
+
+        AccountDetailsDto actualResult = accountDetailsService.debit(id, BigDecimal.TEN);
+
+        assertEquals(expectedResult, actualResult);
+        InOrder inOrder = inOrder(repository);
+        inOrder.verify(repository).findByIdForUpdate(id);
+        inOrder.verify(repository).debit(id, BigDecimal.TEN);
+        verify(aggregateService).recordMoneyChange(id, BigDecimal.TEN.negate());
+    }
+
+    @Test
+    @DisplayName("атомарное списание при недостаточном балансе, негативный сценарий")
+    void debitNotEnoughMoneyNegativeTest() {
+        Long id = 10L;
+
+        when(repository.findByIdForUpdate(id)).thenReturn(Optional.of(getDetailsEntity()));
+        when(repository.debit(id, BigDecimal.TEN)).thenReturn(0);
+
+        assertThrows(ValidationException.class, () -> accountDetailsService.debit(id, BigDecimal.TEN));
+
+        assertEquals(1, meterRegistry.get("account.details.money.change")
+                .tag("operation", "debit").tag("outcome", "rejected").timer().count());
+        verify(mapper, never()).toDto(any());
+    }
+
+    @Test
+    @DisplayName("атомарное списание с несуществующего счёта, негативный сценарий")
+    void debitNonExistIdNegativeTest() {
+        Long id = 10L;
+
+        when(repository.findByIdForUpdate(id)).thenReturn(Optional.empty());
+        when(exceptionReturner.getEntityNotFoundException("Не существующий id = " + id))
+                .thenReturn(new EntityNotFoundException("Не существующий id = " + id));
+
+        assertThrows(EntityNotFoundException.class, () -> accountDetailsService.debit(id, BigDecimal.TEN));
+        verify(repository, never()).debit(any(), any());
+    }
+
+    @Test
+    @DisplayName("страница счетов профиля с курсором следующей страницы, позитивный сценарий")
+    void findPageByProfileIdPositiveTest() {
+        List<AccountDetailsEntity> rows = LongStream.rangeClosed(1, 3)
+                .mapToObj(id -> new AccountDetailsEntity(id, 230L, 123L + id, 790L + id,
+                        new BigDecimal("109"), false, 290L))
+                .toList();
+        List<AccountDetailsDto> content = getDetailsDtoList();
+
+        when(repository.findByProfileIdAndIdGreaterThanOrderByIdAsc(290L, 0L, PageRequest.ofSize(3)))
+                .thenReturn(rows);
+        when(mapper.toDtoList(rows.subList(0, 2))).thenReturn(content);
+
+        AccountDetailsPageDto actualResult = accountDetailsService.findPageByProfileId(290L, null, 2);
+
+        assertEquals(new AccountDetailsPageDto(content, 2L), actualResult);
+    }
+
+    @Test
+    @DisplayName("последняя страница счетов паспорта без курсора, позитивный сценарий")
+    void findPageByPassportIdLastPagePositiveTest() {
+        List<AccountDetailsEntity> rows = List.of(getDetailsEntity());
+        List<AccountDetailsDto> content = List.of(getDetailsDto());
+
+        when(repository.findByPassportIdAndIdGreaterThanOrderByIdAsc(230L, 5L, PageRequest.ofSize(3)))
+                .thenReturn(rows);
+        when(mapper.toDtoList(rows)).thenReturn(content);
+
+        AccountDetailsPageDto actualResult = accountDetailsService.findPageByPassportId(230L, 5L, 2);
+
+        assertEquals(new AccountDetailsPageDto(content, null), actualResult);
+    }
+
+    @Test
+    @DisplayName("страница недопустимого размера, негативный сценарий")
+    void findPageByProfileIdWrongLimitNegativeTest() {
+        assertThrows(ValidationException.class, () -> accountDetailsService.findPageByProfileId(290L, null, 0));
+        assertThrows(ValidationException.class, () -> accountDetailsService.findPageByProfileId(290L, null,
+                AccountDetailsServiceImpl.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("зачисление неположительной суммы, негативный сценарий")
+    void creditNotPositiveAmountNegativeTest() {
+        assertThrows(ValidationException.class, () -> accountDetailsService.credit(10L, BigDecimal.ZERO));
+
+        verify(repository, never()).credit(any(), any());
     }
 
     private List<AccountDetailsDto> getDetailsDtoList() {
@@ -0,0 +1,122 @@
+package com.bank.account.service;
+
+import com.bank.account.client.BankDetailsFeignClient;
+import com.bank.account.client.ProfileFeignClient;
+import com.bank.account.dto.AccountDetailsDto;
+import com.bank.account.dto.AccountDetailsViewDto;
+import com.bank.account.dto.BankDetailsDto;
+import com.bank.account.dto.ProfileDto;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class AccountDetailsViewServiceImplTest {
+
+    @Mock
+    AccountDetailsService accountDetailsService;
+    @Mock
+    ProfileFeignClient profileClient;
+    @Mock
+    BankDetailsFeignClient bankDetailsClient;
+
+    ExecutorService executor;
+    AccountDetailsViewServiceImpl viewService;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        AsyncLoadingCache<Long, BankDetailsDto> bankDetailsCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(5))
+                .executor(executor)
+                .buildAsync(bankDetailsClient::readById);
+        viewService = new AccountDetailsViewServiceImpl(accountDetailsService, profileClient,
+                bankDetailsCache, executor);
+        ReflectionTestUtils.setField(viewService, "timeout", Duration.ofMillis(200));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("представление аккаунта, позитивный сценарий")
+    void findByIdPositiveTest() {
+        AccountDetailsDto accountDetails = getDetailsDto();
+        ProfileDto profile = new ProfileDto(290L, 79990001122L, "mail@bank.ru", "IVAN IVANOV",
+                1L, 2L, null, null);
+        BankDetailsDto bankDetails = getBankDetailsDto();
+
+        when(accountDetailsService.findById(1L)).thenReturn(accountDetails);
+        when(profileClient.readById(290L)).thenReturn(profile);
+        when(bankDetailsClient.readById(790L)).thenReturn(bankDetails);
+
+        AccountDetailsViewDto actualResult = viewService.findById(1L);
+
+        assertEquals(new AccountDetailsViewDto(accountDetails, profile, bankDetails), actualResult);
+    }
+
+    @Test
+    @DisplayName("реквизиты банка берутся из near cache при повторном чтении")
+    void bankDetailsNearCacheTest() {
+        when(accountDetailsService.findById(1L)).thenReturn(getDetailsDto());
+        when(bankDetailsClient.readById(790L)).thenReturn(getBankDetailsDto());
+
+        viewService.findById(1L);
+        viewService.findById(1L);
+
+        verify(bankDetailsClient, times(1)).readById(790L);
+    }
+
+    @Test
+    @DisplayName("медленный profile-app не задерживает ответ дольше таймаута")
+    void profileTimeoutTest() {
+        when(accountDetailsService.findById(1L)).thenReturn(getDetailsDto());
+        when(profileClient.readById(290L)).thenAnswer(invocation -> {
+            Thread.sleep(2000);
+            return new ProfileDto();
+        });
+        when(bankDetailsClient.readById(790L)).thenReturn(getBankDetailsDto());
+
+        long start = System.nanoTime();
+        AccountDetailsViewDto actualResult = viewService.findById(1L);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertNull(actualResult.getProfile());
+        assertEquals(getBankDetailsDto(), actualResult.getBankDetails());
+        assertTrue(elapsedMillis < 1500);
+    }
+
+    private AccountDetailsDto getDetailsDto() {
+        return new AccountDetailsDto(1L, 230L, 123L, 790L,
+                new BigDecimal("109"), false, 290L);
+    }
+
+    private BankDetailsDto getBankDetailsDto() {
+        return new BankDetailsDto(790L, 44525225L, 7707083893L, 773601001L,
+                new BigDecimal("30101810400000000225"), "Москва", "ПАО", "Банк");
+    }
+}
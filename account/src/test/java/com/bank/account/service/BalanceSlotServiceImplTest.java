@@ -0,0 +1,141 @@
+package com.bank.account.service;
+
+import com.bank.account.dto.AccountBalanceDto;
+import com.bank.account.entity.AccountDetailsEntity;
+import com.bank.account.entity.BalanceSlotEntity;
+import com.bank.account.repository.AccountDetailsRepository;
+import com.bank.account.repository.BalanceSlotRepository;
+import com.bank.account.repository.LedgerPostingRepository;
+import com.bank.account.service.common.ExceptionReturner;
+import com.bank.common.exception.ValidationException;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class BalanceSlotServiceImplTest {
+
+    static final Long ACCOUNT_ID = 10L;
+
+    @Mock
+    BalanceSlotRepository slotRepository;
+    @Mock
+    AccountDetailsRepository accountDetailsRepository;
+    @Mock
+    LedgerPostingRepository postingRepository;
+    @Mock
+    ExceptionReturner exceptionReturner;
+    @Mock
+    BankBalanceAggregateService aggregateService;
+    @InjectMocks
+    BalanceSlotServiceImpl balanceSlotService;
+
+    @Test
+    @DisplayName("зачисление в слот по ключу проводки, позитивный сценарий")
+    void creditPositiveTest() {
+        when(slotRepository.credit(ACCOUNT_ID, "posting-1".hashCode() & Integer.MAX_VALUE, BigDecimal.TEN))
+                .thenReturn(1);
+
+        balanceSlotService.credit(ACCOUNT_ID, BigDecimal.TEN, "posting-1");
+
+        verify(slotRepository).credit(ACCOUNT_ID, "posting-1".hashCode() & Integer.MAX_VALUE, BigDecimal.TEN);
+        verify(aggregateService).recordMoneyChange(ACCOUNT_ID, BigDecimal.TEN);
+    }
+
+    @Test
+    @DisplayName("зачисление на счёт без слотов, негативный сценарий")
+    void creditNotShardedNegativeTest() {
+        when(slotRepository.credit(eq(ACCOUNT_ID), anyInt(), eq(BigDecimal.TEN))).thenReturn(0);
+
+        assertThrows(ValidationException.class, () -> balanceSlotService.credit(ACCOUNT_ID, BigDecimal.TEN, null));
+    }
+
+    @Test
+    @DisplayName("списание выбирает сумму из слотов, остаток - с money счёта")
+    void debitSweepsSlotsTest() {
+        AccountDetailsEntity accountDetails = getDetailsEntity(false);
+        List<BalanceSlotEntity> slots = List.of(
+                new BalanceSlotEntity(1L, ACCOUNT_ID, 0, new BigDecimal("30")),
+                new BalanceSlotEntity(2L, ACCOUNT_ID, 1, new BigDecimal("20"))
+        );
+
+        when(accountDetailsRepository.findByIdForUpdate(ACCOUNT_ID)).thenReturn(Optional.of(accountDetails));
+        when(slotRepository.findAllForUpdate(ACCOUNT_ID)).thenReturn(slots);
+        when(postingRepository.sumUnsnapshotted(ACCOUNT_ID)).thenReturn(BigDecimal.ZERO);
+
+        AccountBalanceDto actualResult = balanceSlotService.debit(ACCOUNT_ID, new BigDecimal("80"));
+
+        assertEquals(new AccountBalanceDto(ACCOUNT_ID, new BigDecimal("70")), actualResult);
+        assertEquals(BigDecimal.ZERO, slots.get(0).getMoney());
+        assertEquals(BigDecimal.ZERO, slots.get(1).getMoney());
+        assertEquals(new BigDecimal("70"), accountDetails.getMoney());
+    }
+
+    @Test
+    @DisplayName("списание сверх баланса со всеми слотами, негативный сценарий")
+    void debitNotEnoughMoneyNegativeTest() {
+        when(accountDetailsRepository.findByIdForUpdate(ACCOUNT_ID)).thenReturn(Optional.of(getDetailsEntity(false)));
+        when(slotRepository.findAllForUpdate(ACCOUNT_ID)).thenReturn(List.of(
+                new BalanceSlotEntity(1L, ACCOUNT_ID, 0, new BigDecimal("30"))
+        ));
+        when(postingRepository.sumUnsnapshotted(ACCOUNT_ID)).thenReturn(new BigDecimal("-10"));
+
+        assertThrows(ValidationException.class, () -> balanceSlotService.debit(ACCOUNT_ID, new BigDecimal("121")));
+
+        verify(accountDetailsRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("уменьшение числа слотов переносит деньги удаляемых слотов на счёт")
+    @SuppressWarnings("unchecked")
+    void resizeShrinkTest() {
+        AccountDetailsEntity accountDetails = getDetailsEntity(false);
+        BalanceSlotEntity keptSlot = new BalanceSlotEntity(1L, ACCOUNT_ID, 0, new BigDecimal("5"));
+        BalanceSlotEntity removedSlot = new BalanceSlotEntity(2L, ACCOUNT_ID, 1, new BigDecimal("7"));
+        ArgumentCaptor<List<BalanceSlotEntity>> captor = ArgumentCaptor.forClass(List.class);
+
+        when(accountDetailsRepository.findByIdForUpdate(ACCOUNT_ID)).thenReturn(Optional.of(accountDetails));
+        when(slotRepository.findAllForUpdate(ACCOUNT_ID)).thenReturn(List.of(keptSlot, removedSlot));
+        when(slotRepository.sumMoney(ACCOUNT_ID)).thenReturn(new BigDecimal("5"));
+
+        AccountBalanceDto actualResult = balanceSlotService.resize(ACCOUNT_ID, 1);
+
+        verify(slotRepository).deleteAllInBatch(captor.capture());
+        assertEquals(List.of(removedSlot), captor.getValue());
+        assertEquals(new BigDecimal("107"), accountDetails.getMoney());
+        assertEquals(new AccountBalanceDto(ACCOUNT_ID, new BigDecimal("112")), actualResult);
+    }
+
+    @Test
+    @DisplayName("недопустимое число слотов, негативный сценарий")
+    void resizeInvalidCountNegativeTest() {
+        assertThrows(ValidationException.class, () -> balanceSlotService.resize(ACCOUNT_ID, -1));
+        assertThrows(ValidationException.class,
+                () -> balanceSlotService.resize(ACCOUNT_ID, BalanceSlotServiceImpl.MAX_SLOT_COUNT + 1));
+    }
+
+    private AccountDetailsEntity getDetailsEntity(boolean negativeBalance) {
+        return new AccountDetailsEntity(ACCOUNT_ID, 230L, 123L, 790L,
+                new BigDecimal("100"), negativeBalance, 290L);
+    }
+}
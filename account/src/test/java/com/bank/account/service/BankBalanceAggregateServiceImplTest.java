@@ -0,0 +1,127 @@
+package com.bank.account.service;
+
+import com.bank.account.dto.BankBalanceAggregateDto;
+import com.bank.account.entity.AccountDetailsEntity;
+import com.bank.account.entity.BankBalanceAggregateEntity;
+import com.bank.account.mapper.BankBalanceAggregateMapper;
+import com.bank.account.repository.BalanceSlotRepository;
+import com.bank.account.repository.BankBalanceAggregateRepository;
+import com.bank.account.repository.LedgerPostingRepository;
+import com.bank.account.service.common.ExceptionReturner;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class BankBalanceAggregateServiceImplTest {
+
+    static final Long ACCOUNT_ID = 10L;
+
+    @Mock
+    BankBalanceAggregateRepository aggregateRepository;
+    @Mock
+    BalanceSlotRepository slotRepository;
+    @Mock
+    LedgerPostingRepository postingRepository;
+    @Mock
+    BankBalanceAggregateMapper mapper;
+    @Mock
+    ExceptionReturner exceptionReturner;
+    @InjectMocks
+    BankBalanceAggregateServiceImpl aggregateService;
+
+    @Test
+    @DisplayName("изменение баланса записывается в изменения итога банка")
+    void recordMoneyChangeTest() {
+        aggregateService.recordMoneyChange(ACCOUNT_ID, new BigDecimal("-25"));
+
+        verify(aggregateRepository).insertAccountDelta(ACCOUNT_ID, new BigDecimal("-25"));
+    }
+
+    @Test
+    @DisplayName("нулевое изменение баланса не записывается")
+    void recordZeroMoneyChangeTest() {
+        aggregateService.recordMoneyChange(ACCOUNT_ID, BigDecimal.ZERO);
+
+        verify(aggregateRepository, never()).insertAccountDelta(any(), any());
+    }
+
+    @Test
+    @DisplayName("обновление без смены банка записывает разницу money")
+    void recordAccountUpdatedSameBankTest() {
+        AccountDetailsEntity accountDetails = getDetailsEntity(790L, new BigDecimal("150"));
+
+        aggregateService.recordAccountUpdated(accountDetails, 790L, new BigDecimal("100"));
+
+        verify(aggregateRepository).insertAccountDelta(ACCOUNT_ID, new BigDecimal("50"));
+        verify(aggregateRepository, never()).insertDelta(anyLong(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("смена банка переносит весь баланс счёта со слотами и проводками")
+    void recordAccountUpdatedBankChangedTest() {
+        AccountDetailsEntity accountDetails = getDetailsEntity(791L, new BigDecimal("100"));
+
+        when(slotRepository.sumMoney(ACCOUNT_ID)).thenReturn(new BigDecimal("30"));
+        when(postingRepository.sumUnsnapshotted(ACCOUNT_ID)).thenReturn(new BigDecimal("20"));
+
+        aggregateService.recordAccountUpdated(accountDetails, 790L, new BigDecimal("100"));
+
+        verify(aggregateRepository).insertDelta(790L, new BigDecimal("-150"), -1);
+        verify(aggregateRepository).insertDelta(791L, new BigDecimal("150"), 1);
+    }
+
+    @Test
+    @DisplayName("создание пустого списка счетов ничего не записывает")
+    void recordAccountsCreatedEmptyTest() {
+        aggregateService.recordAccountsCreated(List.of());
+
+        verify(aggregateRepository, never()).insertCreatedAccountsDelta(any());
+    }
+
+    @Test
+    @DisplayName("итоги всех банков, позитивный сценарий")
+    void findAllPositiveTest() {
+        List<BankBalanceAggregateEntity> aggregates = List.of(
+                new BankBalanceAggregateEntity(790L, new BigDecimal("150"), 1L));
+        List<BankBalanceAggregateDto> expectedResult = List.of(
+                new BankBalanceAggregateDto(790L, new BigDecimal("150"), 1L));
+
+        when(aggregateRepository.findAllTotals()).thenReturn(aggregates);
+        when(mapper.toDtoList(aggregates)).thenReturn(expectedResult);
+
+        assertEquals(expectedResult, aggregateService.findAll());
+    }
+
+    @Test
+    @DisplayName("итоги банка без счетов, негативный сценарий")
+    void findByNonExistBankDetailsIdNegativeTest() {
+        when(aggregateRepository.findTotalsByBankDetailsId(790L)).thenReturn(List.of());
+        when(exceptionReturner.getEntityNotFoundException("Нет счетов с bank_details_id = 790"))
+                .thenReturn(new EntityNotFoundException("Нет счетов с bank_details_id = 790"));
+
+        assertThrows(EntityNotFoundException.class, () -> aggregateService.findByBankDetailsId(790L));
+    }
+
+    private AccountDetailsEntity getDetailsEntity(Long bankDetailsId, BigDecimal money) {
+        return new AccountDetailsEntity(ACCOUNT_ID, 230L, 123L, bankDetailsId, money, false, 290L);
+    }
+}
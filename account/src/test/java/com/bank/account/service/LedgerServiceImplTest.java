@@ -0,0 +1,292 @@
+package com.bank.account.service;
+
+import com.bank.account.dto.AccountBalanceDto;
+import com.bank.account.dto.LedgerPostingDto;
+import com.bank.account.dto.LedgerTransferDto;
+import com.bank.account.entity.AccountDetailsEntity;
+import com.bank.account.entity.BalanceSnapshotEntity;
+import com.bank.account.entity.LedgerPostingEntity;
+import com.bank.account.entity.LedgerTransferEntity;
+import com.bank.account.entity.LedgerTransferStatus;
+import com.bank.account.mapper.LedgerPostingMapper;
+import com.bank.account.mapper.LedgerTransferMapper;
+import com.bank.account.repository.AccountDetailsRepository;
+import com.bank.account.repository.BalanceSlotRepository;
+import com.bank.account.repository.BalanceSnapshotRepository;
+import com.bank.account.repository.LedgerPostingRepository;
+import com.bank.account.repository.LedgerTransferRepository;
+import com.bank.account.service.common.ExceptionReturner;
+import com.bank.common.exception.ValidationException;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+
+import javax.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class LedgerServiceImplTest {
+
+    static final Long ACCOUNT_ID = 10L;
+    static final Long DESTINATION_ID = 11L;
+    static final Long TRANSFER_ID = 500L;
+
+    @Mock
+    LedgerPostingRepository postingRepository;
+    @Mock
+    BalanceSnapshotRepository snapshotRepository;
+    @Mock
+    BalanceSlotRepository slotRepository;
+    @Mock
+    AccountDetailsRepository accountDetailsRepository;
+    @Mock
+    LedgerTransferRepository transferRepository;
+    @Mock
+    LedgerPostingMapper mapper;
+    @Mock
+    LedgerTransferMapper transferMapper;
+    @Mock
+    ExceptionReturner exceptionReturner;
+    @Mock
+    CacheManager cacheManager;
+    @Mock
+    BankBalanceAggregateService aggregateService;
+    @InjectMocks
+    LedgerServiceImpl ledgerService;
+
+    @Test
+    @DisplayName("зачисление, позитивный сценарий")
+    void creditPositiveTest() {
+        LedgerPostingDto expectedResult = new LedgerPostingDto(1L, ACCOUNT_ID, new BigDecimal("50"), null);
+        ArgumentCaptor<LedgerPostingEntity> captor = ArgumentCaptor.forClass(LedgerPostingEntity.class);
+
+        when(accountDetailsRepository.lockForPosting(ACCOUNT_ID)).thenReturn(Optional.of(ACCOUNT_ID));
+        when(postingRepository.save(captor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(mapper.toDto(any())).thenReturn(expectedResult);
+
+        LedgerPostingDto actualResult = ledgerService.credit(ACCOUNT_ID, new BigDecimal("50"));
+
+        assertEquals(expectedResult, actualResult);
+        assertEquals(new BigDecimal("50"), captor.getValue().getAmount());
+        verify(accountDetailsRepository, never()).findByIdForUpdate(any());
+        verify(aggregateService).recordMoneyChange(ACCOUNT_ID, new BigDecimal("50"));
+    }
+
+    @Test
+    @DisplayName("зачисление неположительной суммы, негативный сценарий")
+    void creditNotPositiveAmountNegativeTest() {
+        assertThrows(ValidationException.class, () -> ledgerService.credit(ACCOUNT_ID, BigDecimal.ZERO));
+
+        verify(postingRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("зачисление на несуществующий счёт, негативный сценарий")
+    void creditNotFoundNegativeTest() {
+        when(accountDetailsRepository.lockForPosting(ACCOUNT_ID)).thenReturn(Optional.empty());
+        when(exceptionReturner.getEntityNotFoundException(any())).thenReturn(new EntityNotFoundException());
+
+        assertThrows(EntityNotFoundException.class, () -> ledgerService.credit(ACCOUNT_ID, BigDecimal.TEN));
+
+        verify(postingRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("списание при достаточном балансе, позитивный сценарий")
+    void debitPositiveTest() {
+        AccountDetailsEntity accountDetails = getDetailsEntity(false);
+        ArgumentCaptor<LedgerPostingEntity> captor = ArgumentCaptor.forClass(LedgerPostingEntity.class);
+
+        when(accountDetailsRepository.findNegativeBalanceById(ACCOUNT_ID)).thenReturn(Optional.of(false));
+        when(accountDetailsRepository.findByIdForUpdate(ACCOUNT_ID)).thenReturn(Optional.of(accountDetails));
+        when(snapshotRepository.findById(ACCOUNT_ID)).thenReturn(Optional.empty());
+        when(postingRepository.sumAfter(ACCOUNT_ID, 0L)).thenReturn(new BigDecimal("20"));
+        when(slotRepository.sumMoney(ACCOUNT_ID)).thenReturn(BigDecimal.ZERO);
+        when(postingRepository.save(captor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ledgerService.debit(ACCOUNT_ID, new BigDecimal("120"));
+
+        assertEquals(new BigDecimal("-120"), captor.getValue().getAmount());
+        verify(accountDetailsRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("списание при недостаточном балансе, негативный сценарий")
+    void debitNotEnoughMoneyNegativeTest() {
+        AccountDetailsEntity accountDetails = getDetailsEntity(false);
+
+        when(accountDetailsRepository.findNegativeBalanceById(ACCOUNT_ID)).thenReturn(Optional.of(false));
+        when(accountDetailsRepository.findByIdForUpdate(ACCOUNT_ID)).thenReturn(Optional.of(accountDetails));
+        when(snapshotRepository.findById(ACCOUNT_ID)).thenReturn(Optional.empty());
+        when(postingRepository.sumAfter(ACCOUNT_ID, 0L)).thenReturn(BigDecimal.ZERO);
+        when(slotRepository.sumMoney(ACCOUNT_ID)).thenReturn(BigDecimal.ZERO);
+
+        assertThrows(ValidationException.class, () -> ledgerService.debit(ACCOUNT_ID, new BigDecimal("101")));
+
+        verify(postingRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("списание со счёта с правом на минус, без блокировки FOR UPDATE")
+    void debitNegativeBalanceAllowedTest() {
+        when(accountDetailsRepository.findNegativeBalanceById(ACCOUNT_ID)).thenReturn(Optional.of(true));
+        when(accountDetailsRepository.lockForPosting(ACCOUNT_ID)).thenReturn(Optional.of(ACCOUNT_ID));
+        when(postingRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ledgerService.debit(ACCOUNT_ID, new BigDecimal("1000"));
+
+        verify(accountDetailsRepository, never()).findByIdForUpdate(any());
+        verify(accountDetailsRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("баланс - money счёта плюс слоты плюс проводки после снимка")
+    void getBalanceTest() {
+        when(accountDetailsRepository.findById(ACCOUNT_ID)).thenReturn(Optional.of(getDetailsEntity(false)));
+        when(snapshotRepository.findById(ACCOUNT_ID)).thenReturn(Optional.of(
+                new BalanceSnapshotEntity(ACCOUNT_ID, new BigDecimal("300"), 7L, null)));
+        when(postingRepository.sumAfter(ACCOUNT_ID, 7L)).thenReturn(new BigDecimal("-30"));
+        when(slotRepository.sumMoney(ACCOUNT_ID)).thenReturn(new BigDecimal("50"));
+
+        AccountBalanceDto actualResult = ledgerService.getBalance(ACCOUNT_ID);
+
+        assertEquals(new AccountBalanceDto(ACCOUNT_ID, new BigDecimal("120")), actualResult);
+    }
+
+    @Test
+    @DisplayName("снимок баланса сворачивает все видимые проводки по максимальному id")
+    void snapshotTest() {
+        AccountDetailsEntity accountDetails = getDetailsEntity(false);
+
+        when(accountDetailsRepository.findByIdForUpdate(ACCOUNT_ID)).thenReturn(Optional.of(accountDetails));
+        when(snapshotRepository.findById(ACCOUNT_ID)).thenReturn(Optional.empty());
+        when(postingRepository.findLastId(ACCOUNT_ID, 0L)).thenReturn(15L);
+        when(postingRepository.sumBetween(ACCOUNT_ID, 0L, 15L)).thenReturn(new BigDecimal("40"));
+        when(postingRepository.sumAfter(ACCOUNT_ID, 15L)).thenReturn(new BigDecimal("5"));
+        when(slotRepository.sumMoney(ACCOUNT_ID)).thenReturn(BigDecimal.ZERO);
+
+        AccountBalanceDto actualResult = ledgerService.snapshot(ACCOUNT_ID);
+
+        assertEquals(new AccountBalanceDto(ACCOUNT_ID, new BigDecimal("145")), actualResult);
+        assertEquals(new BigDecimal("140"), accountDetails.getMoney());
+        verify(snapshotRepository).save(any());
+    }
+
+    @Test
+    @DisplayName("сдвиг границы свёрнутого журнала")
+    void advanceSnapshotWatermarkTest() {
+        ledgerService.advanceSnapshotWatermark(15L);
+
+        verify(postingRepository).advanceSnapshotWatermark(15L);
+    }
+
+    @Test
+    @DisplayName("перевод пишет проводки списания и зачисления и сохраняет итог")
+    void transferPositiveTest() {
+        AccountDetailsEntity destination = new AccountDetailsEntity(DESTINATION_ID, 231L, 124L, 790L,
+                BigDecimal.ZERO, false, 291L);
+        ArgumentCaptor<LedgerPostingEntity> postings = ArgumentCaptor.forClass(LedgerPostingEntity.class);
+        ArgumentCaptor<LedgerTransferEntity> transfer = ArgumentCaptor.forClass(LedgerTransferEntity.class);
+
+        when(accountDetailsRepository.findAllByIdForUpdate(List.of(ACCOUNT_ID, DESTINATION_ID)))
+                .thenReturn(List.of(getDetailsEntity(false), destination));
+        when(transferRepository.findById(TRANSFER_ID)).thenReturn(Optional.empty());
+        when(snapshotRepository.findById(ACCOUNT_ID)).thenReturn(Optional.empty());
+        when(slotRepository.sumMoney(ACCOUNT_ID)).thenReturn(BigDecimal.ZERO);
+        when(postingRepository.sumAfter(ACCOUNT_ID, 0L)).thenReturn(BigDecimal.ZERO);
+        when(postingRepository.save(postings.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(transferRepository.save(transfer.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ledgerService.transfer(TRANSFER_ID, ACCOUNT_ID, DESTINATION_ID, new BigDecimal("40"));
+
+        assertEquals(List.of(new BigDecimal("-40"), new BigDecimal("40")),
+                postings.getAllValues().stream().map(LedgerPostingEntity::getAmount).toList());
+        assertEquals(LedgerTransferStatus.COMPLETED, transfer.getValue().getStatus());
+        verify(aggregateService).recordMoneyChange(ACCOUNT_ID, new BigDecimal("-40"));
+        verify(aggregateService).recordMoneyChange(DESTINATION_ID, new BigDecimal("40"));
+    }
+
+    @Test
+    @DisplayName("перевод на несуществующий счёт сохраняет отказ без проводок")
+    void transferDestinationNotFoundRejectedTest() {
+        ArgumentCaptor<LedgerTransferEntity> transfer = ArgumentCaptor.forClass(LedgerTransferEntity.class);
+
+        when(accountDetailsRepository.findAllByIdForUpdate(List.of(ACCOUNT_ID, DESTINATION_ID)))
+                .thenReturn(List.of(getDetailsEntity(false)));
+        when(transferRepository.findById(TRANSFER_ID)).thenReturn(Optional.empty());
+        when(transferRepository.save(transfer.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ledgerService.transfer(TRANSFER_ID, ACCOUNT_ID, DESTINATION_ID, new BigDecimal("40"));
+
+        assertEquals(LedgerTransferStatus.REJECTED, transfer.getValue().getStatus());
+        assertEquals("Не найден счёт получателя id = " + DESTINATION_ID, transfer.getValue().getFailureReason());
+        verify(postingRepository, never()).save(any());
+        verify(aggregateService, never()).recordMoneyChange(any(), any());
+    }
+
+    @Test
+    @DisplayName("повтор перевода возвращает сохранённый итог без новых проводок")
+    void transferReplayTest() {
+        LedgerTransferEntity recorded = getTransferEntity();
+        LedgerTransferDto expectedResult = new LedgerTransferDto(TRANSFER_ID, ACCOUNT_ID, DESTINATION_ID,
+                new BigDecimal("40"), LedgerTransferStatus.COMPLETED, null, null);
+
+        when(transferRepository.findById(TRANSFER_ID)).thenReturn(Optional.of(recorded));
+        when(transferMapper.toDto(recorded)).thenReturn(expectedResult);
+
+        LedgerTransferDto actualResult = ledgerService.transfer(TRANSFER_ID, ACCOUNT_ID, DESTINATION_ID,
+                new BigDecimal("40.00"));
+
+        assertEquals(expectedResult, actualResult);
+        verify(accountDetailsRepository, times(1)).findAllByIdForUpdate(List.of(ACCOUNT_ID, DESTINATION_ID));
+        verify(postingRepository, never()).save(any());
+        verify(transferRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("повтор перевода с другой суммой, негативный сценарий")
+    void transferConflictNegativeTest() {
+        when(transferRepository.findById(TRANSFER_ID)).thenReturn(Optional.of(getTransferEntity()));
+
+        assertThrows(IllegalStateException.class,
+                () -> ledgerService.transfer(TRANSFER_ID, ACCOUNT_ID, DESTINATION_ID, new BigDecimal("41")));
+        verify(postingRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("перевод на тот же счёт, негативный сценарий")
+    void transferSameAccountNegativeTest() {
+        assertThrows(ValidationException.class,
+                () -> ledgerService.transfer(TRANSFER_ID, ACCOUNT_ID, ACCOUNT_ID, new BigDecimal("40")));
+        verify(accountDetailsRepository, never()).findAllByIdForUpdate(any());
+    }
+
+    private LedgerTransferEntity getTransferEntity() {
+        return new LedgerTransferEntity(TRANSFER_ID, ACCOUNT_ID, DESTINATION_ID, new BigDecimal("40"),
+                LedgerTransferStatus.COMPLETED, null, Timestamp.valueOf("2023-10-17 10:00:00"));
+    }
+
+    private AccountDetailsEntity getDetailsEntity(boolean negativeBalance) {
+        return new AccountDetailsEntity(ACCOUNT_ID, 230L, 123L, 790L,
+                new BigDecimal("100"), negativeBalance, 290L);
+    }
+}
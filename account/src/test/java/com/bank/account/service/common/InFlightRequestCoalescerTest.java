@@ -0,0 +1,67 @@
+package com.bank.account.service.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InFlightRequestCoalescerTest {
+
+    @Test
+    @DisplayName("одновременные запросы по одному ключу выполняются один раз")
+    void coalescesConcurrentRequestsTest() {
+        InFlightRequestCoalescer<Long, String> coalescer = new InFlightRequestCoalescer<>();
+        CompletableFuture<String> response = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> first = coalescer.execute(1L, key -> {
+            calls.incrementAndGet();
+            return response;
+        });
+        CompletableFuture<String> second = coalescer.execute(1L, key -> {
+            calls.incrementAndGet();
+            return response;
+        });
+
+        assertSame(first, second);
+        assertEquals(1, coalescer.inFlightCount());
+
+        response.complete("profile");
+
+        assertEquals("profile", second.join());
+        assertEquals(1, calls.get());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("после завершения запрос по ключу выполняется заново")
+    void completedRequestIsNotCachedTest() {
+        InFlightRequestCoalescer<Long, String> coalescer = new InFlightRequestCoalescer<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        coalescer.execute(1L, key -> CompletableFuture.completedFuture("v" + calls.incrementAndGet())).join();
+        String actualResult = coalescer.execute(1L,
+                key -> CompletableFuture.completedFuture("v" + calls.incrementAndGet())).join();
+
+        assertEquals("v2", actualResult);
+    }
+
+    @Test
+    @DisplayName("ошибка запроса передаётся всем ожидающим и освобождает ключ")
+    void failedRequestTest() {
+        InFlightRequestCoalescer<Long, String> coalescer = new InFlightRequestCoalescer<>();
+
+        CompletableFuture<String> failed = coalescer.execute(1L, key -> {
+            throw new IllegalStateException("profile-app недоступен");
+        });
+
+        assertThrows(CompletionException.class, failed::join);
+        assertEquals(0, coalescer.inFlightCount());
+    }
+}
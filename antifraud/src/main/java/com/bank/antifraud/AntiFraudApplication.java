@@ -3,8 +3,10 @@ package com.bank.antifraud;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.netflix.eureka.EnableEurekaClient;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableEurekaClient
+@EnableScheduling
 @SpringBootApplication(scanBasePackages = {"com.bank.common", "com.bank.antifraud"})
 public class AntiFraudApplication {
     public static void main(String[] args) {
@@ -0,0 +1,43 @@
+package com.bank.antifraud.config;
+
+import com.bank.antifraud.service.blocklist.Blocklist;
+import com.bank.antifraud.service.scoring.RuleExpressionCompiler;
+import com.bank.antifraud.service.scoring.ScoringEngine;
+import com.bank.antifraud.service.scoring.ScoringRule;
+import com.bank.antifraud.service.velocity.VelocityRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Движок проверки переводов по правилам из antifraud.scoring и компилятор правил из БД.
+ */
+@Configuration
+@EnableConfigurationProperties(ScoringProperties.class)
+public class ScoringConfig {
+
+    /**
+     * Ошибка в правилах не даёт сервису запуститься, а не пропускает переводы непроверенными.
+     *
+     * @param properties {@link ScoringProperties}
+     * @param velocity   {@link VelocityRegistry}
+     * @param blocklist  {@link Blocklist}
+     * @return {@link ScoringEngine}
+     */
+    @Bean
+    public ScoringEngine scoringEngine(ScoringProperties properties, VelocityRegistry velocity, Blocklist blocklist) {
+        return new ScoringEngine(properties.getRules().stream()
+                .map(rule -> ScoringRule.of(rule, velocity, blocklist))
+                .toList());
+    }
+
+    /**
+     * @param velocity  {@link VelocityRegistry}
+     * @param blocklist {@link Blocklist}
+     * @return {@link RuleExpressionCompiler}
+     */
+    @Bean
+    public RuleExpressionCompiler ruleExpressionCompiler(VelocityRegistry velocity, Blocklist blocklist) {
+        return new RuleExpressionCompiler(velocity, blocklist);
+    }
+}
@@ -0,0 +1,83 @@
+package com.bank.antifraud.config;
+
+import com.bank.antifraud.entity.TransferType;
+import com.bank.antifraud.service.scoring.ScoringAction;
+import com.bank.antifraud.service.velocity.VelocityDimension;
+import com.bank.antifraud.service.velocity.VelocityWindow;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Правила проверки переводов.
+ */
+@Getter
+@Setter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ConfigurationProperties(prefix = "antifraud.scoring")
+public class ScoringProperties {
+
+    List<Rule> rules = new ArrayList<>();
+
+    /**
+     * Одно правило. Заданные условия должны выполниться все, хотя бы одно условие обязательно.
+     */
+    @Getter
+    @Setter
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static class Rule {
+        String name;
+
+        /**
+         * Текст причины в вердикте, по умолчанию имя правила.
+         */
+        String reason;
+
+        ScoringAction action = ScoringAction.SUSPECT;
+
+        /**
+         * Виды переводов, к которым применяется правило, пусто - ко всем.
+         */
+        Set<TransferType> transferTypes = EnumSet.noneOf(TransferType.class);
+
+        /**
+         * Сумма перевода строго больше.
+         */
+        BigDecimal amountAbove;
+
+        /**
+         * Номер получателя из списка.
+         */
+        Set<Long> recipients = new HashSet<>();
+
+        /**
+         * Номер получателя в списке блокировок.
+         */
+        boolean blocklisted;
+
+        /**
+         * Измерение и окно скоростных условий countAbove и sumAbove.
+         */
+        VelocityDimension velocityDimension;
+        VelocityWindow velocityWindow;
+
+        /**
+         * Переводов за окно, включая проверяемый, строго больше.
+         */
+        Long countAbove;
+
+        /**
+         * Сумма переводов за окно, включая проверяемый, строго больше.
+         */
+        BigDecimal sumAbove;
+    }
+}
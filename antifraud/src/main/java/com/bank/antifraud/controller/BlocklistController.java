@@ -0,0 +1,38 @@
+package com.bank.antifraud.controller;
+
+import com.bank.antifraud.entity.TransferType;
+import com.bank.antifraud.service.blocklist.Blocklist;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Контроллер для {@link Blocklist}
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/blocklist")
+@Tag(name = "Контроллер списка блокировок",
+        description = "Проверка номера получателя по заблокированным переводам")
+public class BlocklistController {
+    private final Blocklist blocklist;
+
+    /**
+     * @param transferType {@link TransferType}
+     * @param number       номер счёта, карты или телефона получателя
+     * @return {@link ResponseEntity} true, если номер заблокирован
+     */
+    @Operation(
+            summary = "Проверка номера получателя",
+            description = "Позволяет узнать без обращения к БД, заблокирован ли номер получателя"
+    )
+    @GetMapping("/check")
+    public ResponseEntity<Boolean> check(@RequestParam TransferType transferType, @RequestParam Long number) {
+        return ResponseEntity.ok(blocklist.isBlocked(transferType, number));
+    }
+}
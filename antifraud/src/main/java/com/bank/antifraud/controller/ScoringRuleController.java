@@ -0,0 +1,82 @@
+package com.bank.antifraud.controller;
+
+import com.bank.antifraud.dto.ScoringRuleDto;
+import com.bank.antifraud.entity.ScoringRuleEntity;
+import com.bank.antifraud.service.ScoringRuleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Контроллер для {@link ScoringRuleDto}
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/scoring/rules")
+@Tag(name = "Контроллер правил проверки переводов",
+        description = "Правила на языке выражений, применяются без перезапуска сервиса")
+public class ScoringRuleController {
+    private final ScoringRuleService service;
+
+    /**
+     * @param id технический идентификатор {@link ScoringRuleEntity}
+     * @return {@link ResponseEntity} {@link ScoringRuleDto}
+     */
+    @Operation(
+            summary = "Получение правила проверки",
+            description = "Позволяет по id получить правило проверки переводов"
+    )
+    @GetMapping("/{id}")
+    public ResponseEntity<ScoringRuleDto> read(@PathVariable("id") Long id) {
+        return ResponseEntity.ok(service.findById(id));
+    }
+
+    /**
+     * @return {@link ResponseEntity} c листом {@link ScoringRuleDto}
+     */
+    @Operation(
+            summary = "Получение всех правил проверки",
+            description = "Позволяет получить все правила проверки переводов, включая выключенные"
+    )
+    @GetMapping
+    public ResponseEntity<List<ScoringRuleDto>> readAll() {
+        return ResponseEntity.ok(service.findAll());
+    }
+
+    /**
+     * @param rule {@link ScoringRuleDto}
+     * @return {@link ResponseEntity} {@link ScoringRuleDto}
+     */
+    @Operation(
+            summary = "Создание правила проверки",
+            description = "Позволяет создать правило, выражение с ошибкой отклоняется с её позицией"
+    )
+    @PostMapping("/create")
+    public ResponseEntity<ScoringRuleDto> create(@RequestBody ScoringRuleDto rule) {
+        return ResponseEntity.ok(service.save(rule));
+    }
+
+    /**
+     * @param rule {@link ScoringRuleDto}
+     * @param id   технический идентификатор {@link ScoringRuleEntity}
+     * @return {@link ResponseEntity} {@link ScoringRuleDto}
+     */
+    @Operation(
+            summary = "Обновление правила проверки",
+            description = "Позволяет изменить или выключить правило проверки"
+    )
+    @PutMapping("/{id}")
+    public ResponseEntity<ScoringRuleDto> update(@RequestBody ScoringRuleDto rule, @PathVariable("id") Long id) {
+        return ResponseEntity.ok(service.update(id, rule));
+    }
+}
@@ -85,4 +85,19 @@ public class SuspiciousAccountTransferController {
             @PathVariable("id") Long id) {
         return ResponseEntity.ok(service.update(id, suspiciousTransfer));
     }
+
+    /**
+     * @param suspiciousTransfer {@link SuspiciousAccountTransferDto}
+     * @return {@link ResponseEntity} со статусом 202, при переполнении очереди 429
+     */
+    @Operation(
+            summary = "Асинхронное создание подозрительного перевода по номеру счета",
+            description = "Ставит подозрительный перевод по номеру счета в очередь пакетной записи"
+    )
+    @PostMapping("/enqueue")
+    public ResponseEntity<Void> enqueue(
+            @Valid @RequestBody SuspiciousAccountTransferDto suspiciousTransfer) {
+        service.enqueue(suspiciousTransfer);
+        return ResponseEntity.accepted().build();
+    }
 }
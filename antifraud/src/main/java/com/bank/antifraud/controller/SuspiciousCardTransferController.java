@@ -86,4 +86,19 @@ public class SuspiciousCardTransferController {
             @PathVariable("id") Long id) {
         return ResponseEntity.ok(service.update(id, suspiciousTransfer));
     }
+
+    /**
+     * @param suspiciousTransfer {@link SuspiciousCardTransferDto}
+     * @return {@link ResponseEntity} со статусом 202, при переполнении очереди 429
+     */
+    @Operation(
+            summary = "Асинхронное создание подозрительного перевода по номеру карты",
+            description = "Ставит подозрительный перевод по номеру карты в очередь пакетной записи"
+    )
+    @PostMapping("/enqueue")
+    public ResponseEntity<Void> enqueue(
+            @RequestBody SuspiciousCardTransferDto suspiciousTransfer) {
+        service.enqueue(suspiciousTransfer);
+        return ResponseEntity.accepted().build();
+    }
 }
@@ -85,4 +85,19 @@ public class SuspiciousPhoneTransferController {
             @PathVariable("id") Long id) {
         return ResponseEntity.ok(service.update(id, suspiciousTransfer));
     }
+
+    /**
+     * @param suspiciousTransfer {@link SuspiciousPhoneTransferDto}
+     * @return {@link ResponseEntity} со статусом 202, при переполнении очереди 429
+     */
+    @Operation(
+            summary = "Асинхронное создание подозрительного перевода по номеру телефона",
+            description = "Ставит подозрительный перевод по номеру телефона в очередь пакетной записи"
+    )
+    @PostMapping("/enqueue")
+    public ResponseEntity<Void> enqueue(
+            @Valid @RequestBody SuspiciousPhoneTransferDto suspiciousTransfer) {
+        service.enqueue(suspiciousTransfer);
+        return ResponseEntity.accepted().build();
+    }
 }
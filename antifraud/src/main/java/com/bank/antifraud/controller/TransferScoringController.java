@@ -0,0 +1,38 @@
+package com.bank.antifraud.controller;
+
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.dto.TransferVerdictDto;
+import com.bank.antifraud.service.TransferScoringService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Контроллер для {@link TransferScoringDto}
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/scoring")
+@Tag(name = "Контроллер проверки переводов",
+        description = "Проверка переводов правилами антифрода")
+public class TransferScoringController {
+    private final TransferScoringService service;
+
+    /**
+     * @param transfer {@link TransferScoringDto}
+     * @return {@link ResponseEntity} {@link TransferVerdictDto}
+     */
+    @Operation(
+            summary = "Проверка перевода",
+            description = "Позволяет проверить перевод правилами и записать вердикт, если перевод подозрительный"
+    )
+    @PostMapping("/transfer")
+    public ResponseEntity<TransferVerdictDto> score(@RequestBody TransferScoringDto transfer) {
+        return ResponseEntity.ok(service.score(transfer));
+    }
+}
@@ -0,0 +1,38 @@
+package com.bank.antifraud.dto;
+
+import com.bank.antifraud.entity.ScoringRuleEntity;
+import com.bank.antifraud.entity.TransferType;
+import com.bank.antifraud.service.scoring.ScoringAction;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Dto для {@link ScoringRuleEntity}
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ScoringRuleDto implements Serializable {
+
+    Long id;
+    String name;
+    String expression;
+    ScoringAction action;
+    String reason;
+    Set<TransferType> transferTypes;
+    Boolean enabled;
+    Long version;
+    LocalDateTime updatedAt;
+}
@@ -28,4 +28,5 @@ public class SuspiciousAccountTransferDto implements Serializable {
     Boolean isSuspicious;
     String blockedReason;
     String suspiciousReason;
+    Long recipientNumber;
 }
@@ -28,4 +28,5 @@ public class SuspiciousCardTransferDto implements Serializable {
     Boolean isSuspicious;
     String blockedReason;
     String suspiciousReason;
+    Long recipientNumber;
 }
@@ -28,4 +28,5 @@ public class SuspiciousPhoneTransferDto implements Serializable {
     Boolean isSuspicious;
     String blockedReason;
     String suspiciousReason;
+    Long recipientNumber;
 }
@@ -0,0 +1,31 @@
+package com.bank.antifraud.dto;
+
+import com.bank.antifraud.entity.TransferType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Dto перевода на проверку. recipientNumber - номер счёта, карты или телефона получателя по transferType.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TransferScoringDto implements Serializable {
+
+    TransferType transferType;
+    Long transferId;
+    Long accountDetailsId;
+    Long recipientNumber;
+    BigDecimal amount;
+}
@@ -0,0 +1,33 @@
+package com.bank.antifraud.dto;
+
+import com.bank.antifraud.entity.TransferType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+
+/**
+ * Dto вердикта по переводу. suspiciousTransferId - id записи в таблице подозрительных переводов вида transferType,
+ * null для чистого перевода: чистые переводы не записываются.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TransferVerdictDto implements Serializable {
+
+    TransferType transferType;
+    Long transferId;
+    Long suspiciousTransferId;
+    Boolean isBlocked;
+    Boolean isSuspicious;
+    String blockedReason;
+    String suspiciousReason;
+}
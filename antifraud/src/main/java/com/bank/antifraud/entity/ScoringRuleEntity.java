@@ -0,0 +1,100 @@
+package com.bank.antifraud.entity;
+
+import com.bank.antifraud.service.scoring.ScoringAction;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * entity для таблицы scoring_rule
+ */
+@Entity
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Table(name = "scoring_rule", schema = "anti_fraud")
+public class ScoringRuleEntity {
+
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    Long id;
+
+    @Column(name = "name")
+    String name;
+
+    @Column(name = "expression")
+    String expression;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action")
+    ScoringAction action;
+
+    @Column(name = "reason")
+    String reason;
+
+    /**
+     * Виды переводов через запятую, null - все.
+     */
+    @Column(name = "transfer_types")
+    String transferTypes;
+
+    @Column(name = "enabled")
+    Boolean enabled;
+
+    /**
+     * Растёт с каждым изменением правила, по сумме версий экземпляры замечают изменения набора.
+     */
+    @Version
+    @Column(name = "version")
+    Long version;
+
+    @Column(name = "updated_at")
+    LocalDateTime updatedAt;
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final ScoringRuleEntity rule = (ScoringRuleEntity) o;
+
+        return Objects.equals(id, rule.id) &&
+                Objects.equals(name, rule.name) &&
+                Objects.equals(expression, rule.expression) &&
+                action == rule.action &&
+                Objects.equals(reason, rule.reason) &&
+                Objects.equals(transferTypes, rule.transferTypes) &&
+                Objects.equals(enabled, rule.enabled) &&
+                Objects.equals(version, rule.version) &&
+                Objects.equals(updatedAt, rule.updatedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, expression, action, reason, transferTypes, enabled, version, updatedAt);
+    }
+}
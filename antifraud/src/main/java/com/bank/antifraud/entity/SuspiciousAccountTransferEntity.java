@@ -47,6 +47,9 @@ public class SuspiciousAccountTransferEntity {
     @Column(name = "suspicious_reason")
     String suspiciousReason;
 
+    @Column(name = "recipient_number")
+    Long recipientNumber;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -62,11 +65,13 @@ public class SuspiciousAccountTransferEntity {
                 Objects.equals(isSuspicious, transfer.isSuspicious) &&
                 Objects.equals(blockedReason, transfer.blockedReason) &&
                 Objects.equals(suspiciousReason, transfer.suspiciousReason) &&
-                Objects.equals(accountTransferId, transfer.accountTransferId);
+                Objects.equals(accountTransferId, transfer.accountTransferId) &&
+                Objects.equals(recipientNumber, transfer.recipientNumber);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, accountTransferId, isBlocked, isSuspicious, blockedReason, suspiciousReason);
+        return Objects.hash(id, accountTransferId, isBlocked, isSuspicious, blockedReason, suspiciousReason,
+                recipientNumber);
     }
 }
@@ -47,6 +47,9 @@ public class SuspiciousPhoneTransferEntity {
     @Column(name = "suspicious_reason")
     String suspiciousReason;
 
+    @Column(name = "recipient_number")
+    Long recipientNumber;
+
     @Override
     public boolean equals(Object o) {
 
@@ -65,11 +68,13 @@ public class SuspiciousPhoneTransferEntity {
                 Objects.equals(isSuspicious, transfer.isSuspicious) &&
                 Objects.equals(blockedReason, transfer.blockedReason) &&
                 Objects.equals(phoneTransferId, transfer.phoneTransferId) &&
-                Objects.equals(suspiciousReason, transfer.suspiciousReason);
+                Objects.equals(suspiciousReason, transfer.suspiciousReason) &&
+                Objects.equals(recipientNumber, transfer.recipientNumber);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, phoneTransferId, isBlocked, isSuspicious, blockedReason, suspiciousReason);
+        return Objects.hash(id, phoneTransferId, isBlocked, isSuspicious, blockedReason, suspiciousReason,
+                recipientNumber);
     }
 }
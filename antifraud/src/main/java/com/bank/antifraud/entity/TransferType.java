@@ -0,0 +1,22 @@
+package com.bank.antifraud.entity;
+
+/**
+ * Вид проверяемого перевода, определяет таблицу вердикта.
+ */
+public enum TransferType {
+
+    /**
+     * Перевод по номеру счёта, вердикт в suspicious_account_transfer.
+     */
+    ACCOUNT,
+
+    /**
+     * Перевод по номеру карты, вердикт в suspicious_card_transfer.
+     */
+    CARD,
+
+    /**
+     * Перевод по номеру телефона, вердикт в suspicious_phone_transfer.
+     */
+    PHONE
+}
@@ -0,0 +1,78 @@
+package com.bank.antifraud.mappers;
+
+import com.bank.antifraud.dto.ScoringRuleDto;
+import com.bank.antifraud.entity.ScoringRuleEntity;
+import com.bank.antifraud.entity.TransferType;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * mapper для {@link ScoringRuleEntity} и {@link ScoringRuleDto}
+ */
+@Mapper(componentModel = "spring")
+public interface ScoringRuleMapper {
+
+    String TYPE_SEPARATOR = ",";
+
+    /**
+     * @param rule {@link ScoringRuleEntity}
+     * @return {@link ScoringRuleDto}
+     */
+    ScoringRuleDto toDto(ScoringRuleEntity rule);
+
+    /**
+     * @param rules список {@link ScoringRuleEntity}
+     * @return список {@link ScoringRuleDto}
+     */
+    List<ScoringRuleDto> toListDto(List<ScoringRuleEntity> rules);
+
+    /**
+     * @param rule {@link ScoringRuleDto}
+     * @return {@link ScoringRuleEntity}
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    ScoringRuleEntity toEntity(ScoringRuleDto rule);
+
+    /**
+     * @param rule   {@link ScoringRuleDto}
+     * @param entity {@link ScoringRuleEntity}
+     * @return {@link ScoringRuleEntity}
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    ScoringRuleEntity mergeToEntity(ScoringRuleDto rule, @MappingTarget ScoringRuleEntity entity);
+
+    /**
+     * @param types виды переводов
+     * @return виды через запятую, null - все
+     */
+    default String typesToColumn(Set<TransferType> types) {
+        if (types == null || types.isEmpty()) {
+            return null;
+        }
+        return EnumSet.copyOf(types).stream().map(Enum::name).collect(Collectors.joining(TYPE_SEPARATOR));
+    }
+
+    /**
+     * @param types виды через запятую
+     * @return виды переводов, пусто - все
+     */
+    default Set<TransferType> typesFromColumn(String types) {
+        if (types == null || types.isBlank()) {
+            return EnumSet.noneOf(TransferType.class);
+        }
+        return Arrays.stream(types.split(TYPE_SEPARATOR))
+                .map(type -> TransferType.valueOf(type.trim()))
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(TransferType.class)));
+    }
+}
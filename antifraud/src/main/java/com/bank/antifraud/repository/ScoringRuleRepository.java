@@ -0,0 +1,27 @@
+package com.bank.antifraud.repository;
+
+import com.bank.antifraud.entity.ScoringRuleEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+/**
+ * Репозиторий для {@link ScoringRuleEntity}
+ */
+public interface ScoringRuleRepository extends JpaRepository<ScoringRuleEntity, Long> {
+
+    /**
+     * @return действующие правила в порядке создания
+     */
+    List<ScoringRuleEntity> findAllByEnabledTrueOrderByIdAsc();
+
+    /**
+     * Правила не удаляются, а выключаются, поэтому число строк и сумма версий
+     * растут с каждым изменением набора.
+     *
+     * @return отпечаток набора правил
+     */
+    @Query("select count(r) + coalesce(sum(r.version), 0) from ScoringRuleEntity r")
+    long fingerprint();
+}
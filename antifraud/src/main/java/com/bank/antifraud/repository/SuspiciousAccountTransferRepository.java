@@ -2,9 +2,32 @@ package com.bank.antifraud.repository;
 
 import com.bank.antifraud.entity.SuspiciousAccountTransferEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Репозиторий для {@link SuspiciousAccountTransferEntity}
  */
 public interface SuspiciousAccountTransferRepository extends JpaRepository<SuspiciousAccountTransferEntity, Long> {
+
+    /**
+     * @param accountTransferId технический идентификатор перевода
+     * @return {@link SuspiciousAccountTransferEntity} по переводу
+     */
+    Optional<SuspiciousAccountTransferEntity> findByAccountTransferId(Long accountTransferId);
+
+    /**
+     * @return номера получателей заблокированных переводов, без повторов
+     */
+    @Query("select distinct t.recipientNumber from SuspiciousAccountTransferEntity t " +
+            "where t.isBlocked = true and t.recipientNumber is not null")
+    List<Long> findBlockedRecipientNumbers();
+
+    /**
+     * @param recipientNumber номер получателя
+     * @return true, если есть заблокированный перевод на этот номер
+     */
+    boolean existsByRecipientNumberAndIsBlockedTrue(Long recipientNumber);
 }
@@ -2,9 +2,32 @@ package com.bank.antifraud.repository;
 
 import com.bank.antifraud.entity.SuspiciousCardTransferEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Репозиторий для {@link SuspiciousCardTransferEntity}
  */
 public interface SuspiciousCardTransferRepository extends JpaRepository<SuspiciousCardTransferEntity, Long> {
+
+    /**
+     * @param cardTransferId технический идентификатор перевода
+     * @return {@link SuspiciousCardTransferEntity} по переводу
+     */
+    Optional<SuspiciousCardTransferEntity> findByCardTransferId(Long cardTransferId);
+
+    /**
+     * @return номера получателей заблокированных переводов, без повторов
+     */
+    @Query("select distinct t.recipientNumber from SuspiciousCardTransferEntity t " +
+            "where t.isBlocked = true and t.recipientNumber is not null")
+    List<Long> findBlockedRecipientNumbers();
+
+    /**
+     * @param recipientNumber номер получателя
+     * @return true, если есть заблокированный перевод на этот номер
+     */
+    boolean existsByRecipientNumberAndIsBlockedTrue(Long recipientNumber);
 }
@@ -2,9 +2,32 @@ package com.bank.antifraud.repository;
 
 import com.bank.antifraud.entity.SuspiciousPhoneTransferEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Репозиторий для {@link SuspiciousPhoneTransferEntity}
  */
 public interface SuspiciousPhoneTransferRepository extends JpaRepository<SuspiciousPhoneTransferEntity, Long> {
+
+    /**
+     * @param phoneTransferId технический идентификатор перевода
+     * @return {@link SuspiciousPhoneTransferEntity} по переводу
+     */
+    Optional<SuspiciousPhoneTransferEntity> findByPhoneTransferId(Long phoneTransferId);
+
+    /**
+     * @return номера получателей заблокированных переводов, без повторов
+     */
+    @Query("select distinct t.recipientNumber from SuspiciousPhoneTransferEntity t " +
+            "where t.isBlocked = true and t.recipientNumber is not null")
+    List<Long> findBlockedRecipientNumbers();
+
+    /**
+     * @param recipientNumber номер получателя
+     * @return true, если есть заблокированный перевод на этот номер
+     */
+    boolean existsByRecipientNumberAndIsBlockedTrue(Long recipientNumber);
 }
@@ -0,0 +1,42 @@
+package com.bank.antifraud.scheduler;
+
+import com.bank.antifraud.service.blocklist.Blocklist;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Загружает список блокировок при старте и периодически пересобирает его,
+ * чтобы убрать из фильтра Блума разблокированные номера и подогнать размер под число блокировок.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlocklistRebuildScheduler {
+
+    private final Blocklist blocklist;
+
+    /**
+     * Первая загрузка списка блокировок.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        blocklist.rebuild();
+    }
+
+    /**
+     * Пересборка списка блокировок. Ошибка оставляет в работе прежний список.
+     */
+    @Scheduled(fixedDelayString = "${antifraud.blocklist.rebuild-fixed-delay:3600000}",
+            initialDelayString = "${antifraud.blocklist.rebuild-fixed-delay:3600000}")
+    public void rebuild() {
+        try {
+            blocklist.rebuild();
+        } catch (RuntimeException e) {
+            log.error("Не удалось пересобрать список блокировок", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.bank.antifraud.scheduler;
+
+import com.bank.antifraud.service.scoring.ScoringRuleReloader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Загружает правила проверки из БД при старте и подхватывает их изменения, сделанные через другие экземпляры.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScoringRuleReloadScheduler {
+
+    private final ScoringRuleReloader reloader;
+
+    /**
+     * Первая загрузка правил.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reloader.refresh();
+    }
+
+    /**
+     * Проверка отпечатка набора правил.
+     */
+    @Scheduled(fixedDelayString = "${antifraud.scoring.reload-fixed-delay:10000}",
+            initialDelayString = "${antifraud.scoring.reload-fixed-delay:10000}")
+    public void reload() {
+        reloader.refresh();
+    }
+}
@@ -0,0 +1,45 @@
+package com.bank.antifraud.scheduler;
+
+import com.bank.antifraud.service.intake.SuspiciousTransferIntake;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Разбор очереди асинхронной записи подозрительных переводов.
+ * При остановке приложения очередь дописывается до закрытия соединений с БД.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SuspiciousTransferIntakeScheduler {
+
+    private final SuspiciousTransferIntake intake;
+
+    /**
+     * Запись накопившихся переводов.
+     */
+    @Scheduled(fixedDelayString = "${antifraud.intake.flush-fixed-delay:50}")
+    public void flush() {
+        try {
+            intake.flush(System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            log.error("Не записан пакет подозрительных переводов, в очереди {}", intake.pending(), e);
+        }
+    }
+
+    /**
+     * Дописывание очереди при остановке.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void drain() {
+        flush();
+        final int lost = intake.pending();
+        if (lost > 0) {
+            log.error("При остановке не записано {} подозрительных переводов", lost);
+        }
+    }
+}
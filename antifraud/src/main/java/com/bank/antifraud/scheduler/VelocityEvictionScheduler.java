@@ -0,0 +1,29 @@
+package com.bank.antifraud.scheduler;
+
+import com.bank.antifraud.service.velocity.VelocityRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Периодически освобождает память скоростных счётчиков от простаивающих ключей.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VelocityEvictionScheduler {
+
+    private final VelocityRegistry velocityRegistry;
+
+    /**
+     * Очистка простаивающих ключей.
+     */
+    @Scheduled(fixedDelayString = "${antifraud.velocity.eviction-fixed-delay:60000}")
+    public void evict() {
+        final int evicted = velocityRegistry.evictIdle(System.currentTimeMillis());
+        if (evicted > 0) {
+            log.info("Удалено {} простаивающих ключей скоростных счётчиков", evicted);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.bank.antifraud.service;
+
+import com.bank.antifraud.dto.ScoringRuleDto;
+import com.bank.antifraud.entity.ScoringRuleEntity;
+
+import java.util.List;
+
+/**
+ * Сервис для {@link ScoringRuleEntity} и {@link ScoringRuleDto}
+ */
+public interface ScoringRuleService {
+
+    /**
+     * @param id технический идентификатор {@link ScoringRuleEntity}
+     * @return {@link ScoringRuleDto}
+     */
+    ScoringRuleDto findById(Long id);
+
+    /**
+     * @return лист {@link ScoringRuleDto}, включая выключенные
+     */
+    List<ScoringRuleDto> findAll();
+
+    /**
+     * @param rule {@link ScoringRuleDto}
+     * @return {@link ScoringRuleDto}
+     */
+    ScoringRuleDto save(ScoringRuleDto rule);
+
+    /**
+     * @param id   технический идентификатор {@link ScoringRuleEntity}
+     * @param rule {@link ScoringRuleDto}
+     * @return {@link ScoringRuleDto}
+     */
+    ScoringRuleDto update(Long id, ScoringRuleDto rule);
+}
@@ -34,4 +34,11 @@ public interface SuspiciousAccountTransferService {
      * @return лист {@link SuspiciousAccountTransferDto}
      */
     List<SuspiciousAccountTransferDto> findAllById(List<Long> ids);
+
+    /**
+     * Асинхронная запись через очередь, без ожидания вставки.
+     *
+     * @param accountTransfer {@link SuspiciousAccountTransferDto}
+     */
+    void enqueue(SuspiciousAccountTransferDto accountTransfer);
 }
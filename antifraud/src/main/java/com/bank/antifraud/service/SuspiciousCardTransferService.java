@@ -34,4 +34,11 @@ public interface SuspiciousCardTransferService {
      * @return лист {@link SuspiciousCardTransferDto}
      */
     List<SuspiciousCardTransferDto> findAllById(List<Long> ids);
+
+    /**
+     * Асинхронная запись через очередь, без ожидания вставки.
+     *
+     * @param cardTransfer {@link SuspiciousCardTransferDto}
+     */
+    void enqueue(SuspiciousCardTransferDto cardTransfer);
 }
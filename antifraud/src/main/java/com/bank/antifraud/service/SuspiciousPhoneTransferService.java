@@ -34,4 +34,11 @@ public interface SuspiciousPhoneTransferService {
      * @return лист {@link SuspiciousPhoneTransferDto}
      */
     List<SuspiciousPhoneTransferDto> findAllById(List<Long> ids);
+
+    /**
+     * Асинхронная запись через очередь, без ожидания вставки.
+     *
+     * @param phoneTransfer {@link SuspiciousPhoneTransferDto}
+     */
+    void enqueue(SuspiciousPhoneTransferDto phoneTransfer);
 }
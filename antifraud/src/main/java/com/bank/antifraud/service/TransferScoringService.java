@@ -0,0 +1,19 @@
+package com.bank.antifraud.service;
+
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.dto.TransferVerdictDto;
+
+/**
+ * Сервис проверки переводов правилами антифрода
+ */
+public interface TransferScoringService {
+
+    /**
+     * Проверяет перевод и записывает подозрительный или заблокированный перевод в таблицу его вида.
+     * Повторная проверка уже записанного перевода возвращает первый вердикт.
+     *
+     * @param transfer {@link TransferScoringDto}
+     * @return {@link TransferVerdictDto}
+     */
+    TransferVerdictDto score(TransferScoringDto transfer);
+}
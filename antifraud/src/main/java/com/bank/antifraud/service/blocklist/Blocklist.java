@@ -0,0 +1,218 @@
+package com.bank.antifraud.service.blocklist;
+
+import com.bank.antifraud.entity.TransferType;
+import com.bank.antifraud.repository.SuspiciousAccountTransferRepository;
+import com.bank.antifraud.repository.SuspiciousCardTransferRepository;
+import com.bank.antifraud.repository.SuspiciousPhoneTransferRepository;
+import com.bank.antifraud.service.common.AfterCommit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Заблокированные номера получателей в памяти: фильтр Блума отсекает почти все чистые номера,
+ * точное множество за ним убирает ложные срабатывания фильтра.
+ * Проверка без блокировок и обращений к БД. Изменения применяются после фиксации транзакции,
+ * фильтр Блума не умеет удалять, поэтому разблокированные номера из него уходят при пересборке.
+ */
+@Slf4j
+@Component
+public class Blocklist {
+
+    private final SuspiciousAccountTransferRepository accountRepository;
+    private final SuspiciousCardTransferRepository cardRepository;
+    private final SuspiciousPhoneTransferRepository phoneRepository;
+    private final MeterRegistry meterRegistry;
+    private final double fpp;
+    private final int minExpected;
+    private final Object rebuildLock = new Object();
+
+    private volatile Map<TransferType, Filter> filters;
+
+    /**
+     * Изменения, пришедшие во время загрузки из БД, доступ под монитором this.
+     */
+    private List<Change> journal;
+
+    public Blocklist(SuspiciousAccountTransferRepository accountRepository,
+                     SuspiciousCardTransferRepository cardRepository,
+                     SuspiciousPhoneTransferRepository phoneRepository,
+                     MeterRegistry meterRegistry,
+                     @Value("${antifraud.blocklist.fpp:0.01}") double fpp,
+                     @Value("${antifraud.blocklist.min-expected:100000}") int minExpected) {
+        this.accountRepository = accountRepository;
+        this.cardRepository = cardRepository;
+        this.phoneRepository = phoneRepository;
+        this.meterRegistry = meterRegistry;
+        this.fpp = fpp;
+        this.minExpected = minExpected;
+        final Map<TransferType, Filter> empty = new EnumMap<>(TransferType.class);
+        for (TransferType type : TransferType.values()) {
+            empty.put(type, new Filter(List.of(), minExpected, fpp));
+            meterRegistry.gauge("antifraud.blocklist.size", Tags.of("type", type.name()), this,
+                    blocklist -> blocklist.filters.get(type).exact.size());
+        }
+        this.filters = empty;
+    }
+
+    /**
+     * @param type   {@link TransferType}
+     * @param number номер получателя
+     * @return true, если номер заблокирован
+     */
+    public boolean isBlocked(TransferType type, Long number) {
+        if (type == null || number == null) {
+            return false;
+        }
+        final Filter filter = filters.get(type);
+        return filter.bloom.mightContain(number) && filter.exact.contains(number);
+    }
+
+    /**
+     * @param type   {@link TransferType}
+     * @param number номер получателя, null пропускается
+     */
+    public void block(TransferType type, Long number) {
+        if (number != null) {
+            AfterCommit.run(() -> apply(new Change(type, number, true)));
+        }
+    }
+
+    /**
+     * Номер остаётся заблокированным, пока есть другая заблокированная запись с ним.
+     * Вызывается после сохранения записи, в той же транзакции.
+     *
+     * @param type   {@link TransferType}
+     * @param number номер получателя, null пропускается
+     */
+    public void unblock(TransferType type, Long number) {
+        if (number != null && !existsBlocked(type, number)) {
+            AfterCommit.run(() -> apply(new Change(type, number, false)));
+        }
+    }
+
+    /**
+     * Изменение записи: номер до изменения снимается с блокировки, если запись его больше не блокирует.
+     *
+     * @param type           {@link TransferType}
+     * @param previousNumber номер получателя до изменения
+     * @param wasBlocked     блокировала ли запись до изменения
+     * @param number         номер получателя после изменения
+     * @param blocked        блокирует ли запись после изменения
+     */
+    public void replace(TransferType type, Long previousNumber, Boolean wasBlocked, Long number, Boolean blocked) {
+        final boolean nowBlocked = Boolean.TRUE.equals(blocked);
+        if (Boolean.TRUE.equals(wasBlocked) && !(nowBlocked && Objects.equals(previousNumber, number))) {
+            unblock(type, previousNumber);
+        }
+        if (nowBlocked) {
+            block(type, number);
+        }
+    }
+
+    /**
+     * Полная загрузка из БД с заменой фильтров целиком.
+     * Изменения, зафиксированные во время загрузки, досылаются в новые фильтры перед заменой.
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                journal = new ArrayList<>();
+            }
+            final Map<TransferType, Filter> next = new EnumMap<>(TransferType.class);
+            try {
+                for (TransferType type : TransferType.values()) {
+                    next.put(type, new Filter(loadBlocked(type), minExpected, fpp));
+                }
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    journal = null;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                journal.forEach(change -> change.applyTo(next));
+                journal = null;
+                filters = next;
+            }
+            log.info("Список блокировок пересобран: {}", sizes(next));
+        }
+    }
+
+    private synchronized void apply(Change change) {
+        change.applyTo(filters);
+        if (journal != null) {
+            journal.add(change);
+        }
+    }
+
+    private boolean existsBlocked(TransferType type, Long number) {
+        return switch (type) {
+            case ACCOUNT -> accountRepository.existsByRecipientNumberAndIsBlockedTrue(number);
+            case CARD -> cardRepository.existsByRecipientNumberAndIsBlockedTrue(number);
+            case PHONE -> phoneRepository.existsByRecipientNumberAndIsBlockedTrue(number);
+        };
+    }
+
+    private List<Long> loadBlocked(TransferType type) {
+        return switch (type) {
+            case ACCOUNT -> accountRepository.findBlockedRecipientNumbers();
+            case CARD -> cardRepository.findBlockedRecipientNumbers();
+            case PHONE -> phoneRepository.findBlockedRecipientNumbers();
+        };
+    }
+
+    private static Map<TransferType, Integer> sizes(Map<TransferType, Filter> filters) {
+        final Map<TransferType, Integer> sizes = new EnumMap<>(TransferType.class);
+        filters.forEach((type, filter) -> sizes.put(type, filter.exact.size()));
+        return sizes;
+    }
+
+    /**
+     * Фильтр рассчитан на вдвое больше загруженного, чтобы новые блокировки до пересборки не поднимали
+     * долю ложных срабатываний. При переполнении растёт только она, точное множество остаётся точным.
+     */
+    private static final class Filter {
+
+        private final BloomFilter bloom;
+        private final LongHashSet exact;
+
+        private Filter(List<Long> numbers, int minExpected, double fpp) {
+            final int expected = Math.max(minExpected, numbers.size() * 2);
+            this.bloom = new BloomFilter(expected, fpp);
+            this.exact = new LongHashSet(expected);
+            numbers.forEach(this::add);
+        }
+
+        private void add(long number) {
+            bloom.put(number);
+            exact.add(number);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class Change {
+
+        private final TransferType type;
+        private final long number;
+        private final boolean blocked;
+
+        private void applyTo(Map<TransferType, Filter> filters) {
+            final Filter filter = filters.get(type);
+            if (blocked) {
+                filter.add(number);
+            } else {
+                filter.exact.remove(number);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.bank.antifraud.service.blocklist;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Фильтр Блума над long: отвечает "точно нет" или "возможно да".
+ * Добавление и проверка без блокировок, удаление не поддерживается - фильтр пересобирается целиком.
+ * Позиции битов - двойное хеширование от двух половин перемешанного ключа.
+ */
+public final class BloomFilter {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions ожидаемое число ключей
+     * @param fpp                допустимая доля ложных срабатываний, от 0 до 1
+     */
+    public BloomFilter(long expectedInsertions, double fpp) {
+        if (fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("Доля ложных срабатываний фильтра должна быть между 0 и 1: " + fpp);
+        }
+        final long expected = Math.max(1, expectedInsertions);
+        final long bits = (long) Math.ceil(-expected * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        final int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) >>> 6));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expected * Math.log(2)));
+    }
+
+    /**
+     * @param key ключ
+     */
+    public void put(long key) {
+        final long hash = mix(key);
+        long combined = hash;
+        final long step = (hash >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            final long bit = Long.remainderUnsigned(combined, bitCount);
+            final int index = (int) (bit >>> 6);
+            final long mask = 1L << bit;
+            long word = words.get(index);
+            while ((word & mask) == 0 && !words.weakCompareAndSetVolatile(index, word, word | mask)) {
+                word = words.get(index);
+            }
+            combined += step;
+        }
+    }
+
+    /**
+     * @param key ключ
+     * @return false, если ключ точно не добавлялся
+     */
+    public boolean mightContain(long key) {
+        final long hash = mix(key);
+        long combined = hash;
+        final long step = (hash >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            final long bit = Long.remainderUnsigned(combined, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+            combined += step;
+        }
+        return true;
+    }
+
+    /**
+     * @return размер фильтра в битах
+     */
+    public long bitSize() {
+        return bitCount;
+    }
+
+    private static long mix(long key) {
+        long hash = key * GOLDEN_GAMMA;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+}
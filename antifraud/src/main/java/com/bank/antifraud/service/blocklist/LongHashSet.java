@@ -0,0 +1,184 @@
+package com.bank.antifraud.service.blocklist;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Множество long на открытой адресации с линейным пробированием: 8-16 байт на ключ без упаковки в Long.
+ * Чтение оптимистичное через {@link StampedLock} и повторяется под блокировкой, только если совпало с записью.
+ * Ноль - признак пустой ячейки, поэтому сам ноль хранится отдельным флагом.
+ * Удаление сдвигает следующие ключи цепочки назад, без надгробий.
+ */
+public final class LongHashSet {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final StampedLock lock = new StampedLock();
+    private long[] keys;
+    private int size;
+    private boolean containsZero;
+
+    /**
+     * @param expectedSize ожидаемое число ключей
+     */
+    public LongHashSet(int expectedSize) {
+        this.keys = new long[capacityFor(expectedSize)];
+    }
+
+    /**
+     * @param key ключ
+     * @return true, если ключ есть в множестве
+     */
+    public boolean contains(long key) {
+        final long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            final boolean found = find(key);
+            if (lock.validate(stamp)) {
+                return found;
+            }
+        }
+        final long readStamp = lock.readLock();
+        try {
+            return find(key);
+        } finally {
+            lock.unlockRead(readStamp);
+        }
+    }
+
+    /**
+     * @param key ключ
+     * @return true, если ключа не было
+     */
+    public boolean add(long key) {
+        final long stamp = lock.writeLock();
+        try {
+            if (key == 0) {
+                final boolean added = !containsZero;
+                containsZero = true;
+                return added;
+            }
+            final long[] table = keys;
+            int slot = slotOf(key, table);
+            while (table[slot] != 0) {
+                if (table[slot] == key) {
+                    return false;
+                }
+                slot = (slot + 1) & (table.length - 1);
+            }
+            table[slot] = key;
+            size++;
+            if (size * 2 > table.length) {
+                keys = rehash(table);
+            }
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @param key ключ
+     * @return true, если ключ был
+     */
+    public boolean remove(long key) {
+        final long stamp = lock.writeLock();
+        try {
+            if (key == 0) {
+                final boolean removed = containsZero;
+                containsZero = false;
+                return removed;
+            }
+            final long[] table = keys;
+            int slot = slotOf(key, table);
+            while (table[slot] != key) {
+                if (table[slot] == 0) {
+                    return false;
+                }
+                slot = (slot + 1) & (table.length - 1);
+            }
+            shiftBack(table, slot);
+            size--;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @return число ключей
+     */
+    public int size() {
+        final long stamp = lock.readLock();
+        try {
+            return containsZero ? size + 1 : size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Без блокировки: при гонке с записью результат отбрасывается проверкой штампа,
+     * поэтому цикл ограничен длиной таблицы, а не пустой ячейкой.
+     */
+    private boolean find(long key) {
+        if (key == 0) {
+            return containsZero;
+        }
+        final long[] table = keys;
+        final int mask = table.length - 1;
+        int slot = slotOf(key, table);
+        for (int probes = 0; probes < table.length; probes++) {
+            final long current = table[slot];
+            if (current == key) {
+                return true;
+            }
+            if (current == 0) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Освободившуюся ячейку занимает следующий ключ цепочки, если его исходная ячейка не лежит между ними.
+     */
+    private static void shiftBack(long[] table, int removedSlot) {
+        final int mask = table.length - 1;
+        int gap = removedSlot;
+        int slot = (gap + 1) & mask;
+        while (table[slot] != 0) {
+            final int home = slotOf(table[slot], table);
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                table[gap] = table[slot];
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[gap] = 0;
+    }
+
+    private static long[] rehash(long[] table) {
+        final long[] resized = new long[table.length * 2];
+        final int mask = resized.length - 1;
+        for (long key : table) {
+            if (key != 0) {
+                int slot = slotOf(key, resized);
+                while (resized[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                resized[slot] = key;
+            }
+        }
+        return resized;
+    }
+
+    private static int slotOf(long key, long[] table) {
+        final long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & (table.length - 1);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        final long needed = Math.max(MIN_CAPACITY, (long) expectedSize * 2);
+        return (int) Math.min(1 << 30, Long.highestOneBit(needed - 1) << 1);
+    }
+}
@@ -0,0 +1,95 @@
+package com.bank.antifraud.service.impl;
+
+import com.bank.antifraud.dto.ScoringRuleDto;
+import com.bank.antifraud.entity.ScoringRuleEntity;
+import com.bank.antifraud.mappers.ScoringRuleMapper;
+import com.bank.antifraud.repository.ScoringRuleRepository;
+import com.bank.antifraud.service.ScoringRuleService;
+import com.bank.antifraud.service.common.AfterCommit;
+import com.bank.antifraud.service.common.ExceptionReturner;
+import com.bank.antifraud.service.scoring.ScoringRuleReloader;
+import com.bank.common.exception.ValidationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Реализация {@link ScoringRuleService}.
+ * Правило сохраняется, только если выражение компилируется. После фиксации набор правил
+ * перезагружается на этом экземпляре сразу, на остальных - при очередной проверке отпечатка.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScoringRuleServiceImpl implements ScoringRuleService {
+
+    private static final String MESSAGE = "ScoringRule по данному id не существует";
+
+    private final ScoringRuleRepository repository;
+    private final ScoringRuleMapper mapper;
+    private final ScoringRuleReloader reloader;
+    private final ExceptionReturner returner;
+
+    /**
+     * @param id технический идентификатор {@link ScoringRuleEntity}
+     * @return {@link ScoringRuleDto}
+     */
+    @Override
+    public ScoringRuleDto findById(Long id) {
+        return mapper.toDto(repository.findById(id)
+                .orElseThrow(() -> returner.getEntityNotFoundException(MESSAGE)));
+    }
+
+    /**
+     * @return лист {@link ScoringRuleDto}
+     */
+    @Override
+    public List<ScoringRuleDto> findAll() {
+        return mapper.toListDto(repository.findAll());
+    }
+
+    /**
+     * @param rule {@link ScoringRuleDto}
+     * @return {@link ScoringRuleDto}
+     */
+    @Override
+    @Transactional
+    public ScoringRuleDto save(ScoringRuleDto rule) {
+        final ScoringRuleEntity entity = mapper.toEntity(rule);
+        if (entity.getEnabled() == null) {
+            entity.setEnabled(true);
+        }
+        return mapper.toDto(store(entity));
+    }
+
+    /**
+     * @param id   технический идентификатор {@link ScoringRuleEntity}
+     * @param rule {@link ScoringRuleDto}
+     * @return {@link ScoringRuleDto}
+     */
+    @Override
+    @Transactional
+    public ScoringRuleDto update(Long id, ScoringRuleDto rule) {
+        final ScoringRuleEntity entity = repository.findById(id)
+                .orElseThrow(() -> returner.getEntityNotFoundException(MESSAGE));
+
+        return mapper.toDto(store(mapper.mergeToEntity(rule, entity)));
+    }
+
+    private ScoringRuleEntity store(ScoringRuleEntity entity) {
+        if (entity.getName() == null || entity.getName().isBlank() || entity.getEnabled() == null) {
+            throw new ValidationException("Не заданы имя правила или признак действия");
+        }
+        try {
+            reloader.compile(entity);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(e.getMessage());
+        }
+        entity.setUpdatedAt(LocalDateTime.now());
+        final ScoringRuleEntity saved = repository.save(entity);
+        AfterCommit.run(reloader::refresh);
+        return saved;
+    }
+}
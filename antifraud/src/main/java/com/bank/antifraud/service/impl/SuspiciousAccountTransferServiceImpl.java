@@ -2,10 +2,14 @@ package com.bank.antifraud.service.impl;
 
 import com.bank.antifraud.dto.SuspiciousAccountTransferDto;
 import com.bank.antifraud.entity.SuspiciousAccountTransferEntity;
+import com.bank.antifraud.entity.TransferType;
 import com.bank.antifraud.mappers.SuspiciousAccountTransferMapper;
 import com.bank.antifraud.repository.SuspiciousAccountTransferRepository;
 import com.bank.antifraud.service.SuspiciousAccountTransferService;
+import com.bank.antifraud.service.blocklist.Blocklist;
 import com.bank.antifraud.service.common.ExceptionReturner;
+import com.bank.antifraud.service.intake.PendingTransfer;
+import com.bank.antifraud.service.intake.SuspiciousTransferIntake;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +28,8 @@ public class SuspiciousAccountTransferServiceImpl implements SuspiciousAccountTr
     private final SuspiciousAccountTransferRepository repository;
     private final SuspiciousAccountTransferMapper mapper;
     private final ExceptionReturner returner;
+    private final Blocklist blocklist;
+    private final SuspiciousTransferIntake intake;
 
     /**
      * @param accountTransfer {@link SuspiciousAccountTransferDto}
@@ -36,6 +42,9 @@ public class SuspiciousAccountTransferServiceImpl implements SuspiciousAccountTr
         final SuspiciousAccountTransferEntity suspiciousTransfer = repository.save(
                 mapper.toEntity(accountTransfer)
         );
+        if (Boolean.TRUE.equals(suspiciousTransfer.getIsBlocked())) {
+            blocklist.block(TransferType.ACCOUNT, suspiciousTransfer.getRecipientNumber());
+        }
 
         return mapper.toDto(suspiciousTransfer);
     }
@@ -63,10 +72,16 @@ public class SuspiciousAccountTransferServiceImpl implements SuspiciousAccountTr
 
         final SuspiciousAccountTransferEntity suspiciousTransfer = repository.findById(id)
                 .orElseThrow(() -> returner.getEntityNotFoundException(MESSAGE));
+        final Long previousNumber = suspiciousTransfer.getRecipientNumber();
+        final Boolean wasBlocked = suspiciousTransfer.getIsBlocked();
 
-        final SuspiciousAccountTransferEntity transfer = mapper.mergeToEntity(accountTransfer, suspiciousTransfer);
+        final SuspiciousAccountTransferEntity transfer = repository.save(
+                mapper.mergeToEntity(accountTransfer, suspiciousTransfer)
+        );
+        blocklist.replace(TransferType.ACCOUNT, previousNumber, wasBlocked, transfer.getRecipientNumber(),
+                transfer.getIsBlocked());
 
-        return mapper.toDto(repository.save(transfer));
+        return mapper.toDto(transfer);
     }
 
     /**
@@ -83,4 +98,14 @@ public class SuspiciousAccountTransferServiceImpl implements SuspiciousAccountTr
 
         return mapper.toListDto(suspiciousAccountTransfers);
     }
+
+    /**
+     * @param accountTransfer {@link SuspiciousAccountTransferDto}
+     */
+    @Override
+    public void enqueue(SuspiciousAccountTransferDto accountTransfer) {
+        intake.offer(new PendingTransfer(TransferType.ACCOUNT, accountTransfer.getAccountTransferId(),
+                accountTransfer.getIsBlocked(), accountTransfer.getIsSuspicious(), accountTransfer.getBlockedReason(),
+                accountTransfer.getSuspiciousReason(), accountTransfer.getRecipientNumber()));
+    }
 }
@@ -2,10 +2,14 @@ package com.bank.antifraud.service.impl;
 
 import com.bank.antifraud.dto.SuspiciousCardTransferDto;
 import com.bank.antifraud.entity.SuspiciousCardTransferEntity;
+import com.bank.antifraud.entity.TransferType;
 import com.bank.antifraud.mappers.SuspiciousCardTransferMapper;
 import com.bank.antifraud.repository.SuspiciousCardTransferRepository;
 import com.bank.antifraud.service.SuspiciousCardTransferService;
+import com.bank.antifraud.service.blocklist.Blocklist;
 import com.bank.antifraud.service.common.ExceptionReturner;
+import com.bank.antifraud.service.intake.PendingTransfer;
+import com.bank.antifraud.service.intake.SuspiciousTransferIntake;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +28,8 @@ public class SuspiciousCardTransferServiceImpl implements SuspiciousCardTransfer
     private final SuspiciousCardTransferRepository repository;
     private final SuspiciousCardTransferMapper mapper;
     private final ExceptionReturner returner;
+    private final Blocklist blocklist;
+    private final SuspiciousTransferIntake intake;
 
     /**
      * @param cardTransfer {@link SuspiciousCardTransferDto}
@@ -36,6 +42,9 @@ public class SuspiciousCardTransferServiceImpl implements SuspiciousCardTransfer
         final SuspiciousCardTransferEntity suspiciousTransfer = repository.save(
                 mapper.toEntity(cardTransfer)
         );
+        if (Boolean.TRUE.equals(suspiciousTransfer.getIsBlocked())) {
+            blocklist.block(TransferType.CARD, suspiciousTransfer.getRecipientNumber());
+        }
 
         return mapper.toDto(suspiciousTransfer);
     }
@@ -63,10 +72,16 @@ public class SuspiciousCardTransferServiceImpl implements SuspiciousCardTransfer
 
         final SuspiciousCardTransferEntity suspiciousTransfer = repository.findById(id)
                 .orElseThrow(() -> returner.getEntityNotFoundException(MESSAGE));
+        final Long previousNumber = suspiciousTransfer.getRecipientNumber();
+        final Boolean wasBlocked = suspiciousTransfer.getIsBlocked();
 
-        final SuspiciousCardTransferEntity transfer = mapper.mergeToEntity(cardTransfer, suspiciousTransfer);
+        final SuspiciousCardTransferEntity transfer = repository.save(
+                mapper.mergeToEntity(cardTransfer, suspiciousTransfer)
+        );
+        blocklist.replace(TransferType.CARD, previousNumber, wasBlocked, transfer.getRecipientNumber(),
+                transfer.getIsBlocked());
 
-        return mapper.toDto(repository.save(transfer));
+        return mapper.toDto(transfer);
     }
 
     /**
@@ -83,4 +98,14 @@ public class SuspiciousCardTransferServiceImpl implements SuspiciousCardTransfer
 
         return mapper.toListDto(suspiciousCardTransfers);
     }
+
+    /**
+     * @param cardTransfer {@link SuspiciousCardTransferDto}
+     */
+    @Override
+    public void enqueue(SuspiciousCardTransferDto cardTransfer) {
+        intake.offer(new PendingTransfer(TransferType.CARD, cardTransfer.getCardTransferId(),
+                cardTransfer.getIsBlocked(), cardTransfer.getIsSuspicious(), cardTransfer.getBlockedReason(),
+                cardTransfer.getSuspiciousReason(), cardTransfer.getRecipientNumber()));
+    }
 }
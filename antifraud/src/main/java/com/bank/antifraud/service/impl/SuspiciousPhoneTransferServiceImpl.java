@@ -2,10 +2,14 @@ package com.bank.antifraud.service.impl;
 
 import com.bank.antifraud.dto.SuspiciousPhoneTransferDto;
 import com.bank.antifraud.entity.SuspiciousPhoneTransferEntity;
+import com.bank.antifraud.entity.TransferType;
 import com.bank.antifraud.mappers.SuspiciousPhoneTransferMapper;
 import com.bank.antifraud.repository.SuspiciousPhoneTransferRepository;
 import com.bank.antifraud.service.SuspiciousPhoneTransferService;
+import com.bank.antifraud.service.blocklist.Blocklist;
 import com.bank.antifraud.service.common.ExceptionReturner;
+import com.bank.antifraud.service.intake.PendingTransfer;
+import com.bank.antifraud.service.intake.SuspiciousTransferIntake;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +28,8 @@ public class SuspiciousPhoneTransferServiceImpl implements SuspiciousPhoneTransf
     private final SuspiciousPhoneTransferRepository repository;
     private final SuspiciousPhoneTransferMapper mapper;
     private final ExceptionReturner returner;
+    private final Blocklist blocklist;
+    private final SuspiciousTransferIntake intake;
 
     /**
      * @param phoneTransfer {@link SuspiciousPhoneTransferDto}
@@ -36,6 +42,9 @@ public class SuspiciousPhoneTransferServiceImpl implements SuspiciousPhoneTransf
         final SuspiciousPhoneTransferEntity suspiciousTransfer = repository.save(
                 mapper.toEntity(phoneTransfer)
         );
+        if (Boolean.TRUE.equals(suspiciousTransfer.getIsBlocked())) {
+            blocklist.block(TransferType.PHONE, suspiciousTransfer.getRecipientNumber());
+        }
 
         return mapper.toDto(suspiciousTransfer);
     }
@@ -64,10 +73,16 @@ public class SuspiciousPhoneTransferServiceImpl implements SuspiciousPhoneTransf
 
         final SuspiciousPhoneTransferEntity suspiciousTransfer = repository.findById(id)
                 .orElseThrow(() -> returner.getEntityNotFoundException(MESSAGE));
+        final Long previousNumber = suspiciousTransfer.getRecipientNumber();
+        final Boolean wasBlocked = suspiciousTransfer.getIsBlocked();
 
-        final SuspiciousPhoneTransferEntity transfer = mapper.mergeToEntity(phoneTransfer, suspiciousTransfer);
+        final SuspiciousPhoneTransferEntity transfer = repository.save(
+                mapper.mergeToEntity(phoneTransfer, suspiciousTransfer)
+        );
+        blocklist.replace(TransferType.PHONE, previousNumber, wasBlocked, transfer.getRecipientNumber(),
+                transfer.getIsBlocked());
 
-        return mapper.toDto(repository.save(transfer));
+        return mapper.toDto(transfer);
     }
 
     /**
@@ -84,4 +99,14 @@ public class SuspiciousPhoneTransferServiceImpl implements SuspiciousPhoneTransf
 
         return mapper.toListDto(suspiciousPhoneTransfers);
     }
+
+    /**
+     * @param phoneTransfer {@link SuspiciousPhoneTransferDto}
+     */
+    @Override
+    public void enqueue(SuspiciousPhoneTransferDto phoneTransfer) {
+        intake.offer(new PendingTransfer(TransferType.PHONE, phoneTransfer.getPhoneTransferId(),
+                phoneTransfer.getIsBlocked(), phoneTransfer.getIsSuspicious(), phoneTransfer.getBlockedReason(),
+                phoneTransfer.getSuspiciousReason(), phoneTransfer.getRecipientNumber()));
+    }
 }
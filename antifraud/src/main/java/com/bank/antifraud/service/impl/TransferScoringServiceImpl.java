@@ -0,0 +1,132 @@
+package com.bank.antifraud.service.impl;
+
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.dto.TransferVerdictDto;
+import com.bank.antifraud.entity.SuspiciousAccountTransferEntity;
+import com.bank.antifraud.entity.SuspiciousCardTransferEntity;
+import com.bank.antifraud.entity.SuspiciousPhoneTransferEntity;
+import com.bank.antifraud.entity.TransferType;
+import com.bank.antifraud.repository.SuspiciousAccountTransferRepository;
+import com.bank.antifraud.repository.SuspiciousCardTransferRepository;
+import com.bank.antifraud.repository.SuspiciousPhoneTransferRepository;
+import com.bank.antifraud.service.TransferScoringService;
+import com.bank.antifraud.service.blocklist.Blocklist;
+import com.bank.antifraud.service.scoring.ScoringEngine;
+import com.bank.antifraud.service.scoring.ScoringVerdict;
+import com.bank.antifraud.service.velocity.VelocityRegistry;
+import com.bank.common.exception.ValidationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Реализация {@link TransferScoringService}.
+ * Чистый перевод проверяется только в памяти, к БД обращается лишь запись подозрительного.
+ * Перевод учитывается в скоростных счётчиках до проверки, поэтому скоростные правила видят и его.
+ * Повторная проверка того же перевода счётчики не увеличивает, это отсекает {@link VelocityRegistry}.
+ */
+@Service
+public class TransferScoringServiceImpl implements TransferScoringService {
+
+    private static final String REQUIRED_FIELDS = "Не заданы вид или id перевода";
+
+    /**
+     * Время решения по переводу с учётом в скоростных счётчиках, без записи вердикта.
+     */
+    private static final String SCORING_METRIC = "antifraud.scoring";
+
+    private final ScoringEngine engine;
+    private final VelocityRegistry velocity;
+    private final Blocklist blocklist;
+    private final SuspiciousAccountTransferRepository accountRepository;
+    private final SuspiciousCardTransferRepository cardRepository;
+    private final SuspiciousPhoneTransferRepository phoneRepository;
+    private final Timer scoringTimer;
+
+    public TransferScoringServiceImpl(ScoringEngine engine,
+                                      VelocityRegistry velocity,
+                                      Blocklist blocklist,
+                                      SuspiciousAccountTransferRepository accountRepository,
+                                      SuspiciousCardTransferRepository cardRepository,
+                                      SuspiciousPhoneTransferRepository phoneRepository,
+                                      MeterRegistry meterRegistry) {
+        this.engine = engine;
+        this.velocity = velocity;
+        this.blocklist = blocklist;
+        this.accountRepository = accountRepository;
+        this.cardRepository = cardRepository;
+        this.phoneRepository = phoneRepository;
+        this.scoringTimer = Timer.builder(SCORING_METRIC)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Параллельная проверка одного перевода упирается в уникальный индекс по id перевода.
+     *
+     * @param transfer {@link TransferScoringDto}
+     * @return {@link TransferVerdictDto}
+     */
+    @Override
+    public TransferVerdictDto score(TransferScoringDto transfer) {
+        if (transfer.getTransferType() == null || transfer.getTransferId() == null) {
+            throw new ValidationException(REQUIRED_FIELDS);
+        }
+        final long start = System.nanoTime();
+        velocity.record(transfer, System.currentTimeMillis());
+        final ScoringVerdict verdict = engine.evaluate(transfer);
+        scoringTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        final TransferType type = transfer.getTransferType();
+        final Long transferId = transfer.getTransferId();
+        if (!verdict.isSuspicious()) {
+            return new TransferVerdictDto(type, transferId, null, false, false, null, null);
+        }
+        return switch (type) {
+            case ACCOUNT -> saveAccount(transfer, verdict);
+            case CARD -> saveCard(transfer, verdict);
+            case PHONE -> savePhone(transfer, verdict);
+        };
+    }
+
+    private TransferVerdictDto saveAccount(TransferScoringDto transfer, ScoringVerdict verdict) {
+        final Long transferId = transfer.getTransferId();
+        final SuspiciousAccountTransferEntity saved = accountRepository.findByAccountTransferId(transferId)
+                .orElseGet(() -> accountRepository.save(new SuspiciousAccountTransferEntity(null, transferId,
+                        verdict.isBlocked(), true, verdict.getBlockedReason(), verdict.getSuspiciousReason(),
+                        transfer.getRecipientNumber())));
+        if (Boolean.TRUE.equals(saved.getIsBlocked())) {
+            blocklist.block(TransferType.ACCOUNT, saved.getRecipientNumber());
+        }
+        return new TransferVerdictDto(TransferType.ACCOUNT, transferId, saved.getId(), saved.getIsBlocked(),
+                saved.getIsSuspicious(), saved.getBlockedReason(), saved.getSuspiciousReason());
+    }
+
+    private TransferVerdictDto saveCard(TransferScoringDto transfer, ScoringVerdict verdict) {
+        final Long transferId = transfer.getTransferId();
+        final SuspiciousCardTransferEntity saved = cardRepository.findByCardTransferId(transferId)
+                .orElseGet(() -> cardRepository.save(new SuspiciousCardTransferEntity(null, transferId,
+                        verdict.isBlocked(), true, verdict.getBlockedReason(), verdict.getSuspiciousReason(),
+                        transfer.getRecipientNumber())));
+        if (Boolean.TRUE.equals(saved.getIsBlocked())) {
+            blocklist.block(TransferType.CARD, saved.getRecipientNumber());
+        }
+        return new TransferVerdictDto(TransferType.CARD, transferId, saved.getId(), saved.getIsBlocked(),
+                saved.getIsSuspicious(), saved.getBlockedReason(), saved.getSuspiciousReason());
+    }
+
+    private TransferVerdictDto savePhone(TransferScoringDto transfer, ScoringVerdict verdict) {
+        final Long transferId = transfer.getTransferId();
+        final SuspiciousPhoneTransferEntity saved = phoneRepository.findByPhoneTransferId(transferId)
+                .orElseGet(() -> phoneRepository.save(new SuspiciousPhoneTransferEntity(null, transferId,
+                        verdict.isBlocked(), true, verdict.getBlockedReason(), verdict.getSuspiciousReason(),
+                        transfer.getRecipientNumber())));
+        if (Boolean.TRUE.equals(saved.getIsBlocked())) {
+            blocklist.block(TransferType.PHONE, saved.getRecipientNumber());
+        }
+        return new TransferVerdictDto(TransferType.PHONE, transferId, saved.getId(), saved.getIsBlocked(),
+                saved.getIsSuspicious(), saved.getBlockedReason(), saved.getSuspiciousReason());
+    }
+}
@@ -0,0 +1,21 @@
+package com.bank.antifraud.service.intake;
+
+import com.bank.antifraud.entity.TransferType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Подозрительный перевод, принятый в очередь записи.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class PendingTransfer {
+
+    private final TransferType transferType;
+    private final Long transferId;
+    private final Boolean isBlocked;
+    private final Boolean isSuspicious;
+    private final String blockedReason;
+    private final String suspiciousReason;
+    private final Long recipientNumber;
+}
@@ -0,0 +1,131 @@
+package com.bank.antifraud.service.intake;
+
+import com.bank.common.exception.TooManyRequestsException;
+import com.bank.common.exception.ValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ограниченная очередь асинхронной записи подозрительных переводов.
+ * Запрос только ставит перевод в очередь, пакетами её разбирает {@link SuspiciousTransferBatchWriter}.
+ * При переполнении запрос ждёт не дольше offer-timeout и получает 429, память не растёт.
+ * Перевод без полей, обязательных в таблицах, отклоняется сразу с 422 и в очередь не попадает.
+ * Пакет, не записанный из-за ошибки БД, повторяется через retry-delay, а очередь тем временем
+ * заполняется и отсекает новые запросы.
+ */
+@Component
+public class SuspiciousTransferIntake {
+
+    private static final String QUEUE_FULL_MESSAGE = "Очередь записи подозрительных переводов переполнена, " +
+            "повторите позже";
+    private static final String TRANSFER_ID_MESSAGE = "Не задан id перевода";
+    private static final String REQUIRED_FIELDS_MESSAGE = "Не заданы вид перевода, isBlocked, isSuspicious " +
+            "или suspiciousReason";
+
+    private final SuspiciousTransferBatchWriter writer;
+    private final BlockingQueue<PendingTransfer> queue;
+    private final List<PendingTransfer> batch = new ArrayList<>();
+    private final int batchSize;
+    private final long offerTimeoutMillis;
+    private final long retryDelayMillis;
+    private final Counter rejectedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Counter droppedCounter;
+    private long retryAtMillis;
+
+    public SuspiciousTransferIntake(SuspiciousTransferBatchWriter writer,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${antifraud.intake.capacity:10000}") int capacity,
+                                    @Value("${antifraud.intake.batch-size:500}") int batchSize,
+                                    @Value("${antifraud.intake.offer-timeout:0}") long offerTimeoutMillis,
+                                    @Value("${antifraud.intake.retry-delay:1000}") long retryDelayMillis) {
+        this.writer = writer;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.retryDelayMillis = retryDelayMillis;
+        this.rejectedCounter = meterRegistry.counter("antifraud.intake.rejected");
+        this.writtenCounter = meterRegistry.counter("antifraud.intake.written");
+        this.failedCounter = meterRegistry.counter("antifraud.intake.failed");
+        this.droppedCounter = meterRegistry.counter("antifraud.intake.dropped");
+        Gauge.builder("antifraud.intake.queue", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param transfer {@link PendingTransfer}
+     * @throws ValidationException      если не задано поле, обязательное в таблице
+     * @throws TooManyRequestsException если очередь не освободилась за offer-timeout
+     */
+    public void offer(PendingTransfer transfer) {
+        if (transfer.getTransferId() == null) {
+            throw new ValidationException(TRANSFER_ID_MESSAGE);
+        }
+        if (transfer.getTransferType() == null || transfer.getIsBlocked() == null ||
+                transfer.getIsSuspicious() == null || transfer.getSuspiciousReason() == null) {
+            throw new ValidationException(REQUIRED_FIELDS_MESSAGE);
+        }
+        if (!enqueue(transfer)) {
+            rejectedCounter.increment();
+            throw new TooManyRequestsException(QUEUE_FULL_MESSAGE);
+        }
+    }
+
+    /**
+     * Пишет очередь пакетами, пока она не опустеет. Переводы, отброшенные писателем, не считаются записанными.
+     * Ошибка записи пробрасывается, пакет сохраняется для повтора не раньше retry-delay.
+     *
+     * @param nowMillis текущее время
+     * @return число записанных переводов
+     */
+    public synchronized int flush(long nowMillis) {
+        if (!batch.isEmpty() && nowMillis < retryAtMillis) {
+            return 0;
+        }
+        int written = 0;
+        while (!batch.isEmpty() || queue.drainTo(batch, batchSize) > 0) {
+            final int dropped;
+            try {
+                dropped = writer.write(batch);
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                retryAtMillis = nowMillis + retryDelayMillis;
+                throw e;
+            }
+            written += batch.size() - dropped;
+            writtenCounter.increment(batch.size() - dropped);
+            droppedCounter.increment(dropped);
+            batch.clear();
+        }
+        return written;
+    }
+
+    /**
+     * @return число принятых, но ещё не записанных переводов
+     */
+    public synchronized int pending() {
+        return queue.size() + batch.size();
+    }
+
+    private boolean enqueue(PendingTransfer transfer) {
+        if (offerTimeoutMillis <= 0) {
+            return queue.offer(transfer);
+        }
+        try {
+            return queue.offer(transfer, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
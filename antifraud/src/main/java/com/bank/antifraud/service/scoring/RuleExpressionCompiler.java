@@ -0,0 +1,518 @@
+package com.bank.antifraud.service.scoring;
+
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.service.blocklist.Blocklist;
+import com.bank.antifraud.service.blocklist.LongHashSet;
+import com.bank.antifraud.service.velocity.VelocityDimension;
+import com.bank.antifraud.service.velocity.VelocityRegistry;
+import com.bank.antifraud.service.velocity.VelocityWindow;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Компилятор выражений правил в дерево готовых вычислителей над переводом.
+ * Разбор выполняется один раз при загрузке правила, проверка перевода - только вызовы узлов дерева,
+ * без разбора строк и рефлексии.
+ * <pre>
+ * выражение := и ("or" и)*
+ * и         := не ("and" не)*
+ * не        := "not" не | сравнение
+ * сравнение := операнд (оператор операнд | "in" "(" целое ("," целое)* ")")?
+ * оператор  := "&gt;" | "&gt;=" | "&lt;" | "&lt;=" | "==" | "!="
+ * операнд   := число | "true" | "false" | поле | функция | "(" выражение ")"
+ * </pre>
+ * Поля: amount, recipient, account. Функции: count(ИЗМЕРЕНИЕ, ОКНО), sum(ИЗМЕРЕНИЕ, ОКНО), blocked().
+ * Сравнение с пустым полем или ключом скоростного счётчика ложно.
+ */
+@RequiredArgsConstructor
+public final class RuleExpressionCompiler {
+
+    /**
+     * Глубина вложенности скобок и "not", защищает разбор от переполнения стека.
+     */
+    private static final int MAX_DEPTH = 32;
+
+    private static final String END = "<конец>";
+
+    private static final String OPEN = "(";
+
+    private static final String CLOSE = ")";
+
+    private static final String AND = "and";
+
+    private static final String OR = "or";
+
+    private static final String DEPTH_EXCEEDED = "слишком глубокая вложенность";
+
+    private final VelocityRegistry velocity;
+    private final Blocklist blocklist;
+
+    /**
+     * @param expression текст выражения
+     * @return условие над переводом
+     * @throws IllegalArgumentException с позицией ошибки, если выражение не разбирается
+     */
+    public Predicate<TransferScoringDto> compile(String expression) {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("Выражение правила пустое");
+        }
+        final Parser parser = new Parser(tokenize(expression));
+        final Token start = parser.current();
+        final Node result = parser.expression(0);
+        parser.expectEnd();
+        return result.condition(start);
+    }
+
+    private static List<Token> tokenize(String expression) {
+        final List<Token> tokens = new ArrayList<>();
+        int position = 0;
+        while (position < expression.length()) {
+            final char symbol = expression.charAt(position);
+            final int start = position;
+            if (Character.isWhitespace(symbol)) {
+                position++;
+                continue;
+            }
+            if (Character.isDigit(symbol)) {
+                while (position < expression.length() &&
+                        (Character.isDigit(expression.charAt(position)) || expression.charAt(position) == '.')) {
+                    position++;
+                }
+                tokens.add(new Token(TokenType.NUMBER, expression.substring(start, position), start));
+            } else if (Character.isLetter(symbol) || symbol == '_') {
+                while (position < expression.length() && (Character.isLetterOrDigit(expression.charAt(position)) ||
+                        expression.charAt(position) == '_')) {
+                    position++;
+                }
+                tokens.add(new Token(TokenType.WORD, expression.substring(start, position), start));
+            } else {
+                position += operatorLength(expression, position);
+                tokens.add(new Token(TokenType.SYMBOL, expression.substring(start, position), start));
+            }
+        }
+        tokens.add(new Token(TokenType.END, END, expression.length()));
+        return tokens;
+    }
+
+    private static int operatorLength(String expression, int position) {
+        final boolean pair = position + 1 < expression.length() && expression.charAt(position + 1) == '=';
+        return switch (expression.charAt(position)) {
+            case '>', '<' -> pair ? 2 : 1;
+            case '=', '!' -> {
+                if (!pair) {
+                    throw error(position, "ожидался оператор == или !=");
+                }
+                yield 2;
+            }
+            case '(', ')', ',' -> 1;
+            default -> throw error(position, "недопустимый символ " +
+                    quoted(expression.substring(position, position + 1)));
+        };
+    }
+
+    private static IllegalArgumentException error(int position, String message) {
+        return new IllegalArgumentException("Ошибка в выражении правила, позиция " + (position + 1) + ": " + message);
+    }
+
+    private static String quoted(String text) {
+        return "'" + text + "'";
+    }
+
+    private enum TokenType {
+        NUMBER, WORD, SYMBOL, END
+    }
+
+    /**
+     * Вид значения узла: условие, целое или десятичное.
+     */
+    private enum Kind {
+        CONDITION, INTEGER, DECIMAL
+    }
+
+    private enum Comparison {
+        GT(">") {
+            @Override
+            boolean matches(int compared) {
+                return compared > 0;
+            }
+        },
+        GE(">=") {
+            @Override
+            boolean matches(int compared) {
+                return compared >= 0;
+            }
+        },
+        LT("<") {
+            @Override
+            boolean matches(int compared) {
+                return compared < 0;
+            }
+        },
+        LE("<=") {
+            @Override
+            boolean matches(int compared) {
+                return compared <= 0;
+            }
+        },
+        EQ("==") {
+            @Override
+            boolean matches(int compared) {
+                return compared == 0;
+            }
+        },
+        NE("!=") {
+            @Override
+            boolean matches(int compared) {
+                return compared != 0;
+            }
+        };
+
+        private final String symbol;
+
+        Comparison(String symbol) {
+            this.symbol = symbol;
+        }
+
+        abstract boolean matches(int compared);
+
+        private static Comparison of(String symbol) {
+            for (Comparison comparison : values()) {
+                if (comparison.symbol.equals(symbol)) {
+                    return comparison;
+                }
+            }
+            return null;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class Token {
+
+        private final TokenType type;
+        private final String text;
+        private final int position;
+
+        private boolean is(String expected) {
+            return type != TokenType.NUMBER && text.equals(expected);
+        }
+    }
+
+    /**
+     * Узел дерева: ровно одно из значений заполнено по виду.
+     */
+    @RequiredArgsConstructor
+    private static final class Node {
+
+        private final Kind kind;
+        private final Predicate<TransferScoringDto> condition;
+        private final Function<TransferScoringDto, Long> integer;
+        private final Function<TransferScoringDto, BigDecimal> decimal;
+
+        private static Node condition(Predicate<TransferScoringDto> condition) {
+            return new Node(Kind.CONDITION, condition, null, null);
+        }
+
+        private static Node integer(Function<TransferScoringDto, Long> integer) {
+            return new Node(Kind.INTEGER, null, integer, null);
+        }
+
+        private static Node decimal(Function<TransferScoringDto, BigDecimal> decimal) {
+            return new Node(Kind.DECIMAL, null, null, decimal);
+        }
+
+        private Predicate<TransferScoringDto> condition(Token at) {
+            if (kind != Kind.CONDITION) {
+                throw error(at.position, "ожидалось условие, а не число");
+            }
+            return condition;
+        }
+
+        private Function<TransferScoringDto, BigDecimal> asDecimal() {
+            if (kind == Kind.DECIMAL) {
+                return decimal;
+            }
+            final Function<TransferScoringDto, Long> source = integer;
+            return transfer -> {
+                final Long value = source.apply(transfer);
+                return value == null ? null : BigDecimal.valueOf(value);
+            };
+        }
+    }
+
+    /**
+     * Рекурсивный спуск по грамматике из описания класса.
+     */
+    private final class Parser {
+
+        private final List<Token> tokens;
+        private int index;
+
+        private Parser(List<Token> tokens) {
+            this.tokens = tokens;
+        }
+
+        private Token current() {
+            return tokens.get(index);
+        }
+
+        private Token next() {
+            return tokens.get(index++);
+        }
+
+        private void expect(String expected) {
+            if (!current().is(expected)) {
+                throw error(current().position, "ожидалось " + quoted(expected) + ", найдено " +
+                        quoted(current().text));
+            }
+            index++;
+        }
+
+        private void expectEnd() {
+            if (current().type != TokenType.END) {
+                throw error(current().position, "лишний фрагмент " + quoted(current().text));
+            }
+        }
+
+        private Node expression(int depth) {
+            final Token at = current();
+            final Node first = and(depth);
+            if (!current().is(OR)) {
+                return first;
+            }
+            final List<Predicate<TransferScoringDto>> parts = new ArrayList<>();
+            parts.add(first.condition(at));
+            while (current().is(OR)) {
+                index++;
+                final Token operand = current();
+                parts.add(and(depth).condition(operand));
+            }
+            @SuppressWarnings("unchecked")
+            final Predicate<TransferScoringDto>[] any = parts.toArray(new Predicate[0]);
+            return Node.condition(transfer -> {
+                for (Predicate<TransferScoringDto> part : any) {
+                    if (part.test(transfer)) {
+                        return true;
+                    }
+                }
+                return false;
+            });
+        }
+
+        /**
+         * Цепочка "and" сворачивается в массив, а не во вложенные {@link Predicate#and}.
+         */
+        private Node and(int depth) {
+            final Token at = current();
+            final Node first = not(depth);
+            if (!current().is(AND)) {
+                return first;
+            }
+            final List<Predicate<TransferScoringDto>> parts = new ArrayList<>();
+            parts.add(first.condition(at));
+            while (current().is(AND)) {
+                index++;
+                final Token operand = current();
+                parts.add(not(depth).condition(operand));
+            }
+            return and(parts);
+        }
+
+        private Node and(List<Predicate<TransferScoringDto>> parts) {
+            @SuppressWarnings("unchecked")
+            final Predicate<TransferScoringDto>[] all = parts.toArray(new Predicate[0]);
+            return Node.condition(transfer -> {
+                for (Predicate<TransferScoringDto> part : all) {
+                    if (!part.test(transfer)) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+        }
+
+        private Node not(int depth) {
+            if (!current().is("not")) {
+                return comparison(depth);
+            }
+            final Token at = next();
+            if (depth >= MAX_DEPTH) {
+                throw error(at.position, DEPTH_EXCEEDED);
+            }
+            final Token operand = current();
+            return Node.condition(not(depth + 1).condition(operand).negate());
+        }
+
+        private Node comparison(int depth) {
+            final Token leftAt = current();
+            final Node left = operand(depth);
+            if (current().is("in")) {
+                index++;
+                return in(leftAt, left);
+            }
+            final Comparison comparison = current().type == TokenType.SYMBOL ? Comparison.of(current().text) : null;
+            if (comparison == null) {
+                return left;
+            }
+            final Token at = next();
+            final Node right = operand(depth);
+            return compare(at, left, comparison, right);
+        }
+
+        private Node in(Token at, Node left) {
+            if (left.kind != Kind.INTEGER) {
+                throw error(at.position, "in применяется только к целым полям");
+            }
+            expect(OPEN);
+            final LongHashSet values = new LongHashSet(4);
+            values.add(listValue(next()));
+            while (current().is(",")) {
+                index++;
+                values.add(listValue(next()));
+            }
+            expect(CLOSE);
+            final Function<TransferScoringDto, Long> field = left.integer;
+            return Node.condition(transfer -> {
+                final Long value = field.apply(transfer);
+                return value != null && values.contains(value);
+            });
+        }
+
+        private Node compare(Token at, Node left, Comparison comparison, Node right) {
+            if (left.kind == Kind.CONDITION || right.kind == Kind.CONDITION) {
+                return compareConditions(at, left, comparison, right);
+            }
+            if (left.kind == Kind.INTEGER && right.kind == Kind.INTEGER) {
+                final Function<TransferScoringDto, Long> first = left.integer;
+                final Function<TransferScoringDto, Long> second = right.integer;
+                return Node.condition(transfer -> {
+                    final Long a = first.apply(transfer);
+                    final Long b = a == null ? null : second.apply(transfer);
+                    return b != null && comparison.matches(Long.compare(a, b));
+                });
+            }
+            final Function<TransferScoringDto, BigDecimal> first = left.asDecimal();
+            final Function<TransferScoringDto, BigDecimal> second = right.asDecimal();
+            return Node.condition(transfer -> {
+                final BigDecimal a = first.apply(transfer);
+                final BigDecimal b = a == null ? null : second.apply(transfer);
+                return b != null && comparison.matches(a.compareTo(b));
+            });
+        }
+
+        private Node compareConditions(Token at, Node left, Comparison comparison, Node right) {
+            if (left.kind != right.kind || (comparison != Comparison.EQ && comparison != Comparison.NE)) {
+                throw error(at.position, "условия сравниваются только через == и != с условиями");
+            }
+            final Predicate<TransferScoringDto> first = left.condition;
+            final Predicate<TransferScoringDto> second = right.condition;
+            final boolean equal = comparison == Comparison.EQ;
+            return Node.condition(transfer -> (first.test(transfer) == second.test(transfer)) == equal);
+        }
+
+        private Node operand(int depth) {
+            final Token token = next();
+            if (token.type == TokenType.NUMBER) {
+                return number(token);
+            }
+            if (token.is(OPEN)) {
+                if (depth >= MAX_DEPTH) {
+                    throw error(token.position, DEPTH_EXCEEDED);
+                }
+                final Node nested = expression(depth + 1);
+                expect(CLOSE);
+                return nested;
+            }
+            if (token.type != TokenType.WORD) {
+                throw error(token.position, "ожидался операнд, найдено " + quoted(token.text));
+            }
+            return current().is(OPEN) ? function(token) : word(token);
+        }
+
+        private Node number(Token token) {
+            if (token.text.indexOf('.') < 0) {
+                final Long value = parseLong(token);
+                return Node.integer(transfer -> value);
+            }
+            try {
+                final BigDecimal value = new BigDecimal(token.text);
+                return Node.decimal(transfer -> value);
+            } catch (NumberFormatException e) {
+                throw error(token.position, "неверное число " + quoted(token.text));
+            }
+        }
+
+        private Node word(Token token) {
+            return switch (token.text) {
+                case "true" -> Node.condition(transfer -> true);
+                case "false" -> Node.condition(transfer -> false);
+                case "amount" -> Node.decimal(TransferScoringDto::getAmount);
+                case "recipient" -> Node.integer(TransferScoringDto::getRecipientNumber);
+                case "account" -> Node.integer(TransferScoringDto::getAccountDetailsId);
+                default -> throw error(token.position, "неизвестное поле " + quoted(token.text));
+            };
+        }
+
+        private Node function(Token name) {
+            expect(OPEN);
+            final Node result = switch (name.text) {
+                case "blocked" -> Node.condition(transfer ->
+                        blocklist.isBlocked(transfer.getTransferType(), transfer.getRecipientNumber()));
+                case "count" -> count(velocityArgument(VelocityDimension.class), velocityWindow());
+                case "sum" -> sum(velocityArgument(VelocityDimension.class), velocityWindow());
+                default -> throw error(name.position, "неизвестная функция " + quoted(name.text));
+            };
+            expect(CLOSE);
+            return result;
+        }
+
+        private VelocityWindow velocityWindow() {
+            expect(",");
+            return velocityArgument(VelocityWindow.class);
+        }
+
+        private <E extends Enum<E>> E velocityArgument(Class<E> type) {
+            final Token token = next();
+            try {
+                return Enum.valueOf(type, token.text.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw error(token.position, "неизвестное значение " + quoted(token.text) + " для " +
+                        type.getSimpleName());
+            }
+        }
+
+        private Node count(VelocityDimension dimension, VelocityWindow window) {
+            return Node.integer(transfer -> {
+                final Long key = dimension.keyOf(transfer);
+                return key == null ? null : velocity.count(dimension, key, window, System.currentTimeMillis());
+            });
+        }
+
+        private Node sum(VelocityDimension dimension, VelocityWindow window) {
+            return Node.decimal(transfer -> {
+                final Long key = dimension.keyOf(transfer);
+                return key == null ? null : velocity.sum(dimension, key, window, System.currentTimeMillis());
+            });
+        }
+
+        private long listValue(Token token) {
+            if (token.type != TokenType.NUMBER || token.text.indexOf('.') >= 0) {
+                throw error(token.position, "в списке in ожидалось целое число");
+            }
+            return parseLong(token);
+        }
+
+        private Long parseLong(Token token) {
+            try {
+                return Long.valueOf(token.text);
+            } catch (NumberFormatException e) {
+                throw error(token.position, "неверное целое число " + quoted(token.text));
+            }
+        }
+    }
+}
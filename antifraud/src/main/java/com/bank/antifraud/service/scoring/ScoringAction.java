@@ -0,0 +1,17 @@
+package com.bank.antifraud.service.scoring;
+
+/**
+ * Действие сработавшего правила.
+ */
+public enum ScoringAction {
+
+    /**
+     * Перевод подозрительный.
+     */
+    SUSPECT,
+
+    /**
+     * Перевод блокируется, блокировка также делает его подозрительным.
+     */
+    BLOCK
+}
@@ -0,0 +1,87 @@
+package com.bank.antifraud.service.scoring;
+
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.entity.TransferType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Проверка перевода правилами в памяти, без обращений к БД и блокировок.
+ * Правила заранее разложены по видам переводов, поэтому проверка проходит только применимые правила.
+ * Набор правил заменяется целиком одной записью ссылки: проверка, начатая до замены,
+ * доходит по прежнему набору, следующая видит новый, ожидания и блокировок нет.
+ */
+public class ScoringEngine {
+
+    private static final String REASON_SEPARATOR = "; ";
+
+    private final List<ScoringRule> configured;
+    private volatile ScoringRule[][] rulesByType;
+    private volatile int ruleCount;
+
+    /**
+     * @param rules лист {@link ScoringRule} из настроек в порядке причин в вердикте
+     */
+    public ScoringEngine(List<ScoringRule> rules) {
+        configured = List.copyOf(rules);
+        replace(List.of());
+    }
+
+    /**
+     * Правила из настроек остаются в начале набора, загруженные заменяются целиком.
+     *
+     * @param loaded лист {@link ScoringRule}, загруженных из БД
+     */
+    public void replace(List<ScoringRule> loaded) {
+        final List<ScoringRule> rules = new ArrayList<>(configured);
+        rules.addAll(loaded);
+        rulesByType = byType(rules);
+        ruleCount = rules.size();
+    }
+
+    /**
+     * @return число правил в наборе
+     */
+    public int ruleCount() {
+        return ruleCount;
+    }
+
+    /**
+     * @param transfer {@link TransferScoringDto} с заполненным transferType
+     * @return {@link ScoringVerdict}
+     */
+    public ScoringVerdict evaluate(TransferScoringDto transfer) {
+        StringBuilder blocked = null;
+        StringBuilder suspicious = null;
+        for (ScoringRule rule : rulesByType[transfer.getTransferType().ordinal()]) {
+            if (rule.test(transfer)) {
+                suspicious = append(suspicious, rule.getReason());
+                blocked = rule.getAction() == ScoringAction.BLOCK ? append(blocked, rule.getReason()) : blocked;
+            }
+        }
+        if (suspicious == null) {
+            return ScoringVerdict.CLEAN;
+        }
+        return new ScoringVerdict(blocked != null, true, blocked == null ? null : blocked.toString(),
+                suspicious.toString());
+    }
+
+    private static ScoringRule[][] byType(List<ScoringRule> rules) {
+        final ScoringRule[][] result = new ScoringRule[TransferType.values().length][];
+        for (TransferType type : TransferType.values()) {
+            final List<ScoringRule> applicable = new ArrayList<>();
+            for (ScoringRule rule : rules) {
+                if (rule.getTransferTypes().contains(type)) {
+                    applicable.add(rule);
+                }
+            }
+            result[type.ordinal()] = applicable.toArray(new ScoringRule[0]);
+        }
+        return result;
+    }
+
+    private static StringBuilder append(StringBuilder reasons, String reason) {
+        return reasons == null ? new StringBuilder(reason) : reasons.append(REASON_SEPARATOR).append(reason);
+    }
+}
@@ -0,0 +1,105 @@
+package com.bank.antifraud.service.scoring;
+
+import com.bank.antifraud.config.ScoringProperties;
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.entity.TransferType;
+import com.bank.antifraud.service.blocklist.Blocklist;
+import com.bank.antifraud.service.velocity.VelocityDimension;
+import com.bank.antifraud.service.velocity.VelocityRegistry;
+import com.bank.antifraud.service.velocity.VelocityWindow;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Правило проверки, собранное из настроек в одно условие над переводом.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class ScoringRule {
+
+    private final String name;
+    private final String reason;
+    private final ScoringAction action;
+    private final Set<TransferType> transferTypes;
+    @Getter(AccessLevel.NONE)
+    private final Predicate<TransferScoringDto> condition;
+
+    /**
+     * @param rule      {@link ScoringProperties.Rule}
+     * @param velocity  {@link VelocityRegistry} для скоростных условий
+     * @param blocklist {@link Blocklist} для условия blocklisted
+     * @return {@link ScoringRule}
+     */
+    public static ScoringRule of(ScoringProperties.Rule rule, VelocityRegistry velocity, Blocklist blocklist) {
+        final List<Predicate<TransferScoringDto>> conditions = new ArrayList<>();
+        if (rule.getAmountAbove() != null) {
+            final BigDecimal threshold = rule.getAmountAbove();
+            conditions.add(transfer -> transfer.getAmount() != null && transfer.getAmount().compareTo(threshold) > 0);
+        }
+        if (!rule.getRecipients().isEmpty()) {
+            final Set<Long> recipients = Set.copyOf(rule.getRecipients());
+            conditions.add(transfer -> transfer.getRecipientNumber() != null &&
+                    recipients.contains(transfer.getRecipientNumber()));
+        }
+        if (rule.isBlocklisted()) {
+            conditions.add(transfer -> blocklist.isBlocked(transfer.getTransferType(), transfer.getRecipientNumber()));
+        }
+        if (rule.getCountAbove() != null || rule.getSumAbove() != null) {
+            conditions.add(velocityCondition(rule, velocity));
+        }
+        if (rule.getName() == null || conditions.isEmpty()) {
+            throw new IllegalStateException("У правила проверки переводов нет имени или условий: " + rule.getName());
+        }
+        return of(rule.getName(), rule.getReason(), rule.getAction(), rule.getTransferTypes(),
+                conditions.stream().reduce(Predicate::and).orElseThrow());
+    }
+
+    /**
+     * @param name          имя правила
+     * @param reason        текст причины, по умолчанию имя правила
+     * @param action        {@link ScoringAction}, по умолчанию SUSPECT
+     * @param transferTypes виды переводов, пусто - все
+     * @param condition     условие над переводом
+     * @return {@link ScoringRule}
+     */
+    public static ScoringRule of(String name, String reason, ScoringAction action, Set<TransferType> transferTypes,
+                                 Predicate<TransferScoringDto> condition) {
+        return new ScoringRule(name, reason == null ? name : reason, action == null ? ScoringAction.SUSPECT : action,
+                transferTypes == null || transferTypes.isEmpty() ? EnumSet.allOf(TransferType.class) :
+                        EnumSet.copyOf(transferTypes), condition);
+    }
+
+    /**
+     * @param transfer {@link TransferScoringDto}
+     * @return true, если правило сработало
+     */
+    public boolean test(TransferScoringDto transfer) {
+        return condition.test(transfer);
+    }
+
+    private static Predicate<TransferScoringDto> velocityCondition(ScoringProperties.Rule rule,
+                                                                   VelocityRegistry velocity) {
+        final VelocityDimension dimension = rule.getVelocityDimension();
+        final VelocityWindow window = rule.getVelocityWindow();
+        if (dimension == null || window == null) {
+            throw new IllegalStateException("У скоростного правила не заданы измерение или окно: " + rule.getName());
+        }
+        final Long countAbove = rule.getCountAbove();
+        final BigDecimal sumAbove = rule.getSumAbove();
+        return transfer -> {
+            final Long key = dimension.keyOf(transfer);
+            final long now = System.currentTimeMillis();
+            return key != null &&
+                    (countAbove == null || velocity.count(dimension, key, window, now) > countAbove) &&
+                    (sumAbove == null || velocity.sum(dimension, key, window, now).compareTo(sumAbove) > 0);
+        };
+    }
+}
@@ -0,0 +1,100 @@
+package com.bank.antifraud.service.scoring;
+
+import com.bank.antifraud.entity.ScoringRuleEntity;
+import com.bank.antifraud.mappers.ScoringRuleMapper;
+import com.bank.antifraud.repository.ScoringRuleRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Загружает правила из anti_fraud.scoring_rule, компилирует и подменяет набор в {@link ScoringEngine}.
+ * Набор перечитывается, только когда изменился отпечаток таблицы. Компиляция идёт до подмены,
+ * поэтому проверки переводов в это время работают по прежнему набору.
+ * Правило, которое не компилируется, пропускается, остальные применяются.
+ */
+@Slf4j
+@Component
+public class ScoringRuleReloader {
+
+    /**
+     * Правила из БД, пропущенные при загрузке из-за ошибки в выражении.
+     */
+    private static final String INVALID_METRIC = "antifraud.scoring.rules.invalid";
+
+    private final ScoringEngine engine;
+    private final RuleExpressionCompiler compiler;
+    private final ScoringRuleRepository repository;
+    private final ScoringRuleMapper mapper;
+    private final Counter invalid;
+    private long fingerprint = -1;
+
+    public ScoringRuleReloader(ScoringEngine engine,
+                               RuleExpressionCompiler compiler,
+                               ScoringRuleRepository repository,
+                               ScoringRuleMapper mapper,
+                               MeterRegistry meterRegistry) {
+        this.engine = engine;
+        this.compiler = compiler;
+        this.repository = repository;
+        this.mapper = mapper;
+        this.invalid = meterRegistry.counter(INVALID_METRIC);
+        meterRegistry.gauge("antifraud.scoring.rules", engine, ScoringEngine::ruleCount);
+    }
+
+    /**
+     * Отпечаток читается до правил: изменение, зафиксированное между запросами,
+     * даст лишнюю перезагрузку на следующей проверке, но не потеряется.
+     *
+     * @return true, если набор правил перезагружен
+     */
+    public synchronized boolean reloadIfChanged() {
+        final long current = repository.fingerprint();
+        if (current == fingerprint) {
+            return false;
+        }
+        final List<ScoringRule> rules = compileAll(repository.findAllByEnabledTrueOrderByIdAsc());
+        engine.replace(rules);
+        fingerprint = current;
+        log.info("Загружено правил проверки из БД: {}, всего в наборе: {}", rules.size(), engine.ruleCount());
+        return true;
+    }
+
+    /**
+     * Ошибка загрузки оставляет в работе прежний набор.
+     */
+    public void refresh() {
+        try {
+            reloadIfChanged();
+        } catch (RuntimeException e) {
+            log.error("Не удалось перезагрузить правила проверки", e);
+        }
+    }
+
+    /**
+     * @param rule {@link ScoringRuleEntity}
+     * @return {@link ScoringRule}
+     * @throws IllegalArgumentException если выражение не компилируется
+     */
+    public ScoringRule compile(ScoringRuleEntity rule) {
+        return ScoringRule.of(rule.getName(), rule.getReason(), rule.getAction(),
+                mapper.typesFromColumn(rule.getTransferTypes()), compiler.compile(rule.getExpression()));
+    }
+
+    private List<ScoringRule> compileAll(List<ScoringRuleEntity> entities) {
+        final List<ScoringRule> rules = new ArrayList<>(entities.size());
+        for (ScoringRuleEntity entity : entities) {
+            try {
+                rules.add(compile(entity));
+            } catch (IllegalArgumentException e) {
+                invalid.increment();
+                log.error("Правило проверки {} пропущено: {}", entity.getName(), e.getMessage());
+            }
+        }
+        return rules;
+    }
+}
@@ -0,0 +1,23 @@
+package com.bank.antifraud.service.scoring;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Результат проверки перевода правилами. Причины - тексты сработавших правил через "; ".
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class ScoringVerdict {
+
+    /**
+     * Ни одно правило не сработало.
+     */
+    public static final ScoringVerdict CLEAN = new ScoringVerdict(false, false, null, null);
+
+    private final boolean blocked;
+    private final boolean suspicious;
+    private final String blockedReason;
+    private final String suspiciousReason;
+}
@@ -0,0 +1,90 @@
+package com.bank.antifraud.service.velocity;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Кольцо корзин одного окна: количество и сумма переводов за окно без блокировок.
+ * Корзина создаётся при первой записи в её интервал и заменяет устаревшую через CAS,
+ * поэтому память растёт только с активностью ключа и ограничена размером кольца.
+ */
+final class SlidingWindowCounter {
+
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    SlidingWindowCounter(VelocityWindow window) {
+        this.bucketMillis = window.getBucketMillis();
+        this.bucketCount = window.getBucketCount();
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    /**
+     * Запись старше кольца отбрасывается.
+     *
+     * @param nowMillis время перевода в мс
+     * @param amount    сумма в копейках
+     */
+    void add(long nowMillis, long amount) {
+        final long epoch = nowMillis / bucketMillis;
+        final int slot = (int) (epoch % bucketCount);
+        Bucket bucket = buckets.get(slot);
+        while (bucket == null || bucket.epoch < epoch) {
+            final Bucket fresh = new Bucket(epoch);
+            bucket = buckets.compareAndSet(slot, bucket, fresh) ? fresh : buckets.get(slot);
+        }
+        if (bucket.epoch == epoch) {
+            Bucket.COUNT.incrementAndGet(bucket);
+            Bucket.SUM.addAndGet(bucket, amount);
+        }
+    }
+
+    /**
+     * @param nowMillis текущее время в мс
+     * @return количество переводов за окно
+     */
+    long count(long nowMillis) {
+        final long epoch = nowMillis / bucketMillis;
+        long count = 0;
+        for (int slot = 0; slot < bucketCount; slot++) {
+            final Bucket bucket = buckets.get(slot);
+            count += inWindow(bucket, epoch) ? bucket.count : 0;
+        }
+        return count;
+    }
+
+    /**
+     * @param nowMillis текущее время в мс
+     * @return сумма переводов за окно в копейках
+     */
+    long sum(long nowMillis) {
+        final long epoch = nowMillis / bucketMillis;
+        long sum = 0;
+        for (int slot = 0; slot < bucketCount; slot++) {
+            final Bucket bucket = buckets.get(slot);
+            sum += inWindow(bucket, epoch) ? bucket.sum : 0;
+        }
+        return sum;
+    }
+
+    private boolean inWindow(Bucket bucket, long epoch) {
+        return bucket != null && bucket.epoch <= epoch && bucket.epoch > epoch - bucketCount;
+    }
+
+    private static final class Bucket {
+
+        private static final AtomicLongFieldUpdater<Bucket> COUNT =
+                AtomicLongFieldUpdater.newUpdater(Bucket.class, "count");
+        private static final AtomicLongFieldUpdater<Bucket> SUM =
+                AtomicLongFieldUpdater.newUpdater(Bucket.class, "sum");
+
+        private final long epoch;
+        private volatile long count;
+        private volatile long sum;
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.bank.antifraud.service.velocity;
+
+/**
+ * Счётчики одного ключа по всем окнам.
+ */
+final class VelocityCounter {
+
+    private final SlidingWindowCounter[] windows;
+    private volatile long lastSeenMillis;
+
+    VelocityCounter(long nowMillis) {
+        windows = new SlidingWindowCounter[VelocityWindow.values().length];
+        for (VelocityWindow window : VelocityWindow.values()) {
+            windows[window.ordinal()] = new SlidingWindowCounter(window);
+        }
+        lastSeenMillis = nowMillis;
+    }
+
+    void add(long nowMillis, long amount) {
+        for (SlidingWindowCounter window : windows) {
+            window.add(nowMillis, amount);
+        }
+        lastSeenMillis = nowMillis;
+    }
+
+    long count(VelocityWindow window, long nowMillis) {
+        return windows[window.ordinal()].count(nowMillis);
+    }
+
+    long sum(VelocityWindow window, long nowMillis) {
+        return windows[window.ordinal()].sum(nowMillis);
+    }
+
+    long getLastSeenMillis() {
+        return lastSeenMillis;
+    }
+}
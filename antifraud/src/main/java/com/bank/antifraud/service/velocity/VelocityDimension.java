@@ -0,0 +1,46 @@
+package com.bank.antifraud.service.velocity;
+
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.entity.TransferType;
+
+/**
+ * По какому ключу считается скорость переводов.
+ */
+public enum VelocityDimension {
+
+    /**
+     * Счёт отправителя, любые переводы.
+     */
+    ACCOUNT {
+        @Override
+        public Long keyOf(TransferScoringDto transfer) {
+            return transfer.getAccountDetailsId();
+        }
+    },
+
+    /**
+     * Номер карты получателя, переводы по номеру карты.
+     */
+    CARD {
+        @Override
+        public Long keyOf(TransferScoringDto transfer) {
+            return transfer.getTransferType() == TransferType.CARD ? transfer.getRecipientNumber() : null;
+        }
+    },
+
+    /**
+     * Номер телефона получателя, переводы по номеру телефона.
+     */
+    PHONE {
+        @Override
+        public Long keyOf(TransferScoringDto transfer) {
+            return transfer.getTransferType() == TransferType.PHONE ? transfer.getRecipientNumber() : null;
+        }
+    };
+
+    /**
+     * @param transfer {@link TransferScoringDto}
+     * @return ключ счётчика, null - перевод в этом измерении не учитывается
+     */
+    public abstract Long keyOf(TransferScoringDto transfer);
+}
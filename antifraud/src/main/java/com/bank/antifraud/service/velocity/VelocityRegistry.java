@@ -0,0 +1,138 @@
+package com.bank.antifraud.service.velocity;
+
+import com.bank.antifraud.dto.TransferScoringDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Скоростные счётчики переводов в памяти: количество и сумма по ключу за минуту, час и сутки.
+ * Запись и чтение без блокировок, чтение - поиск ключа и проход по кольцу фиксированного размера.
+ * Число ключей в измерении ограничено max-keys: сверх него новые ключи не учитываются до очистки простаивающих.
+ * Повторная проверка того же перевода (вид и id) в течение суток не учитывается повторно: учтённые переводы
+ * запоминаются до очистки простаивающих, тоже не больше max-keys.
+ * Счётчики живут в памяти экземпляра и после перезапуска начинаются с нуля.
+ */
+@Component
+public class VelocityRegistry {
+
+    /**
+     * Ключи, не взятые на учёт из-за лимита max-keys.
+     */
+    private static final String REJECTED_METRIC = "antifraud.velocity.rejected";
+
+    private final Map<VelocityDimension, ConcurrentHashMap<Long, VelocityCounter>> counters =
+            new EnumMap<>(VelocityDimension.class);
+    private final ConcurrentHashMap<String, Long> recordedTransfers = new ConcurrentHashMap<>();
+    private final long maxKeys;
+    private final Counter rejected;
+
+    public VelocityRegistry(@Value("${antifraud.velocity.max-keys:500000}") long maxKeys,
+                            MeterRegistry meterRegistry) {
+        this.maxKeys = maxKeys;
+        this.rejected = meterRegistry.counter(REJECTED_METRIC);
+        for (VelocityDimension dimension : VelocityDimension.values()) {
+            counters.put(dimension, meterRegistry.gaugeMapSize("antifraud.velocity.keys",
+                    Tags.of("dimension", dimension.name()), new ConcurrentHashMap<>()));
+        }
+    }
+
+    /**
+     * @param transfer  {@link TransferScoringDto}
+     * @param nowMillis время перевода в мс
+     */
+    public void record(TransferScoringDto transfer, long nowMillis) {
+        if (!remember(transfer, nowMillis)) {
+            return;
+        }
+        final long amount = transfer.getAmount() == null ? 0 :
+                transfer.getAmount().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue();
+        for (VelocityDimension dimension : VelocityDimension.values()) {
+            final Long key = dimension.keyOf(transfer);
+            final VelocityCounter counter = key == null ? null : counterFor(dimension, key, nowMillis);
+            if (counter != null) {
+                counter.add(nowMillis, amount);
+            }
+        }
+    }
+
+    /**
+     * @param dimension {@link VelocityDimension}
+     * @param key       ключ в измерении
+     * @param window    {@link VelocityWindow}
+     * @param nowMillis текущее время в мс
+     * @return количество переводов за окно
+     */
+    public long count(VelocityDimension dimension, Long key, VelocityWindow window, long nowMillis) {
+        final VelocityCounter counter = key == null ? null : counters.get(dimension).get(key);
+        return counter == null ? 0 : counter.count(window, nowMillis);
+    }
+
+    /**
+     * @param dimension {@link VelocityDimension}
+     * @param key       ключ в измерении
+     * @param window    {@link VelocityWindow}
+     * @param nowMillis текущее время в мс
+     * @return сумма переводов за окно
+     */
+    public BigDecimal sum(VelocityDimension dimension, Long key, VelocityWindow window, long nowMillis) {
+        final VelocityCounter counter = key == null ? null : counters.get(dimension).get(key);
+        return BigDecimal.valueOf(counter == null ? 0 : counter.sum(window, nowMillis), 2);
+    }
+
+    /**
+     * Удаляет ключи без переводов дольше самого длинного окна: их счётчики уже нулевые.
+     * Вместе с ними забываются переводы, учтённые раньше самого длинного окна.
+     *
+     * @param nowMillis текущее время в мс
+     * @return количество удалённых ключей
+     */
+    public int evictIdle(long nowMillis) {
+        final long idleBefore = nowMillis - VelocityWindow.DAY.getMillis();
+        int evicted = 0;
+        for (ConcurrentHashMap<Long, VelocityCounter> keys : counters.values()) {
+            for (Map.Entry<Long, VelocityCounter> entry : keys.entrySet()) {
+                if (entry.getValue().getLastSeenMillis() < idleBefore && keys.remove(entry.getKey(),
+                        entry.getValue())) {
+                    evicted++;
+                }
+            }
+        }
+        recordedTransfers.values().removeIf(recordedAt -> recordedAt < idleBefore);
+        return evicted;
+    }
+
+    /**
+     * Перевод без id и переводы сверх лимита max-keys учитываются без запоминания.
+     *
+     * @return false, если перевод уже учтён
+     */
+    private boolean remember(TransferScoringDto transfer, long nowMillis) {
+        if (transfer.getTransferId() == null || recordedTransfers.mappingCount() >= maxKeys) {
+            return true;
+        }
+        final String key = transfer.getTransferType() + ":" + transfer.getTransferId();
+        return recordedTransfers.putIfAbsent(key, nowMillis) == null;
+    }
+
+    private VelocityCounter counterFor(VelocityDimension dimension, Long key, long nowMillis) {
+        final ConcurrentHashMap<Long, VelocityCounter> keys = counters.get(dimension);
+        final VelocityCounter counter = keys.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        if (keys.mappingCount() >= maxKeys) {
+            rejected.increment();
+            return null;
+        }
+        return keys.computeIfAbsent(key, ignored -> new VelocityCounter(nowMillis));
+    }
+}
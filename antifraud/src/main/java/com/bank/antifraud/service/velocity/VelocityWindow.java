@@ -0,0 +1,38 @@
+package com.bank.antifraud.service.velocity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Окно скоростного счётчика. Окно скользит корзинами: учитываются последние bucketCount корзин,
+ * включая текущую, поэтому граница окна точна до ширины корзины.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum VelocityWindow {
+
+    /**
+     * Последняя минута, корзины по 5 секунд.
+     */
+    MINUTE(5_000L, 12),
+
+    /**
+     * Последний час, корзины по 5 минут.
+     */
+    HOUR(300_000L, 12),
+
+    /**
+     * Последние сутки, корзины по часу.
+     */
+    DAY(3_600_000L, 24);
+
+    private final long bucketMillis;
+    private final int bucketCount;
+
+    /**
+     * @return длительность окна в мс
+     */
+    public long getMillis() {
+        return bucketMillis * bucketCount;
+    }
+}
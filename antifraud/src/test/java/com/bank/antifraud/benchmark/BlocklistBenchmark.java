@@ -0,0 +1,86 @@
+package com.bank.antifraud.benchmark;
+
+import com.bank.antifraud.entity.TransferType;
+import com.bank.antifraud.repository.SuspiciousAccountTransferRepository;
+import com.bank.antifraud.repository.SuspiciousCardTransferRepository;
+import com.bank.antifraud.repository.SuspiciousPhoneTransferRepository;
+import com.bank.antifraud.service.blocklist.Blocklist;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Время проверки номера по {@link Blocklist} при параллельном чтении, в наносекундах.
+ * Проверяемые номера в основном чистые, как и в потоке переводов: их отсекает фильтр Блума.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(8)
+public class BlocklistBenchmark {
+
+    private static final int NUMBER_COUNT = 1 << 16;
+
+    @Param({"100000", "1000000"})
+    private int blockedCount;
+
+    private Blocklist blocklist;
+    private long[] numbers;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BlocklistBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        final List<Long> blocked = LongStream.range(0, blockedCount)
+                .map(i -> 4_000_000_000_000_000L + random.nextInt(Integer.MAX_VALUE))
+                .boxed()
+                .toList();
+        final SuspiciousCardTransferRepository cardRepository = mock(SuspiciousCardTransferRepository.class);
+        when(cardRepository.findBlockedRecipientNumbers()).thenReturn(blocked);
+        blocklist = new Blocklist(mock(SuspiciousAccountTransferRepository.class), cardRepository,
+                mock(SuspiciousPhoneTransferRepository.class), new SimpleMeterRegistry(), 0.01, 1_000);
+        blocklist.rebuild();
+
+        numbers = new long[NUMBER_COUNT];
+        for (int i = 0; i < NUMBER_COUNT; i++) {
+            numbers[i] = i % 100 == 0 ? blocked.get(random.nextInt(blockedCount)) :
+                    4_000_000_000_000_000L + random.nextInt(Integer.MAX_VALUE);
+        }
+    }
+
+    @Benchmark
+    public boolean isBlocked() {
+        return blocklist.isBlocked(TransferType.CARD, numbers[ThreadLocalRandom.current().nextInt(NUMBER_COUNT)]);
+    }
+}
@@ -0,0 +1,153 @@
+package com.bank.antifraud.benchmark;
+
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.entity.TransferType;
+import com.bank.antifraud.repository.SuspiciousAccountTransferRepository;
+import com.bank.antifraud.repository.SuspiciousCardTransferRepository;
+import com.bank.antifraud.repository.SuspiciousPhoneTransferRepository;
+import com.bank.antifraud.service.blocklist.Blocklist;
+import com.bank.antifraud.service.scoring.RuleExpressionCompiler;
+import com.bank.antifraud.service.scoring.ScoringAction;
+import com.bank.antifraud.service.scoring.ScoringEngine;
+import com.bank.antifraud.service.scoring.ScoringRule;
+import com.bank.antifraud.service.scoring.ScoringVerdict;
+import com.bank.antifraud.service.velocity.VelocityRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Время проверки перевода набором правил, скомпилированных {@link RuleExpressionCompiler}.
+ * Выражения смешивают поля, списки in, скоростные признаки и список блокировок.
+ * При swap=true набор подменяется каждые 10 мс, как при частых правках аналитиков.
+ * Запуск через {@link #main}: печатает p99 против бюджета -Dantifraud.dsl-budget-us (по умолчанию 1000 мкс).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(8)
+public class ScoringDslBenchmark {
+
+    private static final int TRANSFER_COUNT = 1 << 16;
+
+    private static final String[] TEMPLATES = {
+        "amount > %d",
+        "amount > %d and recipient in (%d, %d, %d)",
+        "count(account, minute) > %d or sum(account, hour) > %d",
+        "not blocked() and (amount >= %d or account in (%d, %d))",
+        "count(card, hour) > %d and amount < %d or recipient == %d"
+    };
+
+    @Param({"200"})
+    private int ruleCount;
+
+    @Param({"false", "true"})
+    private boolean swap;
+
+    private VelocityRegistry velocity;
+    private ScoringEngine engine;
+    private TransferScoringDto[] transfers;
+    private ScheduledExecutorService swapper;
+
+    public static void main(String[] args) throws RunnerException {
+        final double budget = Double.parseDouble(System.getProperty("antifraud.dsl-budget-us", "1000"));
+        for (RunResult result : new Runner(new OptionsBuilder()
+                .include(ScoringDslBenchmark.class.getSimpleName())
+                .build()
+        ).run()) {
+            final double p99 = result.getPrimaryResult().getStatistics().getPercentile(99);
+            System.out.printf("%s rules, swap %s: p99 %.2f us, budget %.0f us - %s%n",
+                    result.getParams().getParam("ruleCount"), result.getParams().getParam("swap"),
+                    p99, budget, p99 <= budget ? "OK" : "ABOVE");
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        velocity = new VelocityRegistry(1_000_000, new SimpleMeterRegistry());
+        final Blocklist blocklist = new Blocklist(mock(SuspiciousAccountTransferRepository.class),
+                mock(SuspiciousCardTransferRepository.class), mock(SuspiciousPhoneTransferRepository.class),
+                new SimpleMeterRegistry(), 0.01, 1_000);
+        for (int i = 0; i < 50; i++) {
+            blocklist.block(TransferType.values()[i % TransferType.values().length], (long) random.nextInt(1_000));
+        }
+        final RuleExpressionCompiler compiler = new RuleExpressionCompiler(velocity, blocklist);
+        final List<ScoringRule> first = compileRules(compiler, new Random(1));
+        final List<ScoringRule> second = compileRules(compiler, new Random(2));
+        engine = new ScoringEngine(List.of());
+        engine.replace(first);
+
+        transfers = new TransferScoringDto[TRANSFER_COUNT];
+        for (int i = 0; i < TRANSFER_COUNT; i++) {
+            transfers[i] = new TransferScoringDto(TransferType.values()[random.nextInt(TransferType.values().length)],
+                    (long) i, (long) random.nextInt(100_000), (long) random.nextInt(1_000),
+                    BigDecimal.valueOf(random.nextInt(2_000_000), 2));
+        }
+        if (swap) {
+            swapper = Executors.newSingleThreadScheduledExecutor();
+            final boolean[] flip = new boolean[1];
+            swapper.scheduleAtFixedRate(() -> {
+                flip[0] = !flip[0];
+                engine.replace(flip[0] ? second : first);
+            }, 10, 10, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (swapper != null) {
+            swapper.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public ScoringVerdict evaluate() {
+        final TransferScoringDto transfer = transfers[ThreadLocalRandom.current().nextInt(TRANSFER_COUNT)];
+        velocity.record(transfer, System.currentTimeMillis());
+        return engine.evaluate(transfer);
+    }
+
+    private List<ScoringRule> compileRules(RuleExpressionCompiler compiler, Random random) {
+        final List<ScoringRule> rules = new ArrayList<>();
+        for (int i = 0; i < ruleCount; i++) {
+            final String expression = String.format(TEMPLATES[i % TEMPLATES.length],
+                    10_000 + random.nextInt(1_000_000), 5 + random.nextInt(50), random.nextInt(1_000),
+                    random.nextInt(1_000), random.nextInt(1_000));
+            rules.add(ScoringRule.of("rule-" + i, null, i % 7 == 0 ? ScoringAction.BLOCK : ScoringAction.SUSPECT,
+                    Set.of(TransferType.values()[i % TransferType.values().length]), compiler.compile(expression)));
+        }
+        return rules;
+    }
+}
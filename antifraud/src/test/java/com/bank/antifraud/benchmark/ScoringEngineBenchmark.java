@@ -0,0 +1,136 @@
+package com.bank.antifraud.benchmark;
+
+import com.bank.antifraud.config.ScoringProperties;
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.entity.TransferType;
+import com.bank.antifraud.repository.SuspiciousAccountTransferRepository;
+import com.bank.antifraud.repository.SuspiciousCardTransferRepository;
+import com.bank.antifraud.repository.SuspiciousPhoneTransferRepository;
+import com.bank.antifraud.service.blocklist.Blocklist;
+import com.bank.antifraud.service.scoring.ScoringAction;
+import com.bank.antifraud.service.scoring.ScoringEngine;
+import com.bank.antifraud.service.scoring.ScoringRule;
+import com.bank.antifraud.service.scoring.ScoringVerdict;
+import com.bank.antifraud.service.velocity.VelocityDimension;
+import com.bank.antifraud.service.velocity.VelocityRegistry;
+import com.bank.antifraud.service.velocity.VelocityWindow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Время решения по переводу при параллельной проверке: учёт в {@link VelocityRegistry} и {@link ScoringEngine}.
+ * Каждое пятое правило скоростное, ещё каждое пятое проверяет получателя по {@link Blocklist}.
+ * Запуск через {@link #main}: печатает p99 против бюджета -Dantifraud.p99-budget-us (по умолчанию 2000 мкс)
+ * и пропускную способность против -Dantifraud.target-tps (по умолчанию 5000 переводов в секунду).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(8)
+public class ScoringEngineBenchmark {
+
+    private static final int TRANSFER_COUNT = 1 << 16;
+
+    @Param({"10", "50"})
+    private int ruleCount;
+
+    private VelocityRegistry velocity;
+    private ScoringEngine engine;
+    private TransferScoringDto[] transfers;
+
+    public static void main(String[] args) throws RunnerException {
+        final double budget = Double.parseDouble(System.getProperty("antifraud.p99-budget-us", "2000"));
+        final double target = Double.parseDouble(System.getProperty("antifraud.target-tps", "5000"));
+        for (RunResult result : new Runner(new OptionsBuilder()
+                .include(ScoringEngineBenchmark.class.getSimpleName())
+                .build()
+        ).run()) {
+            final String rules = result.getParams().getParam("ruleCount");
+            if (result.getParams().getMode() == Mode.SampleTime) {
+                final double p99 = result.getPrimaryResult().getStatistics().getPercentile(99);
+                System.out.printf("%s rules: p99 %.2f us, budget %.0f us - %s%n",
+                        rules, p99, budget, p99 <= budget ? "OK" : "ABOVE");
+            } else {
+                final double tps = result.getPrimaryResult().getScore() * 1_000_000;
+                System.out.printf("%s rules: %.0f transfers/s, target %.0f - %s%n",
+                        rules, tps, target, tps >= target ? "OK" : "BELOW");
+            }
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        velocity = new VelocityRegistry(1_000_000, new SimpleMeterRegistry());
+        final Blocklist blocklist = new Blocklist(mock(SuspiciousAccountTransferRepository.class),
+                mock(SuspiciousCardTransferRepository.class), mock(SuspiciousPhoneTransferRepository.class),
+                new SimpleMeterRegistry(), 0.01, 1_000);
+        for (int i = 0; i < 10; i++) {
+            blocklist.block(TransferType.values()[i % TransferType.values().length], (long) random.nextInt(1_000));
+        }
+        final List<ScoringRule> rules = new ArrayList<>();
+        for (int i = 0; i < ruleCount; i++) {
+            final ScoringProperties.Rule rule = new ScoringProperties.Rule();
+            rule.setName("rule-" + i);
+            rule.setAction(i % 5 == 0 ? ScoringAction.BLOCK : ScoringAction.SUSPECT);
+            rule.setTransferTypes(Set.of(TransferType.values()[i % TransferType.values().length]));
+            rule.setAmountAbove(BigDecimal.valueOf(10_000L + random.nextInt(1_000_000)));
+            if (i % 2 == 0) {
+                rule.setRecipients(Set.of((long) random.nextInt(1_000), (long) random.nextInt(1_000)));
+            }
+            if (i % 5 == 1) {
+                rule.setAmountAbove(null);
+                rule.setVelocityDimension(VelocityDimension.ACCOUNT);
+                rule.setVelocityWindow(VelocityWindow.values()[i % VelocityWindow.values().length]);
+                rule.setCountAbove(20L);
+            }
+            if (i % 5 == 3) {
+                rule.setBlocklisted(true);
+            }
+            rules.add(ScoringRule.of(rule, velocity, blocklist));
+        }
+        engine = new ScoringEngine(rules);
+
+        transfers = new TransferScoringDto[TRANSFER_COUNT];
+        for (int i = 0; i < TRANSFER_COUNT; i++) {
+            transfers[i] = new TransferScoringDto(TransferType.values()[random.nextInt(TransferType.values().length)],
+                    (long) i, (long) random.nextInt(100_000), (long) random.nextInt(1_000),
+                    BigDecimal.valueOf(random.nextInt(2_000_000), 2));
+        }
+    }
+
+    @Benchmark
+    public ScoringVerdict evaluate() {
+        final TransferScoringDto transfer = transfers[ThreadLocalRandom.current().nextInt(TRANSFER_COUNT)];
+        velocity.record(transfer, System.currentTimeMillis());
+        return engine.evaluate(transfer);
+    }
+}
@@ -0,0 +1,48 @@
+package com.bank.antifraud.controller;
+
+import com.bank.antifraud.entity.TransferType;
+import com.bank.antifraud.service.blocklist.Blocklist;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@WebMvcTest(BlocklistController.class)
+class BlocklistControllerTest {
+
+    @MockBean
+    Blocklist blocklist;
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    @DisplayName("проверка заблокированного номера телефона, позитивный сценарий")
+    void checkPositiveTest() throws Exception {
+        when(blocklist.isBlocked(TransferType.PHONE, 79990001122L)).thenReturn(true);
+
+        mockMvc.perform(get("/blocklist/check")
+                        .param("transferType", "PHONE")
+                        .param("number", "79990001122"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("true"));
+    }
+
+    @Test
+    @DisplayName("проверка номера с неизвестным видом перевода, негативный сценарий")
+    void checkUnknownTypeNegativeTest() throws Exception {
+        mockMvc.perform(get("/blocklist/check")
+                        .param("transferType", "CASH")
+                        .param("number", "79990001122"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,71 @@
+package com.bank.antifraud.controller;
+
+import com.bank.antifraud.dto.ScoringRuleDto;
+import com.bank.antifraud.entity.TransferType;
+import com.bank.antifraud.service.ScoringRuleService;
+import com.bank.antifraud.service.scoring.ScoringAction;
+import com.bank.common.exception.ValidationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@WebMvcTest(ScoringRuleController.class)
+class ScoringRuleControllerTest {
+
+    @MockBean
+    ScoringRuleService service;
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("создание правила проверки, позитивный сценарий")
+    void createPositiveTest() throws Exception {
+        final ScoringRuleDto rule = rule("amount > 1000 and count(card, minute) > 3");
+        final ScoringRuleDto expectedResult = rule("amount > 1000 and count(card, minute) > 3");
+        expectedResult.setId(1L);
+        when(service.save(rule)).thenReturn(expectedResult);
+
+        final MvcResult result = mockMvc.perform(post("/scoring/rules/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(rule)))
+                .andExpect(status().isOk()).andReturn();
+
+        assertEquals(expectedResult, objectMapper.readValue(result.getResponse().getContentAsString(),
+                ScoringRuleDto.class));
+    }
+
+    @Test
+    @DisplayName("создание правила с ошибкой в выражении, негативный сценарий")
+    void createInvalidNegativeTest() throws Exception {
+        final ScoringRuleDto rule = rule("amount >");
+        when(service.save(rule)).thenThrow(new ValidationException("позиция 9"));
+
+        mockMvc.perform(post("/scoring/rules/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(rule)))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    private static ScoringRuleDto rule(String expression) {
+        return new ScoringRuleDto(null, "card-burst", expression, ScoringAction.BLOCK, null,
+                Set.of(TransferType.CARD), true, null, null);
+    }
+}
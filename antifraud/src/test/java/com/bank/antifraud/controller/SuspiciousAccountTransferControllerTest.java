@@ -45,7 +45,7 @@ class SuspiciousAccountTransferControllerTest {
     void readByIdPositiveTest() throws Exception {
         Long accountId = 1L;
         SuspiciousAccountTransferDto expectedResult = new SuspiciousAccountTransferDto(1L, 13L,
-                false, false, "blockedReason", "suspiciousReason");
+                false, false, "blockedReason", "suspiciousReason", null);
 
         when(service.findById(accountId)).thenReturn(expectedResult);
         MvcResult result = mockMvc.perform(get("/suspicious/account/transfer/" + accountId))
@@ -65,11 +65,11 @@ class SuspiciousAccountTransferControllerTest {
         List<Long> ids = new ArrayList<>(Arrays.asList(1L, 2L, 3L));
         List<SuspiciousAccountTransferDto> expectedResult = new ArrayList<>(Arrays.asList(
                 new SuspiciousAccountTransferDto(1L, 13L, false, false,
-                        "blockedReason", "suspiciousReason"),
+                        "blockedReason", "suspiciousReason", null),
                 new SuspiciousAccountTransferDto(1L, 13L, false, false,
-                        "blockedReason", "suspiciousReason"),
+                        "blockedReason", "suspiciousReason", null),
                 new SuspiciousAccountTransferDto(1L, 13L, false, false,
-                        "blockedReason", "suspiciousReason")
+                        "blockedReason", "suspiciousReason", null)
         ));
         String idsJson = objectMapper.writeValueAsString(ids);
 
@@ -92,7 +92,7 @@ class SuspiciousAccountTransferControllerTest {
     @DisplayName("создание SuspiciousAccountTransfer это подозрительные переводы по номеру счёта, позитивный сценарий")
     void create() throws Exception {
         SuspiciousAccountTransferDto expectedResult = new SuspiciousAccountTransferDto(1L, 13L,
-                false, false, "blockedReason", "suspiciousReason");
+                false, false, "blockedReason", "suspiciousReason", null);
         String transferDtoJson = objectMapper.writeValueAsString(expectedResult);
 
         when(service.save(expectedResult)).thenReturn(expectedResult);
@@ -114,7 +114,7 @@ class SuspiciousAccountTransferControllerTest {
     void update() throws Exception {
         Long id = 1L;
         SuspiciousAccountTransferDto expectedResult = new SuspiciousAccountTransferDto(1L, 13L,
-                false, false, "blockedReason", "suspiciousReason");
+                false, false, "blockedReason", "suspiciousReason", null);
         String transferDtoJson = objectMapper.writeValueAsString(expectedResult);
 
         when(service.update(id, expectedResult)).thenReturn(expectedResult);
@@ -130,4 +130,18 @@ class SuspiciousAccountTransferControllerTest {
 
         assertEquals(expectedResult, actualResult);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("постановка SuspiciousAccountTransfer в очередь записи, позитивный сценарий")
+    void enqueue() throws Exception {
+        SuspiciousAccountTransferDto transferDto = new SuspiciousAccountTransferDto(null, 13L,
+                false, true, null, "suspiciousReason", null);
+
+        mockMvc.perform(post("/suspicious/account/transfer/enqueue")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(transferDto)))
+                .andExpect(status().isAccepted());
+
+        verify(service, times(1)).enqueue(transferDto);
+    }
+}
@@ -2,6 +2,7 @@ package com.bank.antifraud.controller;
 
 import com.bank.antifraud.dto.SuspiciousCardTransferDto;
 import com.bank.antifraud.service.impl.SuspiciousCardTransferServiceImpl;
+import com.bank.common.exception.TooManyRequestsException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AccessLevel;
@@ -20,6 +21,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -44,7 +46,7 @@ class SuspiciousCardTransferControllerTest {
     void read() throws Exception {
         Long accountId = 1L;
         SuspiciousCardTransferDto expectedResult = new SuspiciousCardTransferDto(1L, 13L,
-                false, false, "blockedReason", "suspiciousReason");
+                false, false, "blockedReason", "suspiciousReason", null);
 
         when(service.findById(accountId)).thenReturn(expectedResult);
         MvcResult result = mockMvc.perform(get("/suspicious/card/transfer/" + accountId))
@@ -64,11 +66,11 @@ class SuspiciousCardTransferControllerTest {
         List<Long> ids = new ArrayList<>(Arrays.asList(1L, 2L, 3L));
         List<SuspiciousCardTransferDto> expectedResult = new ArrayList<>(Arrays.asList(
                 new SuspiciousCardTransferDto(1L, 13L, false, false,
-                        "blockedReason", "suspiciousReason"),
+                        "blockedReason", "suspiciousReason", null),
                 new SuspiciousCardTransferDto(1L, 13L, false, false,
-                        "blockedReason", "suspiciousReason"),
+                        "blockedReason", "suspiciousReason", null),
                 new SuspiciousCardTransferDto(1L, 13L, false, false,
-                        "blockedReason", "suspiciousReason")
+                        "blockedReason", "suspiciousReason", null)
         ));
         String idsJson = objectMapper.writeValueAsString(ids);
 
@@ -91,7 +93,7 @@ class SuspiciousCardTransferControllerTest {
     @DisplayName("создание SuspiciousCardTransfer это подозрительные переводы по номеру карты, позитивный сценарий")
     void create() throws Exception {
         SuspiciousCardTransferDto expectedResult = new SuspiciousCardTransferDto(1L, 13L,
-                false, false, "blockedReason", "suspiciousReason");
+                false, false, "blockedReason", "suspiciousReason", null);
         String transferDtoJson = objectMapper.writeValueAsString(expectedResult);
 
         when(service.save(expectedResult)).thenReturn(expectedResult);
@@ -113,7 +115,7 @@ class SuspiciousCardTransferControllerTest {
     void update() throws Exception {
         Long id = 1L;
         SuspiciousCardTransferDto expectedResult = new SuspiciousCardTransferDto(1L, 13L,
-                false, false, "blockedReason", "suspiciousReason");
+                false, false, "blockedReason", "suspiciousReason", null);
         String transferDtoJson = objectMapper.writeValueAsString(expectedResult);
 
         when(service.update(id, expectedResult)).thenReturn(expectedResult);
@@ -129,4 +131,31 @@ class SuspiciousCardTransferControllerTest {
 
         assertEquals(expectedResult, actualResult);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("постановка SuspiciousCardTransfer в очередь записи, позитивный сценарий")
+    void enqueue() throws Exception {
+        SuspiciousCardTransferDto transferDto = new SuspiciousCardTransferDto(null, 13L,
+                false, true, null, "suspiciousReason", null);
+
+        mockMvc.perform(post("/suspicious/card/transfer/enqueue")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(transferDto)))
+                .andExpect(status().isAccepted());
+
+        verify(service, times(1)).enqueue(transferDto);
+    }
+
+    @Test
+    @DisplayName("постановка SuspiciousCardTransfer в переполненную очередь, негативный сценарий")
+    void enqueueQueueFull() throws Exception {
+        SuspiciousCardTransferDto transferDto = new SuspiciousCardTransferDto(null, 13L,
+                false, true, null, "suspiciousReason", null);
+
+        doThrow(new TooManyRequestsException("queue is full")).when(service).enqueue(transferDto);
+        mockMvc.perform(post("/suspicious/card/transfer/enqueue")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(transferDto)))
+                .andExpect(status().isTooManyRequests());
+    }
+}
@@ -44,7 +44,7 @@ class SuspiciousPhoneTransferControllerTest {
     void readByIdPositiveTest() throws Exception {
         Long accountId = 1L;
         SuspiciousPhoneTransferDto expectedResult = new SuspiciousPhoneTransferDto(1L, 13L,
-                false, false, "blockedReason", "suspiciousReason");
+                false, false, "blockedReason", "suspiciousReason", null);
 
         when(service.findById(accountId)).thenReturn(expectedResult);
         MvcResult result = mockMvc.perform(get("/suspicious/phone/transfer/" + accountId))
@@ -64,11 +64,11 @@ class SuspiciousPhoneTransferControllerTest {
         List<Long> ids = new ArrayList<>(Arrays.asList(1L, 2L, 3L));
         List<SuspiciousPhoneTransferDto> expectedResult = new ArrayList<>(Arrays.asList(
                 new SuspiciousPhoneTransferDto(1L, 13L, false, false,
-                        "blockedReason", "suspiciousReason"),
+                        "blockedReason", "suspiciousReason", null),
                 new SuspiciousPhoneTransferDto(1L, 13L, false, false,
-                        "blockedReason", "suspiciousReason"),
+                        "blockedReason", "suspiciousReason", null),
                 new SuspiciousPhoneTransferDto(1L, 13L, false, false,
-                        "blockedReason", "suspiciousReason")
+                        "blockedReason", "suspiciousReason", null)
         ));
         String idsJson = objectMapper.writeValueAsString(ids);
 
@@ -91,7 +91,7 @@ class SuspiciousPhoneTransferControllerTest {
     @DisplayName("создание SuspiciousPhoneTransfer это подозрительные переводы по номеру телефона, позитивный сценарий")
     void create() throws Exception {
         SuspiciousPhoneTransferDto expectedResult = new SuspiciousPhoneTransferDto(1L, 13L,
-                false, false, "blockedReason", "suspiciousReason");
+                false, false, "blockedReason", "suspiciousReason", null);
         String transferDtoJson = objectMapper.writeValueAsString(expectedResult);
 
         when(service.save(expectedResult)).thenReturn(expectedResult);
@@ -113,7 +113,7 @@ class SuspiciousPhoneTransferControllerTest {
     void update() throws Exception {
         Long id = 1L;
         SuspiciousPhoneTransferDto expectedResult = new SuspiciousPhoneTransferDto(1L, 13L,
-                false, false, "blockedReason", "suspiciousReason");
+                false, false, "blockedReason", "suspiciousReason", null);
         String transferDtoJson = objectMapper.writeValueAsString(expectedResult);
 
         when(service.update(id, expectedResult)).thenReturn(expectedResult);
@@ -129,4 +129,18 @@ class SuspiciousPhoneTransferControllerTest {
 
         assertEquals(expectedResult, actualResult);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("постановка SuspiciousPhoneTransfer в очередь записи, позитивный сценарий")
+    void enqueue() throws Exception {
+        SuspiciousPhoneTransferDto transferDto = new SuspiciousPhoneTransferDto(null, 13L,
+                false, true, null, "suspiciousReason", null);
+
+        mockMvc.perform(post("/suspicious/phone/transfer/enqueue")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(transferDto)))
+                .andExpect(status().isAccepted());
+
+        verify(service, times(1)).enqueue(transferDto);
+    }
+}
@@ -0,0 +1,56 @@
+package com.bank.antifraud.controller;
+
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.dto.TransferVerdictDto;
+import com.bank.antifraud.entity.TransferType;
+import com.bank.antifraud.service.TransferScoringService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@WebMvcTest(TransferScoringController.class)
+class TransferScoringControllerTest {
+
+    @MockBean
+    TransferScoringService service;
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("проверка перевода по номеру карты, позитивный сценарий")
+    void score() throws Exception {
+        final TransferScoringDto transfer = new TransferScoringDto(TransferType.CARD, 5L, 10L, 200L,
+                BigDecimal.TEN);
+        final TransferVerdictDto expectedResult = new TransferVerdictDto(TransferType.CARD, 5L, 1L, false, true,
+                null, "large");
+        when(service.score(transfer)).thenReturn(expectedResult);
+
+        final MvcResult result = mockMvc.perform(post("/scoring/transfer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(transfer)))
+                .andExpect(status().isOk()).andReturn();
+
+        assertEquals(expectedResult, objectMapper.readValue(result.getResponse().getContentAsString(),
+                TransferVerdictDto.class));
+        verify(service).score(transfer);
+    }
+}
@@ -0,0 +1,57 @@
+package com.bank.antifraud.mappers;
+
+import com.bank.antifraud.dto.ScoringRuleDto;
+import com.bank.antifraud.entity.ScoringRuleEntity;
+import com.bank.antifraud.entity.TransferType;
+import com.bank.antifraud.service.scoring.ScoringAction;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+class ScoringRuleMapperTest {
+
+    ScoringRuleMapper mapper = Mappers.getMapper(ScoringRuleMapper.class);
+
+    LocalDateTime updatedAt = LocalDateTime.of(2023, 1, 10, 12, 0);
+
+    ScoringRuleEntity entityResult = new ScoringRuleEntity(10L, "burst", "count(card, minute) > 3",
+            ScoringAction.BLOCK, "reason", "CARD,PHONE", true, 2L, updatedAt);
+
+    ScoringRuleDto dtoResult = new ScoringRuleDto(10L, "burst", "count(card, minute) > 3",
+            ScoringAction.BLOCK, "reason", EnumSet.of(TransferType.CARD, TransferType.PHONE), true, 2L, updatedAt);
+
+    @Test
+    @DisplayName("маппинг в Dto, виды переводов разбираются из строки")
+    void toDto() {
+        assertEquals(dtoResult, mapper.toDto(entityResult));
+    }
+
+    @Test
+    @DisplayName("маппинг в entity, без id, версии и времени изменения")
+    void toEntity() {
+        final ScoringRuleEntity entity = mapper.toEntity(dtoResult);
+
+        assertEquals("CARD,PHONE", entity.getTransferTypes());
+        assertNull(entity.getId());
+        assertNull(entity.getVersion());
+        assertNull(entity.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("пустые виды переводов хранятся как null и означают все виды")
+    void emptyTypes() {
+        assertNull(mapper.typesToColumn(Set.of()));
+        assertTrue(mapper.typesFromColumn(null).isEmpty());
+    }
+}
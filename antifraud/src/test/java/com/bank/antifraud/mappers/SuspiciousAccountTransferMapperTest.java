@@ -20,10 +20,10 @@ class SuspiciousAccountTransferMapperTest {
     SuspiciousAccountTransferMapper mapper = Mappers.getMapper(SuspiciousAccountTransferMapper.class);
 
     SuspiciousAccountTransferDto dtoResult = new SuspiciousAccountTransferDto(10L, 13L,
-            false, false, "blockedReason", "suspiciousReason");
+            false, false, "blockedReason", "suspiciousReason", null);
 
     SuspiciousAccountTransferEntity entityResult = new SuspiciousAccountTransferEntity(10L, 13L,
-            false, false, "blockedReason", "suspiciousReason");
+            false, false, "blockedReason", "suspiciousReason", null);
     @Test
     @DisplayName("маппинг в Dto")
     void toDto() {
@@ -89,13 +89,13 @@ class SuspiciousAccountTransferMapperTest {
     void mergeToEntity() {
         SuspiciousAccountTransferDto accountTransferDto = new SuspiciousAccountTransferDto(20L,
                 13L, false, false, "blockedReason",
-                "suspiciousReason");
+                "suspiciousReason", null);
 
         SuspiciousAccountTransferEntity actualResult = mapper.mergeToEntity(accountTransferDto, entityResult);
 
         SuspiciousAccountTransferEntity expectedResult = new SuspiciousAccountTransferEntity(10L,
                 13L, false, false, "blockedReason",
-                "suspiciousReason");
+                "suspiciousReason", null);
 
         assertEquals(actualResult, expectedResult);
     }
@@ -107,7 +107,7 @@ class SuspiciousAccountTransferMapperTest {
 
         SuspiciousAccountTransferEntity expectedResult = new SuspiciousAccountTransferEntity(10L,
                 13L, false, false, "blockedReason",
-                "suspiciousReason");
+                "suspiciousReason", null);
 
         assertEquals(actualResult, expectedResult);
     }
@@ -21,11 +21,11 @@ class SuspiciousCardTransferMapperTest {
 
     SuspiciousCardTransferDto dtoResult = new SuspiciousCardTransferDto(10L,
             13L, false, false,
-            "blockedReason", "suspiciousReason");
+            "blockedReason", "suspiciousReason", null);
 
     SuspiciousCardTransferEntity  entityResult = new SuspiciousCardTransferEntity(10L,
             13L, false, false,
-            "blockedReason", "suspiciousReason");
+            "blockedReason", "suspiciousReason", null);
 
     @Test
     @DisplayName("маппинг в Dto")
@@ -92,13 +92,13 @@ class SuspiciousCardTransferMapperTest {
     void mergeToEntity() {
         SuspiciousCardTransferDto cardTransferDto = new SuspiciousCardTransferDto(20L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
 
         SuspiciousCardTransferEntity actualResult = mapper.mergeToEntity(cardTransferDto, entityResult);
 
         SuspiciousCardTransferEntity expectedResult = new SuspiciousCardTransferEntity(10L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
 
         assertEquals(actualResult, expectedResult);
     }
@@ -110,7 +110,7 @@ class SuspiciousCardTransferMapperTest {
 
         SuspiciousCardTransferEntity expectedResult = new SuspiciousCardTransferEntity(10L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
 
         assertEquals(actualResult, expectedResult);
     }
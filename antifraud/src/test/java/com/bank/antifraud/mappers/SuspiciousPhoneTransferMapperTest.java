@@ -21,11 +21,11 @@ class SuspiciousPhoneTransferMapperTest {
 
     SuspiciousPhoneTransferDto dtoResult = new SuspiciousPhoneTransferDto(10L,
             13L, false, false,
-            "blockedReason", "suspiciousReason");
+            "blockedReason", "suspiciousReason", null);
 
     SuspiciousPhoneTransferEntity entityResult = new SuspiciousPhoneTransferEntity(10L,
             13L, false, false,
-            "blockedReason", "suspiciousReason");
+            "blockedReason", "suspiciousReason", null);
 
     @Test
     @DisplayName("маппинг в Dto")
@@ -92,13 +92,13 @@ class SuspiciousPhoneTransferMapperTest {
     void mergeToEntity() {
         SuspiciousPhoneTransferDto phoneTransferDto = new SuspiciousPhoneTransferDto(20L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
 
         SuspiciousPhoneTransferEntity actualResult = mapper.mergeToEntity(phoneTransferDto, entityResult);
 
         SuspiciousPhoneTransferEntity expectedResult = new SuspiciousPhoneTransferEntity(10L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
 
         assertEquals(actualResult, expectedResult);
     }
@@ -110,7 +110,7 @@ class SuspiciousPhoneTransferMapperTest {
 
         SuspiciousPhoneTransferEntity expectedResult = new SuspiciousPhoneTransferEntity(10L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
 
         assertEquals(actualResult, expectedResult);
     }
@@ -0,0 +1,88 @@
+package com.bank.antifraud.service.blocklist;
+
+import com.bank.antifraud.entity.TransferType;
+import com.bank.antifraud.repository.SuspiciousAccountTransferRepository;
+import com.bank.antifraud.repository.SuspiciousCardTransferRepository;
+import com.bank.antifraud.repository.SuspiciousPhoneTransferRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class BlocklistTest {
+
+    private static final Long CARD = 4276_0000_1111_2222L;
+    private static final Long PHONE = 79990001122L;
+
+    @Mock
+    SuspiciousAccountTransferRepository accountRepository;
+    @Mock
+    SuspiciousCardTransferRepository cardRepository;
+    @Mock
+    SuspiciousPhoneTransferRepository phoneRepository;
+
+    Blocklist blocklist;
+
+    @BeforeEach
+    void setUp() {
+        blocklist = new Blocklist(accountRepository, cardRepository, phoneRepository, new SimpleMeterRegistry(),
+                0.01, 1_000);
+    }
+
+    @Test
+    @DisplayName("Пересборка загружает заблокированные номера по видам переводов")
+    void rebuildTest() {
+        when(cardRepository.findBlockedRecipientNumbers()).thenReturn(List.of(CARD));
+        when(phoneRepository.findBlockedRecipientNumbers()).thenReturn(List.of(PHONE));
+
+        blocklist.rebuild();
+
+        assertAll(
+                () -> assertTrue(blocklist.isBlocked(TransferType.CARD, CARD)),
+                () -> assertTrue(blocklist.isBlocked(TransferType.PHONE, PHONE)),
+                () -> assertFalse(blocklist.isBlocked(TransferType.ACCOUNT, CARD)),
+                () -> assertFalse(blocklist.isBlocked(TransferType.CARD, null))
+        );
+    }
+
+    @Test
+    @DisplayName("Номер снимается с блокировки, только когда не осталось блокирующих записей")
+    void unblockTest() {
+        blocklist.block(TransferType.CARD, CARD);
+        when(cardRepository.existsByRecipientNumberAndIsBlockedTrue(CARD)).thenReturn(true, false);
+
+        blocklist.unblock(TransferType.CARD, CARD);
+        assertTrue(blocklist.isBlocked(TransferType.CARD, CARD));
+
+        blocklist.unblock(TransferType.CARD, CARD);
+        assertFalse(blocklist.isBlocked(TransferType.CARD, CARD));
+    }
+
+    @Test
+    @DisplayName("Смена номера в заблокированной записи переносит блокировку на новый номер")
+    void replaceTest() {
+        blocklist.block(TransferType.CARD, CARD);
+        when(cardRepository.existsByRecipientNumberAndIsBlockedTrue(CARD)).thenReturn(false);
+
+        blocklist.replace(TransferType.CARD, CARD, true, CARD + 1, true);
+
+        assertAll(
+                () -> assertFalse(blocklist.isBlocked(TransferType.CARD, CARD)),
+                () -> assertTrue(blocklist.isBlocked(TransferType.CARD, CARD + 1))
+        );
+    }
+}
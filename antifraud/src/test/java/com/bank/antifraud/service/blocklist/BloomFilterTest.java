@@ -0,0 +1,40 @@
+package com.bank.antifraud.service.blocklist;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Добавленные ключи всегда находятся, доля ложных срабатываний около заданной")
+    void falsePositiveRateTest() {
+        final BloomFilter filter = new BloomFilter(100_000, 0.01);
+        for (long key = 0; key < 100_000; key++) {
+            filter.put(key * 31);
+        }
+
+        int falsePositives = 0;
+        for (long key = 0; key < 100_000; key++) {
+            assertTrue(filter.mightContain(key * 31));
+            if (filter.mightContain(key * 31 + 1)) {
+                falsePositives++;
+            }
+        }
+
+        final int found = falsePositives;
+        assertAll(
+                () -> assertTrue(found < 2_000, "ложных срабатываний " + found),
+                () -> assertTrue(filter.bitSize() / 100_000 < 10)
+        );
+    }
+
+    @Test
+    @DisplayName("Недопустимая доля ложных срабатываний не принимается")
+    void invalidFppTest() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(10, 1));
+    }
+}
@@ -0,0 +1,57 @@
+package com.bank.antifraud.service.blocklist;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongHashSetTest {
+
+    @Test
+    @DisplayName("Добавление и удаление, включая ноль и отрицательные ключи")
+    void addRemoveTest() {
+        final LongHashSet set = new LongHashSet(4);
+
+        assertAll(
+                () -> assertTrue(set.add(0)),
+                () -> assertFalse(set.add(0)),
+                () -> assertTrue(set.add(-7)),
+                () -> assertTrue(set.add(Long.MAX_VALUE)),
+                () -> assertEquals(3, set.size()),
+                () -> assertTrue(set.remove(0)),
+                () -> assertFalse(set.contains(0)),
+                () -> assertTrue(set.contains(-7)),
+                () -> assertFalse(set.remove(42)),
+                () -> assertEquals(2, set.size())
+        );
+    }
+
+    @Test
+    @DisplayName("После роста таблицы и удалений со сдвигом цепочек множество совпадает с HashSet")
+    void randomOperationsTest() {
+        final LongHashSet set = new LongHashSet(16);
+        final Set<Long> expected = new HashSet<>();
+        final Random random = new Random(7);
+
+        for (int i = 0; i < 200_000; i++) {
+            final long key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), set.remove(key));
+            } else {
+                assertEquals(expected.add(key), set.add(key));
+            }
+        }
+
+        assertEquals(expected.size(), set.size());
+        for (long key = 0; key < 5_000; key++) {
+            assertEquals(expected.contains(key), set.contains(key));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.bank.antifraud.service.impl;
+
+import com.bank.antifraud.dto.ScoringRuleDto;
+import com.bank.antifraud.entity.ScoringRuleEntity;
+import com.bank.antifraud.mappers.ScoringRuleMapper;
+import com.bank.antifraud.repository.ScoringRuleRepository;
+import com.bank.antifraud.service.common.ExceptionReturner;
+import com.bank.antifraud.service.scoring.ScoringAction;
+import com.bank.antifraud.service.scoring.ScoringRuleReloader;
+import com.bank.common.exception.ValidationException;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class ScoringRuleServiceImplTest {
+
+    @Mock
+    ScoringRuleRepository repository;
+    @Mock
+    ScoringRuleMapper mapper;
+    @Mock
+    ScoringRuleReloader reloader;
+    @Mock
+    ExceptionReturner returner;
+    @InjectMocks
+    ScoringRuleServiceImpl service;
+
+    @Test
+    @DisplayName("сохранение правила проверки, позитивный сценарий")
+    void savePositiveTest() {
+        final ScoringRuleDto rule = dto("amount > 1000");
+        final ScoringRuleEntity entity = entity("amount > 1000");
+        when(mapper.toEntity(rule)).thenReturn(entity);
+        when(repository.save(entity)).thenReturn(entity);
+        when(mapper.toDto(entity)).thenReturn(rule);
+
+        assertEquals(rule, service.save(rule));
+        assertEquals(true, entity.getEnabled());
+        assertNotNull(entity.getUpdatedAt());
+        verify(reloader).compile(entity);
+        verify(reloader).refresh();
+    }
+
+    @Test
+    @DisplayName("сохранение правила с ошибкой в выражении, негативный сценарий")
+    void saveInvalidExpressionNegativeTest() {
+        final ScoringRuleDto rule = dto("amount >");
+        final ScoringRuleEntity entity = entity("amount >");
+        when(mapper.toEntity(rule)).thenReturn(entity);
+        when(reloader.compile(entity)).thenThrow(new IllegalArgumentException("позиция 9"));
+
+        assertThrows(ValidationException.class, () -> service.save(rule));
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("обновление несуществующего правила, негативный сценарий")
+    void updateNotFoundNegativeTest() {
+        when(repository.findById(1L)).thenReturn(Optional.empty());
+        when(returner.getEntityNotFoundException(any())).thenReturn(new EntityNotFoundException());
+
+        assertThrows(EntityNotFoundException.class, () -> service.update(1L, dto("amount > 1")));
+    }
+
+    private static ScoringRuleDto dto(String expression) {
+        return new ScoringRuleDto(null, "large", expression, ScoringAction.SUSPECT, null, Set.of(), null, null,
+                null);
+    }
+
+    private static ScoringRuleEntity entity(String expression) {
+        return new ScoringRuleEntity(null, "large", expression, ScoringAction.SUSPECT, null, null, null, null,
+                null);
+    }
+}
@@ -2,9 +2,13 @@ package com.bank.antifraud.service.impl;
 
 import com.bank.antifraud.dto.SuspiciousAccountTransferDto;
 import com.bank.antifraud.entity.SuspiciousAccountTransferEntity;
+import com.bank.antifraud.entity.TransferType;
 import com.bank.antifraud.mappers.SuspiciousAccountTransferMapper;
 import com.bank.antifraud.repository.SuspiciousAccountTransferRepository;
+import com.bank.antifraud.service.blocklist.Blocklist;
 import com.bank.antifraud.service.common.ExceptionReturner;
+import com.bank.antifraud.service.intake.PendingTransfer;
+import com.bank.antifraud.service.intake.SuspiciousTransferIntake;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 import org.junit.jupiter.api.DisplayName;
@@ -22,7 +26,9 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +41,10 @@ class SuspiciousAccountTransferServiceImplTest {
     SuspiciousAccountTransferRepository repository;
     @Mock
     ExceptionReturner returner;
+    @Mock
+    Blocklist blocklist;
+    @Mock
+    SuspiciousTransferIntake intake;
     @InjectMocks
     SuspiciousAccountTransferServiceImpl suspiciousAccountTransferService;
 
@@ -43,10 +53,10 @@ class SuspiciousAccountTransferServiceImplTest {
     void savePositiveTest() {
         SuspiciousAccountTransferDto expectedResult = new SuspiciousAccountTransferDto(1L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
         SuspiciousAccountTransferEntity transferEntity = new SuspiciousAccountTransferEntity(1L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
 
         when(mapper.toEntity(expectedResult)).thenReturn(transferEntity);
         when(repository.save(transferEntity)).thenReturn(transferEntity);
@@ -62,10 +72,10 @@ class SuspiciousAccountTransferServiceImplTest {
     void findByIdPositiveTest() {
         SuspiciousAccountTransferEntity transferEntity = new SuspiciousAccountTransferEntity(1L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
         SuspiciousAccountTransferDto transferDto = new SuspiciousAccountTransferDto(1L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
 
         doReturn(Optional.of(transferEntity)).when(repository).findById(transferEntity.getId());
         doReturn(transferDto).when(mapper).toDto(transferEntity);
@@ -93,10 +103,10 @@ class SuspiciousAccountTransferServiceImplTest {
         Long id = 1L;
         SuspiciousAccountTransferDto expectedResult = new SuspiciousAccountTransferDto(1L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
         SuspiciousAccountTransferEntity transferEntity = new SuspiciousAccountTransferEntity(1L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
 
         when(repository.findById(id)).thenReturn(Optional.of(transferEntity));
         when(mapper.mergeToEntity(expectedResult, transferEntity)).thenReturn(transferEntity);
@@ -114,13 +124,13 @@ class SuspiciousAccountTransferServiceImplTest {
         List<Long> ids = List.of(1L, 2L, 3L);
         SuspiciousAccountTransferEntity entity1 = new SuspiciousAccountTransferEntity(1L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
         SuspiciousAccountTransferEntity entity2 = new SuspiciousAccountTransferEntity(2L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
         SuspiciousAccountTransferEntity entity3 = new SuspiciousAccountTransferEntity(3L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
 
         when(repository.findById(1L)).thenReturn(Optional.of(entity1));
         when(repository.findById(2L)).thenReturn(Optional.of(entity2));
@@ -128,11 +138,11 @@ class SuspiciousAccountTransferServiceImplTest {
 
         List<SuspiciousAccountTransferDto> expectedResult = new ArrayList<>(Arrays.asList(
                 new SuspiciousAccountTransferDto(1L, 13L, false,
-                        false, "blockedReason", "suspiciousReason"),
+                        false, "blockedReason", "suspiciousReason", null),
                 new SuspiciousAccountTransferDto(2L, 13L, false,
-                        false, "blockedReason", "suspiciousReason"),
+                        false, "blockedReason", "suspiciousReason", null),
                 new SuspiciousAccountTransferDto(3L, 13L, false,
-                        false, "blockedReason", "suspiciousReason")
+                        false, "blockedReason", "suspiciousReason", null)
         ));
 
         when(mapper.toListDto(Arrays.asList(entity1, entity2, entity3))).thenReturn(expectedResult);
@@ -152,4 +162,19 @@ class SuspiciousAccountTransferServiceImplTest {
 
         assertEquals("SuspiciousAccountTransfer по данному id не существует", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("постановка SuspiciousAccountTransfer в очередь записи, позитивный сценарий")
+    void enqueuePositiveTest() {
+        SuspiciousAccountTransferDto transferDto = new SuspiciousAccountTransferDto(null,
+                13L, true, true,
+                "blockedReason", "suspiciousReason", 42L);
+
+        suspiciousAccountTransferService.enqueue(transferDto);
+
+        verify(intake).offer(argThat((PendingTransfer transfer) ->
+                transfer.getTransferType() == TransferType.ACCOUNT &&
+                        transfer.getTransferId() == 13L &&
+                        transfer.getRecipientNumber() == 42L));
+    }
+}
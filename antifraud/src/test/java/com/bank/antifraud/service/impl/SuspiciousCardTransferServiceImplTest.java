@@ -2,9 +2,13 @@ package com.bank.antifraud.service.impl;
 
 import com.bank.antifraud.dto.SuspiciousCardTransferDto;
 import com.bank.antifraud.entity.SuspiciousCardTransferEntity;
+import com.bank.antifraud.entity.TransferType;
 import com.bank.antifraud.mappers.SuspiciousCardTransferMapper;
 import com.bank.antifraud.repository.SuspiciousCardTransferRepository;
+import com.bank.antifraud.service.blocklist.Blocklist;
 import com.bank.antifraud.service.common.ExceptionReturner;
+import com.bank.antifraud.service.intake.PendingTransfer;
+import com.bank.antifraud.service.intake.SuspiciousTransferIntake;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 import org.junit.jupiter.api.DisplayName;
@@ -22,7 +26,9 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +41,10 @@ class SuspiciousCardTransferServiceImplTest {
     SuspiciousCardTransferRepository repository;
     @Mock
     ExceptionReturner returner;
+    @Mock
+    Blocklist blocklist;
+    @Mock
+    SuspiciousTransferIntake intake;
     @InjectMocks
     SuspiciousCardTransferServiceImpl suspiciousCardTransferService;
 
@@ -43,10 +53,10 @@ class SuspiciousCardTransferServiceImplTest {
     void savePositiveTest() {
         SuspiciousCardTransferDto expectedResult = new SuspiciousCardTransferDto(1L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
         SuspiciousCardTransferEntity transferEntity = new SuspiciousCardTransferEntity(1L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
 
         when(mapper.toEntity(expectedResult)).thenReturn(transferEntity);
         when(repository.save(transferEntity)).thenReturn(transferEntity);
@@ -57,15 +67,33 @@ class SuspiciousCardTransferServiceImplTest {
         assertEquals(expectedResult, actualResult);
     }
 
+    @Test
+    @DisplayName("сохранение заблокированного SuspiciousCardTransfer блокирует карту, позитивный сценарий")
+    void saveBlockedPositiveTest() {
+        SuspiciousCardTransferDto transferDto = new SuspiciousCardTransferDto(1L,
+                13L, true, true,
+                "blockedReason", "suspiciousReason", 4276000011112222L);
+        SuspiciousCardTransferEntity transferEntity = new SuspiciousCardTransferEntity(1L,
+                13L, true, true,
+                "blockedReason", "suspiciousReason", 4276000011112222L);
+
+        when(mapper.toEntity(transferDto)).thenReturn(transferEntity);
+        when(repository.save(transferEntity)).thenReturn(transferEntity);
+
+        suspiciousCardTransferService.save(transferDto);
+
+        verify(blocklist).block(TransferType.CARD, 4276000011112222L);
+    }
+
     @Test
     @DisplayName("поиск SuspiciousCardTransfer это подозрительные переводы по номеру карты по id, позитивный сценарий")
     void findByIdPositiveTest() {
         SuspiciousCardTransferEntity transferEntity = new SuspiciousCardTransferEntity(1L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
         SuspiciousCardTransferDto transferDto = new SuspiciousCardTransferDto(1L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
 
         doReturn(Optional.of(transferEntity)).when(repository).findById(transferEntity.getId());
         doReturn(transferDto).when(mapper).toDto(transferEntity);
@@ -93,10 +121,10 @@ class SuspiciousCardTransferServiceImplTest {
         Long id = 1L;
         SuspiciousCardTransferDto expectedResult = new SuspiciousCardTransferDto(1L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
         SuspiciousCardTransferEntity transferEntity = new SuspiciousCardTransferEntity(1L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
 
         when(repository.findById(id)).thenReturn(Optional.of(transferEntity));
         when(mapper.mergeToEntity(expectedResult, transferEntity)).thenReturn(transferEntity);
@@ -108,19 +136,41 @@ class SuspiciousCardTransferServiceImplTest {
         assertEquals(expectedResult, actualResult);
     }
 
+    @Test
+    @DisplayName("снятие блокировки SuspiciousCardTransfer передаёт прежний номер карты, позитивный сценарий")
+    void updateUnblockPositiveTest() {
+        SuspiciousCardTransferDto transferDto = new SuspiciousCardTransferDto(1L,
+                13L, false, true,
+                null, "suspiciousReason", 4276000011112222L);
+        SuspiciousCardTransferEntity transferEntity = new SuspiciousCardTransferEntity(1L,
+                13L, true, true,
+                "blockedReason", "suspiciousReason", 4276000011112222L);
+        SuspiciousCardTransferEntity merged = new SuspiciousCardTransferEntity(1L,
+                13L, false, true,
+                null, "suspiciousReason", 4276000011112222L);
+
+        when(repository.findById(1L)).thenReturn(Optional.of(transferEntity));
+        when(mapper.mergeToEntity(transferDto, transferEntity)).thenReturn(merged);
+        when(repository.save(merged)).thenReturn(merged);
+
+        suspiciousCardTransferService.update(1L, transferDto);
+
+        verify(blocklist).replace(TransferType.CARD, 4276000011112222L, true, 4276000011112222L, false);
+    }
+
     @Test
     @DisplayName("поиск списка SuspiciousCardTransfer это подозрительные переводы по номеру карты по id, позитивный сценарий")
     void findAllByIdPositiveTest() {
         List<Long> ids = List.of(1L, 2L, 3L);
         SuspiciousCardTransferEntity entity1 = new SuspiciousCardTransferEntity(1L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
         SuspiciousCardTransferEntity entity2 = new SuspiciousCardTransferEntity(2L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
         SuspiciousCardTransferEntity entity3 = new SuspiciousCardTransferEntity(3L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
 
         when(repository.findById(1L)).thenReturn(Optional.of(entity1));
         when(repository.findById(2L)).thenReturn(Optional.of(entity2));
@@ -128,11 +178,11 @@ class SuspiciousCardTransferServiceImplTest {
 
         List<SuspiciousCardTransferDto> expectedResult = new ArrayList<>(Arrays.asList(
                 new SuspiciousCardTransferDto(1L, 13L, false,
-                        false, "blockedReason", "suspiciousReason"),
+                        false, "blockedReason", "suspiciousReason", null),
                 new SuspiciousCardTransferDto(2L, 13L, false,
-                        false, "blockedReason", "suspiciousReason"),
+                        false, "blockedReason", "suspiciousReason", null),
                 new SuspiciousCardTransferDto(3L, 13L, false,
-                        false, "blockedReason", "suspiciousReason")
+                        false, "blockedReason", "suspiciousReason", null)
         ));
 
         when(mapper.toListDto(Arrays.asList(entity1, entity2, entity3))).thenReturn(expectedResult);
@@ -152,4 +202,19 @@ class SuspiciousCardTransferServiceImplTest {
 
         assertEquals("SuspiciousCardTransfer по данному id не существует", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("постановка SuspiciousCardTransfer в очередь записи, позитивный сценарий")
+    void enqueuePositiveTest() {
+        SuspiciousCardTransferDto transferDto = new SuspiciousCardTransferDto(null,
+                13L, true, true,
+                "blockedReason", "suspiciousReason", 42L);
+
+        suspiciousCardTransferService.enqueue(transferDto);
+
+        verify(intake).offer(argThat((PendingTransfer transfer) ->
+                transfer.getTransferType() == TransferType.CARD &&
+                        transfer.getTransferId() == 13L &&
+                        transfer.getRecipientNumber() == 42L));
+    }
+}
@@ -2,9 +2,13 @@ package com.bank.antifraud.service.impl;
 
 import com.bank.antifraud.dto.SuspiciousPhoneTransferDto;
 import com.bank.antifraud.entity.SuspiciousPhoneTransferEntity;
+import com.bank.antifraud.entity.TransferType;
 import com.bank.antifraud.mappers.SuspiciousPhoneTransferMapper;
 import com.bank.antifraud.repository.SuspiciousPhoneTransferRepository;
+import com.bank.antifraud.service.blocklist.Blocklist;
 import com.bank.antifraud.service.common.ExceptionReturner;
+import com.bank.antifraud.service.intake.PendingTransfer;
+import com.bank.antifraud.service.intake.SuspiciousTransferIntake;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 import org.junit.jupiter.api.DisplayName;
@@ -22,7 +26,9 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +41,10 @@ class SuspiciousPhoneTransferServiceImplTest {
     SuspiciousPhoneTransferRepository repository;
     @Mock
     ExceptionReturner returner;
+    @Mock
+    Blocklist blocklist;
+    @Mock
+    SuspiciousTransferIntake intake;
     @InjectMocks
     SuspiciousPhoneTransferServiceImpl suspiciousPhoneTransferService;
 
@@ -43,10 +53,10 @@ class SuspiciousPhoneTransferServiceImplTest {
     void savePositiveTest() {
         SuspiciousPhoneTransferDto expectedResult = new SuspiciousPhoneTransferDto(1L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
         SuspiciousPhoneTransferEntity transferEntity = new SuspiciousPhoneTransferEntity(1L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
 
         when(mapper.toEntity(expectedResult)).thenReturn(transferEntity);
         when(repository.save(transferEntity)).thenReturn(transferEntity);
@@ -62,10 +72,10 @@ class SuspiciousPhoneTransferServiceImplTest {
     void findByIdPositiveTest() {
         SuspiciousPhoneTransferEntity transferEntity = new SuspiciousPhoneTransferEntity(1L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
         SuspiciousPhoneTransferDto transferDto = new SuspiciousPhoneTransferDto(1L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
 
         doReturn(Optional.of(transferEntity)).when(repository).findById(transferEntity.getId());
         doReturn(transferDto).when(mapper).toDto(transferEntity);
@@ -93,10 +103,10 @@ class SuspiciousPhoneTransferServiceImplTest {
         Long id = 1L;
         SuspiciousPhoneTransferDto expectedResult = new SuspiciousPhoneTransferDto(1L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
         SuspiciousPhoneTransferEntity transferEntity = new SuspiciousPhoneTransferEntity(1L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
 
         when(repository.findById(id)).thenReturn(Optional.of(transferEntity));
         when(mapper.mergeToEntity(expectedResult, transferEntity)).thenReturn(transferEntity);
@@ -114,13 +124,13 @@ class SuspiciousPhoneTransferServiceImplTest {
         List<Long> ids = List.of(1L, 2L, 3L);
         SuspiciousPhoneTransferEntity entity1 = new SuspiciousPhoneTransferEntity(1L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
         SuspiciousPhoneTransferEntity entity2 = new SuspiciousPhoneTransferEntity(2L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
         SuspiciousPhoneTransferEntity entity3 = new SuspiciousPhoneTransferEntity(3L,
                 13L, false, false,
-                "blockedReason", "suspiciousReason");
+                "blockedReason", "suspiciousReason", null);
 
         when(repository.findById(1L)).thenReturn(Optional.of(entity1));
         when(repository.findById(2L)).thenReturn(Optional.of(entity2));
@@ -128,11 +138,11 @@ class SuspiciousPhoneTransferServiceImplTest {
 
         List<SuspiciousPhoneTransferDto> expectedResult = new ArrayList<>(Arrays.asList(
                 new SuspiciousPhoneTransferDto(1L, 13L, false,
-                        false, "blockedReason", "suspiciousReason"),
+                        false, "blockedReason", "suspiciousReason", null),
                 new SuspiciousPhoneTransferDto(2L, 13L, false,
-                        false, "blockedReason", "suspiciousReason"),
+                        false, "blockedReason", "suspiciousReason", null),
                 new SuspiciousPhoneTransferDto(3L, 13L, false,
-                        false, "blockedReason", "suspiciousReason")
+                        false, "blockedReason", "suspiciousReason", null)
         ));
 
         when(mapper.toListDto(Arrays.asList(entity1, entity2, entity3))).thenReturn(expectedResult);
@@ -152,4 +162,19 @@ class SuspiciousPhoneTransferServiceImplTest {
 
         assertEquals("SuspiciousPhoneTransfer по данному id не существует", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("постановка SuspiciousPhoneTransfer в очередь записи, позитивный сценарий")
+    void enqueuePositiveTest() {
+        SuspiciousPhoneTransferDto transferDto = new SuspiciousPhoneTransferDto(null,
+                13L, true, true,
+                "blockedReason", "suspiciousReason", 42L);
+
+        suspiciousPhoneTransferService.enqueue(transferDto);
+
+        verify(intake).offer(argThat((PendingTransfer transfer) ->
+                transfer.getTransferType() == TransferType.PHONE &&
+                        transfer.getTransferId() == 13L &&
+                        transfer.getRecipientNumber() == 42L));
+    }
+}
@@ -0,0 +1,119 @@
+package com.bank.antifraud.service.impl;
+
+import com.bank.antifraud.config.ScoringProperties;
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.dto.TransferVerdictDto;
+import com.bank.antifraud.entity.SuspiciousCardTransferEntity;
+import com.bank.antifraud.entity.TransferType;
+import com.bank.antifraud.repository.SuspiciousAccountTransferRepository;
+import com.bank.antifraud.repository.SuspiciousCardTransferRepository;
+import com.bank.antifraud.repository.SuspiciousPhoneTransferRepository;
+import com.bank.antifraud.service.blocklist.Blocklist;
+import com.bank.antifraud.service.scoring.ScoringEngine;
+import com.bank.antifraud.service.scoring.ScoringRule;
+import com.bank.antifraud.service.velocity.VelocityDimension;
+import com.bank.antifraud.service.velocity.VelocityRegistry;
+import com.bank.antifraud.service.velocity.VelocityWindow;
+import com.bank.common.exception.ValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class TransferScoringServiceImplTest {
+
+    @Mock
+    SuspiciousAccountTransferRepository accountRepository;
+    @Mock
+    SuspiciousCardTransferRepository cardRepository;
+    @Mock
+    SuspiciousPhoneTransferRepository phoneRepository;
+    @Mock
+    Blocklist blocklist;
+
+    VelocityRegistry velocity;
+    TransferScoringServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        final ScoringProperties.Rule rule = new ScoringProperties.Rule();
+        rule.setName("large");
+        rule.setAmountAbove(BigDecimal.valueOf(1000));
+        velocity = new VelocityRegistry(1000, new SimpleMeterRegistry());
+        service = new TransferScoringServiceImpl(new ScoringEngine(List.of(ScoringRule.of(rule, velocity, blocklist))),
+                velocity, blocklist, accountRepository, cardRepository, phoneRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Чистый перевод не записывается, позитивный сценарий")
+    void scoreCleanTest() {
+        final TransferVerdictDto verdict = service.score(transfer(TransferType.PHONE, "10"));
+
+        assertEquals(new TransferVerdictDto(TransferType.PHONE, 5L, null, false, false, null, null), verdict);
+        verifyNoInteractions(accountRepository, cardRepository, phoneRepository);
+    }
+
+    @Test
+    @DisplayName("Подозрительный перевод по номеру карты записывается, позитивный сценарий")
+    void scoreSuspiciousTest() {
+        final SuspiciousCardTransferEntity saved = new SuspiciousCardTransferEntity(1L, 5L, false, true,
+                null, "large", 200L);
+        when(cardRepository.findByCardTransferId(5L)).thenReturn(Optional.empty());
+        when(cardRepository.save(new SuspiciousCardTransferEntity(null, 5L, false, true, null, "large", 200L)))
+                .thenReturn(saved);
+
+        assertEquals(new TransferVerdictDto(TransferType.CARD, 5L, 1L, false, true, null, "large"),
+                service.score(transfer(TransferType.CARD, "5000")));
+        verifyNoInteractions(blocklist);
+    }
+
+    @Test
+    @DisplayName("Повторная проверка возвращает записанный вердикт, позитивный сценарий")
+    void scoreRepeatedTest() {
+        when(cardRepository.findByCardTransferId(5L)).thenReturn(Optional.of(
+                new SuspiciousCardTransferEntity(1L, 5L, true, true, "manual", "manual", null)));
+
+        assertEquals(new TransferVerdictDto(TransferType.CARD, 5L, 1L, true, true, "manual", "manual"),
+                service.score(transfer(TransferType.CARD, "5000")));
+        verify(cardRepository, never()).save(any(SuspiciousCardTransferEntity.class));
+    }
+
+    @Test
+    @DisplayName("Повторная проверка не увеличивает скоростные счётчики")
+    void scoreRepeatedVelocityTest() {
+        service.score(transfer(TransferType.PHONE, "10"));
+        service.score(transfer(TransferType.PHONE, "10"));
+
+        assertEquals(1, velocity.count(VelocityDimension.ACCOUNT, 10L, VelocityWindow.DAY,
+                System.currentTimeMillis()));
+    }
+
+    @Test
+    @DisplayName("Перевод без вида не проверяется, негативный сценарий")
+    void scoreWithoutTypeNegativeTest() {
+        assertThrows(ValidationException.class, () -> service.score(transfer(null, "5000")));
+    }
+
+    private static TransferScoringDto transfer(TransferType type, String amount) {
+        return new TransferScoringDto(type, 5L, 10L, 200L, new BigDecimal(amount));
+    }
+}
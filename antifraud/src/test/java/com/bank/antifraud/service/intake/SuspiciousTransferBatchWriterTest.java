@@ -0,0 +1,120 @@
+package com.bank.antifraud.service.intake;
+
+import com.bank.antifraud.entity.TransferType;
+import com.bank.antifraud.service.blocklist.Blocklist;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class SuspiciousTransferBatchWriterTest {
+
+    private static final Long CARD = 4276_0000_1111_2222L;
+    private static final Long PHONE = 79990001122L;
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+    @Mock
+    PlatformTransactionManager transactionManager;
+    @Mock
+    Blocklist blocklist;
+
+    SuspiciousTransferBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new SuspiciousTransferBatchWriter(jdbcTemplate, new TransactionTemplate(transactionManager),
+                blocklist);
+    }
+
+    @Test
+    @DisplayName("Пакет раскладывается по таблицам, заблокированные номера попадают в список блокировок")
+    void writePositiveTest() {
+        when(jdbcTemplate.batchUpdate(argThat(sqlFor("suspicious_card_transfer")), anyList(), any(int[].class)))
+                .thenReturn(new int[]{1, 1});
+        when(jdbcTemplate.batchUpdate(argThat(sqlFor("suspicious_phone_transfer")), anyList(), any(int[].class)))
+                .thenReturn(new int[]{1});
+
+        writer.write(List.of(
+                new PendingTransfer(TransferType.CARD, 1L, true, true, "blocked", null, CARD),
+                new PendingTransfer(TransferType.PHONE, 2L, true, true, "blocked", null, PHONE),
+                new PendingTransfer(TransferType.CARD, 3L, false, true, null, "suspicious", 1L)
+        ));
+
+        verify(blocklist).block(TransferType.CARD, CARD);
+        verify(blocklist).block(TransferType.PHONE, PHONE);
+        verify(blocklist, never()).block(eq(TransferType.CARD), eq(1L));
+        verify(jdbcTemplate, never()).batchUpdate(argThat(sqlFor("suspicious_account_transfer")), anyList(),
+                any(int[].class));
+    }
+
+    @Test
+    @DisplayName("Повтор уже записанного перевода не трогает список блокировок, негативный сценарий")
+    void writeDuplicateNegativeTest() {
+        when(jdbcTemplate.batchUpdate(any(String.class), anyList(), any(int[].class))).thenReturn(new int[]{0});
+
+        writer.write(List.of(new PendingTransfer(TransferType.CARD, 1L, true, true, "blocked", null, CARD)));
+
+        verify(blocklist, never()).block(any(TransferType.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("Отклонённый пакет пишется по одной строке, отклонённая строка отбрасывается, негативный сценарий")
+    void writeRejectedRowNegativeTest() {
+        when(jdbcTemplate.batchUpdate(any(String.class), anyList(), any(int[].class)))
+                .thenThrow(new DataIntegrityViolationException("null value in column \"suspicious_reason\""))
+                .thenReturn(new int[]{1})
+                .thenThrow(new DataIntegrityViolationException("null value in column \"suspicious_reason\""));
+
+        final int dropped = writer.write(List.of(
+                new PendingTransfer(TransferType.CARD, 1L, true, true, "blocked", "reason", CARD),
+                new PendingTransfer(TransferType.CARD, 2L, false, true, null, null, 1L)
+        ));
+
+        assertEquals(1, dropped);
+        verify(jdbcTemplate, times(3)).batchUpdate(any(String.class), anyList(), any(int[].class));
+        verify(blocklist).block(TransferType.CARD, CARD);
+    }
+
+    @Test
+    @DisplayName("Прочая ошибка БД пробрасывается для повтора пакета, негативный сценарий")
+    void writeDatabaseDownNegativeTest() {
+        when(jdbcTemplate.batchUpdate(any(String.class), anyList(), any(int[].class)))
+                .thenThrow(new CannotGetJdbcConnectionException("db is down"));
+        final List<PendingTransfer> batch = List.of(
+                new PendingTransfer(TransferType.CARD, 1L, true, true, "blocked", "reason", CARD));
+
+        assertThrows(CannotGetJdbcConnectionException.class, () -> writer.write(batch));
+        verify(jdbcTemplate, times(1)).batchUpdate(any(String.class), anyList(), any(int[].class));
+    }
+
+    private static ArgumentMatcher<String> sqlFor(String table) {
+        return sql -> sql != null && sql.contains(table);
+    }
+}
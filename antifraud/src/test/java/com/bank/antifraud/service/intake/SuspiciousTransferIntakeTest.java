@@ -0,0 +1,133 @@
+package com.bank.antifraud.service.intake;
+
+import com.bank.antifraud.entity.TransferType;
+import com.bank.common.exception.TooManyRequestsException;
+import com.bank.common.exception.ValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class SuspiciousTransferIntakeTest {
+
+    private static final long NOW = 1_000_000L;
+    private static final long RETRY_DELAY = 1_000L;
+
+    @Mock
+    SuspiciousTransferBatchWriter writer;
+
+    SuspiciousTransferIntake intake;
+    final List<Integer> batchSizes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        intake = new SuspiciousTransferIntake(writer, new SimpleMeterRegistry(), 3, 2, 0, RETRY_DELAY);
+    }
+
+    @Test
+    @DisplayName("Очередь пишется пакетами не больше batch-size, позитивный сценарий")
+    void flushPositiveTest() {
+        doAnswer(this::recordBatchSize).when(writer).write(anyList());
+        intake.offer(transfer(1L));
+        intake.offer(transfer(2L));
+        intake.offer(transfer(3L));
+
+        final int written = intake.flush(NOW);
+
+        assertAll(
+                () -> assertEquals(3, written),
+                () -> assertEquals(List.of(2, 1), batchSizes),
+                () -> assertEquals(0, intake.pending())
+        );
+    }
+
+    @Test
+    @DisplayName("Переполненная очередь отклоняет перевод, негативный сценарий")
+    void offerQueueFullNegativeTest() {
+        intake.offer(transfer(1L));
+        intake.offer(transfer(2L));
+        intake.offer(transfer(3L));
+
+        assertThrows(TooManyRequestsException.class, () -> intake.offer(transfer(4L)));
+        assertEquals(3, intake.pending());
+    }
+
+    @Test
+    @DisplayName("Перевод без id не принимается в очередь, негативный сценарий")
+    void offerWithoutTransferIdNegativeTest() {
+        assertThrows(ValidationException.class, () -> intake.offer(transfer(null)));
+        verify(writer, never()).write(anyList());
+    }
+
+    @Test
+    @DisplayName("Перевод без полей, обязательных в таблице, не принимается в очередь, негативный сценарий")
+    void offerWithoutRequiredFieldsNegativeTest() {
+        assertAll(
+                () -> assertThrows(ValidationException.class, () -> intake.offer(new PendingTransfer(
+                        TransferType.CARD, 1L, null, true, null, "reason", null))),
+                () -> assertThrows(ValidationException.class, () -> intake.offer(new PendingTransfer(
+                        TransferType.CARD, 1L, false, null, null, "reason", null))),
+                () -> assertThrows(ValidationException.class, () -> intake.offer(new PendingTransfer(
+                        TransferType.CARD, 1L, false, true, null, null, null)))
+        );
+        assertEquals(0, intake.pending());
+    }
+
+    @Test
+    @DisplayName("Отброшенные писателем переводы не считаются записанными и не остаются в очереди")
+    void flushDroppedTest() {
+        when(writer.write(anyList())).thenReturn(1);
+        intake.offer(transfer(1L));
+        intake.offer(transfer(2L));
+
+        assertAll(
+                () -> assertEquals(1, intake.flush(NOW)),
+                () -> assertEquals(0, intake.pending())
+        );
+    }
+
+    @Test
+    @DisplayName("Не записанный пакет повторяется после retry-delay, негативный сценарий")
+    void flushRetryNegativeTest() {
+        doThrow(new IllegalStateException("db is down")).when(writer).write(anyList());
+        intake.offer(transfer(1L));
+
+        assertThrows(IllegalStateException.class, () -> intake.flush(NOW));
+        assertEquals(0, intake.flush(NOW + RETRY_DELAY - 1));
+        assertEquals(1, intake.pending());
+
+        doAnswer(this::recordBatchSize).when(writer).write(anyList());
+        assertEquals(1, intake.flush(NOW + RETRY_DELAY));
+        assertEquals(List.of(1), batchSizes);
+    }
+
+    private int recordBatchSize(InvocationOnMock invocation) {
+        batchSizes.add(invocation.<List<PendingTransfer>>getArgument(0).size());
+        return 0;
+    }
+
+    private static PendingTransfer transfer(Long transferId) {
+        return new PendingTransfer(TransferType.CARD, transferId, false, true, null, "reason", 4276000011112222L);
+    }
+}
@@ -0,0 +1,93 @@
+package com.bank.antifraud.service.scoring;
+
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.entity.TransferType;
+import com.bank.antifraud.repository.SuspiciousAccountTransferRepository;
+import com.bank.antifraud.repository.SuspiciousCardTransferRepository;
+import com.bank.antifraud.repository.SuspiciousPhoneTransferRepository;
+import com.bank.antifraud.service.blocklist.Blocklist;
+import com.bank.antifraud.service.velocity.VelocityRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class RuleExpressionCompilerTest {
+
+    private static final Long CARD = 4276_0000_1111_2222L;
+
+    private final VelocityRegistry velocity = new VelocityRegistry(1000, new SimpleMeterRegistry());
+    private final Blocklist blocklist = new Blocklist(mock(SuspiciousAccountTransferRepository.class),
+            mock(SuspiciousCardTransferRepository.class), mock(SuspiciousPhoneTransferRepository.class),
+            new SimpleMeterRegistry(), 0.01, 1000);
+    private final RuleExpressionCompiler compiler = new RuleExpressionCompiler(velocity, blocklist);
+    private final TransferScoringDto transfer = new TransferScoringDto(TransferType.CARD, 1L, 10L, CARD,
+            new BigDecimal("1000.01"));
+
+    @ParameterizedTest
+    @DisplayName("Выражения над полями перевода вычисляются с приоритетом not, and, or")
+    @CsvSource(delimiter = '|', value = {
+            "amount > 1000 | true",
+            "amount >= 1000.01 and amount <= 1000.01 | true",
+            "amount > 1000.01 | false",
+            "recipient in (1, 4276000011112222) | true",
+            "not recipient in (1, 2) | true",
+            "account == 10 and amount < 5 or recipient != 1 | true",
+            "account == 10 and (amount < 5 or recipient == 1) | false",
+            "account < recipient | true",
+            "true == (amount > 1) | true"
+    })
+    void compileFieldsTest(String expression, boolean expected) {
+        assertEquals(expected, compiler.compile(expression).test(transfer));
+    }
+
+    @Test
+    @DisplayName("Сравнение с пустым полем ложно при любом операторе")
+    void compileNullFieldTest() {
+        final TransferScoringDto empty = new TransferScoringDto(TransferType.CARD, 1L, 10L, null, null);
+
+        assertFalse(compiler.compile("amount > 5").test(empty));
+        assertFalse(compiler.compile("amount != 5").test(empty));
+        assertFalse(compiler.compile("recipient in (1)").test(empty));
+    }
+
+    @Test
+    @DisplayName("Функции читают скоростные счётчики и список блокировок на момент проверки")
+    void compileFunctionsTest() {
+        final Predicate<TransferScoringDto> burst =
+                compiler.compile("count(account, minute) > 1 and sum(ACCOUNT, HOUR) > 2000");
+        final Predicate<TransferScoringDto> blocked = compiler.compile("blocked()");
+
+        velocity.record(transfer, System.currentTimeMillis());
+        assertFalse(burst.test(transfer));
+        velocity.record(new TransferScoringDto(TransferType.CARD, 2L, 10L, CARD, new BigDecimal("1000.01")),
+                System.currentTimeMillis());
+        assertTrue(burst.test(transfer));
+
+        assertFalse(blocked.test(transfer));
+        blocklist.block(TransferType.CARD, CARD);
+        assertTrue(blocked.test(transfer));
+    }
+
+    @ParameterizedTest
+    @DisplayName("Ошибка в выражении сообщается с позицией, негативный сценарий")
+    @ValueSource(strings = {
+            "", "amount", "amount >", "amount = 5", "foo > 1", "count(x, minute) > 1", "recipient in (1.5)",
+            "amount in (1)", "amount > 5 )", "blocked() > 1", "#", "99999999999999999999 > 1",
+            "((((((((((((((((((((((((((((((((((true))))))))))))))))))))))))))))))))))"
+    })
+    void compileErrorTest(String expression) {
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile(expression));
+    }
+}
@@ -0,0 +1,141 @@
+package com.bank.antifraud.service.scoring;
+
+import com.bank.antifraud.config.ScoringProperties;
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.entity.TransferType;
+import com.bank.antifraud.repository.SuspiciousAccountTransferRepository;
+import com.bank.antifraud.repository.SuspiciousCardTransferRepository;
+import com.bank.antifraud.repository.SuspiciousPhoneTransferRepository;
+import com.bank.antifraud.service.blocklist.Blocklist;
+import com.bank.antifraud.service.velocity.VelocityDimension;
+import com.bank.antifraud.service.velocity.VelocityRegistry;
+import com.bank.antifraud.service.velocity.VelocityWindow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class ScoringEngineTest {
+
+    private static final VelocityRegistry VELOCITY = new VelocityRegistry(1000, new SimpleMeterRegistry());
+    private static final Blocklist BLOCKLIST = new Blocklist(mock(SuspiciousAccountTransferRepository.class),
+            mock(SuspiciousCardTransferRepository.class), mock(SuspiciousPhoneTransferRepository.class),
+            new SimpleMeterRegistry(), 0.01, 1000);
+
+    private final ScoringEngine engine = new ScoringEngine(List.of(
+            rule("large", ScoringAction.SUSPECT, Set.of(), BigDecimal.valueOf(1000), Set.of()),
+            rule("mule", ScoringAction.BLOCK, Set.of(TransferType.CARD), null, Set.of(777L))
+    ));
+
+    @Test
+    @DisplayName("Перевод без сработавших правил чистый")
+    void evaluateCleanTest() {
+        assertSame(ScoringVerdict.CLEAN, engine.evaluate(transfer(TransferType.CARD, 1L, "1000")));
+    }
+
+    @Test
+    @DisplayName("Причины всех сработавших правил попадают в вердикт, блокирующие - и в причину блокировки")
+    void evaluateBlockedTest() {
+        final ScoringVerdict verdict = engine.evaluate(transfer(TransferType.CARD, 777L, "1000.01"));
+
+        assertAll(
+                () -> assertTrue(verdict.isBlocked()),
+                () -> assertTrue(verdict.isSuspicious()),
+                () -> assertEquals("mule", verdict.getBlockedReason()),
+                () -> assertEquals("large; mule", verdict.getSuspiciousReason())
+        );
+    }
+
+    @Test
+    @DisplayName("Правило не применяется к другим видам переводов")
+    void evaluateOtherTypeTest() {
+        final ScoringVerdict verdict = engine.evaluate(transfer(TransferType.PHONE, 777L, "10"));
+
+        assertFalse(verdict.isSuspicious());
+    }
+
+    @Test
+    @DisplayName("Скоростное правило срабатывает, когда переводов по ключу за окно больше порога")
+    void evaluateVelocityTest() {
+        final ScoringProperties.Rule rule = new ScoringProperties.Rule();
+        rule.setName("burst");
+        rule.setVelocityDimension(VelocityDimension.ACCOUNT);
+        rule.setVelocityWindow(VelocityWindow.MINUTE);
+        rule.setCountAbove(1L);
+        final ScoringEngine velocityEngine = new ScoringEngine(List.of(ScoringRule.of(rule, VELOCITY, BLOCKLIST)));
+        final TransferScoringDto transfer = new TransferScoringDto(TransferType.PHONE, 1L, 42L, 1L, BigDecimal.ONE);
+
+        VELOCITY.record(transfer, System.currentTimeMillis());
+        assertFalse(velocityEngine.evaluate(transfer).isSuspicious());
+
+        VELOCITY.record(new TransferScoringDto(TransferType.PHONE, 2L, 42L, 1L, BigDecimal.ONE),
+                System.currentTimeMillis());
+        assertEquals("burst", velocityEngine.evaluate(transfer).getSuspiciousReason());
+    }
+
+    @Test
+    @DisplayName("Правило blocklisted срабатывает на заблокированного получателя своего вида перевода")
+    void evaluateBlocklistedTest() {
+        final ScoringProperties.Rule rule = new ScoringProperties.Rule();
+        rule.setName("blocklisted");
+        rule.setAction(ScoringAction.BLOCK);
+        rule.setBlocklisted(true);
+        final ScoringEngine blocklistEngine = new ScoringEngine(List.of(ScoringRule.of(rule, VELOCITY, BLOCKLIST)));
+
+        BLOCKLIST.block(TransferType.CARD, 555L);
+
+        assertAll(
+                () -> assertTrue(blocklistEngine.evaluate(transfer(TransferType.CARD, 555L, "1")).isBlocked()),
+                () -> assertFalse(blocklistEngine.evaluate(transfer(TransferType.PHONE, 555L, "1")).isBlocked()),
+                () -> assertFalse(blocklistEngine.evaluate(transfer(TransferType.CARD, 556L, "1")).isBlocked())
+        );
+    }
+
+    @Test
+    @DisplayName("Замена набора оставляет правила из настроек первыми и целиком заменяет загруженные")
+    void replaceTest() {
+        final ScoringEngine replaced = new ScoringEngine(List.of(
+                rule("large", ScoringAction.SUSPECT, Set.of(), BigDecimal.valueOf(1000), Set.of())));
+        final TransferScoringDto transfer = transfer(TransferType.PHONE, 777L, "5000");
+
+        replaced.replace(List.of(ScoringRule.of("loaded", null, null, Set.of(), candidate -> true)));
+        assertEquals("large; loaded", replaced.evaluate(transfer).getSuspiciousReason());
+
+        replaced.replace(List.of());
+        assertEquals("large", replaced.evaluate(transfer).getSuspiciousReason());
+        assertEquals(1, replaced.ruleCount());
+    }
+
+    @Test
+    @DisplayName("Правило без условий не собирается")
+    void ruleWithoutConditionTest() {
+        assertThrows(IllegalStateException.class,
+                () -> rule("empty", ScoringAction.SUSPECT, Set.of(), null, Set.of()));
+    }
+
+    private static ScoringRule rule(String name, ScoringAction action, Set<TransferType> types,
+                                    BigDecimal amountAbove, Set<Long> recipients) {
+        final ScoringProperties.Rule rule = new ScoringProperties.Rule();
+        rule.setName(name);
+        rule.setAction(action);
+        rule.setTransferTypes(types);
+        rule.setAmountAbove(amountAbove);
+        rule.setRecipients(recipients);
+        return ScoringRule.of(rule, VELOCITY, BLOCKLIST);
+    }
+
+    private static TransferScoringDto transfer(TransferType type, Long recipient, String amount) {
+        return new TransferScoringDto(type, 1L, 10L, recipient, new BigDecimal(amount));
+    }
+}
@@ -0,0 +1,93 @@
+package com.bank.antifraud.service.scoring;
+
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.entity.ScoringRuleEntity;
+import com.bank.antifraud.entity.TransferType;
+import com.bank.antifraud.mappers.ScoringRuleMapper;
+import com.bank.antifraud.repository.ScoringRuleRepository;
+import com.bank.antifraud.service.blocklist.Blocklist;
+import com.bank.antifraud.service.velocity.VelocityRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class ScoringRuleReloaderTest {
+
+    @Mock
+    ScoringRuleRepository repository;
+
+    ScoringEngine engine;
+    ScoringRuleReloader reloader;
+
+    @BeforeEach
+    void setUp() {
+        engine = new ScoringEngine(List.of());
+        final RuleExpressionCompiler compiler = new RuleExpressionCompiler(mock(VelocityRegistry.class),
+                mock(Blocklist.class));
+        reloader = new ScoringRuleReloader(engine, compiler, repository, Mappers.getMapper(ScoringRuleMapper.class),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Набор правил перезагружается только при смене отпечатка таблицы")
+    void reloadIfChangedTest() {
+        when(repository.fingerprint()).thenReturn(1L, 1L, 2L);
+        when(repository.findAllByEnabledTrueOrderByIdAsc()).thenReturn(
+                List.of(rule("large", "amount > 1000", null)),
+                List.of(rule("large", "amount > 1000", null), rule("cards", "amount > 10", "CARD")));
+
+        assertTrue(reloader.reloadIfChanged());
+        assertEquals(1, engine.ruleCount());
+        assertFalse(reloader.reloadIfChanged());
+        assertTrue(reloader.reloadIfChanged());
+
+        assertAll(
+                () -> assertEquals("large; cards", engine.evaluate(transfer(TransferType.CARD)).getSuspiciousReason()),
+                () -> assertEquals("large", engine.evaluate(transfer(TransferType.PHONE)).getSuspiciousReason())
+        );
+        verify(repository, times(2)).findAllByEnabledTrueOrderByIdAsc();
+    }
+
+    @Test
+    @DisplayName("Правило с ошибкой в выражении пропускается, остальные загружаются, негативный сценарий")
+    void reloadInvalidRuleTest() {
+        when(repository.fingerprint()).thenReturn(1L);
+        when(repository.findAllByEnabledTrueOrderByIdAsc()).thenReturn(
+                List.of(rule("broken", "amount >", null), rule("large", "amount > 1000", null)));
+
+        reloader.reloadIfChanged();
+
+        assertEquals(1, engine.ruleCount());
+    }
+
+    private static ScoringRuleEntity rule(String name, String expression, String types) {
+        return new ScoringRuleEntity(null, name, expression, ScoringAction.SUSPECT, null, types, true, 0L,
+                LocalDateTime.now());
+    }
+
+    private static TransferScoringDto transfer(TransferType type) {
+        return new TransferScoringDto(type, 1L, 10L, 20L, BigDecimal.valueOf(5000));
+    }
+}
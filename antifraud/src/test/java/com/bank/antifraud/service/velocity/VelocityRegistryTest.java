@@ -0,0 +1,108 @@
+package com.bank.antifraud.service.velocity;
+
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.entity.TransferType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VelocityRegistryTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final Long CARD = 4276_0000_0000_0001L;
+
+    private static final AtomicLong TRANSFER_ID = new AtomicLong();
+
+    private final VelocityRegistry registry = new VelocityRegistry(2, new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("Перевод учитывается по счёту отправителя и номеру получателя во всех окнах")
+    void recordTest() {
+        registry.record(card(1L, "100.50"), NOW);
+        registry.record(card(1L, "0.50"), NOW + 1_000);
+
+        assertAll(
+                () -> assertEquals(2, registry.count(VelocityDimension.ACCOUNT, 1L, VelocityWindow.DAY, NOW + 1_000)),
+                () -> assertEquals(2, registry.count(VelocityDimension.CARD, CARD, VelocityWindow.MINUTE, NOW + 1_000)),
+                () -> assertEquals(new BigDecimal("101.00"),
+                        registry.sum(VelocityDimension.CARD, CARD, VelocityWindow.HOUR, NOW + 1_000)),
+                () -> assertEquals(0, registry.count(VelocityDimension.PHONE, CARD, VelocityWindow.DAY, NOW))
+        );
+    }
+
+    @Test
+    @DisplayName("Переводы старше окна не учитываются")
+    void windowExpiryTest() {
+        registry.record(card(1L, "10"), NOW);
+
+        final long later = NOW + VelocityWindow.MINUTE.getMillis() + VelocityWindow.MINUTE.getBucketMillis();
+        assertAll(
+                () -> assertEquals(0, registry.count(VelocityDimension.ACCOUNT, 1L, VelocityWindow.MINUTE, later)),
+                () -> assertEquals(1, registry.count(VelocityDimension.ACCOUNT, 1L, VelocityWindow.HOUR, later))
+        );
+    }
+
+    @Test
+    @DisplayName("Сверх лимита ключей новые ключи не учитываются до очистки простаивающих")
+    void maxKeysAndEvictionTest() {
+        registry.record(card(1L, "10"), NOW);
+        registry.record(card(2L, "10"), NOW);
+        registry.record(card(3L, "10"), NOW);
+        assertEquals(0, registry.count(VelocityDimension.ACCOUNT, 3L, VelocityWindow.DAY, NOW));
+
+        final long idle = NOW + VelocityWindow.DAY.getMillis() + 1;
+        assertEquals(3, registry.evictIdle(idle));
+
+        registry.record(card(3L, "10"), idle);
+        assertEquals(1, registry.count(VelocityDimension.ACCOUNT, 3L, VelocityWindow.DAY, idle));
+    }
+
+    @Test
+    @DisplayName("Повторная проверка того же перевода не учитывается")
+    void recordRepeatedTest() {
+        final TransferScoringDto transfer = card(1L, "10");
+        registry.record(transfer, NOW);
+        registry.record(transfer, NOW + 1_000);
+
+        assertAll(
+                () -> assertEquals(1, registry.count(VelocityDimension.ACCOUNT, 1L, VelocityWindow.MINUTE,
+                        NOW + 1_000)),
+                () -> assertEquals(new BigDecimal("10.00"),
+                        registry.sum(VelocityDimension.CARD, CARD, VelocityWindow.MINUTE, NOW + 1_000))
+        );
+    }
+
+    @Test
+    @DisplayName("Параллельная запись в один ключ не теряет переводы")
+    void concurrentRecordTest() throws InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8_000; i++) {
+            final long time = NOW + i;
+            executor.execute(() -> registry.record(card(1L, "1"), time));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertAll(
+                () -> assertEquals(8_000, registry.count(VelocityDimension.ACCOUNT, 1L, VelocityWindow.MINUTE,
+                        NOW + 8_000)),
+                () -> assertEquals(new BigDecimal("8000.00"), registry.sum(VelocityDimension.ACCOUNT, 1L,
+                        VelocityWindow.MINUTE, NOW + 8_000))
+        );
+    }
+
+    private static TransferScoringDto card(Long accountDetailsId, String amount) {
+        return new TransferScoringDto(TransferType.CARD, TRANSFER_ID.incrementAndGet(), accountDetailsId, CARD,
+                new BigDecimal(amount));
+    }
+}
@@ -0,0 +1,31 @@
+package com.bank.common.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception при переполнении очереди обработки, клиенту следует повторить запрос позже.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(String message) {
+        this(message, null);
+    }
+
+    /**
+     * @param message    текст ошибки
+     * @param retryAfter через сколько повторить запрос, уходит клиенту в заголовке Retry-After
+     */
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return через сколько повторить запрос, null если не задано
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -1,12 +1,15 @@
 package com.bank.common.handler;
 
+import com.bank.common.exception.TooManyRequestsException;
 import com.bank.common.exception.ValidationException;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.TypeMismatchException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -37,6 +40,8 @@ public class GlobalRestExceptionHandler {
 
     private static final String METHOD_NOT_ALLOWED_MESSAGE = "Выбранный вами метод не поддерживается.";
 
+    private static final String UNSUPPORTED_MEDIA_TYPE_MESSAGE = "Формат тела запроса не поддерживается.";
+
     /**
      * @param ex {@link HttpMessageNotReadableException}.
      * @return {@link ResponseEntity} с текстом ошибки и HttpStatus.BAD_REQUEST.
@@ -121,6 +126,16 @@ public class GlobalRestExceptionHandler {
         return new ResponseEntity<>(METHOD_NOT_ALLOWED_MESSAGE, HttpStatus.METHOD_NOT_ALLOWED);
     }
 
+    /**
+     * @param ex {@link HttpMediaTypeNotSupportedException}.
+     * @return {@link ResponseEntity} с текстом ошибки и HttpStatus.UNSUPPORTED_MEDIA_TYPE.
+     */
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    public ResponseEntity<String> handleHttpMediaTypeNotSupported(HttpMediaTypeNotSupportedException ex) {
+        log.error(ex.getMessage(), ex);
+        return new ResponseEntity<>(UNSUPPORTED_MEDIA_TYPE_MESSAGE, HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+    }
+
     /**
      * @param ex {@link UnsupportedOperationException}.
      * @return {@link ResponseEntity} с текстом ошибки и HttpStatus.NOT_ACCEPTABLE.
@@ -172,6 +187,22 @@ public class GlobalRestExceptionHandler {
         return new ResponseEntity<>(message, HttpStatus.UNPROCESSABLE_ENTITY);
     }
 
+    /**
+     * @param ex {@link TooManyRequestsException}.
+     * @return {@link ResponseEntity} с текстом ошибки, заголовком Retry-After, если он задан,
+     * и HttpStatus.TOO_MANY_REQUESTS.
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<String> handleTooManyRequests(TooManyRequestsException ex) {
+        final String message = ex.getMessage();
+        log.warn(message);
+        final HttpHeaders headers = new HttpHeaders();
+        if (ex.getRetryAfter() != null) {
+            headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfter().toSeconds()));
+        }
+        return new ResponseEntity<>(message, headers, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
     /**
      * @param ex {@link SQLException}.
      * @return {@link ResponseEntity} с текстом ошибки и HttpStatus.INTERNAL_SERVER_ERROR.
@@ -0,0 +1,34 @@
+package com.bank.transfer.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Пул исполнения регулярных переводов.
+ */
+@Configuration
+public class RecurringTransferConfig {
+
+    public static final String RECURRING_EXECUTOR = "recurringTransferExecutor";
+
+    /**
+     * Очередь ограничена: отклонённая пачка не теряется, расписания подхватит следующая загрузка.
+     *
+     * @param poolSize      число одновременно исполняемых пачек
+     * @param queueCapacity число пачек, ожидающих исполнения
+     * @return {@link ThreadPoolTaskExecutor}
+     */
+    @Bean(RECURRING_EXECUTOR)
+    public ThreadPoolTaskExecutor recurringTransferExecutor(@Value("${transfer.recurring.pool-size:4}") int poolSize,
+                                                            @Value("${transfer.recurring.queue-capacity:64}")
+                                                            int queueCapacity) {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("transfer-recurring-");
+        return executor;
+    }
+}
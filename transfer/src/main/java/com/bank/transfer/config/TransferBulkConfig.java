@@ -0,0 +1,49 @@
+package com.bank.transfer.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Пулы массовой загрузки переводов: разбор файлов и запись чанков.
+ * Пулы одного размера, поэтому разбор файла не ждёт записи дольше, чем пишется один чанк.
+ */
+@Configuration
+public class TransferBulkConfig {
+
+    public static final String BULK_PARSER_EXECUTOR = "transferBulkParserExecutor";
+    public static final String BULK_WRITER_EXECUTOR = "transferBulkWriterExecutor";
+
+    /**
+     * Очередь ограничена: при переполнении новая загрузка отклоняется, а не копится в памяти.
+     *
+     * @param poolSize      число одновременно обрабатываемых файлов
+     * @param queueCapacity число принятых файлов, ожидающих обработки
+     * @return {@link ThreadPoolTaskExecutor}
+     */
+    @Bean(BULK_PARSER_EXECUTOR)
+    public ThreadPoolTaskExecutor transferBulkParserExecutor(@Value("${transfer.bulk.pool-size:4}") int poolSize,
+                                                             @Value("${transfer.bulk.queue-capacity:16}")
+                                                             int queueCapacity) {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("transfer-bulk-");
+        return executor;
+    }
+
+    /**
+     * @param poolSize число одновременно обрабатываемых файлов
+     * @return {@link ThreadPoolTaskExecutor}
+     */
+    @Bean(BULK_WRITER_EXECUTOR)
+    public ThreadPoolTaskExecutor transferBulkWriterExecutor(@Value("${transfer.bulk.pool-size:4}") int poolSize) {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("transfer-bulk-writer-");
+        return executor;
+    }
+}
@@ -1,8 +1,12 @@
 package com.bank.transfer.controller;
 
 import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.dto.TransferHistoryPageDto;
 import com.bank.transfer.entity.AccountTransferEntity;
+import com.bank.transfer.entity.IdempotentOperation;
+import com.bank.transfer.entity.TransferType;
 import com.bank.transfer.service.AccountTransferService;
+import com.bank.transfer.service.IdempotencyService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,6 +14,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -24,7 +29,10 @@ import java.util.List;
 @RequestMapping("/account")
 public class AccountTransferController {
 
+    private static final String DEFAULT_PAGE_SIZE = "20";
+
     private final AccountTransferService service;
+    private final IdempotencyService idempotencyService;
 
     /**
      * @param ids список технических идентификаторов {@link AccountTransferEntity}
@@ -45,12 +53,21 @@ public class AccountTransferController {
     }
 
     /**
+     * Повтор запроса с тем же Idempotency-Key возвращает перевод, созданный первым запросом,
+     * а повтор ключа с другим телом отклоняется с 422.
+     *
      * @param accountTransfer {@link AccountTransferDto}
-     * @return {@link ResponseEntity } {@link AccountTransferDto}
+     * @param idempotencyKey   необязательный ключ идемпотентности
+     * @return {@link ResponseEntity} {@link AccountTransferDto}
      */
     @PostMapping("/create")
-    public ResponseEntity<AccountTransferDto> create(@RequestBody AccountTransferDto accountTransfer) {
-        return ResponseEntity.ok(service.save(accountTransfer));
+    public ResponseEntity<AccountTransferDto> create(@RequestBody AccountTransferDto accountTransfer,
+                                                     @RequestHeader(value = "Idempotency-Key", required = false)
+                                                     String idempotencyKey) {
+        return ResponseEntity.ok(idempotencyKey == null ? service.save(accountTransfer) :
+                idempotencyService.execute(TransferType.ACCOUNT, IdempotentOperation.CREATE, idempotencyKey,
+                        accountTransfer, () -> service.save(accountTransfer), AccountTransferDto::getId,
+                        service::findById));
     }
 
     /**
@@ -63,4 +80,32 @@ public class AccountTransferController {
                                                      @RequestBody AccountTransferDto accountTransfer) {
         return ResponseEntity.ok(service.update(id, accountTransfer));
     }
+
+    /**
+     * @param accountDetailsId технический идентификатор счёта
+     * @param cursor           nextCursor предыдущей страницы
+     * @param limit            размер страницы
+     * @return {@link ResponseEntity} {@link TransferHistoryPageDto} с {@link AccountTransferDto}
+     */
+    @GetMapping("/history/{accountDetailsId}")
+    public ResponseEntity<TransferHistoryPageDto<AccountTransferDto>> readHistory(
+            @PathVariable("accountDetailsId") Long accountDetailsId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+        return ResponseEntity.ok(service.findHistory(accountDetailsId, cursor, limit));
+    }
+
+    /**
+     * @param accountNumber номер счёта получателя
+     * @param cursor        nextCursor предыдущей страницы
+     * @param limit         размер страницы
+     * @return {@link ResponseEntity} {@link TransferHistoryPageDto} с {@link AccountTransferDto}
+     */
+    @GetMapping("/search")
+    public ResponseEntity<TransferHistoryPageDto<AccountTransferDto>> search(
+            @RequestParam String accountNumber,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+        return ResponseEntity.ok(service.findByAccountNumber(accountNumber, cursor, limit));
+    }
 }
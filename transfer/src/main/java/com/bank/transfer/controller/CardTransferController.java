@@ -1,8 +1,12 @@
 package com.bank.transfer.controller;
 
 import com.bank.transfer.dto.CardTransferDto;
+import com.bank.transfer.dto.TransferHistoryPageDto;
 import com.bank.transfer.entity.CardTransferEntity;
+import com.bank.transfer.entity.IdempotentOperation;
+import com.bank.transfer.entity.TransferType;
 import com.bank.transfer.service.CardTransferService;
+import com.bank.transfer.service.IdempotencyService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,6 +14,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -24,7 +29,10 @@ import java.util.List;
 @RequestMapping("/card")
 public class CardTransferController {
 
+    private static final String DEFAULT_PAGE_SIZE = "20";
+
     private final CardTransferService service;
+    private final IdempotencyService idempotencyService;
 
     /**
      * @param ids список технических идентификаторов {@link CardTransferEntity}
@@ -45,12 +53,20 @@ public class CardTransferController {
     }
 
     /**
-     * @param cardTransfer {@link CardTransferDto}
-     * @return {@link ResponseEntity } {@link CardTransferDto}
+     * Повтор запроса с тем же Idempotency-Key возвращает перевод, созданный первым запросом,
+     * а повтор ключа с другим телом отклоняется с 422.
+     *
+     * @param cardTransfer   {@link CardTransferDto}
+     * @param idempotencyKey необязательный ключ идемпотентности
+     * @return {@link ResponseEntity} {@link CardTransferDto}
      */
     @PostMapping("/create")
-    public ResponseEntity<CardTransferDto> create(@RequestBody CardTransferDto cardTransfer) {
-        return ResponseEntity.ok(service.save(cardTransfer));
+    public ResponseEntity<CardTransferDto> create(@RequestBody CardTransferDto cardTransfer,
+                                                  @RequestHeader(value = "Idempotency-Key", required = false)
+                                                  String idempotencyKey) {
+        return ResponseEntity.ok(idempotencyKey == null ? service.save(cardTransfer) :
+                idempotencyService.execute(TransferType.CARD, IdempotentOperation.CREATE, idempotencyKey,
+                        cardTransfer, () -> service.save(cardTransfer), CardTransferDto::getId, service::findById));
     }
 
     /**
@@ -63,4 +79,32 @@ public class CardTransferController {
                                                   @RequestBody CardTransferDto cardTransfer) {
         return ResponseEntity.ok(service.update(id, cardTransfer));
     }
+
+    /**
+     * @param accountDetailsId технический идентификатор счёта
+     * @param cursor           nextCursor предыдущей страницы
+     * @param limit            размер страницы
+     * @return {@link ResponseEntity} {@link TransferHistoryPageDto} с {@link CardTransferDto}
+     */
+    @GetMapping("/history/{accountDetailsId}")
+    public ResponseEntity<TransferHistoryPageDto<CardTransferDto>> readHistory(
+            @PathVariable("accountDetailsId") Long accountDetailsId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+        return ResponseEntity.ok(service.findHistory(accountDetailsId, cursor, limit));
+    }
+
+    /**
+     * @param cardNumber номер карты получателя
+     * @param cursor     nextCursor предыдущей страницы
+     * @param limit      размер страницы
+     * @return {@link ResponseEntity} {@link TransferHistoryPageDto} с {@link CardTransferDto}
+     */
+    @GetMapping("/search")
+    public ResponseEntity<TransferHistoryPageDto<CardTransferDto>> search(
+            @RequestParam String cardNumber,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+        return ResponseEntity.ok(service.findByCardNumber(cardNumber, cursor, limit));
+    }
 }
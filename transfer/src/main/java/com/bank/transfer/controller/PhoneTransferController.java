@@ -1,8 +1,12 @@
 package com.bank.transfer.controller;
 
 import com.bank.transfer.dto.PhoneTransferDto;
+import com.bank.transfer.dto.TransferHistoryPageDto;
 import com.bank.transfer.entity.PhoneTransferEntity;
+import com.bank.transfer.entity.IdempotentOperation;
+import com.bank.transfer.entity.TransferType;
 import com.bank.transfer.service.PhoneTransferService;
+import com.bank.transfer.service.IdempotencyService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,6 +14,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -24,7 +29,10 @@ import java.util.List;
 @RequestMapping("/phone")
 public class PhoneTransferController {
 
+    private static final String DEFAULT_PAGE_SIZE = "20";
+
     private final PhoneTransferService service;
+    private final IdempotencyService idempotencyService;
 
     /**
      * @param ids список технических идентификаторов {@link PhoneTransferEntity}
@@ -45,12 +53,20 @@ public class PhoneTransferController {
     }
 
     /**
-     * @param phoneTransfer {@link PhoneTransferDto}
-     * @return {@link ResponseEntity } {@link PhoneTransferDto}
+     * Повтор запроса с тем же Idempotency-Key возвращает перевод, созданный первым запросом,
+     * а повтор ключа с другим телом отклоняется с 422.
+     *
+     * @param phoneTransfer  {@link PhoneTransferDto}
+     * @param idempotencyKey необязательный ключ идемпотентности
+     * @return {@link ResponseEntity} {@link PhoneTransferDto}
      */
     @PostMapping("/create")
-    public ResponseEntity<PhoneTransferDto> create(@RequestBody PhoneTransferDto phoneTransfer) {
-        return ResponseEntity.ok(service.save(phoneTransfer));
+    public ResponseEntity<PhoneTransferDto> create(@RequestBody PhoneTransferDto phoneTransfer,
+                                                   @RequestHeader(value = "Idempotency-Key", required = false)
+                                                   String idempotencyKey) {
+        return ResponseEntity.ok(idempotencyKey == null ? service.save(phoneTransfer) :
+                idempotencyService.execute(TransferType.PHONE, IdempotentOperation.CREATE, idempotencyKey,
+                        phoneTransfer, () -> service.save(phoneTransfer), PhoneTransferDto::getId, service::findById));
     }
 
     /**
@@ -63,4 +79,32 @@ public class PhoneTransferController {
                                                    @RequestBody PhoneTransferDto phoneTransfer) {
         return ResponseEntity.ok(service.update(id, phoneTransfer));
     }
+
+    /**
+     * @param accountDetailsId технический идентификатор счёта
+     * @param cursor           nextCursor предыдущей страницы
+     * @param limit            размер страницы
+     * @return {@link ResponseEntity} {@link TransferHistoryPageDto} с {@link PhoneTransferDto}
+     */
+    @GetMapping("/history/{accountDetailsId}")
+    public ResponseEntity<TransferHistoryPageDto<PhoneTransferDto>> readHistory(
+            @PathVariable("accountDetailsId") Long accountDetailsId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+        return ResponseEntity.ok(service.findHistory(accountDetailsId, cursor, limit));
+    }
+
+    /**
+     * @param phoneNumber номер телефона получателя
+     * @param cursor      nextCursor предыдущей страницы
+     * @param limit       размер страницы
+     * @return {@link ResponseEntity} {@link TransferHistoryPageDto} с {@link PhoneTransferDto}
+     */
+    @GetMapping("/search")
+    public ResponseEntity<TransferHistoryPageDto<PhoneTransferDto>> search(
+            @RequestParam String phoneNumber,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+        return ResponseEntity.ok(service.findByPhoneNumber(phoneNumber, cursor, limit));
+    }
 }
@@ -0,0 +1,51 @@
+package com.bank.transfer.controller;
+
+import com.bank.transfer.dto.RecurringTransferDto;
+import com.bank.transfer.entity.RecurringTransferEntity;
+import com.bank.transfer.service.RecurringTransferService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Контроллер для {@link RecurringTransferDto}
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/recurring")
+public class RecurringTransferController {
+
+    private final RecurringTransferService service;
+
+    /**
+     * @param id технический идентификатор {@link RecurringTransferEntity}
+     * @return {@link ResponseEntity} {@link RecurringTransferDto}
+     */
+    @GetMapping("/read/{id}")
+    public ResponseEntity<RecurringTransferDto> read(@PathVariable("id") Long id) {
+        return ResponseEntity.ok(service.findById(id));
+    }
+
+    /**
+     * @param recurring {@link RecurringTransferDto}
+     * @return {@link ResponseEntity} {@link RecurringTransferDto}
+     */
+    @PostMapping("/create")
+    public ResponseEntity<RecurringTransferDto> create(@RequestBody RecurringTransferDto recurring) {
+        return ResponseEntity.ok(service.save(recurring));
+    }
+
+    /**
+     * @param id технический идентификатор {@link RecurringTransferEntity}
+     * @return {@link ResponseEntity} {@link RecurringTransferDto}
+     */
+    @PostMapping("/cancel/{id}")
+    public ResponseEntity<RecurringTransferDto> cancel(@PathVariable("id") Long id) {
+        return ResponseEntity.ok(service.cancel(id));
+    }
+}
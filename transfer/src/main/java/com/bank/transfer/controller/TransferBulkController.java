@@ -0,0 +1,70 @@
+package com.bank.transfer.controller;
+
+import com.bank.transfer.dto.TransferBulkJobDto;
+import com.bank.transfer.dto.TransferBulkLinePageDto;
+import com.bank.transfer.entity.TransferBulkJobEntity;
+import com.bank.transfer.service.TransferBulkService;
+import com.bank.transfer.service.TransferBulkService.Format;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+
+/**
+ * Контроллер массовой загрузки переводов по номеру счёта
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/account")
+public class TransferBulkController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private static final String DEFAULT_PAGE_SIZE = "100";
+
+    private final TransferBulkService service;
+
+    /**
+     * Если очередь загрузок переполнена, возвращается 429 с заголовком Retry-After.
+     *
+     * @param request запрос, тело которого - NDJSON или CSV, один перевод в строке
+     * @return {@link ResponseEntity} {@link TransferBulkJobDto} принятой загрузки со статусом 202
+     * @throws IOException при ошибке чтения тела запроса
+     */
+    @PostMapping(value = "/create/bulk", consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE})
+    public ResponseEntity<TransferBulkJobDto> createBulk(HttpServletRequest request) throws IOException {
+        final Format format = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE)) ? Format.CSV : Format.NDJSON;
+        return ResponseEntity.accepted().body(service.submit(request.getInputStream(), format));
+    }
+
+    /**
+     * @param id технический идентификатор {@link TransferBulkJobEntity}
+     * @return {@link ResponseEntity} {@link TransferBulkJobDto} с прогрессом
+     */
+    @GetMapping("/bulk/{id}")
+    public ResponseEntity<TransferBulkJobDto> readJob(@PathVariable("id") Long id) {
+        return ResponseEntity.ok(service.findJob(id));
+    }
+
+    /**
+     * @param id        технический идентификатор {@link TransferBulkJobEntity}
+     * @param afterLine номер последней строки предыдущей страницы
+     * @param limit     размер страницы
+     * @return {@link ResponseEntity} {@link TransferBulkLinePageDto}
+     */
+    @GetMapping("/bulk/{id}/lines")
+    public ResponseEntity<TransferBulkLinePageDto> readLines(@PathVariable("id") Long id,
+                                                             @RequestParam(required = false) Long afterLine,
+                                                             @RequestParam(defaultValue = DEFAULT_PAGE_SIZE)
+                                                             int limit) {
+        return ResponseEntity.ok(service.findLines(id, afterLine, limit));
+    }
+}
@@ -0,0 +1,63 @@
+package com.bank.transfer.controller;
+
+import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.entity.AccountTransferEntity;
+import com.bank.transfer.entity.IdempotentOperation;
+import com.bank.transfer.entity.TransferType;
+import com.bank.transfer.service.AccountTransferService;
+import com.bank.transfer.service.IdempotencyService;
+import com.bank.transfer.service.TransferExecutionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Контроллер исполнения {@link AccountTransferDto}
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/account")
+public class TransferExecutionController {
+
+    private final TransferExecutionService service;
+    private final AccountTransferService accountTransferService;
+    private final IdempotencyService idempotencyService;
+
+    /**
+     * @param id технический идентификатор {@link AccountTransferEntity}
+     * @return {@link ResponseEntity} {@link AccountTransferDto} со статусом исполнения
+     */
+    @PostMapping("/execute/{id}")
+    public ResponseEntity<AccountTransferDto> execute(@PathVariable("id") Long id) {
+        return ResponseEntity.ok(service.execute(id));
+    }
+
+    /**
+     * Ключ идемпотентности защищает создание перевода, исполнение идёт после фиксации ключа и перевода.
+     * Повтор с тем же ключом исполняет перевод первого запроса: исполненный возвращается как есть,
+     * прерванный исполнение продолжает без повторного движения денег. Ключи не пересекаются с /account/create.
+     *
+     * @param accountTransfer {@link AccountTransferDto}
+     * @param idempotencyKey  необязательный ключ идемпотентности
+     * @return {@link ResponseEntity} {@link AccountTransferDto} со статусом исполнения
+     */
+    @PostMapping("/create/execute")
+    public ResponseEntity<AccountTransferDto> createAndExecute(@RequestBody AccountTransferDto accountTransfer,
+                                                               @RequestHeader(value = "Idempotency-Key",
+                                                                       required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(service.createAndExecute(accountTransfer));
+        }
+        final AccountTransferDto created = idempotencyService.execute(TransferType.ACCOUNT,
+                IdempotentOperation.CREATE_EXECUTE, idempotencyKey, accountTransfer,
+                () -> accountTransferService.save(accountTransfer), AccountTransferDto::getId,
+                accountTransferService::findById);
+
+        return ResponseEntity.ok(service.execute(created.getId()));
+    }
+}
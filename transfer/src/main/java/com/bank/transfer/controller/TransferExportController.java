@@ -0,0 +1,72 @@
+package com.bank.transfer.controller;
+
+import com.bank.transfer.service.TransferExportService;
+import com.bank.transfer.service.TransferExportService.Format;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Контроллер выгрузки переводов для аудита.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/export")
+public class TransferExportController {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+    private final TransferExportService service;
+
+    /**
+     * @param from   начало периода включительно
+     * @param to     конец периода не включительно
+     * @param format {@link Format}
+     * @param gzip   сжимать ли ответ
+     * @return {@link ResponseEntity} с потоком переводов
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "CSV") Format format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        final StreamingResponseBody body = service.export(from, to, format);
+        final String fileName = "transfers." + format.name().toLowerCase() + (gzip ? ".gz" : "");
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build()
+                        .toString())
+                .contentType(gzip ? GZIP : mediaType(format))
+                .body(gzip ? compressed(body) : body);
+    }
+
+    private MediaType mediaType(Format format) {
+        return format == Format.CSV ? CSV : MediaType.APPLICATION_NDJSON;
+    }
+
+    /**
+     * Сжатие идёт потоком; поток ответа закрывает сам Spring.
+     */
+    private StreamingResponseBody compressed(StreamingResponseBody body) {
+        return output -> {
+            try (GZIPOutputStream zip = new GZIPOutputStream(StreamUtils.nonClosing(output), GZIP_BUFFER_SIZE)) {
+                body.writeTo(zip);
+            }
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package com.bank.transfer.controller;
+
+import com.bank.transfer.dto.TransferHistoryPageDto;
+import com.bank.transfer.dto.TransferSummaryDto;
+import com.bank.transfer.service.TransferSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+/**
+ * Контроллер для {@link TransferSummaryDto}: поиск переводов всех типов по счёту одним запросом.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/summary")
+public class TransferSummaryController {
+
+    private static final String DEFAULT_PAGE_SIZE = "20";
+
+    private final TransferSummaryService service;
+
+    /**
+     * @param accountDetailsId технический идентификатор счёта
+     * @param from             начало периода включительно
+     * @param to               конец периода не включительно
+     * @param cursor           nextCursor предыдущей страницы
+     * @param limit            размер страницы
+     * @return {@link ResponseEntity} {@link TransferHistoryPageDto} с {@link TransferSummaryDto}
+     */
+    @GetMapping("/{accountDetailsId}")
+    public ResponseEntity<TransferHistoryPageDto<TransferSummaryDto>> read(
+            @PathVariable("accountDetailsId") Long accountDetailsId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+        return ResponseEntity.ok(service.find(accountDetailsId, from, to, cursor, limit));
+    }
+}
@@ -1,6 +1,7 @@
 package com.bank.transfer.dto;
 
 import com.bank.transfer.entity.AccountTransferEntity;
+import com.bank.transfer.entity.TransferStatus;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -15,6 +16,7 @@ import lombok.experimental.FieldDefaults;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.sql.Timestamp;
 
 /**
  * ДТО {@link AccountTransferEntity}
@@ -33,4 +35,7 @@ public class AccountTransferDto implements Serializable {
     BigDecimal amount;
     String purpose;
     Long accountDetailsId;
+    TransferStatus status;
+    String failureReason;
+    Timestamp createdAt;
 }
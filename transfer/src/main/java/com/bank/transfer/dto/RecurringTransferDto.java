@@ -0,0 +1,39 @@
+package com.bank.transfer.dto;
+
+import com.bank.transfer.entity.RecurringPeriod;
+import com.bank.transfer.entity.RecurringTransferEntity;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+/**
+ * ДТО {@link RecurringTransferEntity}.
+ * startAt задаёт клиент, nextRunAt, active и lastTransferId только для чтения.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class RecurringTransferDto implements Serializable {
+
+    Long id;
+    Long accountNumber;
+    BigDecimal amount;
+    String purpose;
+    Long accountDetailsId;
+    RecurringPeriod period;
+    Timestamp startAt;
+    Timestamp nextRunAt;
+    Boolean active;
+    Long lastTransferId;
+}
@@ -0,0 +1,35 @@
+package com.bank.transfer.dto;
+
+import com.bank.transfer.entity.BulkJobStatus;
+import com.bank.transfer.entity.TransferBulkJobEntity;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+
+/**
+ * ДТО {@link TransferBulkJobEntity}: статус и прогресс массовой загрузки.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TransferBulkJobDto implements Serializable {
+
+    Long id;
+    BulkJobStatus status;
+    Long processedLines;
+    Long acceptedLines;
+    Long rejectedLines;
+    String failureReason;
+    Timestamp createdAt;
+    Timestamp finishedAt;
+}
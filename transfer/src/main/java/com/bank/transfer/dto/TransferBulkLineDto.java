@@ -0,0 +1,28 @@
+package com.bank.transfer.dto;
+
+import com.bank.transfer.entity.TransferBulkLineEntity;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+
+/**
+ * ДТО {@link TransferBulkLineEntity}: созданный перевод или причина отклонения строки.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TransferBulkLineDto implements Serializable {
+
+    Long lineNumber;
+    Long transferId;
+    String error;
+}
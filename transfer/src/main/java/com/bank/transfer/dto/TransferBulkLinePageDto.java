@@ -0,0 +1,28 @@
+package com.bank.transfer.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Страница результатов строк массовой загрузки.
+ * nextAfterLine передаётся в следующий запрос, null - если строк больше нет.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TransferBulkLinePageDto implements Serializable {
+
+    List<TransferBulkLineDto> content;
+    Long nextAfterLine;
+}
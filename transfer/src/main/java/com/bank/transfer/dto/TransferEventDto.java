@@ -0,0 +1,37 @@
+package com.bank.transfer.dto;
+
+import com.bank.transfer.entity.OutboxEventEntity;
+import com.bank.transfer.entity.TransferEventType;
+import com.bank.transfer.entity.TransferType;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+
+/**
+ * ДТО {@link OutboxEventEntity} для потребителей событий.
+ * Доставка не реже одного раза: повтор события потребитель распознаёт по id.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TransferEventDto implements Serializable {
+
+    Long id;
+    TransferType transferType;
+    Long transferId;
+    TransferEventType eventType;
+    @JsonRawValue
+    String payload;
+    Timestamp createdAt;
+}
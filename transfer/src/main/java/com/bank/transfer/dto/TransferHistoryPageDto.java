@@ -0,0 +1,30 @@
+package com.bank.transfer.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Страница истории переводов, от новых к старым.
+ * nextCursor передаётся в следующий запрос, null - если переводов больше нет.
+ *
+ * @param <T> ДТО перевода
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TransferHistoryPageDto<T> implements Serializable {
+
+    List<T> content;
+    String nextCursor;
+}
@@ -0,0 +1,38 @@
+package com.bank.transfer.dto;
+
+import com.bank.transfer.entity.TransferStatus;
+import com.bank.transfer.entity.TransferSummaryEntity;
+import com.bank.transfer.entity.TransferType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+/**
+ * ДТО {@link TransferSummaryEntity}.
+ * transferType и transferId указывают на исходный перевод, recipientNumber - номер счёта, карты или телефона.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TransferSummaryDto implements Serializable {
+
+    TransferType transferType;
+    Long transferId;
+    Long accountDetailsId;
+    Long recipientNumber;
+    BigDecimal amount;
+    String purpose;
+    TransferStatus status;
+    Timestamp createdAt;
+}
@@ -6,16 +6,21 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.CreationTimestamp;
 import lombok.Builder;
 
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 import java.math.BigDecimal;
+import java.sql.Timestamp;
 import java.util.Objects;
 
 /**
@@ -32,7 +37,9 @@ import java.util.Objects;
 public class AccountTransferEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_transfer_seq")
+    @SequenceGenerator(name = "account_transfer_seq", sequenceName = "account_transfer_seq", schema = "transfer",
+            allocationSize = 50)
     @Column(name = "id")
     Long id;
 
@@ -48,6 +55,17 @@ public class AccountTransferEntity {
     @Column(name = "account_details_id")
     Long accountDetailsId;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    TransferStatus status;
+
+    @Column(name = "failure_reason")
+    String failureReason;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    Timestamp createdAt;
+
     @Override
     public boolean equals(Object o) {
 
@@ -63,12 +81,14 @@ public class AccountTransferEntity {
                 accountTransfer.getAccountNumber()) && Objects.equals(getAmount(),
                 accountTransfer.getAmount()) && Objects.equals(getPurpose(),
                 accountTransfer.getPurpose()) && Objects.equals(getAccountDetailsId(),
-                accountTransfer.getAccountDetailsId()
+                accountTransfer.getAccountDetailsId()) && getStatus() == accountTransfer.getStatus() &&
+                Objects.equals(getFailureReason(), accountTransfer.getFailureReason()
         );
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getId(), getAccountNumber(), getAmount(), getPurpose(), getAccountDetailsId());
+        return Objects.hash(getId(), getAccountNumber(), getAmount(), getPurpose(), getAccountDetailsId(),
+                getStatus(), getFailureReason());
     }
 }
@@ -0,0 +1,22 @@
+package com.bank.transfer.entity;
+
+/**
+ * Статус массовой загрузки переводов.
+ */
+public enum BulkJobStatus {
+
+    /**
+     * Файл принят и обрабатывается.
+     */
+    RUNNING,
+
+    /**
+     * Все строки файла обработаны.
+     */
+    COMPLETED,
+
+    /**
+     * Обработка остановлена, причина в failure_reason. Строки, обработанные до остановки, сохранены.
+     */
+    FAILED
+}
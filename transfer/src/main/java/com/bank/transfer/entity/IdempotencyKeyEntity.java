@@ -0,0 +1,82 @@
+package com.bank.transfer.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.sql.Timestamp;
+import java.util.Objects;
+
+/**
+ * Entity для таблицы idempotency_key
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Table(name = "idempotency_key", schema = "transfer")
+public class IdempotencyKeyEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transfer_type")
+    TransferType transferType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation")
+    IdempotentOperation operation;
+
+    @Column(name = "idempotency_key")
+    String idempotencyKey;
+
+    @Column(name = "transfer_id")
+    Long transferId;
+
+    @Column(name = "request_hash")
+    String requestHash;
+
+    @Column(name = "created_at")
+    Timestamp createdAt;
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof IdempotencyKeyEntity key)) {
+            return false;
+        }
+
+        return Objects.equals(getId(), key.getId()) && getTransferType() == key.getTransferType() &&
+                getOperation() == key.getOperation() &&
+                Objects.equals(getIdempotencyKey(), key.getIdempotencyKey()) &&
+                Objects.equals(getTransferId(), key.getTransferId()) &&
+                Objects.equals(getRequestHash(), key.getRequestHash()) &&
+                Objects.equals(getCreatedAt(), key.getCreatedAt());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId(), getTransferType(), getOperation(), getIdempotencyKey(), getTransferId(),
+                getRequestHash(), getCreatedAt());
+    }
+}
@@ -0,0 +1,17 @@
+package com.bank.transfer.entity;
+
+/**
+ * Операция, в пределах которой уникален Idempotency-Key.
+ */
+public enum IdempotentOperation {
+
+    /**
+     * Создание перевода без исполнения.
+     */
+    CREATE,
+
+    /**
+     * Создание и исполнение перевода по номеру счёта.
+     */
+    CREATE_EXECUTE
+}
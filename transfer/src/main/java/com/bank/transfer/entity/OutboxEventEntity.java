@@ -0,0 +1,79 @@
+package com.bank.transfer.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import java.sql.Timestamp;
+import java.util.Objects;
+
+/**
+ * Entity для таблицы outbox_event
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Table(name = "outbox_event", schema = "transfer")
+public class OutboxEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_event_seq", schema = "transfer",
+            allocationSize = 50)
+    @Column(name = "id")
+    Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transfer_type")
+    TransferType transferType;
+
+    @Column(name = "transfer_id")
+    Long transferId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type")
+    TransferEventType eventType;
+
+    @Column(name = "payload")
+    String payload;
+
+    @Column(name = "created_at")
+    Timestamp createdAt;
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof OutboxEventEntity event)) {
+            return false;
+        }
+
+        return Objects.equals(getId(), event.getId()) && getTransferType() == event.getTransferType() &&
+                Objects.equals(getTransferId(), event.getTransferId()) && getEventType() == event.getEventType() &&
+                Objects.equals(getPayload(), event.getPayload()) && Objects.equals(getCreatedAt(),
+                event.getCreatedAt());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId(), getTransferType(), getTransferId(), getEventType(), getPayload(), getCreatedAt());
+    }
+}
@@ -0,0 +1,48 @@
+package com.bank.transfer.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Периодичность регулярного перевода.
+ * Исполнения отсчитываются от даты первого, поэтому перевод 31-го числа в феврале уходит 28-го,
+ * а в марте снова 31-го.
+ */
+public enum RecurringPeriod {
+
+    /**
+     * Каждый день.
+     */
+    DAILY {
+        @Override
+        public LocalDateTime occurrence(LocalDateTime startAt, long periods) {
+            return startAt.plusDays(periods);
+        }
+    },
+
+    /**
+     * Каждую неделю.
+     */
+    WEEKLY {
+        @Override
+        public LocalDateTime occurrence(LocalDateTime startAt, long periods) {
+            return startAt.plusWeeks(periods);
+        }
+    },
+
+    /**
+     * Каждый месяц.
+     */
+    MONTHLY {
+        @Override
+        public LocalDateTime occurrence(LocalDateTime startAt, long periods) {
+            return startAt.plusMonths(periods);
+        }
+    };
+
+    /**
+     * @param startAt первое исполнение
+     * @param periods число периодов от первого исполнения
+     * @return время исполнения
+     */
+    public abstract LocalDateTime occurrence(LocalDateTime startAt, long periods);
+}
@@ -0,0 +1,102 @@
+package com.bank.transfer.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Objects;
+
+/**
+ * Entity для таблицы recurring_transfer
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Table(name = "recurring_transfer", schema = "transfer")
+public class RecurringTransferEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    Long id;
+
+    @Column(name = "account_number")
+    Long accountNumber;
+
+    @Column(name = "amount")
+    BigDecimal amount;
+
+    @Column(name = "purpose")
+    String purpose;
+
+    @Column(name = "account_details_id")
+    Long accountDetailsId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period")
+    RecurringPeriod period;
+
+    @Column(name = "start_at")
+    Timestamp startAt;
+
+    @Column(name = "next_run_at")
+    Timestamp nextRunAt;
+
+    @Column(name = "run_count")
+    Integer runCount;
+
+    @Column(name = "active")
+    Boolean active;
+
+    @Column(name = "claimed_until")
+    Timestamp claimedUntil;
+
+    @Column(name = "last_transfer_id")
+    Long lastTransferId;
+
+    @Column(name = "created_at")
+    Timestamp createdAt;
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof RecurringTransferEntity recurring)) {
+            return false;
+        }
+
+        return Objects.equals(getId(), recurring.getId()) && Objects.equals(getAccountNumber(),
+                recurring.getAccountNumber()) && Objects.equals(getAmount(), recurring.getAmount()) &&
+                Objects.equals(getPurpose(), recurring.getPurpose()) && Objects.equals(getAccountDetailsId(),
+                recurring.getAccountDetailsId()) && getPeriod() == recurring.getPeriod() &&
+                Objects.equals(getStartAt(), recurring.getStartAt()) && Objects.equals(getNextRunAt(),
+                recurring.getNextRunAt()) && Objects.equals(getRunCount(), recurring.getRunCount()) &&
+                Objects.equals(getActive(), recurring.getActive()) && Objects.equals(getLastTransferId(),
+                recurring.getLastTransferId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId(), getAccountNumber(), getAmount(), getPurpose(), getAccountDetailsId(),
+                getPeriod(), getStartAt(), getNextRunAt(), getRunCount(), getActive(), getLastTransferId());
+    }
+}
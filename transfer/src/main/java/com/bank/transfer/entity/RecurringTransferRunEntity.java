@@ -0,0 +1,70 @@
+package com.bank.transfer.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.sql.Timestamp;
+import java.util.Objects;
+
+/**
+ * Entity для таблицы recurring_transfer_run
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Table(name = "recurring_transfer_run", schema = "transfer")
+public class RecurringTransferRunEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    Long id;
+
+    @Column(name = "recurring_transfer_id")
+    Long recurringTransferId;
+
+    @Column(name = "due_at")
+    Timestamp dueAt;
+
+    @Column(name = "transfer_id")
+    Long transferId;
+
+    @Column(name = "created_at")
+    Timestamp createdAt;
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof RecurringTransferRunEntity run)) {
+            return false;
+        }
+
+        return Objects.equals(getId(), run.getId()) &&
+                Objects.equals(getRecurringTransferId(), run.getRecurringTransferId()) &&
+                Objects.equals(getDueAt(), run.getDueAt()) &&
+                Objects.equals(getTransferId(), run.getTransferId()) &&
+                Objects.equals(getCreatedAt(), run.getCreatedAt());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId(), getRecurringTransferId(), getDueAt(), getTransferId(), getCreatedAt());
+    }
+}
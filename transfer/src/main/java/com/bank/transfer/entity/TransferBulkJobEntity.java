@@ -0,0 +1,89 @@
+package com.bank.transfer.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.sql.Timestamp;
+import java.util.Objects;
+
+/**
+ * Entity для таблицы transfer_bulk_job
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Table(name = "transfer_bulk_job", schema = "transfer")
+public class TransferBulkJobEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    BulkJobStatus status;
+
+    @Column(name = "processed_lines")
+    Long processedLines;
+
+    @Column(name = "accepted_lines")
+    Long acceptedLines;
+
+    @Column(name = "rejected_lines")
+    Long rejectedLines;
+
+    @Column(name = "failure_reason")
+    String failureReason;
+
+    @Column(name = "created_at")
+    Timestamp createdAt;
+
+    @Column(name = "finished_at")
+    Timestamp finishedAt;
+
+    @Column(name = "node_id")
+    String nodeId;
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof TransferBulkJobEntity job)) {
+            return false;
+        }
+
+        return Objects.equals(getId(), job.getId()) && getStatus() == job.getStatus() &&
+                Objects.equals(getProcessedLines(), job.getProcessedLines()) &&
+                Objects.equals(getAcceptedLines(), job.getAcceptedLines()) &&
+                Objects.equals(getRejectedLines(), job.getRejectedLines()) &&
+                Objects.equals(getFailureReason(), job.getFailureReason()) &&
+                Objects.equals(getCreatedAt(), job.getCreatedAt()) &&
+                Objects.equals(getFinishedAt(), job.getFinishedAt()) &&
+                Objects.equals(getNodeId(), job.getNodeId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId(), getStatus(), getProcessedLines(), getAcceptedLines(), getRejectedLines(),
+                getFailureReason(), getCreatedAt(), getFinishedAt(), getNodeId());
+    }
+}
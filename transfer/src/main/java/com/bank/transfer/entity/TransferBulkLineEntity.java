@@ -0,0 +1,67 @@
+package com.bank.transfer.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.util.Objects;
+
+/**
+ * Entity для таблицы transfer_bulk_line
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Table(name = "transfer_bulk_line", schema = "transfer")
+public class TransferBulkLineEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    Long id;
+
+    @Column(name = "job_id")
+    Long jobId;
+
+    @Column(name = "line_number")
+    Long lineNumber;
+
+    @Column(name = "transfer_id")
+    Long transferId;
+
+    @Column(name = "error")
+    String error;
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof TransferBulkLineEntity line)) {
+            return false;
+        }
+
+        return Objects.equals(getId(), line.getId()) && Objects.equals(getJobId(), line.getJobId()) &&
+                Objects.equals(getLineNumber(), line.getLineNumber()) &&
+                Objects.equals(getTransferId(), line.getTransferId()) && Objects.equals(getError(), line.getError());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId(), getJobId(), getLineNumber(), getTransferId(), getError());
+    }
+}
@@ -0,0 +1,22 @@
+package com.bank.transfer.entity;
+
+/**
+ * Тип события перевода в outbox.
+ */
+public enum TransferEventType {
+
+    /**
+     * Перевод создан.
+     */
+    CREATED,
+
+    /**
+     * Перевод изменён.
+     */
+    UPDATED,
+
+    /**
+     * Перевод исполнен или отклонён, итог в статусе перевода.
+     */
+    EXECUTED
+}
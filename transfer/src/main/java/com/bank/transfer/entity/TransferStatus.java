@@ -0,0 +1,28 @@
+package com.bank.transfer.entity;
+
+/**
+ * Статус исполнения перевода.
+ */
+public enum TransferStatus {
+
+    /**
+     * Перевод создан, деньги не перемещались.
+     */
+    NEW,
+
+    /**
+     * Перевод передан в модуль account, итог ещё не записан. Повторное исполнение повторяет вызов
+     * с тем же идентификатором перевода, модуль account вернёт уже сохранённый итог.
+     */
+    PROCESSING,
+
+    /**
+     * Деньги списаны со счёта отправителя и зачислены получателю.
+     */
+    COMPLETED,
+
+    /**
+     * В исполнении отказано, причина в failure_reason.
+     */
+    FAILED
+}
@@ -0,0 +1,89 @@
+package com.bank.transfer.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.Immutable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Objects;
+
+/**
+ * Entity для таблицы transfer_summary.
+ * Заполняется триггерами account_transfer, card_transfer и phone_transfer, приложение её только читает.
+ */
+@Entity
+@Immutable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Table(name = "transfer_summary", schema = "transfer")
+public class TransferSummaryEntity {
+
+    @Id
+    @Column(name = "id")
+    Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transfer_type")
+    TransferType transferType;
+
+    @Column(name = "transfer_id")
+    Long transferId;
+
+    @Column(name = "account_details_id")
+    Long accountDetailsId;
+
+    @Column(name = "recipient_number")
+    Long recipientNumber;
+
+    @Column(name = "amount")
+    BigDecimal amount;
+
+    @Column(name = "purpose")
+    String purpose;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    TransferStatus status;
+
+    @Column(name = "created_at")
+    Timestamp createdAt;
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof TransferSummaryEntity summary)) {
+            return false;
+        }
+
+        return Objects.equals(getId(), summary.getId()) && getTransferType() == summary.getTransferType() &&
+                Objects.equals(getTransferId(), summary.getTransferId()) && Objects.equals(getAccountDetailsId(),
+                summary.getAccountDetailsId()) && Objects.equals(getRecipientNumber(),
+                summary.getRecipientNumber()) && Objects.equals(getAmount(), summary.getAmount()) &&
+                Objects.equals(getPurpose(), summary.getPurpose()) && getStatus() == summary.getStatus() &&
+                Objects.equals(getCreatedAt(), summary.getCreatedAt());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId(), getTransferType(), getTransferId(), getAccountDetailsId(), getRecipientNumber(),
+                getAmount(), getPurpose(), getStatus(), getCreatedAt());
+    }
+}
@@ -0,0 +1,22 @@
+package com.bank.transfer.entity;
+
+/**
+ * Тип перевода.
+ */
+public enum TransferType {
+
+    /**
+     * Перевод по номеру счёта, {@link AccountTransferEntity}.
+     */
+    ACCOUNT,
+
+    /**
+     * Перевод по номеру карты, {@link CardTransferEntity}.
+     */
+    CARD,
+
+    /**
+     * Перевод по номеру телефона, {@link PhoneTransferEntity}.
+     */
+    PHONE
+}
@@ -19,6 +19,9 @@ public interface AccountTransferMapper {
      * @return {@link AccountTransferEntity}
     */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "status", constant = "NEW")
+    @Mapping(target = "failureReason", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
     AccountTransferEntity toEntity(AccountTransferDto transfer);
 
     /**
@@ -33,6 +36,9 @@ public interface AccountTransferMapper {
      * @return {@link AccountTransferEntity}
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "failureReason", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
     AccountTransferEntity mergeToEntity (AccountTransferDto transferDto,
                                          @MappingTarget AccountTransferEntity transfer);
 
@@ -21,6 +21,7 @@ public interface CardTransferMapper {
      * @return {@link CardTransferEntity}
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
     CardTransferEntity toEntity(CardTransferDto transfer);
 
     /**
@@ -35,6 +36,7 @@ public interface CardTransferMapper {
      * @return {@link AccountTransferEntity}
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
     CardTransferEntity mergeToEntity (CardTransferDto transferDto,
                                          @MappingTarget CardTransferEntity transfer);
 
@@ -0,0 +1,26 @@
+package com.bank.transfer.mapper;
+
+import com.bank.transfer.dto.TransferEventDto;
+import com.bank.transfer.entity.OutboxEventEntity;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+/**
+ * Mapper для {@link OutboxEventEntity} и {@link TransferEventDto}
+ */
+@Mapper(componentModel = "spring")
+public interface OutboxEventMapper {
+
+    /**
+     * @param event {@link OutboxEventEntity}
+     * @return {@link TransferEventDto}
+     */
+    TransferEventDto toDto(OutboxEventEntity event);
+
+    /**
+     * @param events лист {@link OutboxEventEntity}
+     * @return лист {@link TransferEventDto}
+     */
+    List<TransferEventDto> toDtoList(List<OutboxEventEntity> events);
+}
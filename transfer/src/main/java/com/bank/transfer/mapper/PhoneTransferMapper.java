@@ -19,6 +19,7 @@ public interface PhoneTransferMapper {
      * @return {@link PhoneTransferEntity}
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
     PhoneTransferEntity toEntity(PhoneTransferDto dto);
 
     /**
@@ -33,6 +34,7 @@ public interface PhoneTransferMapper {
      * @return {@link PhoneTransferEntity}
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
     PhoneTransferEntity mergeToEntity (PhoneTransferDto transferDto,
                                       @MappingTarget PhoneTransferEntity transfer);
 
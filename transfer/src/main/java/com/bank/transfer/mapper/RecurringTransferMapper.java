@@ -0,0 +1,53 @@
+package com.bank.transfer.mapper;
+
+import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.dto.RecurringTransferDto;
+import com.bank.transfer.entity.RecurringTransferEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+/**
+ * Mapper для {@link RecurringTransferEntity} и {@link RecurringTransferDto}
+ */
+@Mapper(componentModel = "spring")
+public interface RecurringTransferMapper {
+
+    /**
+     * Первое исполнение - startAt.
+     *
+     * @param recurring {@link RecurringTransferDto}
+     * @return {@link RecurringTransferEntity}
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "nextRunAt", source = "startAt")
+    @Mapping(target = "runCount", constant = "0")
+    @Mapping(target = "active", constant = "true")
+    @Mapping(target = "claimedUntil", ignore = true)
+    @Mapping(target = "lastTransferId", ignore = true)
+    @Mapping(target = "createdAt", expression = "java(new java.sql.Timestamp(System.currentTimeMillis()))")
+    RecurringTransferEntity toEntity(RecurringTransferDto recurring);
+
+    /**
+     * @param recurring {@link RecurringTransferEntity}
+     * @return {@link RecurringTransferDto}
+     */
+    RecurringTransferDto toDto(RecurringTransferEntity recurring);
+
+    /**
+     * @param recurring {@link List<RecurringTransferEntity>}
+     * @return {@link List<RecurringTransferDto>}
+     */
+    List<RecurringTransferDto> toDtoList(List<RecurringTransferEntity> recurring);
+
+    /**
+     * @param recurring {@link RecurringTransferEntity}
+     * @return {@link AccountTransferDto} очередного исполнения
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "failureReason", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    AccountTransferDto toTransfer(RecurringTransferEntity recurring);
+}
@@ -0,0 +1,18 @@
+package com.bank.transfer.mapper;
+
+import com.bank.transfer.dto.TransferBulkJobDto;
+import com.bank.transfer.entity.TransferBulkJobEntity;
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper для {@link TransferBulkJobEntity} и {@link TransferBulkJobDto}
+ */
+@Mapper(componentModel = "spring")
+public interface TransferBulkJobMapper {
+
+    /**
+     * @param job {@link TransferBulkJobEntity}
+     * @return {@link TransferBulkJobDto}
+     */
+    TransferBulkJobDto toDto(TransferBulkJobEntity job);
+}
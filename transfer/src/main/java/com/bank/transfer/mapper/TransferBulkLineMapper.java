@@ -0,0 +1,26 @@
+package com.bank.transfer.mapper;
+
+import com.bank.transfer.dto.TransferBulkLineDto;
+import com.bank.transfer.entity.TransferBulkLineEntity;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+/**
+ * Mapper для {@link TransferBulkLineEntity} и {@link TransferBulkLineDto}
+ */
+@Mapper(componentModel = "spring")
+public interface TransferBulkLineMapper {
+
+    /**
+     * @param line {@link TransferBulkLineEntity}
+     * @return {@link TransferBulkLineDto}
+     */
+    TransferBulkLineDto toDto(TransferBulkLineEntity line);
+
+    /**
+     * @param lines лист {@link TransferBulkLineEntity}
+     * @return лист {@link TransferBulkLineDto}
+     */
+    List<TransferBulkLineDto> toDtoList(List<TransferBulkLineEntity> lines);
+}
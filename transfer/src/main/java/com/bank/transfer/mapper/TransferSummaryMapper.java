@@ -0,0 +1,26 @@
+package com.bank.transfer.mapper;
+
+import com.bank.transfer.dto.TransferSummaryDto;
+import com.bank.transfer.entity.TransferSummaryEntity;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+/**
+ * Mapper для {@link TransferSummaryEntity} и {@link TransferSummaryDto}
+ */
+@Mapper(componentModel = "spring")
+public interface TransferSummaryMapper {
+
+    /**
+     * @param summary {@link TransferSummaryEntity}
+     * @return {@link TransferSummaryDto}
+     */
+    TransferSummaryDto toDto(TransferSummaryEntity summary);
+
+    /**
+     * @param summaries лист {@link TransferSummaryEntity}
+     * @return лист {@link TransferSummaryDto}
+     */
+    List<TransferSummaryDto> toDtoList(List<TransferSummaryEntity> summaries);
+}
@@ -2,9 +2,57 @@ package com.bank.transfer.repository;
 
 import com.bank.transfer.entity.AccountTransferEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Репозиторий для {@link AccountTransferEntity}
  */
 public interface AccountTransferRepository extends JpaRepository<AccountTransferEntity, Long> {
+
+    /**
+     * @param id технический идентификатор {@link AccountTransferEntity}
+     * @return {@link AccountTransferEntity}, заблокированный до конца транзакции
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from AccountTransferEntity t where t.id = :id")
+    Optional<AccountTransferEntity> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Страница истории по ключу (created_at, id), от новых к старым; идёт по индексу account_transfer_history_idx.
+     *
+     * @param accountDetailsId технический идентификатор счёта
+     * @param createdAt        время создания последнего перевода предыдущей страницы
+     * @param id               технический идентификатор последнего перевода предыдущей страницы
+     * @param limit            максимальное число записей
+     * @return лист {@link AccountTransferEntity}
+     */
+    @Query(value = "select * from transfer.account_transfer where account_details_id = :accountDetailsId " +
+            "and (created_at, id) < (:createdAt, :id) order by created_at desc, id desc limit :limit",
+            nativeQuery = true)
+    List<AccountTransferEntity> findHistoryPage(@Param("accountDetailsId") Long accountDetailsId,
+                                                @Param("createdAt") Timestamp createdAt, @Param("id") Long id,
+                                                @Param("limit") int limit);
+
+    /**
+     * Страница переводов на номер, от новых к старым; идёт по индексу account_transfer_account_number_idx.
+     *
+     * @param accountNumber    номер получателя
+     * @param createdAt        время создания последнего перевода предыдущей страницы
+     * @param id               технический идентификатор последнего перевода предыдущей страницы
+     * @param limit            максимальное число записей
+     * @return лист {@link AccountTransferEntity}
+     */
+    @Query(value = "select * from transfer.account_transfer where account_number = :accountNumber " +
+            "and (created_at, id) < (:createdAt, :id) order by created_at desc, id desc limit :limit",
+            nativeQuery = true)
+    List<AccountTransferEntity> findByAccountNumberPage(@Param("accountNumber") Long accountNumber,
+                                                        @Param("createdAt") Timestamp createdAt, @Param("id") Long id,
+                                                        @Param("limit") int limit);
 }
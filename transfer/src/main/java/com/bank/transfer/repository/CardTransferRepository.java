@@ -2,9 +2,46 @@ package com.bank.transfer.repository;
 
 import com.bank.transfer.entity.CardTransferEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.sql.Timestamp;
+import java.util.List;
 
 /**
  * Репозиторий для {@link CardTransferEntity}
  */
 public interface CardTransferRepository extends JpaRepository<CardTransferEntity, Long> {
+
+    /**
+     * Страница истории по ключу (created_at, id), от новых к старым; идёт по индексу card_transfer_history_idx.
+     *
+     * @param accountDetailsId технический идентификатор счёта
+     * @param createdAt        время создания последнего перевода предыдущей страницы
+     * @param id               технический идентификатор последнего перевода предыдущей страницы
+     * @param limit            максимальное число записей
+     * @return лист {@link CardTransferEntity}
+     */
+    @Query(value = "select * from transfer.card_transfer where account_details_id = :accountDetailsId " +
+            "and (created_at, id) < (:createdAt, :id) order by created_at desc, id desc limit :limit",
+            nativeQuery = true)
+    List<CardTransferEntity> findHistoryPage(@Param("accountDetailsId") Long accountDetailsId,
+                                             @Param("createdAt") Timestamp createdAt, @Param("id") Long id,
+                                             @Param("limit") int limit);
+
+    /**
+     * Страница переводов на номер, от новых к старым; идёт по индексу card_transfer_card_number_idx.
+     *
+     * @param cardNumber       номер получателя
+     * @param createdAt        время создания последнего перевода предыдущей страницы
+     * @param id               технический идентификатор последнего перевода предыдущей страницы
+     * @param limit            максимальное число записей
+     * @return лист {@link CardTransferEntity}
+     */
+    @Query(value = "select * from transfer.card_transfer where card_number = :cardNumber " +
+            "and (created_at, id) < (:createdAt, :id) order by created_at desc, id desc limit :limit",
+            nativeQuery = true)
+    List<CardTransferEntity> findByCardNumberPage(@Param("cardNumber") Long cardNumber,
+                                                  @Param("createdAt") Timestamp createdAt, @Param("id") Long id,
+                                                  @Param("limit") int limit);
 }
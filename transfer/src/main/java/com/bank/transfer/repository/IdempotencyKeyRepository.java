@@ -0,0 +1,40 @@
+package com.bank.transfer.repository;
+
+import com.bank.transfer.entity.IdempotencyKeyEntity;
+import com.bank.transfer.entity.IdempotentOperation;
+import com.bank.transfer.entity.TransferType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.sql.Timestamp;
+import java.util.Optional;
+
+/**
+ * Репозиторий для {@link IdempotencyKeyEntity}
+ */
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, Long> {
+
+    /**
+     * @param transferType   {@link TransferType}
+     * @param operation      {@link IdempotentOperation}
+     * @param idempotencyKey значение заголовка Idempotency-Key
+     * @return {@link IdempotencyKeyEntity} с переводом, созданным с этим ключом
+     */
+    Optional<IdempotencyKeyEntity> findByTransferTypeAndOperationAndIdempotencyKey(TransferType transferType,
+                                                                                   IdempotentOperation operation,
+                                                                                   String idempotencyKey);
+
+    /**
+     * Удаляет пачку, чтобы очистка не держала долгую транзакцию и блокировки на всю таблицу.
+     *
+     * @param createdBefore ключи, сохранённые раньше, удаляются
+     * @param limit         размер пачки
+     * @return количество удалённых ключей
+     */
+    @Modifying
+    @Query(value = "delete from transfer.idempotency_key where id in (select id from transfer.idempotency_key " +
+            "where created_at < :createdBefore limit :limit)", nativeQuery = true)
+    int deleteCreatedBefore(@Param("createdBefore") Timestamp createdBefore, @Param("limit") int limit);
+}
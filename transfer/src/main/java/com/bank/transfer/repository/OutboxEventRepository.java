@@ -0,0 +1,24 @@
+package com.bank.transfer.repository;
+
+import com.bank.transfer.entity.OutboxEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Репозиторий для {@link OutboxEventEntity}
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * Строки, заблокированные другим экземпляром relay, пропускаются, поэтому экземпляры не ждут друг друга.
+     *
+     * @param limit размер пачки
+     * @return лист {@link OutboxEventEntity} по возрастанию id, заблокированный до конца транзакции
+     */
+    @Query(value = "select * from transfer.outbox_event order by id limit :limit for update skip locked",
+            nativeQuery = true)
+    List<OutboxEventEntity> findBatchForUpdate(@Param("limit") int limit);
+}
@@ -2,9 +2,46 @@ package com.bank.transfer.repository;
 
 import com.bank.transfer.entity.PhoneTransferEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.sql.Timestamp;
+import java.util.List;
 
 /**
  * Репозиторий для {@link PhoneTransferEntity}
  */
 public interface PhoneTransferRepository extends JpaRepository<PhoneTransferEntity, Long> {
+
+    /**
+     * Страница истории по ключу (created_at, id), от новых к старым; идёт по индексу phone_transfer_history_idx.
+     *
+     * @param accountDetailsId технический идентификатор счёта
+     * @param createdAt        время создания последнего перевода предыдущей страницы
+     * @param id               технический идентификатор последнего перевода предыдущей страницы
+     * @param limit            максимальное число записей
+     * @return лист {@link PhoneTransferEntity}
+     */
+    @Query(value = "select * from transfer.phone_transfer where account_details_id = :accountDetailsId " +
+            "and (created_at, id) < (:createdAt, :id) order by created_at desc, id desc limit :limit",
+            nativeQuery = true)
+    List<PhoneTransferEntity> findHistoryPage(@Param("accountDetailsId") Long accountDetailsId,
+                                              @Param("createdAt") Timestamp createdAt, @Param("id") Long id,
+                                              @Param("limit") int limit);
+
+    /**
+     * Страница переводов на номер, от новых к старым; идёт по индексу phone_transfer_phone_number_idx.
+     *
+     * @param phoneNumber      номер получателя
+     * @param createdAt        время создания последнего перевода предыдущей страницы
+     * @param id               технический идентификатор последнего перевода предыдущей страницы
+     * @param limit            максимальное число записей
+     * @return лист {@link PhoneTransferEntity}
+     */
+    @Query(value = "select * from transfer.phone_transfer where phone_number = :phoneNumber " +
+            "and (created_at, id) < (:createdAt, :id) order by created_at desc, id desc limit :limit",
+            nativeQuery = true)
+    List<PhoneTransferEntity> findByPhoneNumberPage(@Param("phoneNumber") Long phoneNumber,
+                                                    @Param("createdAt") Timestamp createdAt, @Param("id") Long id,
+                                                    @Param("limit") int limit);
 }
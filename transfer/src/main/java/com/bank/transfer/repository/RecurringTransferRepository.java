@@ -0,0 +1,54 @@
+package com.bank.transfer.repository;
+
+import com.bank.transfer.entity.RecurringTransferEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Репозиторий для {@link RecurringTransferEntity}
+ */
+public interface RecurringTransferRepository extends JpaRepository<RecurringTransferEntity, Long> {
+
+    /**
+     * @param id технический идентификатор {@link RecurringTransferEntity}
+     * @return {@link RecurringTransferEntity}, заблокированный до конца транзакции
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from RecurringTransferEntity r where r.id = :id")
+    Optional<RecurringTransferEntity> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Страница активных расписаний с исполнением раньше until по ключу (next_run_at, id) по возрастанию;
+     * идёт по индексу recurring_transfer_due_idx.
+     *
+     * @param until     верхняя граница next_run_at не включительно
+     * @param nextRunAt время исполнения последнего расписания предыдущей страницы
+     * @param id        технический идентификатор последнего расписания предыдущей страницы
+     * @param limit     максимальное число записей
+     * @return лист {@link RecurringTransferEntity}
+     */
+    @Query(value = "select * from transfer.recurring_transfer where active and next_run_at < :until " +
+            "and (next_run_at, id) > (:nextRunAt, :id) order by next_run_at, id limit :limit", nativeQuery = true)
+    List<RecurringTransferEntity> findDuePage(@Param("until") Timestamp until,
+                                              @Param("nextRunAt") Timestamp nextRunAt, @Param("id") Long id,
+                                              @Param("limit") int limit);
+
+    /**
+     * Захват наступивших исполнений: строки, заблокированные другим узлом, пропускаются, а не ожидаются.
+     *
+     * @param ids технические идентификаторы {@link RecurringTransferEntity}
+     * @param now текущее время
+     * @return лист незахваченных {@link RecurringTransferEntity}, заблокированных до конца транзакции
+     */
+    @Query(value = "select * from transfer.recurring_transfer where id in (:ids) and active " +
+            "and next_run_at <= :now and (claimed_until is null or claimed_until < :now) " +
+            "order by id for update skip locked", nativeQuery = true)
+    List<RecurringTransferEntity> claimDue(@Param("ids") List<Long> ids, @Param("now") Timestamp now);
+}
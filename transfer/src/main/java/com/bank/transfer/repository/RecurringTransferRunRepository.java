@@ -0,0 +1,20 @@
+package com.bank.transfer.repository;
+
+import com.bank.transfer.entity.RecurringTransferRunEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.sql.Timestamp;
+import java.util.Optional;
+
+/**
+ * Репозиторий для {@link RecurringTransferRunEntity}
+ */
+public interface RecurringTransferRunRepository extends JpaRepository<RecurringTransferRunEntity, Long> {
+
+    /**
+     * @param recurringTransferId технический идентификатор расписания
+     * @param dueAt               плановое время исполнения
+     * @return {@link RecurringTransferRunEntity}
+     */
+    Optional<RecurringTransferRunEntity> findByRecurringTransferIdAndDueAt(Long recurringTransferId, Timestamp dueAt);
+}
@@ -0,0 +1,54 @@
+package com.bank.transfer.repository;
+
+import com.bank.transfer.entity.BulkJobStatus;
+import com.bank.transfer.entity.TransferBulkJobEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.sql.Timestamp;
+
+/**
+ * Репозиторий для {@link TransferBulkJobEntity}
+ */
+public interface TransferBulkJobRepository extends JpaRepository<TransferBulkJobEntity, Long> {
+
+    /**
+     * @param id       технический идентификатор {@link TransferBulkJobEntity}
+     * @param accepted создано переводов в чанке
+     * @param rejected отклонено строк в чанке
+     * @return количество обновлённых строк
+     */
+    @Modifying
+    @Query("update TransferBulkJobEntity j set j.processedLines = j.processedLines + :accepted + :rejected, " +
+            "j.acceptedLines = j.acceptedLines + :accepted, j.rejectedLines = j.rejectedLines + :rejected " +
+            "where j.id = :id")
+    int addProgress(@Param("id") Long id, @Param("accepted") long accepted, @Param("rejected") long rejected);
+
+    /**
+     * @param id            технический идентификатор {@link TransferBulkJobEntity}
+     * @param status        итоговый {@link BulkJobStatus}
+     * @param failureReason причина остановки, null для COMPLETED
+     * @param finishedAt    время завершения
+     * @return количество обновлённых строк
+     */
+    @Modifying
+    @Query("update TransferBulkJobEntity j set j.status = :status, j.failureReason = :failureReason, " +
+            "j.finishedAt = :finishedAt where j.id = :id")
+    int finish(@Param("id") Long id, @Param("status") BulkJobStatus status,
+               @Param("failureReason") String failureReason, @Param("finishedAt") Timestamp finishedAt);
+
+    /**
+     * @param nodeId        экземпляр, принявший загрузки
+     * @param failureReason причина остановки
+     * @param finishedAt    время завершения
+     * @return количество остановленных загрузок
+     */
+    @Modifying
+    @Query("update TransferBulkJobEntity j set j.status = com.bank.transfer.entity.BulkJobStatus.FAILED, " +
+            "j.failureReason = :failureReason, j.finishedAt = :finishedAt " +
+            "where j.nodeId = :nodeId and j.status = com.bank.transfer.entity.BulkJobStatus.RUNNING")
+    int failRunning(@Param("nodeId") String nodeId, @Param("failureReason") String failureReason,
+                    @Param("finishedAt") Timestamp finishedAt);
+}
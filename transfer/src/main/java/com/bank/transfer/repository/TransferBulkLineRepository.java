@@ -0,0 +1,24 @@
+package com.bank.transfer.repository;
+
+import com.bank.transfer.entity.TransferBulkLineEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * Репозиторий для {@link TransferBulkLineEntity}
+ */
+public interface TransferBulkLineRepository extends JpaRepository<TransferBulkLineEntity, Long> {
+
+    /**
+     * Keyset-пагинация по индексу (job_id, line_number).
+     *
+     * @param jobId     технический идентификатор загрузки
+     * @param afterLine номер последней строки предыдущей страницы
+     * @param pageable  размер страницы
+     * @return лист {@link TransferBulkLineEntity} по возрастанию номера строки
+     */
+    List<TransferBulkLineEntity> findByJobIdAndLineNumberGreaterThanOrderByLineNumberAsc(Long jobId, Long afterLine,
+                                                                                         Pageable pageable);
+}
@@ -0,0 +1,32 @@
+package com.bank.transfer.repository;
+
+import com.bank.transfer.entity.TransferSummaryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Репозиторий для {@link TransferSummaryEntity}
+ */
+public interface TransferSummaryRepository extends JpaRepository<TransferSummaryEntity, Long> {
+
+    /**
+     * Страница переводов всех типов за период, от новых к старым; идёт по индексу transfer_summary_account_idx.
+     *
+     * @param accountDetailsId технический идентификатор счёта
+     * @param from             нижняя граница created_at, включительно
+     * @param createdAt        время создания последней записи предыдущей страницы
+     * @param id               технический идентификатор последней записи предыдущей страницы
+     * @param limit            максимальное число записей
+     * @return лист {@link TransferSummaryEntity}
+     */
+    @Query(value = "select * from transfer.transfer_summary where account_details_id = :accountDetailsId " +
+            "and created_at >= :from and (created_at, id) < (:createdAt, :id) " +
+            "order by created_at desc, id desc limit :limit", nativeQuery = true)
+    List<TransferSummaryEntity> findPage(@Param("accountDetailsId") Long accountDetailsId,
+                                         @Param("from") Timestamp from, @Param("createdAt") Timestamp createdAt,
+                                         @Param("id") Long id, @Param("limit") int limit);
+}
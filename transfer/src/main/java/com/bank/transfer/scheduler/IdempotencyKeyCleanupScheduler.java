@@ -0,0 +1,30 @@
+package com.bank.transfer.scheduler;
+
+import com.bank.transfer.service.IdempotencyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Удаляет ключи идемпотентности старше transfer.idempotency.retention, чтобы таблица не росла бесконечно.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyKeyCleanupScheduler {
+
+    private final IdempotencyService idempotencyService;
+
+    /**
+     * Очистка ключей идемпотентности.
+     */
+    @Scheduled(cron = "${transfer.idempotency.purge-cron:0 0 4 * * *}")
+    public void purge() {
+        try {
+            log.info("Удалено ключей идемпотентности: {}", idempotencyService.purgeExpired());
+        } catch (RuntimeException ex) {
+            log.error("Не удалось удалить устаревшие ключи идемпотентности", ex);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.bank.transfer.scheduler;
+
+import com.bank.transfer.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Периодически отправляет накопленные события переводов потребителям.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelayScheduler {
+
+    private final OutboxService outboxService;
+
+    /**
+     * Отправка outbox. При недоступном потребителе события остаются в таблице до следующего запуска.
+     */
+    @Scheduled(fixedDelayString = "${transfer.outbox.relay-fixed-delay:500}")
+    public void relay() {
+        try {
+            outboxService.relay();
+        } catch (RuntimeException ex) {
+            log.error("Не удалось отправить события переводов", ex);
+        }
+    }
+}
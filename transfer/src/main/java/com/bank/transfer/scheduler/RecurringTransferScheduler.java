@@ -0,0 +1,140 @@
+package com.bank.transfer.scheduler;
+
+import com.bank.transfer.config.RecurringTransferConfig;
+import com.bank.transfer.dto.RecurringTransferDto;
+import com.bank.transfer.service.RecurringTransferRunService;
+import com.bank.transfer.service.common.TimingWheel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Планировщик регулярных переводов. Ближайшие исполнения периодически загружаются из БД в колесо таймеров,
+ * а каждый тик наступившие отдаются пачками в пул исполнения. Колесо - только подсказка, когда спрашивать БД:
+ * исполнение всё равно захватывается в БД, поэтому экземпляры сервиса могут держать одни и те же расписания.
+ * Окно загружается страницами по transfer.recurring.load-page-size: в памяти одна страница расписаний,
+ * а в колесе - только их идентификаторы. Задачам нужен пул spring.task.scheduling.pool: загрузка
+ * не должна задерживать тик и другие планировщики.
+ */
+@Slf4j
+@Component
+public class RecurringTransferScheduler {
+
+    private final RecurringTransferRunService runService;
+    private final Executor executor;
+    private final Duration lookahead;
+    private final int batchSize;
+    private final int loadPageSize;
+    private final TimingWheel<Long> wheel;
+
+    /**
+     * Время исполнения расписаний, уже стоящих в колесе: повторная загрузка не добавляет их снова.
+     */
+    private final Map<Long, Long> scheduled = new HashMap<>();
+
+    public RecurringTransferScheduler(RecurringTransferRunService runService,
+                                      @Qualifier(RecurringTransferConfig.RECURRING_EXECUTOR) Executor executor,
+                                      @Value("${transfer.recurring.tick:1000}") long tickMillis,
+                                      @Value("${transfer.recurring.wheel-size:64}") int wheelSize,
+                                      @Value("${transfer.recurring.lookahead:PT10M}") Duration lookahead,
+                                      @Value("${transfer.recurring.batch-size:50}") int batchSize,
+                                      @Value("${transfer.recurring.load-page-size:500}") int loadPageSize) {
+        this.runService = runService;
+        this.executor = executor;
+        this.lookahead = lookahead;
+        this.batchSize = batchSize;
+        this.loadPageSize = loadPageSize;
+        this.wheel = new TimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * Загружает исполнения на lookahead вперёд, включая просроченные. Интервал загрузки должен быть меньше lookahead.
+     */
+    @Scheduled(fixedDelayString = "${transfer.recurring.load-fixed-delay:60000}")
+    public void load() {
+        final LocalDateTime until = LocalDateTime.now().plus(lookahead);
+        RecurringTransferDto after = null;
+        List<RecurringTransferDto> page;
+        do {
+            try {
+                page = runService.findUpcomingPage(until, after, loadPageSize);
+            } catch (RuntimeException ex) {
+                log.error("Не удалось загрузить регулярные переводы", ex);
+                return;
+            }
+            submit(schedule(page));
+            after = page.isEmpty() ? after : page.get(page.size() - 1);
+        } while (page.size() == loadPageSize);
+    }
+
+    /**
+     * Отдаёт наступившие исполнения в пул. Элемент колеса, время которого сменилось после перезагрузки
+     * расписания, пропускается: сработает элемент с новым временем.
+     */
+    @Scheduled(fixedRateString = "${transfer.recurring.tick:1000}")
+    public void tick() {
+        final List<Long> due = new ArrayList<>();
+        final long now = System.currentTimeMillis();
+        synchronized (wheel) {
+            wheel.advance(now, id -> {
+                final Long at = scheduled.get(id);
+                if (at != null && at <= now) {
+                    scheduled.remove(id);
+                    due.add(id);
+                }
+            });
+        }
+        submit(due);
+    }
+
+    /**
+     * @return расписания, время которых уже прошло колесо: их не добавить, они исполняются сразу
+     */
+    private List<Long> schedule(List<RecurringTransferDto> page) {
+        final List<Long> due = new ArrayList<>();
+        synchronized (wheel) {
+            for (RecurringTransferDto recurring : page) {
+                final long at = recurring.getNextRunAt().toLocalDateTime()
+                        .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                if (!Long.valueOf(at).equals(scheduled.put(recurring.getId(), at)) &&
+                        !wheel.add(recurring.getId(), at)) {
+                    scheduled.remove(recurring.getId());
+                    due.add(recurring.getId());
+                }
+            }
+        }
+        return due;
+    }
+
+    private void submit(List<Long> due) {
+        for (int from = 0; from < due.size(); from += batchSize) {
+            final List<Long> batch = List.copyOf(due.subList(from, Math.min(from + batchSize, due.size())));
+            try {
+                executor.execute(() -> runBatch(batch));
+            } catch (RejectedExecutionException ex) {
+                log.warn("Пул регулярных переводов переполнен, {} расписаний перенесены до следующей загрузки",
+                        batch.size());
+            }
+        }
+    }
+
+    private void runBatch(List<Long> batch) {
+        try {
+            runService.run(batch);
+        } catch (RuntimeException ex) {
+            log.error("Не удалось исполнить пачку регулярных переводов", ex);
+        }
+    }
+}
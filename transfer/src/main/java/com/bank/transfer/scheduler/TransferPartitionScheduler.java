@@ -0,0 +1,35 @@
+package com.bank.transfer.scheduler;
+
+import com.bank.transfer.service.TransferPartitionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Раз в сутки готовит секции таблиц переводов на ближайшие месяцы и архивирует устаревшие.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransferPartitionScheduler {
+
+    private final TransferPartitionService partitionService;
+
+    /**
+     * Ошибка архивации не мешает созданию секций: без них вставки уходят в секцию по умолчанию.
+     */
+    @Scheduled(cron = "${transfer.partition.cron:0 30 3 * * *}")
+    public void maintain() {
+        try {
+            partitionService.createUpcoming();
+        } catch (RuntimeException ex) {
+            log.error("Не удалось создать секции переводов", ex);
+        }
+        try {
+            partitionService.archiveExpired();
+        } catch (RuntimeException ex) {
+            log.error("Не удалось архивировать секции переводов", ex);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.bank.transfer.service;
+
+import com.bank.common.exception.ValidationException;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * Движение денег по счетам через журнал проводок модуля account.
+ * Баланс, права на минус и итоги банков считает только модуль account.
+ */
+public interface AccountLedgerClient {
+
+    /**
+     * @param accountNumber номер счёта
+     * @return технический идентификатор счёта, пустой {@link Optional} если счёт не найден
+     */
+    Optional<Long> findIdByAccountNumber(Long accountNumber);
+
+    /**
+     * Списание и зачисление одной транзакцией модуля account. Вызов идемпотентен по transferId:
+     * повтор, в том числе после таймаута, возвращает уже сохранённый итог и не перемещает деньги второй раз.
+     *
+     * @param transferId           идентификатор перевода
+     * @param fromAccountDetailsId технический идентификатор счёта отправителя
+     * @param toAccountDetailsId   технический идентификатор счёта получателя
+     * @param amount               сумма перевода
+     * @return причина отказа, пустой {@link Optional} если деньги перемещены
+     * @throws ValidationException   если модуль account отклонил параметры перевода
+     * @throws IllegalStateException если перевод с этим transferId уже проведён с другими параметрами
+     */
+    Optional<String> transfer(Long transferId, Long fromAccountDetailsId, Long toAccountDetailsId,
+                              BigDecimal amount);
+}
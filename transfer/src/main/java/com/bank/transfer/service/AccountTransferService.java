@@ -1,6 +1,7 @@
 package com.bank.transfer.service;
 
 import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.dto.TransferHistoryPageDto;
 import com.bank.transfer.entity.AccountTransferEntity;
 
 import java.util.List;
@@ -34,4 +35,20 @@ public interface AccountTransferService {
      * @return {@link AccountTransferDto}
      */
     AccountTransferDto update(Long id, AccountTransferDto accountTransfer);
+
+    /**
+     * @param accountDetailsId технический идентификатор счёта
+     * @param cursor           курсор из предыдущей страницы, null - первая страница
+     * @param limit            размер страницы
+     * @return {@link TransferHistoryPageDto} с {@link AccountTransferDto}, от новых к старым
+     */
+    TransferHistoryPageDto<AccountTransferDto> findHistory(Long accountDetailsId, String cursor, int limit);
+
+    /**
+     * @param accountNumber номер счёта получателя, допускаются пробелы, '+', '-' и скобки
+     * @param cursor        курсор из предыдущей страницы, null - первая страница
+     * @param limit         размер страницы
+     * @return {@link TransferHistoryPageDto} с {@link AccountTransferDto}, от новых к старым
+     */
+    TransferHistoryPageDto<AccountTransferDto> findByAccountNumber(String accountNumber, String cursor, int limit);
 }
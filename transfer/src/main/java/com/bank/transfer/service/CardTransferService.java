@@ -1,6 +1,7 @@
 package com.bank.transfer.service;
 
 import com.bank.transfer.dto.CardTransferDto;
+import com.bank.transfer.dto.TransferHistoryPageDto;
 import com.bank.transfer.entity.CardTransferEntity;
 
 import java.util.List;
@@ -34,4 +35,20 @@ public interface CardTransferService {
      * @return {@link CardTransferDto}
      */
     CardTransferDto update(Long id, CardTransferDto cardTransfer);
+
+    /**
+     * @param accountDetailsId технический идентификатор счёта
+     * @param cursor           курсор из предыдущей страницы, null - первая страница
+     * @param limit            размер страницы
+     * @return {@link TransferHistoryPageDto} с {@link CardTransferDto}, от новых к старым
+     */
+    TransferHistoryPageDto<CardTransferDto> findHistory(Long accountDetailsId, String cursor, int limit);
+
+    /**
+     * @param cardNumber номер карты получателя, допускаются пробелы, '+', '-' и скобки
+     * @param cursor     курсор из предыдущей страницы, null - первая страница
+     * @param limit      размер страницы
+     * @return {@link TransferHistoryPageDto} с {@link CardTransferDto}, от новых к старым
+     */
+    TransferHistoryPageDto<CardTransferDto> findByCardNumber(String cardNumber, String cursor, int limit);
 }
@@ -0,0 +1,39 @@
+package com.bank.transfer.service;
+
+import com.bank.transfer.entity.IdempotentOperation;
+import com.bank.transfer.entity.TransferType;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Сервис создания переводов по заголовку Idempotency-Key.
+ */
+public interface IdempotencyService {
+
+    /**
+     * Повтор запроса с тем же ключом возвращает перевод, созданный первым запросом, без повторной записи.
+     * Повтор ключа с другим телом запроса отклоняется. Ключи разных операций не пересекаются.
+     * Создание не должно перемещать деньги: при гонке двух запросов с одним ключом создание проигравшего
+     * откатывается.
+     *
+     * @param transferType   {@link TransferType}
+     * @param operation      {@link IdempotentOperation}
+     * @param idempotencyKey значение заголовка Idempotency-Key
+     * @param request        тело запроса, с которым сверяются повторы
+     * @param create         создание перевода
+     * @param idGetter       технический идентификатор созданного перевода
+     * @param loader         чтение перевода по техническому идентификатору
+     * @param <T>            ДТО перевода
+     * @return ДТО перевода, созданного первым запросом с этим ключом
+     */
+    <T> T execute(TransferType transferType, IdempotentOperation operation, String idempotencyKey, Object request,
+                  Supplier<T> create, Function<T, Long> idGetter, Function<Long, T> loader);
+
+    /**
+     * Удаляет ключи старше срока хранения.
+     *
+     * @return количество удалённых ключей
+     */
+    int purgeExpired();
+}
@@ -1,10 +1,18 @@
 package com.bank.transfer.service.Impl;
 
 import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.dto.TransferHistoryPageDto;
 import com.bank.transfer.entity.AccountTransferEntity;
+import com.bank.transfer.entity.TransferEventType;
+import com.bank.transfer.entity.TransferStatus;
+import com.bank.transfer.entity.TransferType;
 import com.bank.transfer.mapper.AccountTransferMapper;
 import com.bank.transfer.repository.AccountTransferRepository;
+import com.bank.transfer.service.OutboxService;
 import com.bank.transfer.service.common.EntityNotFoundReturner;
+import com.bank.transfer.service.common.TransferHistoryCursor;
+import com.bank.transfer.service.common.TransferHistoryPager;
+import com.bank.transfer.service.common.TransferNumberNormalizer;
 import com.bank.transfer.service.AccountTransferService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,10 +31,14 @@ import java.util.List;
 public class AccountTransferServiceImpl implements AccountTransferService {
 
     private final static String MESSAGE = "Не найден перевод по номеру счета с ID ";
+    private final static String NOT_NEW_PREFIX = "Изменить можно только новый перевод, статус ";
 
     private final AccountTransferRepository repository;
     private final AccountTransferMapper mapper;
     private final EntityNotFoundReturner notFoundReturner;
+    private final OutboxService outboxService;
+    private final TransferHistoryPager historyPager;
+    private final TransferNumberNormalizer numberNormalizer;
 
     /**
      * @param ids список технических идентификаторов {@link AccountTransferEntity}
@@ -60,13 +72,16 @@ public class AccountTransferServiceImpl implements AccountTransferService {
     @Override
     @Transactional
     public AccountTransferDto save(AccountTransferDto accountTransfer) {
-        final AccountTransferEntity transfer = repository.save(
-                mapper.toEntity(accountTransfer));
+        final AccountTransferDto transfer = mapper.toDto(repository.save(mapper.toEntity(accountTransfer)));
+        outboxService.record(TransferType.ACCOUNT, transfer.getId(), TransferEventType.CREATED, transfer);
 
-        return mapper.toDto(transfer);
+        return transfer;
     }
 
     /**
+     * Изменить можно только перевод в статусе NEW: после начала исполнения сумма и счета
+     * уже переданы в модуль account. Строка блокируется, чтобы не разойтись с началом исполнения.
+     *
      * @param accountTransfer {@link AccountTransferDto}
      * @param id              технический идентификатор {@link AccountTransferEntity}
      * @return {@link AccountTransferDto}
@@ -74,11 +89,48 @@ public class AccountTransferServiceImpl implements AccountTransferService {
     @Override
     @Transactional
     public AccountTransferDto update(Long id, AccountTransferDto accountTransfer) {
-        final AccountTransferEntity transfer = repository.findById(id)
+        final AccountTransferEntity transfer = repository.findByIdForUpdate(id)
                 .orElseThrow(() -> notFoundReturner.getEntityNotFoundException(id, MESSAGE));
+        if (transfer.getStatus() != TransferStatus.NEW) {
+            throw new IllegalStateException(NOT_NEW_PREFIX + transfer.getStatus() + ", id = " + id);
+        }
 
         final AccountTransferEntity accountTransferEntity = mapper.mergeToEntity(accountTransfer, transfer);
 
-        return mapper.toDto(repository.save(accountTransferEntity));
+        final AccountTransferDto updated = mapper.toDto(repository.save(accountTransferEntity));
+        outboxService.record(TransferType.ACCOUNT, id, TransferEventType.UPDATED, updated);
+
+        return updated;
+    }
+
+    /**
+     * @param accountDetailsId технический идентификатор счёта
+     * @param cursor           курсор из предыдущей страницы, null - первая страница
+     * @param limit            размер страницы
+     * @return {@link TransferHistoryPageDto} с {@link AccountTransferDto}, от новых к старым
+     */
+    @Override
+    public TransferHistoryPageDto<AccountTransferDto> findHistory(Long accountDetailsId, String cursor, int limit) {
+        return historyPager.page(cursor, limit,
+                (after, size) -> repository.findHistoryPage(accountDetailsId, after.getCreatedAt(), after.getId(),
+                        size),
+                transfer -> TransferHistoryCursor.of(transfer.getCreatedAt(), transfer.getId()), mapper::toDtoList);
+    }
+
+    /**
+     * @param accountNumber номер счёта получателя, допускаются пробелы, '+', '-' и скобки
+     * @param cursor        курсор из предыдущей страницы, null - первая страница
+     * @param limit         размер страницы
+     * @return {@link TransferHistoryPageDto} с {@link AccountTransferDto}, от новых к старым
+     */
+    @Override
+    public TransferHistoryPageDto<AccountTransferDto> findByAccountNumber(String accountNumber, String cursor,
+                                                                          int limit) {
+        final Long number = numberNormalizer.normalize(accountNumber);
+
+        return historyPager.page(cursor, limit,
+                (after, size) -> repository.findByAccountNumberPage(number, after.getCreatedAt(), after.getId(),
+                        size),
+                transfer -> TransferHistoryCursor.of(transfer.getCreatedAt(), transfer.getId()), mapper::toDtoList);
     }
 }
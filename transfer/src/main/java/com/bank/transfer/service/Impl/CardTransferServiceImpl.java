@@ -1,10 +1,17 @@
 package com.bank.transfer.service.Impl;
 
 import com.bank.transfer.dto.CardTransferDto;
+import com.bank.transfer.dto.TransferHistoryPageDto;
 import com.bank.transfer.entity.CardTransferEntity;
+import com.bank.transfer.entity.TransferEventType;
+import com.bank.transfer.entity.TransferType;
 import com.bank.transfer.mapper.CardTransferMapper;
 import com.bank.transfer.repository.CardTransferRepository;
+import com.bank.transfer.service.OutboxService;
 import com.bank.transfer.service.common.EntityNotFoundReturner;
+import com.bank.transfer.service.common.TransferHistoryCursor;
+import com.bank.transfer.service.common.TransferHistoryPager;
+import com.bank.transfer.service.common.TransferNumberNormalizer;
 import com.bank.transfer.service.CardTransferService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +34,9 @@ public class CardTransferServiceImpl implements CardTransferService {
     private final CardTransferRepository repository;
     private final CardTransferMapper mapper;
     private final EntityNotFoundReturner notFoundReturner;
+    private final OutboxService outboxService;
+    private final TransferHistoryPager historyPager;
+    private final TransferNumberNormalizer numberNormalizer;
 
     /**
      * @param ids список технических идентификаторов {@link CardTransferEntity}
@@ -62,10 +72,10 @@ public class CardTransferServiceImpl implements CardTransferService {
     @Override
     @Transactional
     public CardTransferDto save(CardTransferDto cardTransfer) {
-        final CardTransferEntity transfer = repository.save(
-                mapper.toEntity(cardTransfer));
+        final CardTransferDto transfer = mapper.toDto(repository.save(mapper.toEntity(cardTransfer)));
+        outboxService.record(TransferType.CARD, transfer.getId(), TransferEventType.CREATED, transfer);
 
-        return mapper.toDto(transfer);
+        return transfer;
     }
 
     /**
@@ -81,6 +91,38 @@ public class CardTransferServiceImpl implements CardTransferService {
 
         final CardTransferEntity cardTransferEntity = mapper.mergeToEntity(cardTransfer, transfer);
 
-        return mapper.toDto(repository.save(cardTransferEntity));
+        final CardTransferDto updated = mapper.toDto(repository.save(cardTransferEntity));
+        outboxService.record(TransferType.CARD, id, TransferEventType.UPDATED, updated);
+
+        return updated;
+    }
+
+    /**
+     * @param accountDetailsId технический идентификатор счёта
+     * @param cursor           курсор из предыдущей страницы, null - первая страница
+     * @param limit            размер страницы
+     * @return {@link TransferHistoryPageDto} с {@link CardTransferDto}, от новых к старым
+     */
+    @Override
+    public TransferHistoryPageDto<CardTransferDto> findHistory(Long accountDetailsId, String cursor, int limit) {
+        return historyPager.page(cursor, limit,
+                (after, size) -> repository.findHistoryPage(accountDetailsId, after.getCreatedAt(), after.getId(),
+                        size),
+                transfer -> TransferHistoryCursor.of(transfer.getCreatedAt(), transfer.getId()), mapper::toDtoList);
+    }
+
+    /**
+     * @param cardNumber номер карты получателя, допускаются пробелы, '+', '-' и скобки
+     * @param cursor     курсор из предыдущей страницы, null - первая страница
+     * @param limit      размер страницы
+     * @return {@link TransferHistoryPageDto} с {@link CardTransferDto}, от новых к старым
+     */
+    @Override
+    public TransferHistoryPageDto<CardTransferDto> findByCardNumber(String cardNumber, String cursor, int limit) {
+        final Long number = numberNormalizer.normalize(cardNumber);
+
+        return historyPager.page(cursor, limit,
+                (after, size) -> repository.findByCardNumberPage(number, after.getCreatedAt(), after.getId(), size),
+                transfer -> TransferHistoryCursor.of(transfer.getCreatedAt(), transfer.getId()), mapper::toDtoList);
     }
 }
@@ -0,0 +1,85 @@
+package com.bank.transfer.service.Impl;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.service.AccountLedgerClient;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import javax.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * {@link AccountLedgerClient}, вызывающий REST API модуля account по адресу transfer.account.url.
+ * Ответы 404, 422 и 409 переводятся в {@link EntityNotFoundException}, {@link ValidationException}
+ * и {@link IllegalStateException}, остальные ошибки пробрасываются как есть.
+ */
+@Service
+public class HttpAccountLedgerClient implements AccountLedgerClient {
+
+    private static final String TRANSFER_URL = "/ledger/transfer/{transferId}?from={from}&to={to}&amount={amount}";
+    private static final String COMPLETED = "COMPLETED";
+    private static final String EMPTY_RESPONSE_PREFIX = "Пустой ответ модуля account по переводу id = ";
+
+    private final RestTemplate restTemplate;
+
+    public HttpAccountLedgerClient(RestTemplateBuilder restTemplateBuilder,
+                                   @Value("${transfer.account.url}") String accountUrl,
+                                   @Value("${transfer.account.timeout:PT2S}") Duration timeout) {
+        this.restTemplate = restTemplateBuilder
+                .rootUri(accountUrl)
+                .setConnectTimeout(timeout)
+                .setReadTimeout(timeout)
+                .build();
+    }
+
+    /**
+     * @param accountNumber номер счёта
+     * @return технический идентификатор счёта
+     */
+    @Override
+    public Optional<Long> findIdByAccountNumber(Long accountNumber) {
+        try {
+            return Optional.ofNullable(restTemplate.getForObject("/details/number/{accountNumber}", JsonNode.class,
+                            accountNumber))
+                    .map(accountDetails -> accountDetails.get("id").asLong());
+        } catch (HttpClientErrorException.NotFound ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @param transferId           идентификатор перевода
+     * @param fromAccountDetailsId технический идентификатор счёта отправителя
+     * @param toAccountDetailsId   технический идентификатор счёта получателя
+     * @param amount               сумма перевода
+     * @return причина отказа, пустой {@link Optional} если деньги перемещены
+     */
+    @Override
+    public Optional<String> transfer(Long transferId, Long fromAccountDetailsId, Long toAccountDetailsId,
+                                     BigDecimal amount) {
+        final JsonNode result;
+        try {
+            result = restTemplate.postForObject(TRANSFER_URL, null, JsonNode.class, transferId,
+                    fromAccountDetailsId, toAccountDetailsId, amount.toPlainString());
+        } catch (HttpClientErrorException.NotFound ex) {
+            throw new EntityNotFoundException(ex.getResponseBodyAsString());
+        } catch (HttpClientErrorException.UnprocessableEntity ex) {
+            throw new ValidationException(ex.getResponseBodyAsString());
+        } catch (HttpClientErrorException.Conflict ex) {
+            throw new IllegalStateException(ex.getResponseBodyAsString());
+        }
+        if (result == null) {
+            throw new IllegalStateException(EMPTY_RESPONSE_PREFIX + transferId);
+        }
+
+        return COMPLETED.equals(result.path("status").asText()) ?
+                Optional.empty() :
+                Optional.of(result.path("failureReason").asText());
+    }
+}
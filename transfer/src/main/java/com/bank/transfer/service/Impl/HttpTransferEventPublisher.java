@@ -0,0 +1,43 @@
+package com.bank.transfer.service.Impl;
+
+import com.bank.transfer.dto.TransferEventDto;
+import com.bank.transfer.service.TransferEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@link TransferEventPublisher}, отправляющий пачку POST-запросом каждому потребителю
+ * из transfer.outbox.consumer-urls (antifraud, history). Ответ не 2xx бросает исключение, и пачка уходит повторно.
+ * Используется по умолчанию, если transfer.outbox.publisher не задан.
+ */
+@Service
+@ConditionalOnProperty(name = "transfer.outbox.publisher", havingValue = "http", matchIfMissing = true)
+public class HttpTransferEventPublisher implements TransferEventPublisher {
+
+    private final RestTemplate restTemplate;
+    private final List<String> consumerUrls;
+
+    public HttpTransferEventPublisher(RestTemplateBuilder restTemplateBuilder,
+                                      @Value("${transfer.outbox.consumer-urls}") List<String> consumerUrls,
+                                      @Value("${transfer.outbox.timeout:PT5S}") Duration timeout) {
+        this.restTemplate = restTemplateBuilder
+                .setConnectTimeout(timeout)
+                .setReadTimeout(timeout)
+                .build();
+        this.consumerUrls = consumerUrls;
+    }
+
+    /**
+     * @param events лист {@link TransferEventDto} по возрастанию id
+     */
+    @Override
+    public void publish(List<TransferEventDto> events) {
+        consumerUrls.forEach(url -> restTemplate.postForEntity(url, events, Void.class));
+    }
+}
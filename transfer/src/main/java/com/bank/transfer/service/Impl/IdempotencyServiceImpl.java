@@ -0,0 +1,190 @@
+package com.bank.transfer.service.Impl;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.entity.IdempotencyKeyEntity;
+import com.bank.transfer.entity.IdempotentOperation;
+import com.bank.transfer.entity.TransferType;
+import com.bank.transfer.repository.IdempotencyKeyRepository;
+import com.bank.transfer.service.IdempotencyService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Реализация {@link IdempotencyService}.
+ * Недавние ответы хранятся в памяти, поэтому повтор после таймаута не обращается к базе.
+ * Источник истины - уникальный индекс (transfer_type, operation, idempotency_key): ключ вставляется
+ * и сбрасывается в базу до создания перевода в той же транзакции. Из двух одновременных запросов с одним ключом
+ * второй ждёт на уникальном индексе, получает нарушение уникальности до создания своего перевода
+ * и возвращает перевод первого.
+ * Вместе с ключом хранится SHA-256 тела запроса: повтор ключа с другим телом отклоняется с 422.
+ */
+@Slf4j
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private final static int MAX_KEY_LENGTH = 64;
+    private final static String INVALID_KEY = "Idempotency-Key должен быть непустым и не длиннее " +
+            MAX_KEY_LENGTH + " символов";
+    private final static String KEY_REUSED = "Idempotency-Key уже использован с другим телом запроса";
+
+    private final IdempotencyKeyRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, RecentResponse> recentResponses;
+    private final Duration retention;
+    private final int purgeBatchSize;
+
+    public IdempotencyServiceImpl(IdempotencyKeyRepository repository,
+                                  TransactionTemplate transactionTemplate,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${transfer.idempotency.cache-size:100000}") long cacheSize,
+                                  @Value("${transfer.idempotency.cache-ttl:PT24H}") Duration cacheTtl,
+                                  @Value("${transfer.idempotency.retention:PT72H}") Duration retention,
+                                  @Value("${transfer.idempotency.purge-batch-size:10000}") int purgeBatchSize) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.recentResponses = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+        this.retention = retention;
+        this.purgeBatchSize = purgeBatchSize;
+        CaffeineCacheMetrics.monitor(meterRegistry, recentResponses, "transferIdempotency");
+    }
+
+    /**
+     * @param transferType   {@link TransferType}
+     * @param operation      {@link IdempotentOperation}
+     * @param idempotencyKey значение заголовка Idempotency-Key
+     * @param request        тело запроса, с которым сверяются повторы
+     * @param create         создание перевода
+     * @param idGetter       технический идентификатор созданного перевода
+     * @param loader         чтение перевода по техническому идентификатору
+     * @param <T>            ДТО перевода
+     * @return ДТО перевода, созданного первым запросом с этим ключом
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T execute(TransferType transferType, IdempotentOperation operation, String idempotencyKey,
+                         Object request, Supplier<T> create, Function<T, Long> idGetter, Function<Long, T> loader) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new ValidationException(INVALID_KEY);
+        }
+        final String requestHash = hash(request);
+        final String cacheKey = transferType + ":" + operation + ":" + idempotencyKey;
+        final RecentResponse cached = recentResponses.getIfPresent(cacheKey);
+        if (cached != null) {
+            checkSameRequest(cached.getRequestHash(), requestHash);
+            return (T) cached.getResponse();
+        }
+
+        final IdempotencyKeyEntity key = new IdempotencyKeyEntity(null, transferType, operation, idempotencyKey,
+                null, requestHash, null);
+        final T response = findKey(key)
+                .map(stored -> load(stored, requestHash, loader))
+                .orElseGet(() -> createOnce(key, create, idGetter, loader));
+        recentResponses.put(cacheKey, new RecentResponse(requestHash, response));
+
+        return response;
+    }
+
+    /**
+     * Срок хранения transfer.idempotency.retention должен быть не меньше срока, в который клиенты повторяют запросы.
+     *
+     * @return количество удалённых ключей
+     */
+    @Override
+    public int purgeExpired() {
+        final Timestamp createdBefore = Timestamp.from(Instant.now().minus(retention));
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = Objects.requireNonNull(transactionTemplate.execute(status ->
+                    repository.deleteCreatedBefore(createdBefore, purgeBatchSize)));
+            purged += deleted;
+        } while (deleted == purgeBatchSize);
+        return purged;
+    }
+
+    private <T> T createOnce(IdempotencyKeyEntity key, Supplier<T> create, Function<T, Long> idGetter,
+                             Function<Long, T> loader) {
+        try {
+            return transactionTemplate.execute(status -> {
+                key.setCreatedAt(Timestamp.from(Instant.now()));
+                final IdempotencyKeyEntity saved = repository.saveAndFlush(key);
+                final T created = create.get();
+                saved.setTransferId(idGetter.apply(created));
+                return created;
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.info("Повтор перевода {} {} с Idempotency-Key {}, возвращается первый ответ", key.getTransferType(),
+                    key.getOperation(), key.getIdempotencyKey());
+            return findKey(key)
+                    .map(stored -> load(stored, key.getRequestHash(), loader))
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    private Optional<IdempotencyKeyEntity> findKey(IdempotencyKeyEntity key) {
+        return repository.findByTransferTypeAndOperationAndIdempotencyKey(key.getTransferType(), key.getOperation(),
+                key.getIdempotencyKey());
+    }
+
+    private <T> T load(IdempotencyKeyEntity key, String requestHash, Function<Long, T> loader) {
+        checkSameRequest(key.getRequestHash(), requestHash);
+        return loader.apply(key.getTransferId());
+    }
+
+    /**
+     * Ключи, сохранённые до появления request_hash, не сверяются.
+     */
+    private static void checkSameRequest(String storedHash, String requestHash) {
+        if (storedHash != null && !storedHash.equals(requestHash)) {
+            throw new ValidationException(KEY_REUSED);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(objectMapper.writeValueAsBytes(request)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Не удалось вычислить хеш тела запроса", e);
+        }
+    }
+
+    /**
+     * Ответ первого запроса и хеш его тела.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static final class RecentResponse {
+        private final String requestHash;
+        private final Object response;
+    }
+}
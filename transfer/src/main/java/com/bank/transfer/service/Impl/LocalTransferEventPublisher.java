@@ -0,0 +1,55 @@
+package com.bank.transfer.service.Impl;
+
+import com.bank.transfer.dto.TransferEventDto;
+import com.bank.transfer.service.TransferEventPublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Локальная замена потребителей для разработки и тестов: последние события хранятся в памяти.
+ * Outbox удаляет отправленные строки, поэтому события, вытесненные из памяти, теряются.
+ * Включается только явным transfer.outbox.publisher: local в профиле local или test,
+ * в остальных профилях такой настройке не найдётся отправителя, и приложение не стартует.
+ */
+@Slf4j
+@Service
+@Profile({"local", "test"})
+@ConditionalOnProperty(name = "transfer.outbox.publisher", havingValue = "local")
+public class LocalTransferEventPublisher implements TransferEventPublisher {
+
+    private final Deque<TransferEventDto> published = new ConcurrentLinkedDeque<>();
+    private final int capacity;
+
+    public LocalTransferEventPublisher(@Value("${transfer.outbox.local-capacity:10000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * @param events лист {@link TransferEventDto} по возрастанию id
+     */
+    @Override
+    public void publish(List<TransferEventDto> events) {
+        log.debug("Отправлено {} событий переводов", events.size());
+        events.forEach(event -> {
+            published.addLast(event);
+            if (published.size() > capacity) {
+                published.pollFirst();
+            }
+        });
+    }
+
+    /**
+     * @return последние отправленные {@link TransferEventDto} по возрастанию id
+     */
+    public List<TransferEventDto> getPublished() {
+        return new ArrayList<>(published);
+    }
+}
@@ -0,0 +1,96 @@
+package com.bank.transfer.service.Impl;
+
+import com.bank.transfer.entity.OutboxEventEntity;
+import com.bank.transfer.entity.TransferEventType;
+import com.bank.transfer.entity.TransferType;
+import com.bank.transfer.mapper.OutboxEventMapper;
+import com.bank.transfer.repository.OutboxEventRepository;
+import com.bank.transfer.service.OutboxService;
+import com.bank.transfer.service.TransferEventPublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Реализация {@link OutboxService}.
+ * Запрос на создание перевода только вставляет строку outbox в своей транзакции и не ждёт потребителей.
+ * Relay забирает пачку под блокировкой, отправляет её и удаляет в той же транзакции: если отправка
+ * не удалась, пачка остаётся в таблице и уходит повторно, поэтому события не теряются.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxServiceImpl implements OutboxService {
+
+    /**
+     * Число событий, принятых всеми потребителями.
+     */
+    private final static String RELAYED_METRIC = "transfer.outbox.relayed";
+
+    private final OutboxEventRepository repository;
+    private final OutboxEventMapper mapper;
+    private final TransferEventPublisher publisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${transfer.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${transfer.outbox.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    /**
+     * @param transferType {@link TransferType}
+     * @param transferId   технический идентификатор перевода
+     * @param eventType    {@link TransferEventType}
+     * @param transfer     ДТО перевода на момент события
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(TransferType transferType, Long transferId, TransferEventType eventType, Object transfer) {
+        try {
+            repository.save(new OutboxEventEntity(null, transferType, transferId, eventType,
+                    objectMapper.writeValueAsString(transfer), new Timestamp(System.currentTimeMillis())));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Не удалось сериализовать событие перевода id = " + transferId, e);
+        }
+    }
+
+    /**
+     * Пачки отправляются, пока таблица не опустеет или не будет отправлено max-batches-per-run пачек.
+     *
+     * @return количество отправленных {@link OutboxEventEntity}
+     */
+    @Override
+    public int relay() {
+        int relayed = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            final Integer sent = transactionTemplate.execute(status -> relayBatch());
+            relayed += sent == null ? 0 : sent;
+            if (sent == null || sent < batchSize) {
+                break;
+            }
+        }
+        return relayed;
+    }
+
+    private int relayBatch() {
+        final List<OutboxEventEntity> events = repository.findBatchForUpdate(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+        publisher.publish(mapper.toDtoList(events));
+        repository.deleteAllByIdInBatch(events.stream().map(OutboxEventEntity::getId).toList());
+        meterRegistry.counter(RELAYED_METRIC).increment(events.size());
+        return events.size();
+    }
+}
@@ -1,11 +1,18 @@
 package com.bank.transfer.service.Impl;
 
 import com.bank.transfer.dto.PhoneTransferDto;
+import com.bank.transfer.dto.TransferHistoryPageDto;
 import com.bank.transfer.mapper.PhoneTransferMapper;
 import com.bank.transfer.repository.PhoneTransferRepository;
 import com.bank.transfer.entity.PhoneTransferEntity;
+import com.bank.transfer.entity.TransferEventType;
+import com.bank.transfer.entity.TransferType;
 import com.bank.transfer.service.PhoneTransferService;
+import com.bank.transfer.service.OutboxService;
 import com.bank.transfer.service.common.EntityNotFoundReturner;
+import com.bank.transfer.service.common.TransferHistoryCursor;
+import com.bank.transfer.service.common.TransferHistoryPager;
+import com.bank.transfer.service.common.TransferNumberNormalizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -27,6 +34,9 @@ public class PhoneTransferServiceImpl implements PhoneTransferService {
     private final PhoneTransferRepository repository;
     private final PhoneTransferMapper mapper;
     private final EntityNotFoundReturner notFoundReturner;
+    private final OutboxService outboxService;
+    private final TransferHistoryPager historyPager;
+    private final TransferNumberNormalizer numberNormalizer;
 
     /**
      * @param ids список технических идентификаторов {@link PhoneTransferEntity}
@@ -62,10 +72,10 @@ public class PhoneTransferServiceImpl implements PhoneTransferService {
     @Override
     @Transactional
     public PhoneTransferDto save(PhoneTransferDto phoneTransfer) {
-        final PhoneTransferEntity transfer = repository.save(
-                mapper.toEntity(phoneTransfer));
+        final PhoneTransferDto transfer = mapper.toDto(repository.save(mapper.toEntity(phoneTransfer)));
+        outboxService.record(TransferType.PHONE, transfer.getId(), TransferEventType.CREATED, transfer);
 
-        return mapper.toDto(transfer);
+        return transfer;
     }
 
     /**
@@ -81,6 +91,38 @@ public class PhoneTransferServiceImpl implements PhoneTransferService {
 
         final PhoneTransferEntity phoneTransferEntity = mapper.mergeToEntity(phoneTransfer, transfer);
 
-        return mapper.toDto(repository.save(phoneTransferEntity));
+        final PhoneTransferDto updated = mapper.toDto(repository.save(phoneTransferEntity));
+        outboxService.record(TransferType.PHONE, id, TransferEventType.UPDATED, updated);
+
+        return updated;
+    }
+
+    /**
+     * @param accountDetailsId технический идентификатор счёта
+     * @param cursor           курсор из предыдущей страницы, null - первая страница
+     * @param limit            размер страницы
+     * @return {@link TransferHistoryPageDto} с {@link PhoneTransferDto}, от новых к старым
+     */
+    @Override
+    public TransferHistoryPageDto<PhoneTransferDto> findHistory(Long accountDetailsId, String cursor, int limit) {
+        return historyPager.page(cursor, limit,
+                (after, size) -> repository.findHistoryPage(accountDetailsId, after.getCreatedAt(), after.getId(),
+                        size),
+                transfer -> TransferHistoryCursor.of(transfer.getCreatedAt(), transfer.getId()), mapper::toDtoList);
+    }
+
+    /**
+     * @param phoneNumber номер телефона получателя, допускаются пробелы, '+', '-' и скобки
+     * @param cursor      курсор из предыдущей страницы, null - первая страница
+     * @param limit       размер страницы
+     * @return {@link TransferHistoryPageDto} с {@link PhoneTransferDto}, от новых к старым
+     */
+    @Override
+    public TransferHistoryPageDto<PhoneTransferDto> findByPhoneNumber(String phoneNumber, String cursor, int limit) {
+        final Long number = numberNormalizer.normalize(phoneNumber);
+
+        return historyPager.page(cursor, limit,
+                (after, size) -> repository.findByPhoneNumberPage(number, after.getCreatedAt(), after.getId(), size),
+                transfer -> TransferHistoryCursor.of(transfer.getCreatedAt(), transfer.getId()), mapper::toDtoList);
     }
 }
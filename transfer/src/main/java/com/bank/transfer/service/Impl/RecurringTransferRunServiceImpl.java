@@ -0,0 +1,175 @@
+package com.bank.transfer.service.Impl;
+
+import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.dto.RecurringTransferDto;
+import com.bank.transfer.entity.RecurringTransferEntity;
+import com.bank.transfer.entity.RecurringTransferRunEntity;
+import com.bank.transfer.mapper.RecurringTransferMapper;
+import com.bank.transfer.repository.RecurringTransferRepository;
+import com.bank.transfer.repository.RecurringTransferRunRepository;
+import com.bank.transfer.service.AccountTransferService;
+import com.bank.transfer.service.RecurringTransferRunService;
+import com.bank.transfer.service.TransferExecutionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Реализация {@link RecurringTransferRunService}.
+ * Захват - короткая транзакция, которая ставит claimed_until на время аренды: пока аренда не истекла,
+ * расписание не захватит другой экземпляр. Исполнение идёт в три шага: короткая транзакция создаёт перевод
+ * и записывает исполнение (расписание, плановое время) в recurring_transfer_run, затем перевод исполняется
+ * вне транзакции, затем вторая короткая транзакция сдвигает расписание.
+ * Упавшее исполнение остаётся захваченным до конца аренды и повторяется после неё: повтор находит
+ * записанное исполнение и исполняет тот же перевод, а исполнение идемпотентно по id перевода.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecurringTransferRunServiceImpl implements RecurringTransferRunService {
+
+    private static final Timestamp FIRST_PAGE_NEXT_RUN_AT = new Timestamp(0);
+    private static final Long FIRST_PAGE_ID = 0L;
+
+    /**
+     * Количество исполнений регулярных переводов с тегом status перевода.
+     */
+    private final static String RUN_METRIC = "transfer.recurring.run";
+
+    private final RecurringTransferRepository repository;
+    private final RecurringTransferRunRepository runRepository;
+    private final RecurringTransferMapper mapper;
+    private final AccountTransferService accountTransferService;
+    private final TransferExecutionService executionService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${transfer.recurring.lease:PT5M}")
+    private Duration lease;
+
+    /**
+     * @param until верхняя граница времени исполнения не включительно
+     * @param after последнее расписание предыдущей страницы, null для первой страницы
+     * @param limit размер страницы
+     * @return лист активных {@link RecurringTransferDto} по возрастанию времени исполнения
+     */
+    @Override
+    public List<RecurringTransferDto> findUpcomingPage(LocalDateTime until, RecurringTransferDto after, int limit) {
+        final Timestamp afterNextRunAt = after == null ? FIRST_PAGE_NEXT_RUN_AT : after.getNextRunAt();
+        final Long afterId = after == null ? FIRST_PAGE_ID : after.getId();
+        return mapper.toDtoList(repository.findDuePage(Timestamp.valueOf(until), afterNextRunAt, afterId, limit));
+    }
+
+    /**
+     * @param ids технические идентификаторы {@link RecurringTransferEntity}
+     * @return количество созданных переводов
+     */
+    @Override
+    public int run(List<Long> ids) {
+        return run(ids, LocalDateTime.now());
+    }
+
+    int run(List<Long> ids, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        final Map<Long, Timestamp> claimed = claim(ids, now);
+        int executed = 0;
+        for (Map.Entry<Long, Timestamp> due : claimed.entrySet()) {
+            try {
+                if (runOne(due.getKey(), due.getValue(), now)) {
+                    executed++;
+                }
+            } catch (RuntimeException ex) {
+                log.error("Не удалось исполнить регулярный перевод id = {}", due.getKey(), ex);
+            }
+        }
+        return executed;
+    }
+
+    /**
+     * @return время исполнения захваченных расписаний по их идентификаторам
+     */
+    private Map<Long, Timestamp> claim(List<Long> ids, LocalDateTime now) {
+        final Timestamp nowTimestamp = Timestamp.valueOf(now);
+        final Timestamp claimedUntil = Timestamp.valueOf(now.plus(lease));
+        return transactionTemplate.execute(status -> {
+            final Map<Long, Timestamp> claimed = new LinkedHashMap<>();
+            for (RecurringTransferEntity recurring : repository.claimDue(ids, nowTimestamp)) {
+                recurring.setClaimedUntil(claimedUntil);
+                claimed.put(recurring.getId(), recurring.getNextRunAt());
+            }
+            return claimed;
+        });
+    }
+
+    /**
+     * @return false, если расписание отменено или исполнение уже сдвинуто
+     */
+    private boolean runOne(Long id, Timestamp due, LocalDateTime now) {
+        final Long transferId = transactionTemplate.execute(status -> recordRun(id, due, now));
+        if (transferId == null) {
+            return false;
+        }
+        final AccountTransferDto transfer = executionService.execute(transferId);
+        meterRegistry.counter(RUN_METRIC, "status", transfer.getStatus().name()).increment();
+        log.info("По регулярному переводу id = {} исполнен перевод id = {} со статусом {}",
+                id, transfer.getId(), transfer.getStatus());
+
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> advance(id, due, transferId, now)));
+    }
+
+    /**
+     * Перевод создаётся один раз на расписание и плановое время, повтор возвращает уже созданный.
+     *
+     * @return технический идентификатор перевода, null если расписание отменено или исполнение уже сдвинуто
+     */
+    private Long recordRun(Long id, Timestamp due, LocalDateTime now) {
+        final RecurringTransferEntity recurring = repository.findByIdForUpdate(id).orElse(null);
+        if (recurring == null || !recurring.getActive() || !due.equals(recurring.getNextRunAt())) {
+            return null;
+        }
+        return runRepository.findByRecurringTransferIdAndDueAt(id, due)
+                .map(RecurringTransferRunEntity::getTransferId)
+                .orElseGet(() -> {
+                    final Long transferId = accountTransferService.save(mapper.toTransfer(recurring)).getId();
+                    runRepository.save(new RecurringTransferRunEntity(null, id, due, transferId,
+                            Timestamp.valueOf(now)));
+                    return transferId;
+                });
+    }
+
+    /**
+     * Следующее исполнение - первое после now: пропущенные за время простоя периоды не догоняются.
+     *
+     * @return false, если исполнение уже сдвинуто
+     */
+    private boolean advance(Long id, Timestamp due, Long transferId, LocalDateTime now) {
+        final RecurringTransferEntity recurring = repository.findByIdForUpdate(id).orElse(null);
+        if (recurring == null || !due.equals(recurring.getNextRunAt())) {
+            return false;
+        }
+        final LocalDateTime startAt = recurring.getStartAt().toLocalDateTime();
+        int runCount = recurring.getRunCount() + 1;
+        while (!recurring.getPeriod().occurrence(startAt, runCount).isAfter(now)) {
+            runCount++;
+        }
+        recurring.setRunCount(runCount);
+        recurring.setNextRunAt(Timestamp.valueOf(recurring.getPeriod().occurrence(startAt, runCount)));
+        recurring.setLastTransferId(transferId);
+        recurring.setClaimedUntil(null);
+        repository.save(recurring);
+
+        return true;
+    }
+}
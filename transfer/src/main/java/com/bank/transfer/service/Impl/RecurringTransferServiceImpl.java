@@ -0,0 +1,90 @@
+package com.bank.transfer.service.Impl;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.dto.RecurringTransferDto;
+import com.bank.transfer.entity.RecurringTransferEntity;
+import com.bank.transfer.mapper.RecurringTransferMapper;
+import com.bank.transfer.repository.RecurringTransferRepository;
+import com.bank.transfer.service.RecurringTransferService;
+import com.bank.transfer.service.common.EntityNotFoundReturner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Реализация {@link RecurringTransferService}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecurringTransferServiceImpl implements RecurringTransferService {
+
+    private final static String MESSAGE = "Не найден регулярный перевод с ID ";
+    private final static String REQUIRED_FIELDS = "Не заданы счёт получателя, счёт отправителя или периодичность";
+    private final static String NOT_POSITIVE_AMOUNT = "Сумма перевода должна быть больше нуля";
+    private final static String START_IN_PAST = "Первое исполнение должно быть в будущем";
+
+    private final RecurringTransferRepository repository;
+    private final RecurringTransferMapper mapper;
+    private final EntityNotFoundReturner notFoundReturner;
+
+    /**
+     * @param id технический идентификатор {@link RecurringTransferEntity}
+     * @return {@link RecurringTransferDto}
+     */
+    @Override
+    public RecurringTransferDto findById(Long id) {
+        final RecurringTransferEntity recurring = repository.findById(id)
+                .orElseThrow(() -> notFoundReturner.getEntityNotFoundException(id, MESSAGE));
+        return mapper.toDto(recurring);
+    }
+
+    /**
+     * @param recurring {@link RecurringTransferDto}
+     * @return {@link RecurringTransferDto}
+     */
+    @Override
+    @Transactional
+    public RecurringTransferDto save(RecurringTransferDto recurring) {
+        validate(recurring).ifPresent(message -> {
+            throw new ValidationException(message);
+        });
+        return mapper.toDto(repository.save(mapper.toEntity(recurring)));
+    }
+
+    /**
+     * Блокировка строки ждёт исполнения, начатого до отмены.
+     *
+     * @param id технический идентификатор {@link RecurringTransferEntity}
+     * @return {@link RecurringTransferDto}
+     */
+    @Override
+    @Transactional
+    public RecurringTransferDto cancel(Long id) {
+        final RecurringTransferEntity recurring = repository.findByIdForUpdate(id)
+                .orElseThrow(() -> notFoundReturner.getEntityNotFoundException(id, MESSAGE));
+        recurring.setActive(false);
+        log.info("Отменён регулярный перевод id = {}", id);
+
+        return mapper.toDto(repository.save(recurring));
+    }
+
+    private Optional<String> validate(RecurringTransferDto recurring) {
+        if (recurring.getAccountNumber() == null || recurring.getAccountDetailsId() == null ||
+                recurring.getPeriod() == null) {
+            return Optional.of(REQUIRED_FIELDS);
+        }
+        if (recurring.getAmount() == null || recurring.getAmount().signum() <= 0) {
+            return Optional.of(NOT_POSITIVE_AMOUNT);
+        }
+        if (recurring.getStartAt() == null || !recurring.getStartAt().after(Timestamp.valueOf(LocalDateTime.now()))) {
+            return Optional.of(START_IN_PAST);
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,288 @@
+package com.bank.transfer.service.Impl;
+
+import com.bank.common.exception.TooManyRequestsException;
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.config.TransferBulkConfig;
+import com.bank.transfer.dto.TransferBulkJobDto;
+import com.bank.transfer.dto.TransferBulkLinePageDto;
+import com.bank.transfer.entity.AccountTransferEntity;
+import com.bank.transfer.entity.BulkJobStatus;
+import com.bank.transfer.entity.TransferBulkJobEntity;
+import com.bank.transfer.entity.TransferBulkLineEntity;
+import com.bank.transfer.entity.TransferEventType;
+import com.bank.transfer.entity.TransferType;
+import com.bank.transfer.mapper.AccountTransferMapper;
+import com.bank.transfer.mapper.TransferBulkJobMapper;
+import com.bank.transfer.mapper.TransferBulkLineMapper;
+import com.bank.transfer.repository.AccountTransferRepository;
+import com.bank.transfer.repository.TransferBulkJobRepository;
+import com.bank.transfer.repository.TransferBulkLineRepository;
+import com.bank.transfer.service.OutboxService;
+import com.bank.transfer.service.TransferBulkService;
+import com.bank.transfer.service.common.EntityNotFoundReturner;
+import com.bank.transfer.service.common.TransferBulkLine;
+import com.bank.transfer.service.common.TransferBulkLineParser;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Реализация {@link TransferBulkService}.
+ * Тело запроса сначала сохраняется во временный файл, поэтому клиент сразу получает id загрузки,
+ * а память не зависит от размера файла. Файл разбирается чанками в пуле разбора, запись чанка
+ * идёт в пуле записи, пока разбирается следующий: в памяти не больше двух чанков на загрузку.
+ * Каждый чанк пишется в своей транзакции пакетными вставками вместе с результатами строк и прогрессом.
+ * Файл лежит только на принявшем экземпляре, поэтому после его перезапуска незавершённые загрузки
+ * этого экземпляра (transfer.bulk.node-id) останавливаются со статусом FAILED.
+ */
+@Slf4j
+@Service
+public class TransferBulkServiceImpl implements TransferBulkService {
+
+    static final int MAX_PAGE_SIZE = 1000;
+
+    private static final String MESSAGE = "Не найдена массовая загрузка переводов с ID ";
+    private static final String QUEUE_FULL_MESSAGE = "Очередь массовых загрузок переполнена, повторите позже";
+    private static final String INTERRUPTED_MESSAGE = "Загрузка прервана перезапуском сервиса, отправьте файл повторно";
+    private static final String PAGE_SIZE_MESSAGE = "Размер страницы должен быть от 1 до " + MAX_PAGE_SIZE;
+    private static final String INSERT_LINE_SQL = "insert into transfer.transfer_bulk_line " +
+            "(job_id, line_number, transfer_id, error) values (?, ?, ?, ?)";
+    private static final int[] INSERT_LINE_TYPES = {Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.VARCHAR};
+    private static final long FIRST_PAGE_CURSOR = 0L;
+
+    private final AccountTransferRepository transferRepository;
+    private final TransferBulkJobRepository jobRepository;
+    private final TransferBulkLineRepository lineRepository;
+    private final AccountTransferMapper transferMapper;
+    private final TransferBulkJobMapper jobMapper;
+    private final TransferBulkLineMapper lineMapper;
+    private final TransferBulkLineParser parser;
+    private final EntityNotFoundReturner notFoundReturner;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final Executor parserExecutor;
+    private final Executor writerExecutor;
+
+    @Value("${transfer.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${transfer.bulk.node-id:transfer-app}")
+    private String nodeId;
+
+    @Value("${transfer.bulk.retry-after:PT30S}")
+    private Duration retryAfter;
+
+    public TransferBulkServiceImpl(AccountTransferRepository transferRepository,
+                                   TransferBulkJobRepository jobRepository,
+                                   TransferBulkLineRepository lineRepository,
+                                   AccountTransferMapper transferMapper,
+                                   TransferBulkJobMapper jobMapper,
+                                   TransferBulkLineMapper lineMapper,
+                                   TransferBulkLineParser parser,
+                                   EntityNotFoundReturner notFoundReturner,
+                                   OutboxService outboxService,
+                                   TransactionTemplate transactionTemplate,
+                                   JdbcTemplate jdbcTemplate,
+                                   EntityManager entityManager,
+                                   @Qualifier(TransferBulkConfig.BULK_PARSER_EXECUTOR) Executor parserExecutor,
+                                   @Qualifier(TransferBulkConfig.BULK_WRITER_EXECUTOR) Executor writerExecutor) {
+        this.transferRepository = transferRepository;
+        this.jobRepository = jobRepository;
+        this.lineRepository = lineRepository;
+        this.transferMapper = transferMapper;
+        this.jobMapper = jobMapper;
+        this.lineMapper = lineMapper;
+        this.parser = parser;
+        this.notFoundReturner = notFoundReturner;
+        this.outboxService = outboxService;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.parserExecutor = parserExecutor;
+        this.writerExecutor = writerExecutor;
+    }
+
+    /**
+     * @param input  файл с переводами
+     * @param format {@link Format}
+     * @return {@link TransferBulkJobDto} принятой загрузки
+     * @throws IOException при ошибке чтения входного потока
+     */
+    @Override
+    public TransferBulkJobDto submit(InputStream input, Format format) throws IOException {
+        final Path file = Files.createTempFile("transfer-bulk-", ".tmp");
+        try {
+            Files.copy(input, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        final TransferBulkJobEntity job = jobRepository.save(new TransferBulkJobEntity(null, BulkJobStatus.RUNNING,
+                0L, 0L, 0L, null, new Timestamp(System.currentTimeMillis()), null, nodeId));
+        try {
+            parserExecutor.execute(() -> process(job.getId(), file, format));
+        } catch (TaskRejectedException e) {
+            finish(job.getId(), BulkJobStatus.FAILED, QUEUE_FULL_MESSAGE);
+            Files.deleteIfExists(file);
+            throw new TooManyRequestsException(QUEUE_FULL_MESSAGE, retryAfter);
+        }
+        return jobMapper.toDto(job);
+    }
+
+    /**
+     * Загрузки, которые этот экземпляр не успел обработать до остановки, не продолжатся:
+     * очередь пула разбора жила только в памяти остановленного процесса.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterrupted() {
+        final Integer failed = transactionTemplate.execute(status -> jobRepository.failRunning(nodeId,
+                INTERRUPTED_MESSAGE, new Timestamp(System.currentTimeMillis())));
+        if (failed != null && failed > 0) {
+            log.warn("Остановлено массовых загрузок, прерванных перезапуском: {}", failed);
+        }
+    }
+
+    /**
+     * @param id технический идентификатор {@link TransferBulkJobEntity}
+     * @return {@link TransferBulkJobDto} с прогрессом
+     */
+    @Override
+    public TransferBulkJobDto findJob(Long id) {
+        return jobMapper.toDto(jobRepository.findById(id)
+                .orElseThrow(() -> notFoundReturner.getEntityNotFoundException(id, MESSAGE)));
+    }
+
+    /**
+     * @param id        технический идентификатор {@link TransferBulkJobEntity}
+     * @param afterLine номер последней строки предыдущей страницы, null для первой страницы
+     * @param limit     размер страницы
+     * @return {@link TransferBulkLinePageDto}
+     */
+    @Override
+    public TransferBulkLinePageDto findLines(Long id, Long afterLine, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ValidationException(PAGE_SIZE_MESSAGE);
+        }
+        if (!jobRepository.existsById(id)) {
+            throw notFoundReturner.getEntityNotFoundException(id, MESSAGE);
+        }
+        final List<TransferBulkLineEntity> rows = lineRepository
+                .findByJobIdAndLineNumberGreaterThanOrderByLineNumberAsc(id,
+                        Optional.ofNullable(afterLine).orElse(FIRST_PAGE_CURSOR), PageRequest.ofSize(limit + 1));
+        if (rows.size() <= limit) {
+            return new TransferBulkLinePageDto(lineMapper.toDtoList(rows), null);
+        }
+        final List<TransferBulkLineEntity> page = rows.subList(0, limit);
+        return new TransferBulkLinePageDto(lineMapper.toDtoList(page), page.get(limit - 1).getLineNumber());
+    }
+
+    void process(Long jobId, Path file, Format format) {
+        final long start = System.nanoTime();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            readChunks(jobId, reader, format);
+            finish(jobId, BulkJobStatus.COMPLETED, null);
+            log.info("Массовая загрузка переводов id = {} обработана за {} мс", jobId,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (IOException | RuntimeException e) {
+            log.error("Массовая загрузка переводов id = {} остановлена", jobId, e);
+            finish(jobId, BulkJobStatus.FAILED, NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private void readChunks(Long jobId, BufferedReader reader, Format format) throws IOException {
+        CompletableFuture<Void> inFlight = CompletableFuture.completedFuture(null);
+        List<TransferBulkLine> chunk = new ArrayList<>(chunkSize);
+        boolean firstLine = true;
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || firstLine && format == Format.CSV && parser.isCsvHeader(line)) {
+                continue;
+            }
+            firstLine = false;
+            chunk.add(parser.parse(lineNumber, line, format));
+            if (chunk.size() >= chunkSize) {
+                inFlight = handOff(inFlight, jobId, chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        handOff(inFlight, jobId, chunk).join();
+    }
+
+    /**
+     * Ждёт запись предыдущего чанка и отдаёт текущий в пул записи.
+     */
+    private CompletableFuture<Void> handOff(CompletableFuture<Void> inFlight, Long jobId,
+                                            List<TransferBulkLine> chunk) {
+        inFlight.join();
+        return chunk.isEmpty() ? inFlight : CompletableFuture.runAsync(() -> persistChunk(jobId, chunk),
+                writerExecutor);
+    }
+
+    private void persistChunk(Long jobId, List<TransferBulkLine> chunk) {
+        transactionTemplate.executeWithoutResult(status -> {
+            final List<AccountTransferEntity> saved = transferRepository.saveAll(chunk.stream()
+                    .filter(TransferBulkLine::isValid)
+                    .map(line -> transferMapper.toEntity(line.getTransfer()))
+                    .toList());
+            saved.forEach(transfer -> outboxService.record(TransferType.ACCOUNT, transfer.getId(),
+                    TransferEventType.CREATED, transferMapper.toDto(transfer)));
+            transferRepository.flush();
+
+            final Iterator<AccountTransferEntity> savedIterator = saved.iterator();
+            final List<Object[]> rows = new ArrayList<>(chunk.size());
+            for (TransferBulkLine line : chunk) {
+                rows.add(new Object[]{jobId, line.getLineNumber(),
+                        line.isValid() ? savedIterator.next().getId() : null, line.getError()});
+            }
+            jdbcTemplate.batchUpdate(INSERT_LINE_SQL, rows, INSERT_LINE_TYPES);
+            jobRepository.addProgress(jobId, saved.size(), chunk.size() - saved.size());
+            entityManager.clear();
+        });
+    }
+
+    private void finish(Long jobId, BulkJobStatus status, String failureReason) {
+        transactionTemplate.executeWithoutResult(s -> jobRepository.finish(jobId, status, failureReason,
+                new Timestamp(System.currentTimeMillis())));
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Не удалён временный файл {}", file, e);
+        }
+    }
+}
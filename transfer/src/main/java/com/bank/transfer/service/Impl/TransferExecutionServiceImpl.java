@@ -0,0 +1,153 @@
+package com.bank.transfer.service.Impl;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.entity.AccountTransferEntity;
+import com.bank.transfer.entity.TransferEventType;
+import com.bank.transfer.entity.TransferStatus;
+import com.bank.transfer.entity.TransferType;
+import com.bank.transfer.mapper.AccountTransferMapper;
+import com.bank.transfer.repository.AccountTransferRepository;
+import com.bank.transfer.service.AccountLedgerClient;
+import com.bank.transfer.service.OutboxService;
+import com.bank.transfer.service.TransferExecutionService;
+import com.bank.transfer.service.common.EntityNotFoundReturner;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Реализация {@link TransferExecutionService}.
+ * Деньги перемещаются одним вызовом журнала проводок модуля account, идемпотентным по id перевода:
+ * списание и зачисление проходят в одной транзакции account или не проходят вовсе.
+ * Перевод сначала переводится в PROCESSING короткой транзакцией, вызов account идёт без блокировки строки
+ * перевода, итог записывается второй короткой транзакцией. Если вызов не дал ответа (таймаут, сбой),
+ * перевод остаётся в PROCESSING, и повторное исполнение получает от account уже сохранённый итог.
+ * Отказ в исполнении не откатывает транзакцию, а сохраняется в статусе FAILED с причиной.
+ * Методы вызываются вне транзакции, иначе вызов account попадёт внутрь транзакции вызывающего.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransferExecutionServiceImpl implements TransferExecutionService {
+
+    private final static String MESSAGE = "Не найден перевод по номеру счета с ID ";
+    private final static String NOT_POSITIVE_AMOUNT = "Сумма перевода должна быть больше нуля";
+    private final static String DESTINATION_NOT_FOUND = "Не найден счёт получателя";
+    private final static String SAME_ACCOUNT = "Счёт отправителя совпадает со счётом получателя";
+
+    /**
+     * Время исполнения перевода с тегом status, включая вызовы модуля account.
+     */
+    private final static String EXECUTION_METRIC = "transfer.execution";
+
+    private final AccountTransferRepository transferRepository;
+    private final AccountLedgerClient accountLedgerClient;
+    private final AccountTransferMapper mapper;
+    private final EntityNotFoundReturner notFoundReturner;
+    private final MeterRegistry meterRegistry;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Повторный вызов для уже исполненного перевода возвращает его без движения денег,
+     * для перевода в PROCESSING повторяет идемпотентный вызов account.
+     *
+     * @param id технический идентификатор {@link AccountTransferEntity}
+     * @return {@link AccountTransferDto} со статусом исполнения
+     */
+    @Override
+    public AccountTransferDto execute(Long id) {
+        final AccountTransferEntity transfer = Objects.requireNonNull(transactionTemplate.execute(status ->
+                claim(id)));
+        if (transfer.getStatus() != TransferStatus.PROCESSING) {
+            return mapper.toDto(transfer);
+        }
+        final long start = System.nanoTime();
+        final Optional<String> failureReason = moveMoney(transfer);
+
+        return mapper.toDto(Objects.requireNonNull(transactionTemplate.execute(status ->
+                finish(id, failureReason, start))));
+    }
+
+    /**
+     * @param accountTransfer {@link AccountTransferDto}
+     * @return {@link AccountTransferDto} со статусом исполнения
+     */
+    @Override
+    public AccountTransferDto createAndExecute(AccountTransferDto accountTransfer) {
+        final AccountTransferEntity created = Objects.requireNonNull(transactionTemplate.execute(status -> {
+            final AccountTransferEntity transfer = transferRepository.save(mapper.toEntity(accountTransfer));
+            outboxService.record(TransferType.ACCOUNT, transfer.getId(), TransferEventType.CREATED,
+                    mapper.toDto(transfer));
+            return transfer;
+        }));
+
+        return execute(created.getId());
+    }
+
+    private AccountTransferEntity claim(Long id) {
+        final AccountTransferEntity transfer = transferRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> notFoundReturner.getEntityNotFoundException(id, MESSAGE));
+        if (transfer.getStatus() != TransferStatus.NEW) {
+            return transfer;
+        }
+        transfer.setStatus(TransferStatus.PROCESSING);
+
+        return transferRepository.save(transfer);
+    }
+
+    private AccountTransferEntity finish(Long id, Optional<String> failureReason, long start) {
+        final AccountTransferEntity transfer = transferRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> notFoundReturner.getEntityNotFoundException(id, MESSAGE));
+        if (transfer.getStatus() != TransferStatus.PROCESSING) {
+            return transfer;
+        }
+        transfer.setStatus(failureReason.isPresent() ? TransferStatus.FAILED : TransferStatus.COMPLETED);
+        transfer.setFailureReason(failureReason.orElse(null));
+        failureReason.ifPresent(reason -> log.info("Отказ в исполнении перевода id = {}: {}", id, reason));
+        meterRegistry.timer(EXECUTION_METRIC, "status", transfer.getStatus().name())
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        final AccountTransferEntity executed = transferRepository.save(transfer);
+        outboxService.record(TransferType.ACCOUNT, executed.getId(), TransferEventType.EXECUTED,
+                mapper.toDto(executed));
+
+        return executed;
+    }
+
+    /**
+     * Отказ account (недостаточно средств, счёт не найден) приходит причиной в ответе, а отклонённые
+     * параметры - {@link ValidationException} с текстом ответа. Остальные ошибки пробрасываются,
+     * перевод остаётся в PROCESSING.
+     *
+     * @return причина отказа, пустой {@link Optional} если деньги перемещены
+     */
+    private Optional<String> moveMoney(AccountTransferEntity transfer) {
+        final BigDecimal amount = transfer.getAmount();
+        if (amount == null || amount.signum() <= 0) {
+            return Optional.of(NOT_POSITIVE_AMOUNT);
+        }
+        final Optional<Long> destinationId = accountLedgerClient.findIdByAccountNumber(transfer.getAccountNumber());
+        if (destinationId.isEmpty()) {
+            return Optional.of(DESTINATION_NOT_FOUND);
+        }
+        if (destinationId.get().equals(transfer.getAccountDetailsId())) {
+            return Optional.of(SAME_ACCOUNT);
+        }
+
+        try {
+            return accountLedgerClient.transfer(transfer.getId(), transfer.getAccountDetailsId(),
+                    destinationId.get(), amount);
+        } catch (ValidationException ex) {
+            return Optional.of(ex.getMessage());
+        }
+    }
+}
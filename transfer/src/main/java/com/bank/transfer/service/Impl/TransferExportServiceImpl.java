@@ -0,0 +1,104 @@
+package com.bank.transfer.service.Impl;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.service.TransferExportService;
+import com.bank.transfer.service.common.TransferExportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Реализация {@link TransferExportService}.
+ * Строки читаются JDBC-курсором PostgreSQL: в read-only транзакции драйвер забирает их порциями по fetch-size,
+ * а Hibernate и его контекст персистентности не участвуют. Каждая строка сразу пишется в ответ,
+ * поэтому память не зависит от объёма выгрузки. Фильтр по created_at отсекает лишние помесячные секции.
+ */
+@Slf4j
+@Service
+public class TransferExportServiceImpl implements TransferExportService {
+
+    private final static String PERIOD_MESSAGE = "Начало периода должно быть раньше его конца";
+    private final static String EXPORT_SQL =
+            "select 'ACCOUNT', id, account_details_id, account_number, amount, purpose, status, created_at " +
+            "from transfer.account_transfer where created_at >= ? and created_at < ? union all " +
+            "select 'CARD', id, account_details_id, card_number, amount, purpose, null, created_at " +
+            "from transfer.card_transfer where created_at >= ? and created_at < ? union all " +
+            "select 'PHONE', id, account_details_id, phone_number, amount, purpose, null, created_at " +
+            "from transfer.phone_transfer where created_at >= ? and created_at < ?";
+    private final static int SOURCE_TABLES = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${transfer.export.fetch-size:1000}")
+    private int fetchSize;
+
+    public TransferExportServiceImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                     ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param from   начало периода включительно
+     * @param to     конец периода не включительно
+     * @param format {@link Format}
+     * @return тело ответа, которое пишет переводы по мере чтения курсора
+     */
+    @Override
+    public StreamingResponseBody export(LocalDateTime from, LocalDateTime to, Format format) {
+        if (!from.isBefore(to)) {
+            throw new ValidationException(PERIOD_MESSAGE);
+        }
+        return output -> write(Timestamp.valueOf(from), Timestamp.valueOf(to), format, output);
+    }
+
+    void write(Timestamp from, Timestamp to, Format format, OutputStream output) throws IOException {
+        final TransferExportWriter writer = new TransferExportWriter(format, output, objectMapper.getFactory());
+        final long started = System.nanoTime();
+        final long[] rows = {0L};
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(
+                connection -> prepare(connection, from, to), (RowCallbackHandler) row -> {
+                    try {
+                        writer.write(row);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    rows[0]++;
+                }));
+        writer.flush();
+        log.info("Выгрузка переводов с {} по {}: {} строк за {} мс", from, to, rows[0],
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private PreparedStatement prepare(Connection connection, Timestamp from, Timestamp to) throws SQLException {
+        final PreparedStatement statement = connection.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchSize(fetchSize);
+        for (int table = 0; table < SOURCE_TABLES; table++) {
+            statement.setTimestamp(table * 2 + 1, from);
+            statement.setTimestamp(table * 2 + 2, to);
+        }
+        return statement;
+    }
+}
@@ -0,0 +1,105 @@
+package com.bank.transfer.service.Impl;
+
+import com.bank.transfer.service.TransferPartitionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Реализация {@link TransferPartitionService}.
+ * Секция на месяц называется {таблица}_pYYYYMM и создаётся функцией transfer.create_monthly_partition.
+ * Отсоединённая секция остаётся таблицей в transfer_archive, удалять её или выгружать - решение эксплуатации.
+ * Строки transfer_summary за архивированные месяцы удаляются.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransferPartitionServiceImpl implements TransferPartitionService {
+
+    static final List<String> TABLES = List.of("account_transfer", "card_transfer", "phone_transfer");
+
+    private final static String CREATE_SQL = "select transfer.create_monthly_partition(?, ?)";
+    private final static String PARTITIONS_SQL = "select c.relname from pg_inherits i " +
+            "join pg_class c on c.oid = i.inhrelid " +
+            "join pg_class p on p.oid = i.inhparent " +
+            "join pg_namespace n on n.oid = p.relnamespace " +
+            "where n.nspname = 'transfer' and p.relname = ?";
+    private final static String DETACH_SQL = "alter table transfer.%s detach partition transfer.%s";
+    private final static String ARCHIVE_SQL = "alter table transfer.%s set schema transfer_archive";
+    private final static String SUMMARY_CLEANUP_SQL = "delete from transfer.transfer_summary where created_at < ?";
+    private final static DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${transfer.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${transfer.partition.retention-months:24}")
+    private int retentionMonths;
+
+    /**
+     * @return количество созданных секций
+     */
+    @Override
+    public int createUpcoming() {
+        return createUpcoming(YearMonth.now());
+    }
+
+    /**
+     * @return количество перенесённых секций
+     */
+    @Override
+    public int archiveExpired() {
+        return archiveExpired(YearMonth.now());
+    }
+
+    int createUpcoming(YearMonth current) {
+        int created = 0;
+        for (String table : TABLES) {
+            for (int month = 0; month <= monthsAhead; month++) {
+                final Date from = Date.valueOf(current.plusMonths(month).atDay(1));
+                if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(CREATE_SQL, Boolean.class, table, from))) {
+                    log.info("Создана секция {} с {}", table, from);
+                    created++;
+                }
+            }
+        }
+        return created;
+    }
+
+    int archiveExpired(YearMonth current) {
+        final YearMonth oldestKept = current.minusMonths(retentionMonths);
+        int archived = 0;
+        for (String table : TABLES) {
+            final Pattern monthly = Pattern.compile(table + "_p(\\d{6})");
+            for (String partition : jdbcTemplate.queryForList(PARTITIONS_SQL, String.class, table)) {
+                final Matcher matcher = monthly.matcher(partition);
+                if (matcher.matches() && YearMonth.parse(matcher.group(1), SUFFIX_FORMAT).isBefore(oldestKept)) {
+                    archive(table, partition);
+                    archived++;
+                }
+            }
+        }
+        jdbcTemplate.update(SUMMARY_CLEANUP_SQL, Date.valueOf(oldestKept.atDay(1)));
+        return archived;
+    }
+
+    private void archive(String table, String partition) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute(String.format(DETACH_SQL, table, partition));
+            jdbcTemplate.execute(String.format(ARCHIVE_SQL, partition));
+        });
+        log.info("Секция {} перенесена в transfer_archive", partition);
+    }
+}
@@ -0,0 +1,63 @@
+package com.bank.transfer.service.Impl;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.dto.TransferHistoryPageDto;
+import com.bank.transfer.dto.TransferSummaryDto;
+import com.bank.transfer.mapper.TransferSummaryMapper;
+import com.bank.transfer.repository.TransferSummaryRepository;
+import com.bank.transfer.service.TransferSummaryService;
+import com.bank.transfer.service.common.TransferHistoryCursor;
+import com.bank.transfer.service.common.TransferHistoryPager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Реализация {@link TransferSummaryService}.
+ * Переводы по счёту, карте и телефону читаются одним запросом по сводной таблице вместо трёх.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransferSummaryServiceImpl implements TransferSummaryService {
+
+    private final static String PERIOD_MESSAGE = "Начало периода должно быть раньше его конца";
+    private final static Timestamp EARLIEST = new Timestamp(0L);
+
+    private final TransferSummaryRepository repository;
+    private final TransferSummaryMapper mapper;
+    private final TransferHistoryPager historyPager;
+
+    /**
+     * @param accountDetailsId технический идентификатор счёта
+     * @param from             начало периода включительно, null - без ограничения
+     * @param to               конец периода не включительно, null - без ограничения
+     * @param cursor           курсор из предыдущей страницы, null - первая страница
+     * @param limit            размер страницы
+     * @return {@link TransferHistoryPageDto} с {@link TransferSummaryDto}, от новых к старым
+     */
+    @Override
+    public TransferHistoryPageDto<TransferSummaryDto> find(Long accountDetailsId, LocalDateTime from,
+                                                           LocalDateTime to, String cursor, int limit) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new ValidationException(PERIOD_MESSAGE);
+        }
+        final Timestamp lower = from == null ? EARLIEST : Timestamp.valueOf(from);
+
+        return historyPager.page(cursor, limit, (after, size) -> {
+            final TransferHistoryCursor upper = upperBound(after, to);
+            return repository.findPage(accountDetailsId, lower, upper.getCreatedAt(), upper.getId(), size);
+        }, summary -> TransferHistoryCursor.of(summary.getCreatedAt(), summary.getId()), mapper::toDtoList);
+    }
+
+    /**
+     * Первая страница периода начинается сразу перед его концом, следующие - от курсора.
+     */
+    private TransferHistoryCursor upperBound(TransferHistoryCursor after, LocalDateTime to) {
+        if (to == null || !TransferHistoryCursor.FIRST.equals(after)) {
+            return after;
+        }
+        return TransferHistoryCursor.of(Timestamp.valueOf(to), 0L);
+    }
+}
@@ -0,0 +1,28 @@
+package com.bank.transfer.service;
+
+import com.bank.transfer.entity.OutboxEventEntity;
+import com.bank.transfer.entity.TransferEventType;
+import com.bank.transfer.entity.TransferType;
+
+/**
+ * Сервис transactional outbox событий переводов.
+ */
+public interface OutboxService {
+
+    /**
+     * Пишет событие в транзакции вызывающего, вместе с изменением перевода.
+     *
+     * @param transferType {@link TransferType}
+     * @param transferId   технический идентификатор перевода
+     * @param eventType    {@link TransferEventType}
+     * @param transfer     ДТО перевода на момент события
+     */
+    void record(TransferType transferType, Long transferId, TransferEventType eventType, Object transfer);
+
+    /**
+     * Отправляет накопленные события потребителям пачками и удаляет отправленные.
+     *
+     * @return количество отправленных {@link OutboxEventEntity}
+     */
+    int relay();
+}
@@ -1,6 +1,7 @@
 package com.bank.transfer.service;
 
 import com.bank.transfer.dto.PhoneTransferDto;
+import com.bank.transfer.dto.TransferHistoryPageDto;
 import com.bank.transfer.entity.PhoneTransferEntity;
 
 import java.util.List;
@@ -34,4 +35,20 @@ public interface PhoneTransferService {
      * @return {@link PhoneTransferDto}
      */
     PhoneTransferDto update(Long id, PhoneTransferDto phoneTransfer);
+
+    /**
+     * @param accountDetailsId технический идентификатор счёта
+     * @param cursor           курсор из предыдущей страницы, null - первая страница
+     * @param limit            размер страницы
+     * @return {@link TransferHistoryPageDto} с {@link PhoneTransferDto}, от новых к старым
+     */
+    TransferHistoryPageDto<PhoneTransferDto> findHistory(Long accountDetailsId, String cursor, int limit);
+
+    /**
+     * @param phoneNumber номер телефона получателя, допускаются пробелы, '+', '-' и скобки
+     * @param cursor      курсор из предыдущей страницы, null - первая страница
+     * @param limit       размер страницы
+     * @return {@link TransferHistoryPageDto} с {@link PhoneTransferDto}, от новых к старым
+     */
+    TransferHistoryPageDto<PhoneTransferDto> findByPhoneNumber(String phoneNumber, String cursor, int limit);
 }
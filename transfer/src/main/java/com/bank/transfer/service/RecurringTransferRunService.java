@@ -0,0 +1,33 @@
+package com.bank.transfer.service;
+
+import com.bank.transfer.dto.RecurringTransferDto;
+import com.bank.transfer.entity.RecurringTransferEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Исполнение регулярных переводов. Безопасно при нескольких экземплярах сервиса:
+ * каждое исполнение захватывается одним экземпляром через блокировку строки расписания.
+ */
+public interface RecurringTransferRunService {
+
+    /**
+     * Страница ближайших исполнений по ключу (next_run_at, id), чтобы не загружать всё окно разом.
+     *
+     * @param until верхняя граница времени исполнения не включительно
+     * @param after последнее расписание предыдущей страницы, null для первой страницы
+     * @param limit размер страницы
+     * @return лист активных {@link RecurringTransferDto} по возрастанию времени исполнения
+     */
+    List<RecurringTransferDto> findUpcomingPage(LocalDateTime until, RecurringTransferDto after, int limit);
+
+    /**
+     * Захватывает наступившие исполнения из ids и создаёт по ним переводы.
+     * Расписания, захваченные другим экземпляром или ещё не наступившие, пропускаются.
+     *
+     * @param ids технические идентификаторы {@link RecurringTransferEntity}
+     * @return количество созданных переводов
+     */
+    int run(List<Long> ids);
+}
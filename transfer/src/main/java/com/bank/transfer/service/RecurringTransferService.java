@@ -0,0 +1,30 @@
+package com.bank.transfer.service;
+
+import com.bank.transfer.dto.RecurringTransferDto;
+import com.bank.transfer.entity.RecurringTransferEntity;
+
+/**
+ * Сервис регулярных переводов по номеру счёта
+ */
+public interface RecurringTransferService {
+
+    /**
+     * @param id технический идентификатор {@link RecurringTransferEntity}
+     * @return {@link RecurringTransferDto}
+     */
+    RecurringTransferDto findById(Long id);
+
+    /**
+     * @param recurring {@link RecurringTransferDto}
+     * @return {@link RecurringTransferDto}
+     */
+    RecurringTransferDto save(RecurringTransferDto recurring);
+
+    /**
+     * Отменяет расписание. Уже начатое исполнение завершается, следующие не создаются.
+     *
+     * @param id технический идентификатор {@link RecurringTransferEntity}
+     * @return {@link RecurringTransferDto}
+     */
+    RecurringTransferDto cancel(Long id);
+}
@@ -0,0 +1,53 @@
+package com.bank.transfer.service;
+
+import com.bank.transfer.dto.TransferBulkJobDto;
+import com.bank.transfer.dto.TransferBulkLinePageDto;
+import com.bank.transfer.entity.AccountTransferEntity;
+import com.bank.transfer.entity.TransferBulkJobEntity;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Сервис массовой загрузки {@link AccountTransferEntity} из файла.
+ */
+public interface TransferBulkService {
+
+    /**
+     * Формат файла: одна строка - один перевод.
+     */
+    enum Format {
+
+        /**
+         * JSON-объект {@link com.bank.transfer.dto.AccountTransferDto} в каждой строке.
+         */
+        NDJSON,
+
+        /**
+         * accountNumber,amount,purpose,accountDetailsId; строка заголовка необязательна.
+         */
+        CSV
+    }
+
+    /**
+     * @param input  файл с переводами
+     * @param format {@link Format}
+     * @return {@link TransferBulkJobDto} принятой загрузки
+     * @throws IOException при ошибке чтения входного потока
+     */
+    TransferBulkJobDto submit(InputStream input, Format format) throws IOException;
+
+    /**
+     * @param id технический идентификатор {@link TransferBulkJobEntity}
+     * @return {@link TransferBulkJobDto} с прогрессом
+     */
+    TransferBulkJobDto findJob(Long id);
+
+    /**
+     * @param id        технический идентификатор {@link TransferBulkJobEntity}
+     * @param afterLine номер последней строки предыдущей страницы, null для первой страницы
+     * @param limit     размер страницы
+     * @return {@link TransferBulkLinePageDto}
+     */
+    TransferBulkLinePageDto findLines(Long id, Long afterLine, int limit);
+}
@@ -0,0 +1,18 @@
+package com.bank.transfer.service;
+
+import com.bank.transfer.dto.TransferEventDto;
+
+import java.util.List;
+
+/**
+ * Отправка пачки событий переводов потребителям.
+ */
+public interface TransferEventPublisher {
+
+    /**
+     * Возвращается только после того, как все потребители приняли пачку, иначе бросает исключение.
+     *
+     * @param events лист {@link TransferEventDto} по возрастанию id
+     */
+    void publish(List<TransferEventDto> events);
+}
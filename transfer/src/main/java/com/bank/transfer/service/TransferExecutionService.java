@@ -0,0 +1,22 @@
+package com.bank.transfer.service;
+
+import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.entity.AccountTransferEntity;
+
+/**
+ * Сервис исполнения {@link AccountTransferEntity}: списание со счёта отправителя и зачисление получателю.
+ */
+public interface TransferExecutionService {
+
+    /**
+     * @param id технический идентификатор {@link AccountTransferEntity}
+     * @return {@link AccountTransferDto} со статусом исполнения
+     */
+    AccountTransferDto execute(Long id);
+
+    /**
+     * @param accountTransfer {@link AccountTransferDto}
+     * @return {@link AccountTransferDto} со статусом исполнения
+     */
+    AccountTransferDto createAndExecute(AccountTransferDto accountTransfer);
+}
@@ -0,0 +1,37 @@
+package com.bank.transfer.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+
+/**
+ * Выгрузка переводов всех типов за период без накопления в памяти.
+ */
+public interface TransferExportService {
+
+    /**
+     * Формат выгрузки: одна строка - один перевод.
+     */
+    enum Format {
+
+        /**
+         * Строка заголовка и значения через запятую.
+         */
+        CSV,
+
+        /**
+         * JSON-объект в каждой строке.
+         */
+        NDJSON
+    }
+
+    /**
+     * Период проверяется сразу, чтение из БД начинается только при записи тела ответа.
+     *
+     * @param from   начало периода включительно
+     * @param to     конец периода не включительно
+     * @param format {@link Format}
+     * @return тело ответа, которое пишет переводы по мере чтения курсора
+     */
+    StreamingResponseBody export(LocalDateTime from, LocalDateTime to, Format format);
+}
@@ -0,0 +1,21 @@
+package com.bank.transfer.service;
+
+/**
+ * Обслуживание помесячных секций таблиц переводов.
+ */
+public interface TransferPartitionService {
+
+    /**
+     * Заранее создаёт секции на текущий и следующие месяцы, чтобы вставки не попадали в секцию по умолчанию.
+     *
+     * @return количество созданных секций
+     */
+    int createUpcoming();
+
+    /**
+     * Отсоединяет секции старше срока хранения и переносит их в схему transfer_archive.
+     *
+     * @return количество перенесённых секций
+     */
+    int archiveExpired();
+}
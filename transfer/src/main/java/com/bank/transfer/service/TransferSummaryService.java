@@ -0,0 +1,24 @@
+package com.bank.transfer.service;
+
+import com.bank.transfer.dto.TransferHistoryPageDto;
+import com.bank.transfer.dto.TransferSummaryDto;
+import com.bank.transfer.entity.TransferSummaryEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Сервис для {@link TransferSummaryEntity} и {@link TransferSummaryDto}
+ */
+public interface TransferSummaryService {
+
+    /**
+     * @param accountDetailsId технический идентификатор счёта
+     * @param from             начало периода включительно, null - без ограничения
+     * @param to               конец периода не включительно, null - без ограничения
+     * @param cursor           курсор из предыдущей страницы, null - первая страница
+     * @param limit            размер страницы
+     * @return {@link TransferHistoryPageDto} с {@link TransferSummaryDto}, от новых к старым
+     */
+    TransferHistoryPageDto<TransferSummaryDto> find(Long accountDetailsId, LocalDateTime from, LocalDateTime to,
+                                                    String cursor, int limit);
+}
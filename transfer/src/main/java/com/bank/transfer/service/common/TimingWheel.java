@@ -0,0 +1,112 @@
+package com.bank.transfer.service.common;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Иерархическое колесо таймеров: добавление и срабатывание за O(1) независимо от числа отложенных элементов.
+ * Дальние сроки уходят в колесо следующего уровня с тиком, равным обороту текущего,
+ * и спускаются вниз, когда до них остаётся меньше оборота.
+ * Срок округляется вверх до тика, поэтому элемент срабатывает не раньше срока и не позже чем через тик после него.
+ * Не потокобезопасно.
+ *
+ * @param <T> тип элемента
+ */
+public class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long intervalMillis;
+    private final List<List<Entry<T>>> buckets;
+
+    private long currentTime;
+    private TimingWheel<T> overflow;
+
+    /**
+     * @param tickMillis  длительность тика в мс
+     * @param wheelSize   число ячеек на уровне
+     * @param startMillis текущее время в мс
+     */
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis < 1 || wheelSize < 2) {
+            throw new IllegalArgumentException("Тик должен быть положительным, а ячеек не меньше двух");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.intervalMillis = tickMillis * wheelSize;
+        this.currentTime = startMillis - startMillis % tickMillis;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * @param item           элемент
+     * @param deadlineMillis срок в мс
+     * @return false, если срок уже наступил и элемент не добавлен
+     */
+    public boolean add(T item, long deadlineMillis) {
+        final long remainder = Math.floorMod(deadlineMillis, tickMillis);
+        return place(new Entry<>(item, remainder == 0 ? deadlineMillis : deadlineMillis - remainder + tickMillis));
+    }
+
+    /**
+     * @param nowMillis текущее время в мс
+     * @param sink      получатель наступивших элементов, в порядке сроков с точностью до тика
+     */
+    public void advance(long nowMillis, Consumer<T> sink) {
+        step(nowMillis, entry -> {
+            if (!place(entry)) {
+                sink.accept(entry.item);
+            }
+        });
+    }
+
+    private void step(long nowMillis, Consumer<Entry<T>> reinsert) {
+        while (currentTime + tickMillis <= nowMillis) {
+            currentTime += tickMillis;
+            final List<Entry<T>> bucket = buckets.get(slot(currentTime));
+            if (!bucket.isEmpty()) {
+                buckets.set(slot(currentTime), new ArrayList<>());
+                bucket.forEach(reinsert);
+            }
+            if (overflow != null) {
+                overflow.step(currentTime, reinsert);
+            }
+        }
+    }
+
+    private boolean place(Entry<T> entry) {
+        if (entry.deadline <= currentTime) {
+            return false;
+        }
+        if (entry.deadline < currentTime + intervalMillis) {
+            buckets.get(slot(entry.deadline)).add(entry);
+        } else {
+            overflow().place(entry);
+        }
+        return true;
+    }
+
+    private int slot(long time) {
+        return (int) Math.floorMod(Math.floorDiv(time, tickMillis), (long) wheelSize);
+    }
+
+    private TimingWheel<T> overflow() {
+        if (overflow == null) {
+            overflow = new TimingWheel<>(intervalMillis, wheelSize, currentTime);
+        }
+        return overflow;
+    }
+
+    @RequiredArgsConstructor
+    private static final class Entry<T> {
+
+        private final T item;
+        private final long deadline;
+    }
+}
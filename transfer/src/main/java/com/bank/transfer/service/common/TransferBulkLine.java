@@ -0,0 +1,27 @@
+package com.bank.transfer.service.common;
+
+import com.bank.transfer.dto.AccountTransferDto;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Разобранная строка файла массовой загрузки: перевод или причина отклонения.
+ */
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TransferBulkLine {
+
+    long lineNumber;
+    AccountTransferDto transfer;
+    String error;
+
+    /**
+     * @return true, если строка прошла разбор и проверку
+     */
+    public boolean isValid() {
+        return error == null;
+    }
+}
@@ -0,0 +1,119 @@
+package com.bank.transfer.service.common;
+
+import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.service.TransferBulkService.Format;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Разбор и проверка строк файла массовой загрузки переводов.
+ */
+@Component
+@RequiredArgsConstructor
+public class TransferBulkLineParser {
+
+    private static final int CSV_FIELDS = 4;
+    private static final int MONEY_SCALE = 2;
+    private static final char QUOTE = '"';
+    private static final char SEPARATOR = ',';
+
+    private static final String CSV_FIELDS_MESSAGE = "Ожидается " + CSV_FIELDS +
+            " поля: accountNumber,amount,purpose,accountDetailsId";
+    private static final String EMPTY_LINE_MESSAGE = "Ожидается перевод, получен null";
+    private static final String ACCOUNT_NUMBER_MESSAGE = "Не указан номер счёта получателя";
+    private static final String ACCOUNT_DETAILS_MESSAGE = "Не указан счёт отправителя";
+    private static final String AMOUNT_MESSAGE = "Сумма перевода должна быть больше нуля";
+    private static final String SCALE_MESSAGE = "Сумма перевода указывается с точностью до копеек";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param line первая непустая строка CSV
+     * @return true, если это строка заголовка
+     */
+    public boolean isCsvHeader(String line) {
+        return Character.isLetter(line.strip().charAt(0));
+    }
+
+    /**
+     * @param lineNumber номер строки файла, начиная с 1
+     * @param line       строка файла
+     * @param format     {@link Format}
+     * @return {@link TransferBulkLine}
+     */
+    public TransferBulkLine parse(long lineNumber, String line, Format format) {
+        try {
+            final AccountTransferDto transfer = format == Format.CSV ? parseCsv(line) :
+                    objectMapper.readValue(line, AccountTransferDto.class);
+            return new TransferBulkLine(lineNumber, transfer, validate(transfer));
+        } catch (JsonProcessingException e) {
+            return new TransferBulkLine(lineNumber, null, "Некорректный JSON: " + e.getOriginalMessage());
+        } catch (NumberFormatException e) {
+            return new TransferBulkLine(lineNumber, null, "Некорректное число: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return new TransferBulkLine(lineNumber, null, e.getMessage());
+        }
+    }
+
+    private AccountTransferDto parseCsv(String line) {
+        final List<String> fields = splitCsv(line);
+        if (fields.size() != CSV_FIELDS) {
+            throw new IllegalArgumentException(CSV_FIELDS_MESSAGE);
+        }
+        return AccountTransferDto.builder()
+                .accountNumber(Long.parseLong(fields.get(0).strip()))
+                .amount(new BigDecimal(fields.get(1).strip()))
+                .purpose(fields.get(2).isBlank() ? null : fields.get(2))
+                .accountDetailsId(Long.parseLong(fields.get(3).strip()))
+                .build();
+    }
+
+    /**
+     * Поля разделяются запятой, поле в кавычках может содержать запятые, кавычка внутри поля удваивается.
+     */
+    private List<String> splitCsv(String line) {
+        final List<String> fields = new ArrayList<>(CSV_FIELDS);
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (i < line.length()) {
+            final char c = line.charAt(i);
+            if (c == QUOTE && quoted && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                field.append(QUOTE);
+                i++;
+            } else if (c == QUOTE) {
+                quoted = !quoted;
+            } else if (c == SEPARATOR && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+            i++;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private String validate(AccountTransferDto transfer) {
+        if (transfer == null) {
+            return EMPTY_LINE_MESSAGE;
+        }
+        if (transfer.getAccountNumber() == null) {
+            return ACCOUNT_NUMBER_MESSAGE;
+        }
+        if (transfer.getAccountDetailsId() == null) {
+            return ACCOUNT_DETAILS_MESSAGE;
+        }
+        if (transfer.getAmount() == null || transfer.getAmount().signum() <= 0) {
+            return AMOUNT_MESSAGE;
+        }
+        return transfer.getAmount().stripTrailingZeros().scale() > MONEY_SCALE ? SCALE_MESSAGE : null;
+    }
+}
@@ -0,0 +1,131 @@
+package com.bank.transfer.service.common;
+
+import com.bank.transfer.service.TransferExportService.Format;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Пишет текущую строку курсора выгрузки в CSV или NDJSON сразу в выходной поток.
+ * Колонки курсора: transfer_type, transfer_id, account_details_id, recipient_number, amount, purpose, status,
+ * created_at.
+ */
+public class TransferExportWriter {
+
+    static final String CSV_HEADER =
+            "transfer_type,transfer_id,account_details_id,recipient_number,amount,purpose,status,created_at";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char NEW_LINE = '\n';
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final Writer writer;
+    private final JsonGenerator json;
+
+    /**
+     * @param format      {@link Format}
+     * @param output      выходной поток, не закрывается
+     * @param jsonFactory фабрика генераторов для NDJSON
+     * @throws IOException при ошибке записи заголовка
+     */
+    public TransferExportWriter(Format format, OutputStream output, JsonFactory jsonFactory) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+        if (format == Format.NDJSON) {
+            this.json = jsonFactory.createGenerator(writer).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            this.json.setRootValueSeparator(null);
+        } else {
+            this.json = null;
+            writer.write(CSV_HEADER);
+            writer.write(NEW_LINE);
+        }
+    }
+
+    /**
+     * @param row курсор, стоящий на строке выгрузки
+     * @throws SQLException при ошибке чтения строки
+     * @throws IOException  при ошибке записи, например если клиент закрыл соединение
+     */
+    public void write(ResultSet row) throws SQLException, IOException {
+        if (json == null) {
+            writeCsv(row);
+        } else {
+            writeJson(row);
+        }
+    }
+
+    /**
+     * Сбрасывает буферы в выходной поток.
+     *
+     * @throws IOException при ошибке записи
+     */
+    public void flush() throws IOException {
+        if (json != null) {
+            json.flush();
+        }
+        writer.flush();
+    }
+
+    private void writeCsv(ResultSet row) throws SQLException, IOException {
+        writer.write(row.getString(1));
+        writer.write(SEPARATOR);
+        writer.write(Long.toString(row.getLong(2)));
+        writer.write(SEPARATOR);
+        writer.write(Long.toString(row.getLong(3)));
+        writer.write(SEPARATOR);
+        writer.write(Long.toString(row.getLong(4)));
+        writer.write(SEPARATOR);
+        writer.write(row.getBigDecimal(5).toPlainString());
+        writer.write(SEPARATOR);
+        writeCsvText(row.getString(6));
+        writer.write(SEPARATOR);
+        writeCsvText(row.getString(7));
+        writer.write(SEPARATOR);
+        writer.write(DATE_TIME.format(row.getTimestamp(8).toLocalDateTime()));
+        writer.write(NEW_LINE);
+    }
+
+    private void writeCsvText(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(SEPARATOR) < 0 && value.indexOf(QUOTE) < 0 && value.indexOf(NEW_LINE) < 0 &&
+                value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write(QUOTE);
+        writer.write(value.replace("\"", "\"\""));
+        writer.write(QUOTE);
+    }
+
+    private void writeJson(ResultSet row) throws SQLException, IOException {
+        final BigDecimal amount = row.getBigDecimal(5);
+        final Timestamp createdAt = row.getTimestamp(8);
+
+        json.writeStartObject();
+        json.writeStringField("transferType", row.getString(1));
+        json.writeNumberField("transferId", row.getLong(2));
+        json.writeNumberField("accountDetailsId", row.getLong(3));
+        json.writeNumberField("recipientNumber", row.getLong(4));
+        json.writeNumberField("amount", amount);
+        json.writeStringField("purpose", row.getString(6));
+        json.writeStringField("status", row.getString(7));
+        json.writeStringField("createdAt", DATE_TIME.format(createdAt.toLocalDateTime()));
+        json.writeEndObject();
+        json.writeRaw(NEW_LINE);
+    }
+}
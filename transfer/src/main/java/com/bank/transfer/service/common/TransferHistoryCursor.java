@@ -0,0 +1,84 @@
+package com.bank.transfer.service.common;
+
+import com.bank.common.exception.ValidationException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Позиция в истории переводов: ключ (created_at, id) последней выданной записи.
+ * Наружу отдаётся непрозрачной строкой, чтобы клиенты не собирали её сами.
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TransferHistoryCursor {
+
+    /**
+     * Курсор первой страницы: строго больше любой реальной записи.
+     */
+    public static final TransferHistoryCursor FIRST =
+            new TransferHistoryCursor(Timestamp.valueOf("9999-12-31 23:59:59"), Long.MAX_VALUE);
+
+    private static final String MESSAGE = "Некорректный курсор истории переводов";
+    private static final String SEPARATOR = ":";
+    private static final int PARTS = 3;
+    private static final long MAX_NANOS = 999_999_999L;
+
+    Timestamp createdAt;
+    Long id;
+
+    /**
+     * @param createdAt время создания перевода
+     * @param id        технический идентификатор перевода
+     * @return курсор, указывающий на перевод
+     */
+    public static TransferHistoryCursor of(Timestamp createdAt, Long id) {
+        return new TransferHistoryCursor(createdAt, id);
+    }
+
+    /**
+     * Наносекунды вне 0..999 999 999 не выдаёт {@link #encode()}, поэтому такой курсор отклоняется.
+     *
+     * @param cursor строка, полученная из {@link #encode()}, или null для первой страницы
+     * @return {@link TransferHistoryCursor}
+     */
+    public static TransferHistoryCursor decode(String cursor) {
+        if (cursor == null) {
+            return FIRST;
+        }
+        try {
+            final String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII)
+                    .split(SEPARATOR);
+            if (parts.length != PARTS) {
+                throw new ValidationException(MESSAGE);
+            }
+            final long nanos = Long.parseLong(parts[1]);
+            if (nanos < 0 || nanos > MAX_NANOS) {
+                throw new ValidationException(MESSAGE);
+            }
+            final Instant instant = Instant.ofEpochSecond(Long.parseLong(parts[0]), nanos);
+            return new TransferHistoryCursor(Timestamp.from(instant), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException | ArithmeticException e) {
+            throw new ValidationException(MESSAGE);
+        }
+    }
+
+    /**
+     * @return непрозрачное строковое представление курсора
+     */
+    public String encode() {
+        final Instant instant = createdAt.toInstant();
+        final String raw = instant.getEpochSecond() + SEPARATOR + instant.getNano() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,46 @@
+package com.bank.transfer.service.common;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.dto.TransferHistoryPageDto;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Постраничная выборка истории переводов по ключу (created_at, id) без OFFSET:
+ * каждая страница - один проход по индексу от позиции курсора.
+ */
+@Component
+public class TransferHistoryPager {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private static final String PAGE_SIZE_MESSAGE = "Размер страницы должен быть от 1 до " + MAX_PAGE_SIZE;
+
+    /**
+     * @param cursor   курсор из предыдущей страницы, null - первая страница
+     * @param limit    размер страницы
+     * @param query    выборка не более n записей строго после курсора, от новых к старым
+     * @param cursorOf курсор, указывающий на запись
+     * @param toDto    преобразование записей в ДТО
+     * @param <E>      entity перевода
+     * @param <D>      ДТО перевода
+     * @return {@link TransferHistoryPageDto}
+     */
+    public <E, D> TransferHistoryPageDto<D> page(String cursor, int limit,
+                                                 BiFunction<TransferHistoryCursor, Integer, List<E>> query,
+                                                 Function<E, TransferHistoryCursor> cursorOf,
+                                                 Function<List<E>, List<D>> toDto) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ValidationException(PAGE_SIZE_MESSAGE);
+        }
+        final List<E> rows = query.apply(TransferHistoryCursor.decode(cursor), limit + 1);
+        if (rows.size() <= limit) {
+            return new TransferHistoryPageDto<>(toDto.apply(rows), null);
+        }
+        final List<E> page = rows.subList(0, limit);
+        return new TransferHistoryPageDto<>(toDto.apply(page), cursorOf.apply(page.get(limit - 1)).encode());
+    }
+}
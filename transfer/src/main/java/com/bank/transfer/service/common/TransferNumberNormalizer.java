@@ -0,0 +1,30 @@
+package com.bank.transfer.service.common;
+
+import com.bank.common.exception.ValidationException;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * Приводит номер счёта, карты или телефона из поискового запроса к виду, в котором он хранится:
+ * поддержка вводит "4111 1111 1111 1111" или "+7 (912) 345-67-89", а в таблице лежит число.
+ */
+@Component
+public class TransferNumberNormalizer {
+
+    private static final String MESSAGE = "Номер должен состоять из цифр, допустимы пробелы, '+', '-' и скобки: ";
+    private static final Pattern FORMATTING = Pattern.compile("[\\s()+-]");
+    private static final Pattern DIGITS = Pattern.compile("\\d{1,18}");
+
+    /**
+     * @param number номер в произвольном оформлении
+     * @return номер числом
+     */
+    public Long normalize(String number) {
+        final String digits = number == null ? "" : FORMATTING.matcher(number).replaceAll("");
+        if (!DIGITS.matcher(digits).matches()) {
+            throw new ValidationException(MESSAGE + number);
+        }
+        return Long.valueOf(digits);
+    }
+}
@@ -0,0 +1,116 @@
+package com.bank.transfer.benchmark;
+
+import com.bank.transfer.TransferApplication;
+import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.service.TransferExecutionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Пропускная способность исполнения переводов между случайными парами счетов.
+ * Встречные переводы блокируют одни и те же строки, поэтому число счетов задаёт уровень конкуренции.
+ * Требует локальную PostgreSQL из application-local.yaml с таблицами модуля account и запущенный account-app
+ * по адресу transfer.account.url, запуск через {@link #main}.
+ * Целевая пропускная способность задаётся -Dtransfer.target-tps, по умолчанию 1000 переводов в секунду.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(16)
+public class TransferExecutionBenchmark {
+
+    private static final BigDecimal AMOUNT = BigDecimal.ONE;
+    private static final BigDecimal INITIAL_MONEY = BigDecimal.valueOf(1_000_000_000L);
+
+    @Param({"100", "10000"})
+    private int accountCount;
+
+    private ConfigurableApplicationContext context;
+    private TransferExecutionService executionService;
+    private JdbcTemplate jdbcTemplate;
+    private long[] ids;
+    private long[] accountNumbers;
+
+    public static void main(String[] args) throws RunnerException {
+        final double target = Double.parseDouble(System.getProperty("transfer.target-tps", "1000"));
+        for (RunResult result : new Runner(new OptionsBuilder()
+                .include(TransferExecutionBenchmark.class.getSimpleName())
+                .build()
+        ).run()) {
+            final double score = result.getPrimaryResult().getScore();
+            System.out.printf("%s accounts: %.0f transfers/s, target %.0f - %s%n",
+                    result.getParams().getParam("accountCount"), score, target, score >= target ? "OK" : "BELOW");
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TransferApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("eureka.client.enabled=false", "spring.datasource.hikari.maximum-pool-size=32")
+                .run();
+        executionService = context.getBean(TransferExecutionService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        final long base = System.nanoTime();
+        ids = new long[accountCount];
+        accountNumbers = new long[accountCount];
+        for (int i = 0; i < accountCount; i++) {
+            accountNumbers[i] = base + i;
+            ids[i] = jdbcTemplate.queryForObject("insert into account.account_details (id, passport_id, " +
+                    "account_number, bank_details_id, money, negative_balance, profile_id) " +
+                    "values (nextval('account.account_details_seq'), ?, ?, ?, ?, false, ?) returning id",
+                    Long.class, base + i, accountNumbers[i], base + i, INITIAL_MONEY, base + i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        final BigDecimal total = jdbcTemplate.queryForObject("select coalesce(sum(p.amount), 0) " +
+                "from account.ledger_posting p join account.account_details a on a.id = p.account_details_id " +
+                "where a.account_number between ? and ?", BigDecimal.class, accountNumbers[0],
+                accountNumbers[accountCount - 1]);
+        System.out.printf("%d accounts: postings total %s, expected 0%n", accountCount, total);
+        context.close();
+    }
+
+    @Benchmark
+    public AccountTransferDto execute() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int source = random.nextInt(accountCount);
+        final int destination = (source + 1 + random.nextInt(accountCount - 1)) % accountCount;
+
+        return executionService.createAndExecute(AccountTransferDto.builder()
+                .accountNumber(accountNumbers[destination])
+                .amount(AMOUNT)
+                .purpose("benchmark")
+                .accountDetailsId(ids[source])
+                .build());
+    }
+}
@@ -1,8 +1,13 @@
 package com.bank.transfer.controller;
 
+import com.bank.common.exception.ValidationException;
 import com.bank.common.handler.GlobalRestExceptionHandler;
 import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.dto.TransferHistoryPageDto;
+import com.bank.transfer.entity.IdempotentOperation;
+import com.bank.transfer.entity.TransferType;
 import com.bank.transfer.service.AccountTransferService;
+import com.bank.transfer.service.IdempotencyService;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AccessLevel;
@@ -23,6 +28,9 @@ import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.times;
@@ -39,6 +47,8 @@ class AccountTransferControllerTest {
     GlobalRestExceptionHandler restExceptionHandler;
     @MockBean
     AccountTransferService accountTransferService;
+    @MockBean
+    IdempotencyService idempotencyService;
     @Autowired
     MockMvc mockMvc;
     @Autowired
@@ -139,6 +149,24 @@ class AccountTransferControllerTest {
         verify(accountTransferService, times(1)).save(expectedDto);
     }
 
+    @Test
+    @DisplayName("Создание перевода по номеру счёта с Idempotency-Key")
+    void createAccountTransferDtoWithIdempotencyKeyTest() throws Exception {
+        AccountTransferDto expectedDto = getDto1();
+
+        when(idempotencyService.execute(eq(TransferType.ACCOUNT), eq(IdempotentOperation.CREATE), eq("key-1"),
+                eq(expectedDto), any(), any(), any()))
+                .thenReturn(expectedDto);
+
+        mockMvc.perform(post("/account/create")
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(expectedDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accountNumber").value(expectedDto.getAccountNumber()));
+        verify(accountTransferService, never()).save(any());
+    }
+
     @Test
     @DisplayName("Создание перевода по номеру счёта, негативный сценарий")
     void createAccountTransferDtoNegativeTest() throws Exception {
@@ -201,6 +229,32 @@ class AccountTransferControllerTest {
         verify(accountTransferService, times(1)).update(id, expectedDto);
     }
 
+    @Test
+    @DisplayName("История переводов по номеру счёта, позитивный сценарий")
+    void readHistoryPositiveTest() throws Exception {
+        TransferHistoryPageDto<AccountTransferDto> page = new TransferHistoryPageDto<>(List.of(getDto1()), "MTox");
+
+        when(accountTransferService.findHistory(1L, "abc", 20)).thenReturn(page);
+
+        mockMvc.perform(get("/account/history/{accountDetailsId}", 1L)
+                        .param("cursor", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.nextCursor").value("MTox"));
+        verify(accountTransferService, times(1)).findHistory(1L, "abc", 20);
+    }
+
+    @Test
+    @DisplayName("История переводов по номеру счёта с недопустимым размером страницы, негативный сценарий")
+    void readHistoryNegativeTest() throws Exception {
+        when(accountTransferService.findHistory(1L, null, 1000))
+                .thenThrow(new ValidationException("Размер страницы должен быть от 1 до 100"));
+
+        mockMvc.perform(get("/account/history/{accountDetailsId}", 1L)
+                        .param("limit", "1000"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
     private AccountTransferDto getDto1() {
         AccountTransferDto transferDto = new AccountTransferDto();
         transferDto.setAccountNumber(123456L);
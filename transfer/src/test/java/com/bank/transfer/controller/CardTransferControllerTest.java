@@ -2,6 +2,7 @@ package com.bank.transfer.controller;
 
 import com.bank.transfer.dto.CardTransferDto;
 import com.bank.transfer.service.CardTransferService;
+import com.bank.transfer.service.IdempotencyService;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import feign.FeignException;
@@ -38,6 +39,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class CardTransferControllerTest {
     @MockBean
     CardTransferService cardTransferService;
+    @MockBean
+    IdempotencyService idempotencyService;
     @Autowired
     MockMvc mockMvc;
     @Autowired
@@ -190,11 +193,11 @@ class CardTransferControllerTest {
 
     private CardTransferDto getDto1() {
         return new CardTransferDto(1L,
-                2345L, BigDecimal.valueOf(9999), "asd", 5L);
+                2345L, BigDecimal.valueOf(9999), "asd", 5L, null);
     }
 
     private CardTransferDto getDto2() {
         return new CardTransferDto(2L,
-                23452L, BigDecimal.valueOf(7777), "mms", 2L);
+                23452L, BigDecimal.valueOf(7777), "mms", 2L, null);
     }
 }
\ No newline at end of file
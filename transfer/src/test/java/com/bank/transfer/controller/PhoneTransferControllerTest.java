@@ -1,7 +1,9 @@
 package com.bank.transfer.controller;
 
 import com.bank.transfer.dto.PhoneTransferDto;
+import com.bank.transfer.dto.TransferHistoryPageDto;
 import com.bank.transfer.service.PhoneTransferService;
+import com.bank.transfer.service.IdempotencyService;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import feign.FeignException;
@@ -36,6 +38,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class PhoneTransferControllerTest {
     @MockBean
     PhoneTransferService phoneTransferService;
+    @MockBean
+    IdempotencyService idempotencyService;
     @Autowired
     MockMvc mockMvc;
     @Autowired
@@ -186,13 +190,32 @@ class PhoneTransferControllerTest {
         verify(phoneTransferService, times(1)).update(id, expectedDto);
     }
 
+    @Test
+    @DisplayName("Поиск переводов по номеру телефона, позитивный сценарий")
+    void searchByPhoneNumberPositiveTest() throws Exception {
+        TransferHistoryPageDto<PhoneTransferDto> page = new TransferHistoryPageDto<>(List.of(getDto1()), null);
+
+        when(phoneTransferService.findByPhoneNumber("+7 (912) 345-67-89", null, 20)).thenReturn(page);
+
+        MvcResult result = mockMvc.perform(get("/phone/search")
+                        .param("phoneNumber", "+7 (912) 345-67-89"))
+                .andExpect(status().isOk())
+                .andReturn();
+        TransferHistoryPageDto<PhoneTransferDto> resultPage = objectMapper.readValue(
+                result.getResponse().getContentAsString(), new TypeReference<>() {
+                });
+
+        assertEquals(page, resultPage);
+        verify(phoneTransferService, times(1)).findByPhoneNumber("+7 (912) 345-67-89", null, 20);
+    }
+
     private PhoneTransferDto getDto1() {
         return new PhoneTransferDto(1L,
-                2345L, BigDecimal.valueOf(9999), "asd", 5L);
+                2345L, BigDecimal.valueOf(9999), "asd", 5L, null);
     }
 
     private PhoneTransferDto getDto2() {
         return new PhoneTransferDto(2L,
-                23452L, BigDecimal.valueOf(7777), "mms", 2L);
+                23452L, BigDecimal.valueOf(7777), "mms", 2L, null);
     }
 }
\ No newline at end of file
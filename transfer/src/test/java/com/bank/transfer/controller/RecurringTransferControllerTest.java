@@ -0,0 +1,83 @@
+package com.bank.transfer.controller;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.common.handler.GlobalRestExceptionHandler;
+import com.bank.transfer.dto.RecurringTransferDto;
+import com.bank.transfer.entity.RecurringPeriod;
+import com.bank.transfer.service.RecurringTransferService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(RecurringTransferController.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class RecurringTransferControllerTest {
+    @Autowired
+    GlobalRestExceptionHandler restExceptionHandler;
+    @MockBean
+    RecurringTransferService service;
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Создание регулярного перевода, позитивный сценарий")
+    void createPositiveTest() throws Exception {
+        final RecurringTransferDto request = getDto();
+        final RecurringTransferDto saved = getDto();
+        saved.setId(1L);
+        saved.setNextRunAt(request.getStartAt());
+        saved.setActive(true);
+        when(service.save(request)).thenReturn(saved);
+
+        mockMvc.perform(post("/recurring/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1L))
+                .andExpect(jsonPath("$.period").value("MONTHLY"));
+    }
+
+    @Test
+    @DisplayName("Создание регулярного перевода с первым исполнением в прошлом, негативный сценарий")
+    void createNegativeTest() throws Exception {
+        when(service.save(any(RecurringTransferDto.class))).thenThrow(new ValidationException("start"));
+
+        mockMvc.perform(post("/recurring/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(getDto())))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    @DisplayName("Отмена несуществующего регулярного перевода, негативный сценарий")
+    void cancelNegativeTest() throws Exception {
+        when(service.cancel(1L)).thenThrow(new EntityNotFoundException("не найден"));
+
+        mockMvc.perform(post("/recurring/cancel/{id}", 1L))
+                .andExpect(status().isNotFound());
+    }
+
+    private static RecurringTransferDto getDto() {
+        return new RecurringTransferDto(null, 200L, BigDecimal.TEN, "rent", 100L, RecurringPeriod.MONTHLY,
+                Timestamp.valueOf("2030-01-31 10:00:00"), null, null, null);
+    }
+}
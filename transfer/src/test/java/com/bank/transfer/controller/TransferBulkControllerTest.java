@@ -0,0 +1,113 @@
+package com.bank.transfer.controller;
+
+import com.bank.common.handler.GlobalRestExceptionHandler;
+import com.bank.transfer.dto.TransferBulkJobDto;
+import com.bank.transfer.dto.TransferBulkLineDto;
+import com.bank.transfer.dto.TransferBulkLinePageDto;
+import com.bank.transfer.entity.BulkJobStatus;
+import com.bank.transfer.service.TransferBulkService;
+import com.bank.transfer.service.TransferBulkService.Format;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TransferBulkController.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class TransferBulkControllerTest {
+    @Autowired
+    GlobalRestExceptionHandler restExceptionHandler;
+    @MockBean
+    TransferBulkService service;
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Приём NDJSON-файла, позитивный сценарий")
+    void createBulkNdjsonTest() throws Exception {
+        when(service.submit(any(), eq(Format.NDJSON))).thenReturn(getJob(BulkJobStatus.RUNNING));
+
+        mockMvc.perform(post("/account/create/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"accountNumber\":1,\"amount\":1,\"accountDetailsId\":1}\n"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value(3))
+                .andExpect(jsonPath("$.status").value("RUNNING"));
+    }
+
+    @Test
+    @DisplayName("Приём CSV-файла, позитивный сценарий")
+    void createBulkCsvTest() throws Exception {
+        when(service.submit(any(), eq(Format.CSV))).thenReturn(getJob(BulkJobStatus.RUNNING));
+
+        mockMvc.perform(post("/account/create/bulk")
+                        .contentType("text/csv;charset=UTF-8")
+                        .content("1,1,,1\n"))
+                .andExpect(status().isAccepted());
+        verify(service).submit(any(), eq(Format.CSV));
+    }
+
+    @Test
+    @DisplayName("Приём файла неподдерживаемого формата, негативный сценарий")
+    void createBulkUnsupportedTest() throws Exception {
+        mockMvc.perform(post("/account/create/bulk")
+                        .contentType(MediaType.APPLICATION_XML)
+                        .content("<transfers/>"))
+                .andExpect(status().is4xxClientError());
+    }
+
+    @Test
+    @DisplayName("Прогресс загрузки")
+    void readJobTest() throws Exception {
+        when(service.findJob(3L)).thenReturn(getJob(BulkJobStatus.COMPLETED));
+
+        mockMvc.perform(get("/account/bulk/3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.acceptedLines").value(9));
+    }
+
+    @Test
+    @DisplayName("Прогресс несуществующей загрузки, негативный сценарий")
+    void readJobNotFoundTest() throws Exception {
+        when(service.findJob(3L)).thenThrow(new EntityNotFoundException("не найдена"));
+
+        mockMvc.perform(get("/account/bulk/3"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Результаты строк загрузки")
+    void readLinesTest() throws Exception {
+        when(service.findLines(3L, 10L, 2)).thenReturn(new TransferBulkLinePageDto(
+                List.of(new TransferBulkLineDto(11L, 5L, null), new TransferBulkLineDto(12L, null, "error")), 12L));
+
+        mockMvc.perform(get("/account/bulk/3/lines")
+                        .param("afterLine", "10")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.nextAfterLine").value(12));
+    }
+
+    private TransferBulkJobDto getJob(BulkJobStatus status) {
+        return new TransferBulkJobDto(3L, status, 10L, 9L, 1L, null, null, null);
+    }
+}
@@ -0,0 +1,100 @@
+package com.bank.transfer.controller;
+
+import com.bank.common.handler.GlobalRestExceptionHandler;
+import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.entity.IdempotentOperation;
+import com.bank.transfer.entity.TransferStatus;
+import com.bank.transfer.entity.TransferType;
+import com.bank.transfer.service.AccountTransferService;
+import com.bank.transfer.service.IdempotencyService;
+import com.bank.transfer.service.TransferExecutionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TransferExecutionController.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class TransferExecutionControllerTest {
+    @Autowired
+    GlobalRestExceptionHandler restExceptionHandler;
+    @MockBean
+    TransferExecutionService service;
+    @MockBean
+    AccountTransferService accountTransferService;
+    @MockBean
+    IdempotencyService idempotencyService;
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Исполнение перевода по id, позитивный сценарий")
+    void executePositiveTest() throws Exception {
+        when(service.execute(1L)).thenReturn(getDto(TransferStatus.COMPLETED));
+
+        mockMvc.perform(post("/account/execute/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+    }
+
+    @Test
+    @DisplayName("Исполнение перевода по id, негативный сценарий")
+    void executeNegativeTest() throws Exception {
+        when(service.execute(1L)).thenThrow(new EntityNotFoundException("не найден"));
+
+        mockMvc.perform(post("/account/execute/1"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Создание и исполнение перевода, отказ сохраняется в статусе")
+    void createAndExecuteTest() throws Exception {
+        when(service.createAndExecute(any(AccountTransferDto.class))).thenReturn(getDto(TransferStatus.FAILED));
+
+        mockMvc.perform(post("/account/create/execute")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(getDto(null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("FAILED"));
+    }
+
+    @Test
+    @DisplayName("Создание с Idempotency-Key идёт под ключом, исполнение повторяется по id")
+    void createAndExecuteWithIdempotencyKeyTest() throws Exception {
+        when(idempotencyService.execute(eq(TransferType.ACCOUNT), eq(IdempotentOperation.CREATE_EXECUTE),
+                eq("key-1"), any(), any(), any(), any())).thenReturn(getDto(TransferStatus.NEW));
+        when(service.execute(1L)).thenReturn(getDto(TransferStatus.COMPLETED));
+
+        mockMvc.perform(post("/account/create/execute")
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(getDto(null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+        verify(service, never()).createAndExecute(any());
+    }
+
+    private AccountTransferDto getDto(TransferStatus status) {
+        return new AccountTransferDto(1L, 200L, BigDecimal.TEN, "rent", 1L, status, null, null);
+    }
+}
@@ -0,0 +1,78 @@
+package com.bank.transfer.controller;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.common.handler.GlobalRestExceptionHandler;
+import com.bank.transfer.service.TransferExportService;
+import com.bank.transfer.service.TransferExportService.Format;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TransferExportController.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class TransferExportControllerTest {
+    private static final LocalDateTime FROM = LocalDateTime.of(2023, 10, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2023, 11, 1, 0, 0);
+
+    @Autowired
+    GlobalRestExceptionHandler restExceptionHandler;
+    @MockBean
+    TransferExportService service;
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Выгрузка NDJSON со сжатием, позитивный сценарий")
+    void exportGzipTest() throws Exception {
+        when(service.export(FROM, TO, Format.NDJSON))
+                .thenReturn(output -> output.write("{\"transferId\":1}\n".getBytes(StandardCharsets.UTF_8)));
+
+        final MvcResult started = mockMvc.perform(get("/export")
+                        .param("from", "2023-10-01T00:00:00")
+                        .param("to", "2023-11-01T00:00:00")
+                        .param("format", "NDJSON")
+                        .param("gzip", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        final MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/gzip"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"transfers.ndjson.gz\""))
+                .andReturn();
+
+        try (GZIPInputStream unzipped = new GZIPInputStream(
+                new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            assertEquals("{\"transferId\":1}\n", new String(unzipped.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("Выгрузка с пустым периодом, негативный сценарий")
+    void exportNegativeTest() throws Exception {
+        when(service.export(TO, TO, Format.CSV)).thenThrow(new ValidationException("period"));
+
+        mockMvc.perform(get("/export")
+                        .param("from", "2023-11-01T00:00:00")
+                        .param("to", "2023-11-01T00:00:00"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+}
@@ -0,0 +1,66 @@
+package com.bank.transfer.controller;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.common.handler.GlobalRestExceptionHandler;
+import com.bank.transfer.dto.TransferHistoryPageDto;
+import com.bank.transfer.dto.TransferSummaryDto;
+import com.bank.transfer.entity.TransferType;
+import com.bank.transfer.service.TransferSummaryService;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TransferSummaryController.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class TransferSummaryControllerTest {
+    @Autowired
+    GlobalRestExceptionHandler restExceptionHandler;
+    @MockBean
+    TransferSummaryService service;
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Поиск переводов по счёту за период, позитивный сценарий")
+    void readPositiveTest() throws Exception {
+        final LocalDateTime from = LocalDateTime.of(2023, 10, 1, 0, 0);
+        final LocalDateTime to = LocalDateTime.of(2023, 11, 1, 0, 0);
+        when(service.find(1L, from, to, null, 20)).thenReturn(new TransferHistoryPageDto<>(List.of(
+                new TransferSummaryDto(TransferType.CARD, 7L, 1L, 1234L, BigDecimal.TEN, "rent", null, null)), null));
+
+        mockMvc.perform(get("/summary/{accountDetailsId}", 1L)
+                        .param("from", "2023-10-01T00:00:00")
+                        .param("to", "2023-11-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].transferType").value("CARD"));
+        verify(service).find(1L, from, to, null, 20);
+    }
+
+    @Test
+    @DisplayName("Поиск переводов по счёту с перевёрнутым периодом, негативный сценарий")
+    void readNegativeTest() throws Exception {
+        final LocalDateTime from = LocalDateTime.of(2023, 11, 1, 0, 0);
+        when(service.find(1L, from, null, null, 20)).thenThrow(new ValidationException("period"));
+
+        mockMvc.perform(get("/summary/{accountDetailsId}", 1L)
+                        .param("from", "2023-11-01T00:00:00"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+}
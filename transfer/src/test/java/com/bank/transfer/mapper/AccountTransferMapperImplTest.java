@@ -2,6 +2,7 @@ package com.bank.transfer.mapper;
 
 import com.bank.transfer.dto.AccountTransferDto;
 import com.bank.transfer.entity.AccountTransferEntity;
+import com.bank.transfer.entity.TransferStatus;
 import org.assertj.core.util.Arrays;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -30,7 +31,8 @@ class AccountTransferMapperImplTest {
                 () -> assertEquals(transferDto.getAccountNumber(), transferEntity.getAccountNumber()),
                 () -> assertEquals(transferDto.getAmount(), transferEntity.getAmount()),
                 () -> assertEquals(transferDto.getPurpose(), transferEntity.getPurpose()),
-                () -> assertEquals(transferDto.getAccountDetailsId(), transferEntity.getAccountDetailsId())
+                () -> assertEquals(transferDto.getAccountDetailsId(), transferEntity.getAccountDetailsId()),
+                () -> assertEquals(TransferStatus.NEW, transferEntity.getStatus())
         );
     }
 
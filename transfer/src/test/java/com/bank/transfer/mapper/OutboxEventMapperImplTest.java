@@ -0,0 +1,29 @@
+package com.bank.transfer.mapper;
+
+import com.bank.transfer.dto.TransferEventDto;
+import com.bank.transfer.entity.OutboxEventEntity;
+import com.bank.transfer.entity.TransferEventType;
+import com.bank.transfer.entity.TransferType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class OutboxEventMapperImplTest {
+    private final OutboxEventMapper mapper = new OutboxEventMapperImpl();
+
+    @Test
+    @DisplayName("Маппинг списка в Dto и проверка на null")
+    void toDtoListPositiveAndNullTest() {
+        final OutboxEventEntity entity = new OutboxEventEntity(1L, TransferType.PHONE, 7L,
+                TransferEventType.UPDATED, "{\"id\":7}", new Timestamp(100));
+
+        assertEquals(List.of(new TransferEventDto(1L, TransferType.PHONE, 7L, TransferEventType.UPDATED,
+                "{\"id\":7}", new Timestamp(100))), mapper.toDtoList(List.of(entity)));
+        assertNull(mapper.toDto(null));
+    }
+}
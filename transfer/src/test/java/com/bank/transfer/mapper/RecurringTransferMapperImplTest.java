@@ -0,0 +1,48 @@
+package com.bank.transfer.mapper;
+
+import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.dto.RecurringTransferDto;
+import com.bank.transfer.entity.RecurringPeriod;
+import com.bank.transfer.entity.RecurringTransferEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecurringTransferMapperImplTest {
+    private final RecurringTransferMapper mapper = new RecurringTransferMapperImpl();
+
+    @Test
+    @DisplayName("Первое исполнение новой записи - startAt, служебные поля не берутся из Dto")
+    void toEntityTest() {
+        final RecurringTransferDto dto = new RecurringTransferDto(5L, 200L, BigDecimal.TEN, "rent", 100L,
+                RecurringPeriod.WEEKLY, new Timestamp(1_000), new Timestamp(9_000), false, 3L);
+
+        final RecurringTransferEntity entity = mapper.toEntity(dto);
+
+        assertAll(
+                () -> assertNull(entity.getId()),
+                () -> assertEquals(new Timestamp(1_000), entity.getNextRunAt()),
+                () -> assertEquals(0, entity.getRunCount()),
+                () -> assertTrue(entity.getActive()),
+                () -> assertNull(entity.getLastTransferId())
+        );
+    }
+
+    @Test
+    @DisplayName("Перевод очередного исполнения создаётся новым")
+    void toTransferTest() {
+        final RecurringTransferEntity entity = new RecurringTransferEntity(5L, 200L, BigDecimal.TEN, "rent", 100L,
+                RecurringPeriod.DAILY, new Timestamp(1_000), new Timestamp(1_000), 0, true, null, 3L,
+                new Timestamp(0));
+
+        assertEquals(new AccountTransferDto(null, 200L, BigDecimal.TEN, "rent", 100L, null, null, null),
+                mapper.toTransfer(entity));
+    }
+}
@@ -0,0 +1,27 @@
+package com.bank.transfer.mapper;
+
+import com.bank.transfer.dto.TransferBulkJobDto;
+import com.bank.transfer.entity.BulkJobStatus;
+import com.bank.transfer.entity.TransferBulkJobEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TransferBulkJobMapperImplTest {
+    private final TransferBulkJobMapper mapper = new TransferBulkJobMapperImpl();
+
+    @Test
+    @DisplayName("Маппинг в Dto и проверка на null")
+    void toDtoPositiveAndNullTest() {
+        final TransferBulkJobEntity entity = new TransferBulkJobEntity(1L, BulkJobStatus.FAILED, 10L, 8L, 2L,
+                "db down", new Timestamp(100), new Timestamp(200), "node-1");
+
+        assertEquals(new TransferBulkJobDto(1L, BulkJobStatus.FAILED, 10L, 8L, 2L, "db down", new Timestamp(100),
+                new Timestamp(200)), mapper.toDto(entity));
+        assertNull(mapper.toDto(null));
+    }
+}
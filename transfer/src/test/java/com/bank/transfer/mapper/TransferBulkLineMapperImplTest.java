@@ -0,0 +1,26 @@
+package com.bank.transfer.mapper;
+
+import com.bank.transfer.dto.TransferBulkLineDto;
+import com.bank.transfer.entity.TransferBulkLineEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TransferBulkLineMapperImplTest {
+    private final TransferBulkLineMapper mapper = new TransferBulkLineMapperImpl();
+
+    @Test
+    @DisplayName("Маппинг списка в Dto и проверка на null")
+    void toDtoListPositiveAndNullTest() {
+        final List<TransferBulkLineEntity> entities = List.of(new TransferBulkLineEntity(1L, 2L, 3L, 4L, null),
+                new TransferBulkLineEntity(2L, 2L, 4L, null, "error"));
+
+        assertEquals(List.of(new TransferBulkLineDto(3L, 4L, null), new TransferBulkLineDto(4L, null, "error")),
+                mapper.toDtoList(entities));
+        assertNull(mapper.toDto(null));
+    }
+}
@@ -0,0 +1,30 @@
+package com.bank.transfer.mapper;
+
+import com.bank.transfer.dto.TransferSummaryDto;
+import com.bank.transfer.entity.TransferStatus;
+import com.bank.transfer.entity.TransferSummaryEntity;
+import com.bank.transfer.entity.TransferType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TransferSummaryMapperImplTest {
+    private final TransferSummaryMapper mapper = new TransferSummaryMapperImpl();
+
+    @Test
+    @DisplayName("Маппинг списка в Dto и проверка на null")
+    void toDtoListPositiveAndNullTest() {
+        final TransferSummaryEntity entity = new TransferSummaryEntity(3L, TransferType.ACCOUNT, 7L, 1L, 200L,
+                BigDecimal.TEN, "rent", TransferStatus.COMPLETED, new Timestamp(100));
+
+        assertEquals(List.of(new TransferSummaryDto(TransferType.ACCOUNT, 7L, 1L, 200L, BigDecimal.TEN, "rent",
+                TransferStatus.COMPLETED, new Timestamp(100))), mapper.toDtoList(List.of(entity)));
+        assertNull(mapper.toDto(null));
+    }
+}
@@ -2,8 +2,12 @@ package com.bank.transfer.service.Impl;
 
 import com.bank.transfer.dto.AccountTransferDto;
 import com.bank.transfer.entity.AccountTransferEntity;
+import com.bank.transfer.entity.TransferEventType;
+import com.bank.transfer.entity.TransferType;
+import com.bank.transfer.entity.TransferStatus;
 import com.bank.transfer.mapper.AccountTransferMapper;
 import com.bank.transfer.repository.AccountTransferRepository;
+import com.bank.transfer.service.OutboxService;
 import org.hibernate.SessionException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -39,6 +43,8 @@ class AccountTransferServiceImplTest {
     private AccountTransferRepository repository;
     @Mock
     private AccountTransferMapper mapper;
+    @Mock
+    private OutboxService outboxService;
     @InjectMocks
     private AccountTransferServiceImpl accountTransferService;
 
@@ -145,7 +151,8 @@ class AccountTransferServiceImplTest {
                 () -> assertThat(dto).isEqualTo(result),
                 () -> verify(mapper).toEntity(dto),
                 () -> verify(repository).save(entity),
-                () -> verify(mapper).toDto(entity)
+                () -> verify(mapper).toDto(entity),
+                () -> verify(outboxService).record(TransferType.ACCOUNT, dto.getId(), TransferEventType.CREATED, dto)
         );
     }
 
@@ -174,11 +181,11 @@ class AccountTransferServiceImplTest {
         AccountTransferDto dto2 = getDto2();
         AccountTransferDto dto12 = getDto12();
 
-        doReturn(Optional.of(entity1)).when(repository).findById(accountId);
+        doReturn(Optional.of(entity1)).when(repository).findByIdForUpdate(accountId);
         doReturn(entity12).when(mapper).mergeToEntity(dto2, entity1);
         doReturn(dto12).when(mapper).toDto(entity12);
         doReturn(entity12).when(repository).save(entity12);
-        doThrow(EntityNotFoundException.class).when(repository).findById(notFoundEntityWithId);
+        doThrow(EntityNotFoundException.class).when(repository).findByIdForUpdate(notFoundEntityWithId);
 
         AccountTransferDto result = accountTransferService.update(accountId, dto2);
 
@@ -186,7 +193,7 @@ class AccountTransferServiceImplTest {
                 () -> assertThat(result).isEqualTo(dto12),
                 () -> assertThrows(EntityNotFoundException.class,
                         () -> accountTransferService.update(notFoundEntityWithId, dto2)),
-                () -> verify(repository).findById(accountId),
+                () -> verify(repository).findByIdForUpdate(accountId),
                 () -> verify(mapper).mergeToEntity(dto2, entity1),
                 () -> verify(mapper).toDto(entity12)
         );
@@ -199,42 +206,57 @@ class AccountTransferServiceImplTest {
         AccountTransferEntity entity1 = getEntity1();
         AccountTransferDto dto2 = getDto2();
 
-        when(repository.findById(accountId)).thenThrow(EntityNotFoundException.class);
+        when(repository.findByIdForUpdate(accountId)).thenThrow(EntityNotFoundException.class);
 
         assertThrows(EntityNotFoundException.class,
                 () -> accountTransferService.update(accountId, dto2));
-        verify(repository).findById(accountId);
+        verify(repository).findByIdForUpdate(accountId);
         verify(mapper, never()).mergeToEntity(dto2, entity1);
         verify(mapper, never()).toDto(any(AccountTransferEntity.class));
     }
 
+    @Test
+    @DisplayName("Обновление уже исполненного перевода, негативный сценарий")
+    void updateExecutedNegativeTest() {
+        Long accountId = 1L;
+        AccountTransferEntity entity1 = getEntity1();
+        entity1.setStatus(TransferStatus.COMPLETED);
+        AccountTransferDto dto2 = getDto2();
+
+        when(repository.findByIdForUpdate(accountId)).thenReturn(Optional.of(entity1));
+
+        assertThrows(IllegalStateException.class, () -> accountTransferService.update(accountId, dto2));
+        verify(mapper, never()).mergeToEntity(any(), any());
+        verify(repository, never()).save(any());
+    }
+
     private AccountTransferEntity getEntity1() {
         return new AccountTransferEntity(1L,
-                2345L, BigDecimal.valueOf(9999), "asd", 5L);
+                2345L, BigDecimal.valueOf(9999), "asd", 5L, TransferStatus.NEW, null, null);
     }
 
     private AccountTransferEntity getEntity2() {
         return new AccountTransferEntity(2L,
-                23452L, BigDecimal.valueOf(7777), "mms", 2L);
+                23452L, BigDecimal.valueOf(7777), "mms", 2L, TransferStatus.NEW, null, null);
     }
 
     private AccountTransferDto getDto1() {
         return new AccountTransferDto(1L,
-                2345L, BigDecimal.valueOf(9999), "asd", 5L);
+                2345L, BigDecimal.valueOf(9999), "asd", 5L, TransferStatus.NEW, null, null);
     }
 
     private AccountTransferDto getDto2() {
         return new AccountTransferDto(2L,
-                23452L, BigDecimal.valueOf(7777), "mms", 2L);
+                23452L, BigDecimal.valueOf(7777), "mms", 2L, TransferStatus.NEW, null, null);
     }
 
     private AccountTransferEntity getEntity12() {
         return new AccountTransferEntity(1L,
-                23452L, BigDecimal.valueOf(7777), "mms", 2L);
+                23452L, BigDecimal.valueOf(7777), "mms", 2L, TransferStatus.NEW, null, null);
     }
 
     private AccountTransferDto getDto12() {
         return new AccountTransferDto(1L,
-                23452L, BigDecimal.valueOf(7777), "mms", 2L);
+                23452L, BigDecimal.valueOf(7777), "mms", 2L, TransferStatus.NEW, null, null);
     }
 }
\ No newline at end of file
@@ -1,9 +1,16 @@
 package com.bank.transfer.service.Impl;
 
 import com.bank.transfer.dto.CardTransferDto;
+import com.bank.transfer.dto.TransferHistoryPageDto;
 import com.bank.transfer.entity.CardTransferEntity;
+import com.bank.transfer.entity.TransferEventType;
+import com.bank.transfer.entity.TransferType;
 import com.bank.transfer.mapper.CardTransferMapper;
 import com.bank.transfer.repository.CardTransferRepository;
+import com.bank.transfer.service.OutboxService;
+import com.bank.transfer.service.common.TransferHistoryCursor;
+import com.bank.transfer.service.common.TransferHistoryPager;
+import com.bank.transfer.service.common.TransferNumberNormalizer;
 import org.hibernate.SessionException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,10 +18,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.persistence.EntityNotFoundException;
 import java.math.BigDecimal;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -38,6 +47,12 @@ class CardTransferServiceImplTest {
     CardTransferRepository repository;
     @Mock
     CardTransferMapper mapper;
+    @Mock
+    private OutboxService outboxService;
+    @Spy
+    TransferHistoryPager historyPager;
+    @Spy
+    TransferNumberNormalizer numberNormalizer;
     @InjectMocks
     CardTransferServiceImpl cardTransferService;
 
@@ -140,7 +155,8 @@ class CardTransferServiceImplTest {
                 () -> assertThat(dto).isEqualTo(result),
                 () -> verify(mapper).toEntity(dto),
                 () -> verify(repository).save(entity),
-                () -> verify(mapper).toDto(entity)
+                () -> verify(mapper).toDto(entity),
+                () -> verify(outboxService).record(TransferType.CARD, dto.getId(), TransferEventType.CREATED, dto)
         );
     }
 
@@ -189,34 +205,76 @@ class CardTransferServiceImplTest {
         );
     }
 
+    @Test
+    @DisplayName("История переводов по номеру карты, следующая страница по курсору")
+    void findHistoryPositiveTest() {
+        Timestamp createdAt = Timestamp.valueOf("2023-10-20 12:00:00");
+        CardTransferEntity entity1 = getEntity1();
+        CardTransferEntity entity2 = getEntity2();
+        entity1.setCreatedAt(createdAt);
+        entity2.setCreatedAt(createdAt);
+        List<CardTransferDto> dtoList = List.of(getDto1());
+
+        when(repository.findHistoryPage(5L, TransferHistoryCursor.FIRST.getCreatedAt(),
+                TransferHistoryCursor.FIRST.getId(), 2)).thenReturn(List.of(entity1, entity2));
+        when(mapper.toDtoList(List.of(entity1))).thenReturn(dtoList);
+
+        TransferHistoryPageDto<CardTransferDto> result = cardTransferService.findHistory(5L, null, 1);
+
+        assertAll(
+                () -> assertThat(result.getContent()).isEqualTo(dtoList),
+                () -> assertThat(TransferHistoryCursor.decode(result.getNextCursor()))
+                        .isEqualTo(TransferHistoryCursor.of(createdAt, entity1.getId()))
+        );
+    }
+
+    @Test
+    @DisplayName("Поиск переводов по отформатированному номеру карты")
+    void findByCardNumberPositiveTest() {
+        CardTransferEntity entity1 = getEntity1();
+        List<CardTransferDto> dtoList = List.of(getDto1());
+
+        when(repository.findByCardNumberPage(4111111111111111L, TransferHistoryCursor.FIRST.getCreatedAt(),
+                TransferHistoryCursor.FIRST.getId(), 21)).thenReturn(List.of(entity1));
+        when(mapper.toDtoList(List.of(entity1))).thenReturn(dtoList);
+
+        TransferHistoryPageDto<CardTransferDto> result =
+                cardTransferService.findByCardNumber("4111 1111 1111 1111", null, 20);
+
+        assertAll(
+                () -> assertThat(result.getContent()).isEqualTo(dtoList),
+                () -> assertThat(result.getNextCursor()).isNull()
+        );
+    }
+
     private CardTransferEntity getEntity1() {
         return new CardTransferEntity(1L,
-                2345L, BigDecimal.valueOf(9999), "asd", 5L);
+                2345L, BigDecimal.valueOf(9999), "asd", 5L, null);
     }
 
     private CardTransferEntity getEntity2() {
         return new CardTransferEntity(2L,
-                23452L, BigDecimal.valueOf(7777), "mms", 2L);
+                23452L, BigDecimal.valueOf(7777), "mms", 2L, null);
     }
 
     private CardTransferDto getDto1() {
         return new CardTransferDto(1L,
-                2345L, BigDecimal.valueOf(9999), "asd", 5L);
+                2345L, BigDecimal.valueOf(9999), "asd", 5L, null);
     }
 
     private CardTransferDto getDto2() {
         return new CardTransferDto(2L,
-                23452L, BigDecimal.valueOf(7777), "mms", 2L);
+                23452L, BigDecimal.valueOf(7777), "mms", 2L, null);
     }
 
     private CardTransferEntity getEntity12() {
         return new CardTransferEntity(1L,
-                23452L, BigDecimal.valueOf(7777), "mms", 2L);
+                23452L, BigDecimal.valueOf(7777), "mms", 2L, null);
     }
 
     private CardTransferDto getDto12() {
         return new CardTransferDto(1L,
-                23452L, BigDecimal.valueOf(7777), "mms", 2L);
+                23452L, BigDecimal.valueOf(7777), "mms", 2L, null);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,201 @@
+package com.bank.transfer.service.Impl;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.dto.CardTransferDto;
+import com.bank.transfer.entity.IdempotencyKeyEntity;
+import com.bank.transfer.entity.TransferType;
+import com.bank.transfer.repository.IdempotencyKeyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.bank.transfer.entity.IdempotentOperation.CREATE;
+import static com.bank.transfer.entity.IdempotentOperation.CREATE_EXECUTE;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceImplTest {
+    private final static String KEY = "key-1";
+    @Mock
+    private IdempotencyKeyRepository repository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private IdempotencyServiceImpl service;
+    private final AtomicInteger saves = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        service = new IdempotencyServiceImpl(repository, new TransactionTemplate(transactionManager),
+                new ObjectMapper(), new SimpleMeterRegistry(), 100, Duration.ofHours(1), Duration.ofHours(72), 2);
+    }
+
+    @Test
+    @DisplayName("Первый запрос с ключом сохраняет ключ до создания перевода")
+    void executeFirstRequestTest() {
+        when(repository.findByTransferTypeAndOperationAndIdempotencyKey(TransferType.CARD, CREATE, KEY))
+                .thenReturn(Optional.empty());
+        when(repository.saveAndFlush(any())).thenAnswer(invocation -> {
+            assertEquals(0, saves.get());
+            return invocation.getArgument(0);
+        });
+
+        final CardTransferDto result = execute(id -> null);
+
+        final ArgumentCaptor<IdempotencyKeyEntity> captor = ArgumentCaptor.forClass(IdempotencyKeyEntity.class);
+        verify(repository).saveAndFlush(captor.capture());
+        assertAll(
+                () -> assertEquals(5L, result.getId()),
+                () -> assertEquals(1, saves.get()),
+                () -> assertEquals(5L, captor.getValue().getTransferId()),
+                () -> assertEquals(64, captor.getValue().getRequestHash().length())
+        );
+    }
+
+    @Test
+    @DisplayName("Повтор запроса с ключом отдаётся из памяти без обращения к базе")
+    void executeCachedRetryTest() {
+        when(repository.findByTransferTypeAndOperationAndIdempotencyKey(TransferType.CARD, CREATE, KEY))
+                .thenReturn(Optional.empty());
+        when(repository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        final CardTransferDto first = execute(id -> null);
+        final CardTransferDto retry = execute(id -> null);
+
+        assertAll(
+                () -> assertSame(first, retry),
+                () -> assertEquals(1, saves.get())
+        );
+        verify(repository, times(1)).findByTransferTypeAndOperationAndIdempotencyKey(TransferType.CARD, CREATE, KEY);
+    }
+
+    @Test
+    @DisplayName("Ключ, сохранённый другим экземпляром, возвращает исходный перевод")
+    void executeStoredKeyTest() {
+        final CardTransferDto stored = getDto(7L);
+        when(repository.findByTransferTypeAndOperationAndIdempotencyKey(TransferType.CARD, CREATE, KEY))
+                .thenReturn(Optional.of(getKey(7L, null)));
+
+        final CardTransferDto result = execute(id -> stored);
+
+        assertAll(
+                () -> assertSame(stored, result),
+                () -> assertEquals(0, saves.get())
+        );
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Одновременный запрос с тем же ключом не создаёт перевод и возвращает первый")
+    void executeConcurrentDuplicateTest() {
+        final CardTransferDto winner = getDto(9L);
+        when(repository.findByTransferTypeAndOperationAndIdempotencyKey(TransferType.CARD, CREATE, KEY))
+                .thenReturn(Optional.empty(), Optional.of(getKey(9L, null)));
+        when(repository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        final CardTransferDto result = execute(id -> winner);
+
+        assertAll(
+                () -> assertSame(winner, result),
+                () -> assertEquals(0, saves.get())
+        );
+    }
+
+    @Test
+    @DisplayName("Ключи разных операций не пересекаются")
+    void executeOperationScopeTest() {
+        when(repository.findByTransferTypeAndOperationAndIdempotencyKey(TransferType.CARD, CREATE, KEY))
+                .thenReturn(Optional.of(getKey(7L, null)));
+        when(repository.findByTransferTypeAndOperationAndIdempotencyKey(TransferType.CARD, CREATE_EXECUTE, KEY))
+                .thenReturn(Optional.empty());
+        when(repository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        execute(id -> getDto(7L));
+
+        final CardTransferDto result = service.execute(TransferType.CARD, CREATE_EXECUTE, KEY, getDto(5L),
+                () -> getDto(8L), CardTransferDto::getId, id -> null);
+
+        assertEquals(8L, result.getId());
+        verify(repository).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Повтор ключа с другим телом запроса из памяти, негативный сценарий")
+    void executeCachedDifferentBodyTest() {
+        when(repository.findByTransferTypeAndOperationAndIdempotencyKey(TransferType.CARD, CREATE, KEY))
+                .thenReturn(Optional.empty());
+        when(repository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        execute(id -> null);
+        final Supplier<CardTransferDto> create = () -> getDto(6L);
+
+        assertThrows(ValidationException.class, () -> service.execute(TransferType.CARD, CREATE, KEY, getDto(6L),
+                create, CardTransferDto::getId, id -> null));
+        assertEquals(1, saves.get());
+    }
+
+    @Test
+    @DisplayName("Повтор ключа, сохранённого с другим телом запроса, негативный сценарий")
+    void executeStoredDifferentBodyTest() {
+        when(repository.findByTransferTypeAndOperationAndIdempotencyKey(TransferType.CARD, CREATE, KEY))
+                .thenReturn(Optional.of(getKey(7L, "0".repeat(64))));
+
+        assertThrows(ValidationException.class, () -> execute(id -> getDto(7L)));
+        assertEquals(0, saves.get());
+    }
+
+    @Test
+    @DisplayName("Очистка устаревших ключей пачками")
+    void purgeExpiredTest() {
+        when(repository.deleteCreatedBefore(any(), eq(2))).thenReturn(2, 2, 1);
+
+        assertEquals(5, service.purgeExpired());
+        verify(repository, times(3)).deleteCreatedBefore(any(), eq(2));
+    }
+
+    @Test
+    @DisplayName("Слишком длинный ключ, негативный сценарий")
+    void executeInvalidKeyTest() {
+        final Supplier<CardTransferDto> create = () -> getDto(1L);
+
+        assertThrows(ValidationException.class, () -> service.execute(TransferType.CARD, CREATE, "k".repeat(65),
+                getDto(1L), create, CardTransferDto::getId, id -> null));
+    }
+
+    private CardTransferDto execute(Function<Long, CardTransferDto> loader) {
+        return service.execute(TransferType.CARD, CREATE, KEY, getDto(5L), () -> {
+            saves.incrementAndGet();
+            return getDto(5L);
+        }, CardTransferDto::getId, loader);
+    }
+
+    private IdempotencyKeyEntity getKey(Long transferId, String requestHash) {
+        return new IdempotencyKeyEntity(1L, TransferType.CARD, CREATE, KEY, transferId, requestHash, null);
+    }
+
+    private CardTransferDto getDto(Long id) {
+        return new CardTransferDto(id, 1234L, BigDecimal.TEN, "rent", 1L, null);
+    }
+}
@@ -0,0 +1,109 @@
+package com.bank.transfer.service.Impl;
+
+import com.bank.transfer.dto.CardTransferDto;
+import com.bank.transfer.entity.OutboxEventEntity;
+import com.bank.transfer.entity.TransferEventType;
+import com.bank.transfer.entity.TransferType;
+import com.bank.transfer.mapper.OutboxEventMapperImpl;
+import com.bank.transfer.repository.OutboxEventRepository;
+import com.bank.transfer.service.TransferEventPublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceImplTest {
+    @Mock
+    private OutboxEventRepository repository;
+    @Mock
+    private TransferEventPublisher publisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private OutboxServiceImpl service;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new OutboxServiceImpl(repository, new OutboxEventMapperImpl(), publisher, new ObjectMapper(),
+                new TransactionTemplate(transactionManager), meterRegistry);
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        ReflectionTestUtils.setField(service, "maxBatchesPerRun", 10);
+    }
+
+    @Test
+    @DisplayName("Запись события сериализует перевод в payload")
+    void recordTest() {
+        service.record(TransferType.CARD, 5L, TransferEventType.CREATED,
+                new CardTransferDto(5L, 1234L, BigDecimal.TEN, "rent", 1L, null));
+
+        final ArgumentCaptor<OutboxEventEntity> captor = ArgumentCaptor.forClass(OutboxEventEntity.class);
+        verify(repository).save(captor.capture());
+        assertAll(
+                () -> assertEquals(TransferType.CARD, captor.getValue().getTransferType()),
+                () -> assertEquals(TransferEventType.CREATED, captor.getValue().getEventType()),
+                () -> assertEquals("{\"id\":5,\"cardNumber\":1234,\"amount\":10,\"purpose\":\"rent\"," +
+                        "\"accountDetailsId\":1,\"createdAt\":null}", captor.getValue().getPayload())
+        );
+    }
+
+    @Test
+    @DisplayName("Relay отправляет пачки, пока таблица не опустеет, и удаляет отправленные")
+    void relayTest() {
+        when(repository.findBatchForUpdate(2)).thenReturn(getEvents(1, 2), getEvents(3, 4), getEvents(5, 5));
+
+        final int relayed = service.relay();
+
+        assertAll(
+                () -> assertEquals(5, relayed),
+                () -> assertEquals(5, meterRegistry.counter("transfer.outbox.relayed").count())
+        );
+        verify(publisher, times(3)).publish(anyList());
+        verify(repository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(repository).deleteAllByIdInBatch(List.of(5L));
+    }
+
+    @Test
+    @DisplayName("Недоступный потребитель: пачка не удаляется и уйдёт повторно")
+    void relayPublisherFailureTest() {
+        when(repository.findBatchForUpdate(2)).thenReturn(getEvents(1, 2));
+        doThrow(new ResourceAccessException("timeout")).when(publisher).publish(anyList());
+
+        assertThrows(ResourceAccessException.class, () -> service.relay());
+        verify(repository, never()).deleteAllByIdInBatch(any());
+        verify(transactionManager).rollback(any());
+    }
+
+    private List<OutboxEventEntity> getEvents(long from, long to) {
+        return LongStream.rangeClosed(from, to)
+                .mapToObj(id -> new OutboxEventEntity(id, TransferType.ACCOUNT, id, TransferEventType.CREATED,
+                        "{}", new Timestamp(id)))
+                .toList();
+    }
+}
@@ -2,8 +2,11 @@ package com.bank.transfer.service.Impl;
 
 import com.bank.transfer.dto.PhoneTransferDto;
 import com.bank.transfer.entity.PhoneTransferEntity;
+import com.bank.transfer.entity.TransferEventType;
+import com.bank.transfer.entity.TransferType;
 import com.bank.transfer.mapper.PhoneTransferMapper;
 import com.bank.transfer.repository.PhoneTransferRepository;
+import com.bank.transfer.service.OutboxService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,6 +35,8 @@ class PhoneTransferServiceImplTest {
     PhoneTransferRepository repository;
     @Mock
     PhoneTransferMapper mapper;
+    @Mock
+    private OutboxService outboxService;
     @InjectMocks
     PhoneTransferServiceImpl phoneTransferService;
 
@@ -140,7 +145,8 @@ class PhoneTransferServiceImplTest {
                 () -> assertThat(dto).isEqualTo(result),
                 () -> verify(mapper).toEntity(dto),
                 () -> verify(repository).save(entity),
-                () -> verify(mapper).toDto(entity)
+                () -> verify(mapper).toDto(entity),
+                () -> verify(outboxService).record(TransferType.PHONE, dto.getId(), TransferEventType.CREATED, dto)
         );
     }
 
@@ -191,31 +197,31 @@ class PhoneTransferServiceImplTest {
 
     private PhoneTransferEntity getEntity1() {
         return new PhoneTransferEntity(1L,
-                2345L, BigDecimal.valueOf(9999), "asd", 5L);
+                2345L, BigDecimal.valueOf(9999), "asd", 5L, null);
     }
 
     private PhoneTransferEntity getEntity2() {
         return new PhoneTransferEntity(2L,
-                23452L, BigDecimal.valueOf(7777), "mms", 2L);
+                23452L, BigDecimal.valueOf(7777), "mms", 2L, null);
     }
 
     private PhoneTransferDto getDto1() {
         return new PhoneTransferDto(1L,
-                2345L, BigDecimal.valueOf(9999), "asd", 5L);
+                2345L, BigDecimal.valueOf(9999), "asd", 5L, null);
     }
 
     private PhoneTransferDto getDto2() {
         return new PhoneTransferDto(2L,
-                23452L, BigDecimal.valueOf(7777), "mms", 2L);
+                23452L, BigDecimal.valueOf(7777), "mms", 2L, null);
     }
 
     private PhoneTransferEntity getEntity12() {
         return new PhoneTransferEntity(1L,
-                23452L, BigDecimal.valueOf(7777), "mms", 2L);
+                23452L, BigDecimal.valueOf(7777), "mms", 2L, null);
     }
 
     private PhoneTransferDto getDto12() {
         return new PhoneTransferDto(1L,
-                23452L, BigDecimal.valueOf(7777), "mms", 2L);
+                23452L, BigDecimal.valueOf(7777), "mms", 2L, null);
     }
 }
\ No newline at end of file
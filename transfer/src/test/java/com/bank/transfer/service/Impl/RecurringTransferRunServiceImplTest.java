@@ -0,0 +1,190 @@
+package com.bank.transfer.service.Impl;
+
+import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.dto.RecurringTransferDto;
+import com.bank.transfer.entity.RecurringPeriod;
+import com.bank.transfer.entity.RecurringTransferEntity;
+import com.bank.transfer.entity.RecurringTransferRunEntity;
+import com.bank.transfer.entity.TransferStatus;
+import com.bank.transfer.mapper.RecurringTransferMapperImpl;
+import com.bank.transfer.repository.RecurringTransferRepository;
+import com.bank.transfer.repository.RecurringTransferRunRepository;
+import com.bank.transfer.service.AccountTransferService;
+import com.bank.transfer.service.TransferExecutionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecurringTransferRunServiceImplTest {
+
+    private static final List<Long> IDS = List.of(1L);
+
+    @Mock
+    RecurringTransferRepository repository;
+    @Mock
+    RecurringTransferRunRepository runRepository;
+    @Mock
+    AccountTransferService accountTransferService;
+    @Mock
+    TransferExecutionService executionService;
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    RecurringTransferRunServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new RecurringTransferRunServiceImpl(repository, runRepository, new RecurringTransferMapperImpl(),
+                accountTransferService, executionService, new TransactionTemplate(transactionManager),
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "lease", Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Ежемесячный перевод 31-го числа в феврале переносится на последний день месяца")
+    void runMonthlyTest() {
+        final LocalDateTime now = LocalDateTime.parse("2024-01-31T10:00:05");
+        final RecurringTransferEntity recurring = recurring(RecurringPeriod.MONTHLY, "2024-01-31 10:00:00");
+        when(repository.claimDue(IDS, Timestamp.valueOf(now))).thenReturn(List.of(recurring));
+        when(repository.findByIdForUpdate(1L)).thenReturn(Optional.of(recurring));
+        when(runRepository.findByRecurringTransferIdAndDueAt(1L, recurring.getNextRunAt()))
+                .thenReturn(Optional.empty());
+        when(accountTransferService.save(any(AccountTransferDto.class))).thenReturn(transfer(TransferStatus.NEW));
+        when(executionService.execute(77L)).thenReturn(transfer(TransferStatus.COMPLETED));
+
+        assertAll(
+                () -> assertEquals(1, service.run(IDS, now)),
+                () -> assertEquals(Timestamp.valueOf("2024-02-29 10:00:00"), recurring.getNextRunAt()),
+                () -> assertEquals(1, recurring.getRunCount()),
+                () -> assertEquals(77L, recurring.getLastTransferId()),
+                () -> assertNull(recurring.getClaimedUntil())
+        );
+        verify(runRepository).save(new RecurringTransferRunEntity(null, 1L, Timestamp.valueOf("2024-01-31 10:00:00"),
+                77L, Timestamp.valueOf(now)));
+    }
+
+    @Test
+    @DisplayName("Пропущенные за время простоя периоды не догоняются")
+    void runSkipsMissedTest() {
+        final LocalDateTime now = LocalDateTime.parse("2024-01-05T12:00:00");
+        final RecurringTransferEntity recurring = recurring(RecurringPeriod.DAILY, "2024-01-01 09:00:00");
+        when(repository.claimDue(IDS, Timestamp.valueOf(now))).thenReturn(List.of(recurring));
+        when(repository.findByIdForUpdate(1L)).thenReturn(Optional.of(recurring));
+        when(runRepository.findByRecurringTransferIdAndDueAt(1L, recurring.getNextRunAt()))
+                .thenReturn(Optional.empty());
+        when(accountTransferService.save(any(AccountTransferDto.class))).thenReturn(transfer(TransferStatus.NEW));
+        when(executionService.execute(77L)).thenReturn(transfer(TransferStatus.COMPLETED));
+
+        service.run(IDS, now);
+
+        assertAll(
+                () -> assertEquals(Timestamp.valueOf("2024-01-06 09:00:00"), recurring.getNextRunAt()),
+                () -> assertEquals(5, recurring.getRunCount())
+        );
+        verify(executionService).execute(77L);
+    }
+
+    @Test
+    @DisplayName("Повтор после сбоя исполняет уже созданный перевод, а не создаёт новый")
+    void runRetryTest() {
+        final LocalDateTime now = LocalDateTime.parse("2024-01-31T10:06:00");
+        final RecurringTransferEntity recurring = recurring(RecurringPeriod.WEEKLY, "2024-01-31 10:00:00");
+        when(repository.claimDue(IDS, Timestamp.valueOf(now))).thenReturn(List.of(recurring));
+        when(repository.findByIdForUpdate(1L)).thenReturn(Optional.of(recurring));
+        when(runRepository.findByRecurringTransferIdAndDueAt(1L, recurring.getNextRunAt()))
+                .thenReturn(Optional.of(new RecurringTransferRunEntity(5L, 1L, recurring.getNextRunAt(), 77L, null)));
+        when(executionService.execute(77L)).thenReturn(transfer(TransferStatus.COMPLETED));
+
+        assertAll(
+                () -> assertEquals(1, service.run(IDS, now)),
+                () -> assertEquals(Timestamp.valueOf("2024-02-07 10:00:00"), recurring.getNextRunAt()),
+                () -> assertEquals(77L, recurring.getLastTransferId())
+        );
+        verify(accountTransferService, never()).save(any(AccountTransferDto.class));
+        verify(runRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Сбой исполнения оставляет расписание захваченным до конца аренды")
+    void runExecutionFailureTest() {
+        final LocalDateTime now = LocalDateTime.parse("2024-01-31T10:00:05");
+        final RecurringTransferEntity recurring = recurring(RecurringPeriod.WEEKLY, "2024-01-31 10:00:00");
+        when(repository.claimDue(IDS, Timestamp.valueOf(now))).thenReturn(List.of(recurring));
+        when(repository.findByIdForUpdate(1L)).thenReturn(Optional.of(recurring));
+        when(runRepository.findByRecurringTransferIdAndDueAt(1L, recurring.getNextRunAt()))
+                .thenReturn(Optional.empty());
+        when(accountTransferService.save(any(AccountTransferDto.class))).thenReturn(transfer(TransferStatus.NEW));
+        when(executionService.execute(77L)).thenThrow(new IllegalStateException("таймаут"));
+
+        assertAll(
+                () -> assertEquals(0, service.run(IDS, now)),
+                () -> assertEquals(Timestamp.valueOf("2024-01-31 10:00:00"), recurring.getNextRunAt()),
+                () -> assertEquals(Timestamp.valueOf("2024-01-31 10:05:05"), recurring.getClaimedUntil())
+        );
+    }
+
+    @Test
+    @DisplayName("Расписание, отменённое после захвата, не исполняется")
+    void runCancelledTest() {
+        final LocalDateTime now = LocalDateTime.parse("2024-01-31T10:00:05");
+        final RecurringTransferEntity recurring = recurring(RecurringPeriod.WEEKLY, "2024-01-31 10:00:00");
+        final RecurringTransferEntity cancelled = recurring(RecurringPeriod.WEEKLY, "2024-01-31 10:00:00");
+        cancelled.setActive(false);
+        when(repository.claimDue(IDS, Timestamp.valueOf(now))).thenReturn(List.of(recurring));
+        when(repository.findByIdForUpdate(1L)).thenReturn(Optional.of(cancelled));
+
+        assertEquals(0, service.run(IDS, now));
+        assertEquals(Timestamp.valueOf("2024-01-31 10:05:05"), recurring.getClaimedUntil());
+        verify(accountTransferService, never()).save(any(AccountTransferDto.class));
+        verify(executionService, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("Страница ближайших исполнений продолжается после последнего расписания предыдущей")
+    void findUpcomingPageTest() {
+        final LocalDateTime until = LocalDateTime.parse("2024-01-31T10:10:00");
+        final RecurringTransferEntity recurring = recurring(RecurringPeriod.WEEKLY, "2024-01-31 10:00:00");
+        when(repository.findDuePage(Timestamp.valueOf(until), new Timestamp(0), 0L, 1))
+                .thenReturn(List.of(recurring));
+        when(repository.findDuePage(Timestamp.valueOf(until), recurring.getNextRunAt(), 1L, 1)).thenReturn(List.of());
+
+        final List<RecurringTransferDto> first = service.findUpcomingPage(until, null, 1);
+
+        assertAll(
+                () -> assertEquals(List.of(1L), first.stream().map(RecurringTransferDto::getId).toList()),
+                () -> assertEquals(List.of(), service.findUpcomingPage(until, first.get(0), 1))
+        );
+    }
+
+    private static RecurringTransferEntity recurring(RecurringPeriod period, String startAt) {
+        return new RecurringTransferEntity(1L, 200L, BigDecimal.TEN, "rent", 100L, period,
+                Timestamp.valueOf(startAt), Timestamp.valueOf(startAt), 0, true, null, null, new Timestamp(0));
+    }
+
+    private static AccountTransferDto transfer(TransferStatus status) {
+        return new AccountTransferDto(77L, 200L, BigDecimal.TEN, "rent", 100L, status, null, null);
+    }
+}
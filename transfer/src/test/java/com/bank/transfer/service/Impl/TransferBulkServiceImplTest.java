@@ -0,0 +1,271 @@
+package com.bank.transfer.service.Impl;
+
+import com.bank.common.exception.TooManyRequestsException;
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.dto.TransferBulkJobDto;
+import com.bank.transfer.dto.TransferBulkLinePageDto;
+import com.bank.transfer.entity.AccountTransferEntity;
+import com.bank.transfer.entity.BulkJobStatus;
+import com.bank.transfer.entity.TransferBulkJobEntity;
+import com.bank.transfer.entity.TransferBulkLineEntity;
+import com.bank.transfer.entity.TransferEventType;
+import com.bank.transfer.entity.TransferType;
+import com.bank.transfer.mapper.AccountTransferMapperImpl;
+import com.bank.transfer.mapper.TransferBulkJobMapperImpl;
+import com.bank.transfer.mapper.TransferBulkLineMapperImpl;
+import com.bank.transfer.repository.AccountTransferRepository;
+import com.bank.transfer.repository.TransferBulkJobRepository;
+import com.bank.transfer.repository.TransferBulkLineRepository;
+import com.bank.transfer.service.OutboxService;
+import com.bank.transfer.service.TransferBulkService.Format;
+import com.bank.transfer.service.common.EntityNotFoundReturner;
+import com.bank.transfer.service.common.TransferBulkLineParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransferBulkServiceImplTest {
+    private static final Long JOB_ID = 3L;
+    private static final String NODE_ID = "node-1";
+    @Mock
+    private AccountTransferRepository transferRepository;
+    @Mock
+    private TransferBulkJobRepository jobRepository;
+    @Mock
+    private TransferBulkLineRepository lineRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private Executor parserExecutor;
+    @Mock
+    private OutboxService outboxService;
+    @TempDir
+    Path tempDir;
+    private TransferBulkServiceImpl service;
+    private final List<AccountTransferEntity> saved = new ArrayList<>();
+    private final List<Object[]> lines = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        service = new TransferBulkServiceImpl(transferRepository, jobRepository, lineRepository,
+                new AccountTransferMapperImpl(), new TransferBulkJobMapperImpl(), new TransferBulkLineMapperImpl(),
+                new TransferBulkLineParser(new ObjectMapper()), new EntityNotFoundReturner(), outboxService,
+                new TransactionTemplate(transactionManager), jdbcTemplate, entityManager, parserExecutor,
+                Runnable::run);
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+        ReflectionTestUtils.setField(service, "nodeId", NODE_ID);
+        ReflectionTestUtils.setField(service, "retryAfter", Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("Загрузка NDJSON чанками: валидные строки сохраняются, ошибочные отклоняются по строкам")
+    void processNdjsonTest() throws IOException {
+        mockSaveAll();
+        final Path file = write("""
+                {"accountNumber":100,"amount":10.50,"purpose":"salary","accountDetailsId":1}
+                {"accountNumber":101,"amount":-1,"accountDetailsId":1}
+
+                {"accountNumber":102,"amount":7,"accountDetailsId":2}
+                not json
+                """);
+
+        service.process(JOB_ID, file, Format.NDJSON);
+
+        assertAll(
+                () -> assertEquals(2, saved.size()),
+                () -> assertEquals(4, lines.size()),
+                () -> assertArrayEquals(new Object[]{JOB_ID, 1L, saved.get(0).getId(), null}, lines.get(0)),
+                () -> assertEquals("Сумма перевода должна быть больше нуля", lines.get(1)[3]),
+                () -> assertArrayEquals(new Object[]{JOB_ID, 4L, saved.get(1).getId(), null}, lines.get(2)),
+                () -> assertEquals(5L, lines.get(3)[1]),
+                () -> assertFalse(Files.exists(file))
+        );
+        verify(jobRepository, times(2)).addProgress(JOB_ID, 1, 1);
+        verify(jobRepository).finish(eq(JOB_ID), eq(BulkJobStatus.COMPLETED), isNull(), any());
+        verify(entityManager, times(2)).clear();
+        verify(outboxService, times(2)).record(eq(TransferType.ACCOUNT), any(), eq(TransferEventType.CREATED), any());
+    }
+
+    @Test
+    @DisplayName("Загрузка CSV с заголовком и запятой в назначении платежа")
+    void processCsvTest() throws IOException {
+        mockSaveAll();
+        final Path file = write("""
+                accountNumber,amount,purpose,accountDetailsId
+                100,10.50,"rent, ""june""\",1
+                101,1.001,,1
+                """);
+
+        service.process(JOB_ID, file, Format.CSV);
+
+        assertAll(
+                () -> assertEquals(1, saved.size()),
+                () -> assertEquals("rent, \"june\"", saved.get(0).getPurpose()),
+                () -> assertEquals(new BigDecimal("10.50"), saved.get(0).getAmount()),
+                () -> assertEquals(2L, lines.get(0)[1]),
+                () -> assertEquals("Сумма перевода указывается с точностью до копеек", lines.get(1)[3])
+        );
+        verify(jobRepository).addProgress(JOB_ID, 1, 1);
+    }
+
+    @Test
+    @DisplayName("Ошибка записи останавливает загрузку со статусом FAILED")
+    void processWriteFailureTest() throws IOException {
+        when(transferRepository.saveAll(anyList())).thenThrow(new DataAccessResourceFailureException("db down"));
+        final Path file = write("100,1,,1\n");
+
+        service.process(JOB_ID, file, Format.CSV);
+
+        verify(jobRepository).finish(eq(JOB_ID), eq(BulkJobStatus.FAILED), eq("db down"), any());
+        verify(jobRepository, never()).addProgress(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Переполненная очередь загрузок, негативный сценарий")
+    void submitQueueFullTest() {
+        when(jobRepository.save(any())).thenAnswer(i -> {
+            final TransferBulkJobEntity job = i.getArgument(0);
+            job.setId(JOB_ID);
+            return job;
+        });
+        doThrow(new TaskRejectedException("full")).when(parserExecutor).execute(any());
+
+        final TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> service.submit(new ByteArrayInputStream("100,1,,1".getBytes(StandardCharsets.UTF_8)),
+                        Format.CSV));
+        assertEquals(Duration.ofSeconds(30), exception.getRetryAfter());
+        verify(jobRepository).finish(eq(JOB_ID), eq(BulkJobStatus.FAILED), any(), any());
+    }
+
+    @Test
+    @DisplayName("Загрузки, прерванные перезапуском, останавливаются при старте")
+    void failInterruptedTest() {
+        when(jobRepository.failRunning(eq(NODE_ID), any(), any())).thenReturn(2);
+
+        service.failInterrupted();
+
+        verify(jobRepository).failRunning(eq(NODE_ID), any(), any());
+    }
+
+    @Test
+    @DisplayName("Принятая загрузка возвращает id и статус RUNNING")
+    void submitPositiveTest() throws IOException {
+        when(jobRepository.save(any())).thenAnswer(i -> {
+            final TransferBulkJobEntity job = i.getArgument(0);
+            job.setId(JOB_ID);
+            return job;
+        });
+
+        final TransferBulkJobDto job = service.submit(
+                new ByteArrayInputStream("100,1,,1".getBytes(StandardCharsets.UTF_8)), Format.CSV);
+
+        assertAll(
+                () -> assertEquals(JOB_ID, job.getId()),
+                () -> assertEquals(BulkJobStatus.RUNNING, job.getStatus())
+        );
+        verify(parserExecutor).execute(any());
+    }
+
+    @Test
+    @DisplayName("Результаты строк страницами по номеру строки")
+    void findLinesTest() {
+        when(jobRepository.existsById(JOB_ID)).thenReturn(true);
+        when(lineRepository.findByJobIdAndLineNumberGreaterThanOrderByLineNumberAsc(JOB_ID, 0L,
+                PageRequest.ofSize(3))).thenReturn(List.of(new TransferBulkLineEntity(1L, JOB_ID, 1L, 10L, null),
+                new TransferBulkLineEntity(2L, JOB_ID, 2L, null, "error"),
+                new TransferBulkLineEntity(3L, JOB_ID, 3L, 11L, null)));
+
+        final TransferBulkLinePageDto page = service.findLines(JOB_ID, null, 2);
+
+        assertAll(
+                () -> assertEquals(2, page.getContent().size()),
+                () -> assertEquals(2L, page.getNextAfterLine())
+        );
+    }
+
+    @Test
+    @DisplayName("Результаты строк с недопустимым размером страницы, негативный сценарий")
+    void findLinesPageSizeTest() {
+        assertThrows(ValidationException.class, () -> service.findLines(JOB_ID, null, 0));
+    }
+
+    @Test
+    @DisplayName("Статус загрузки")
+    void findJobTest() {
+        when(jobRepository.findById(JOB_ID)).thenReturn(Optional.of(new TransferBulkJobEntity(JOB_ID,
+                BulkJobStatus.COMPLETED, 2L, 1L, 1L, null, null, null, NODE_ID)));
+
+        final TransferBulkJobDto job = service.findJob(JOB_ID);
+
+        assertAll(
+                () -> assertEquals(BulkJobStatus.COMPLETED, job.getStatus()),
+                () -> assertNull(job.getFailureReason())
+        );
+    }
+
+    private void mockSaveAll() {
+        final AtomicLong ids = new AtomicLong(100);
+        when(transferRepository.saveAll(anyList())).thenAnswer(i -> {
+            final List<AccountTransferEntity> entities = i.getArgument(0);
+            entities.forEach(entity -> entity.setId(ids.incrementAndGet()));
+            saved.addAll(entities);
+            return entities;
+        });
+        when(jdbcTemplate.batchUpdate(any(String.class), anyList(), any(int[].class))).thenAnswer(i -> {
+            lines.addAll(i.getArgument(1));
+            return new int[0];
+        });
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(tempDir.resolve("bulk.txt"), content);
+    }
+}
@@ -0,0 +1,201 @@
+package com.bank.transfer.service.Impl;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.entity.AccountTransferEntity;
+import com.bank.transfer.entity.TransferEventType;
+import com.bank.transfer.entity.TransferStatus;
+import com.bank.transfer.entity.TransferType;
+import com.bank.transfer.mapper.AccountTransferMapperImpl;
+import com.bank.transfer.repository.AccountTransferRepository;
+import com.bank.transfer.service.AccountLedgerClient;
+import com.bank.transfer.service.OutboxService;
+import com.bank.transfer.service.common.EntityNotFoundReturner;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.ResourceAccessException;
+
+import javax.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransferExecutionServiceImplTest {
+    @Mock
+    private AccountTransferRepository transferRepository;
+    @Mock
+    private AccountLedgerClient accountLedgerClient;
+    @Mock
+    private OutboxService outboxService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private TransferExecutionServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new TransferExecutionServiceImpl(transferRepository, accountLedgerClient,
+                new AccountTransferMapperImpl(), new EntityNotFoundReturner(), meterRegistry, outboxService,
+                new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("Исполнение перевода, позитивный сценарий")
+    void executePositiveTest() {
+        final AccountTransferEntity transfer = mockLockedTransfer(getTransfer(BigDecimal.valueOf(300)));
+        when(accountLedgerClient.findIdByAccountNumber(200L)).thenReturn(Optional.of(2L));
+        when(accountLedgerClient.transfer(10L, 1L, 2L, BigDecimal.valueOf(300))).thenReturn(Optional.empty());
+
+        final AccountTransferDto result = service.execute(10L);
+
+        assertAll(
+                () -> assertEquals(TransferStatus.COMPLETED, result.getStatus()),
+                () -> assertEquals(1, meterRegistry.get("transfer.execution").tag("status", "COMPLETED")
+                        .timer().count())
+        );
+        verify(transferRepository, times(2)).save(transfer);
+        verify(transactionManager, times(2)).commit(any());
+        verify(outboxService).record(eq(TransferType.ACCOUNT), eq(10L), eq(TransferEventType.EXECUTED), any());
+    }
+
+    @Test
+    @DisplayName("Исполнение перевода, отказ account сохраняется с его причиной")
+    void executeRejectedTest() {
+        mockLockedTransfer(getTransfer(BigDecimal.valueOf(1200)));
+        when(accountLedgerClient.findIdByAccountNumber(200L)).thenReturn(Optional.of(2L));
+        when(accountLedgerClient.transfer(10L, 1L, 2L, BigDecimal.valueOf(1200)))
+                .thenReturn(Optional.of("Недостаточно средств на счёте id = 1"));
+
+        final AccountTransferDto result = service.execute(10L);
+
+        assertAll(
+                () -> assertEquals(TransferStatus.FAILED, result.getStatus()),
+                () -> assertEquals("Недостаточно средств на счёте id = 1", result.getFailureReason())
+        );
+    }
+
+    @Test
+    @DisplayName("Параметры отклонены account, причина берётся из ответа")
+    void executeValidationFailureTest() {
+        mockLockedTransfer(getTransfer(BigDecimal.TEN));
+        when(accountLedgerClient.findIdByAccountNumber(200L)).thenReturn(Optional.of(2L));
+        when(accountLedgerClient.transfer(10L, 1L, 2L, BigDecimal.TEN))
+                .thenThrow(new ValidationException("Сумма проводки должна быть больше нуля"));
+
+        final AccountTransferDto result = service.execute(10L);
+
+        assertAll(
+                () -> assertEquals(TransferStatus.FAILED, result.getStatus()),
+                () -> assertEquals("Сумма проводки должна быть больше нуля", result.getFailureReason())
+        );
+    }
+
+    @Test
+    @DisplayName("Исполнение перевода на несуществующий счёт, негативный сценарий")
+    void executeUnknownDestinationTest() {
+        mockLockedTransfer(getTransfer(BigDecimal.TEN));
+        when(accountLedgerClient.findIdByAccountNumber(200L)).thenReturn(Optional.empty());
+
+        final AccountTransferDto result = service.execute(10L);
+
+        assertEquals(TransferStatus.FAILED, result.getStatus());
+        verify(accountLedgerClient, never()).transfer(anyLong(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Сбой вызова account оставляет перевод в PROCESSING")
+    void executeLedgerErrorKeepsProcessingTest() {
+        final AccountTransferEntity transfer = mockLockedTransfer(getTransfer(BigDecimal.TEN));
+        when(accountLedgerClient.findIdByAccountNumber(200L)).thenReturn(Optional.of(2L));
+        when(accountLedgerClient.transfer(10L, 1L, 2L, BigDecimal.TEN))
+                .thenThrow(new ResourceAccessException("timeout"));
+
+        assertThrows(ResourceAccessException.class, () -> service.execute(10L));
+        assertEquals(TransferStatus.PROCESSING, transfer.getStatus());
+        verify(outboxService, never()).record(any(), any(), eq(TransferEventType.EXECUTED), any());
+    }
+
+    @Test
+    @DisplayName("Повторное исполнение перевода в PROCESSING повторяет вызов account с тем же id")
+    void executeProcessingRetryTest() {
+        final AccountTransferEntity transfer = getTransfer(BigDecimal.TEN);
+        transfer.setStatus(TransferStatus.PROCESSING);
+        when(transferRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(transfer));
+        when(transferRepository.save(transfer)).thenReturn(transfer);
+        when(accountLedgerClient.findIdByAccountNumber(200L)).thenReturn(Optional.of(2L));
+        when(accountLedgerClient.transfer(10L, 1L, 2L, BigDecimal.TEN)).thenReturn(Optional.empty());
+
+        final AccountTransferDto result = service.execute(10L);
+
+        assertEquals(TransferStatus.COMPLETED, result.getStatus());
+        verify(transferRepository, times(1)).save(transfer);
+    }
+
+    @Test
+    @DisplayName("Повторное исполнение завершённого перевода не перемещает деньги")
+    void executeAlreadyCompletedTest() {
+        final AccountTransferEntity transfer = getTransfer(BigDecimal.TEN);
+        transfer.setStatus(TransferStatus.COMPLETED);
+        when(transferRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(transfer));
+
+        final AccountTransferDto result = service.execute(10L);
+
+        assertEquals(TransferStatus.COMPLETED, result.getStatus());
+        verify(accountLedgerClient, never()).findIdByAccountNumber(anyLong());
+        verify(transferRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Исполнение несуществующего перевода, негативный сценарий")
+    void executeNotFoundTest() {
+        when(transferRepository.findByIdForUpdate(10L)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> service.execute(10L));
+    }
+
+    @Test
+    @DisplayName("Создание фиксируется до вызова account, затем перевод исполняется")
+    void createAndExecuteTest() {
+        final AccountTransferEntity created = getTransfer(BigDecimal.valueOf(5000));
+        when(transferRepository.save(any(AccountTransferEntity.class))).thenReturn(created);
+        when(transferRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(created));
+        when(accountLedgerClient.findIdByAccountNumber(200L)).thenReturn(Optional.of(2L));
+        when(accountLedgerClient.transfer(10L, 1L, 2L, BigDecimal.valueOf(5000))).thenReturn(Optional.empty());
+
+        final AccountTransferDto result = service.createAndExecute(new AccountTransferDto(null, 200L,
+                BigDecimal.valueOf(5000), "rent", 1L, null, null, null));
+
+        assertEquals(TransferStatus.COMPLETED, result.getStatus());
+        verify(outboxService).record(eq(TransferType.ACCOUNT), eq(10L), eq(TransferEventType.CREATED), any());
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    private AccountTransferEntity mockLockedTransfer(AccountTransferEntity transfer) {
+        when(transferRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(transfer));
+        when(transferRepository.save(transfer)).thenReturn(transfer);
+        return transfer;
+    }
+
+    private AccountTransferEntity getTransfer(BigDecimal amount) {
+        return new AccountTransferEntity(10L, 200L, amount, "rent", 1L, TransferStatus.NEW, null, null);
+    }
+}
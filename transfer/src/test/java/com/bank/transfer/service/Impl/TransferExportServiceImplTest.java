@@ -0,0 +1,87 @@
+package com.bank.transfer.service.Impl;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.service.TransferExportService.Format;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransferExportServiceImplTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2023, 10, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2023, 11, 1, 0, 0);
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    TransferExportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TransferExportServiceImpl(jdbcTemplate, transactionManager, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Строки курсора пишутся в поток по одной в read-only транзакции")
+    void exportTest() throws Exception {
+        final ResultSet row = mock(ResultSet.class);
+        when(row.getString(1)).thenReturn("CARD");
+        when(row.getBigDecimal(5)).thenReturn(BigDecimal.ONE);
+        when(row.getString(6)).thenReturn("rent");
+        when(row.getString(7)).thenReturn(null);
+        when(row.getTimestamp(8)).thenReturn(Timestamp.valueOf(FROM));
+        doAnswer(invocation -> {
+            final RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(row);
+            handler.processRow(row);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        service.export(FROM, TO, Format.CSV).writeTo(output);
+
+        final String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertAll(
+                () -> assertEquals(3, lines.length),
+                () -> assertEquals("CARD,0,0,0,1,rent,,2023-10-01T00:00:00", lines[1]),
+                () -> verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly))
+        );
+    }
+
+    @Test
+    @DisplayName("Пустой период отклоняется до начала выгрузки, негативный сценарий")
+    void exportEmptyPeriodNegativeTest() {
+        assertThrows(ValidationException.class, () -> service.export(TO, TO, Format.NDJSON));
+        verifyNoInteractions(jdbcTemplate, transactionManager);
+    }
+}
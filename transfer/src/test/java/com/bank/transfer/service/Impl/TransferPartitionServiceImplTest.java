@@ -0,0 +1,79 @@
+package com.bank.transfer.service.Impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransferPartitionServiceImplTest {
+
+    private static final String CREATE_SQL = "select transfer.create_monthly_partition(?, ?)";
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    TransferPartitionServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TransferPartitionServiceImpl(jdbcTemplate, new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(service, "monthsAhead", 2);
+        ReflectionTestUtils.setField(service, "retentionMonths", 12);
+    }
+
+    @Test
+    @DisplayName("Создаются секции на текущий и следующие месяцы, существующие не считаются")
+    void createUpcomingTest() {
+        when(jdbcTemplate.queryForObject(eq(CREATE_SQL), eq(Boolean.class), anyString(), any(Date.class)))
+                .thenReturn(true);
+        when(jdbcTemplate.queryForObject(CREATE_SQL, Boolean.class, "card_transfer",
+                Date.valueOf("2023-10-01"))).thenReturn(false);
+
+        final int created = service.createUpcoming(YearMonth.of(2023, 10));
+
+        assertEquals(8, created);
+        verify(jdbcTemplate).queryForObject(CREATE_SQL, Boolean.class, "phone_transfer", Date.valueOf("2023-12-01"));
+        verify(jdbcTemplate, times(9)).queryForObject(eq(CREATE_SQL), eq(Boolean.class), anyString(), any(Date.class));
+    }
+
+    @Test
+    @DisplayName("В архив уходят только помесячные секции старше срока хранения")
+    void archiveExpiredTest() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), anyString())).thenReturn(List.of());
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("account_transfer"))).thenReturn(List.of(
+                "account_transfer_p202209", "account_transfer_p202210", "account_transfer_default"));
+
+        final int archived = service.archiveExpired(YearMonth.of(2023, 10));
+
+        assertEquals(1, archived);
+        verify(jdbcTemplate).execute("alter table transfer.account_transfer " +
+                "detach partition transfer.account_transfer_p202209");
+        verify(jdbcTemplate).execute("alter table transfer.account_transfer_p202209 set schema transfer_archive");
+        verify(jdbcTemplate, never()).execute("alter table transfer.account_transfer_p202210 " +
+                "set schema transfer_archive");
+        verify(jdbcTemplate).update("delete from transfer.transfer_summary where created_at < ?",
+                Date.valueOf("2022-10-01"));
+    }
+}
@@ -0,0 +1,89 @@
+package com.bank.transfer.service.Impl;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.dto.TransferHistoryPageDto;
+import com.bank.transfer.dto.TransferSummaryDto;
+import com.bank.transfer.entity.TransferSummaryEntity;
+import com.bank.transfer.entity.TransferType;
+import com.bank.transfer.mapper.TransferSummaryMapperImpl;
+import com.bank.transfer.repository.TransferSummaryRepository;
+import com.bank.transfer.service.common.TransferHistoryCursor;
+import com.bank.transfer.service.common.TransferHistoryPager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransferSummaryServiceImplTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2023, 10, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2023, 11, 1, 0, 0);
+
+    @Mock
+    TransferSummaryRepository repository;
+
+    TransferSummaryServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TransferSummaryServiceImpl(repository, new TransferSummaryMapperImpl(),
+                new TransferHistoryPager());
+    }
+
+    @Test
+    @DisplayName("Первая страница периода ограничена его концом, переводы разных типов в одной выдаче")
+    void findFirstPageOfPeriodTest() {
+        when(repository.findPage(1L, Timestamp.valueOf(FROM), Timestamp.valueOf(TO), 0L, 21))
+                .thenReturn(List.of(getSummary(2L, TransferType.CARD), getSummary(1L, TransferType.PHONE)));
+
+        final TransferHistoryPageDto<TransferSummaryDto> page = service.find(1L, FROM, TO, null, 20);
+
+        assertAll(
+                () -> assertEquals(List.of(TransferType.CARD, TransferType.PHONE),
+                        page.getContent().stream().map(TransferSummaryDto::getTransferType).toList()),
+                () -> assertNull(page.getNextCursor())
+        );
+    }
+
+    @Test
+    @DisplayName("Следующая страница продолжается от курсора, а не от конца периода")
+    void findNextPageTest() {
+        final Timestamp createdAt = Timestamp.valueOf("2023-10-15 10:00:00");
+        final String cursor = TransferHistoryCursor.of(createdAt, 5L).encode();
+
+        service.find(1L, null, TO, cursor, 20);
+
+        verify(repository).findPage(1L, new Timestamp(0L), createdAt, 5L, 21);
+    }
+
+    @Test
+    @DisplayName("Начало периода не раньше конца, негативный сценарий")
+    void findInvalidPeriodNegativeTest() {
+        assertThrows(ValidationException.class, () -> service.find(1L, TO, FROM, null, 20));
+        verify(repository, never()).findPage(anyLong(), any(), any(), anyLong(), anyInt());
+    }
+
+    private TransferSummaryEntity getSummary(Long id, TransferType type) {
+        return new TransferSummaryEntity(id, type, 10L + id, 1L, 200L, BigDecimal.TEN, "rent", null,
+                Timestamp.valueOf("2023-10-10 10:00:00"));
+    }
+}
@@ -0,0 +1,61 @@
+package com.bank.transfer.service.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    private final TimingWheel<String> wheel = new TimingWheel<>(100, 8, 1_000);
+    private final List<String> fired = new ArrayList<>();
+
+    @Test
+    @DisplayName("Наступивший срок не добавляется")
+    void addDueTest() {
+        assertAll(
+                () -> assertFalse(wheel.add("past", 900)),
+                () -> assertFalse(wheel.add("now", 1_000)),
+                () -> assertTrue(wheel.add("next", 1_001))
+        );
+    }
+
+    @Test
+    @DisplayName("Элемент срабатывает не раньше срока и не позже конца его тика")
+    void advanceTest() {
+        wheel.add("a", 1_150);
+        wheel.add("b", 1_300);
+
+        wheel.advance(1_199, fired::add);
+        assertEquals(List.of(), fired);
+
+        wheel.advance(1_200, fired::add);
+        assertEquals(List.of("a"), fired);
+
+        wheel.advance(1_350, fired::add);
+        assertEquals(List.of("a", "b"), fired);
+    }
+
+    @Test
+    @DisplayName("Сроки дальше оборота колеса спускаются с верхних уровней в порядке сроков")
+    void overflowTest() {
+        wheel.add("far", 100_000);
+        wheel.add("middle", 5_000);
+        wheel.add("near", 1_500);
+
+        wheel.advance(4_999, fired::add);
+        assertEquals(List.of("near"), fired);
+
+        wheel.advance(99_999, fired::add);
+        assertEquals(List.of("near", "middle"), fired);
+
+        wheel.advance(100_000, fired::add);
+        assertEquals(List.of("near", "middle", "far"), fired);
+    }
+}
@@ -0,0 +1,69 @@
+package com.bank.transfer.service.common;
+
+import com.bank.transfer.service.TransferExportService.Format;
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransferExportWriterTest {
+
+    @Mock
+    ResultSet row;
+
+    @Test
+    @DisplayName("CSV: заголовок и экранирование запятых и кавычек в назначении")
+    void writeCsvTest() throws Exception {
+        mockRow("за \"аренду\", октябрь", "COMPLETED");
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        final TransferExportWriter writer = new TransferExportWriter(Format.CSV, output, new JsonFactory());
+        writer.write(row);
+        writer.flush();
+
+        assertEquals(TransferExportWriter.CSV_HEADER + "\n" +
+                "ACCOUNT,7,1,200,10.50,\"за \"\"аренду\"\", октябрь\",COMPLETED,2023-10-20T12:00:00\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("NDJSON: один объект в строке, пустой статус - null")
+    void writeNdjsonTest() throws Exception {
+        mockRow("rent", null);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        final TransferExportWriter writer = new TransferExportWriter(Format.NDJSON, output, new JsonFactory());
+        writer.write(row);
+        writer.write(row);
+        writer.flush();
+
+        final String line = "{\"transferType\":\"ACCOUNT\",\"transferId\":7,\"accountDetailsId\":1," +
+                "\"recipientNumber\":200,\"amount\":10.50,\"purpose\":\"rent\",\"status\":null," +
+                "\"createdAt\":\"2023-10-20T12:00:00\"}\n";
+        assertEquals(line + line, output.toString(StandardCharsets.UTF_8));
+    }
+
+    private void mockRow(String purpose, String status) throws SQLException {
+        when(row.getString(1)).thenReturn("ACCOUNT");
+        when(row.getLong(2)).thenReturn(7L);
+        when(row.getLong(3)).thenReturn(1L);
+        when(row.getLong(4)).thenReturn(200L);
+        when(row.getBigDecimal(5)).thenReturn(new BigDecimal("10.50"));
+        when(row.getString(6)).thenReturn(purpose);
+        when(row.getString(7)).thenReturn(status);
+        when(row.getTimestamp(8)).thenReturn(Timestamp.valueOf("2023-10-20 12:00:00"));
+    }
+}
@@ -0,0 +1,102 @@
+package com.bank.transfer.service.common;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.dto.TransferHistoryPageDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TransferHistoryPagerTest {
+
+    private static final Timestamp CREATED_AT = Timestamp.valueOf("2023-10-20 12:00:00.123456");
+
+    private final TransferHistoryPager pager = new TransferHistoryPager();
+    private final List<TransferHistoryCursor> requested = new ArrayList<>();
+
+    @Test
+    @DisplayName("Курсор восстанавливается из строки без потери микросекунд")
+    void cursorRoundTripTest() {
+        final TransferHistoryCursor cursor = TransferHistoryCursor.of(CREATED_AT, 42L);
+
+        assertAll(
+                () -> assertEquals(cursor, TransferHistoryCursor.decode(cursor.encode())),
+                () -> assertEquals(TransferHistoryCursor.FIRST, TransferHistoryCursor.decode(null))
+        );
+    }
+
+    @Test
+    @DisplayName("Неполная страница - последняя, курсор не выдаётся")
+    void lastPageTest() {
+        final TransferHistoryPageDto<Long> page = pager.page(null, 5, this::query, this::cursorOf,
+                Function.identity());
+
+        assertAll(
+                () -> assertEquals(List.of(3L, 2L, 1L), page.getContent()),
+                () -> assertNull(page.getNextCursor()),
+                () -> assertEquals(List.of(TransferHistoryCursor.FIRST), requested)
+        );
+    }
+
+    @Test
+    @DisplayName("Курсор следующей страницы указывает на последнюю выданную запись")
+    void nextPageTest() {
+        final TransferHistoryPageDto<Long> first = pager.page(null, 2, this::query, this::cursorOf,
+                Function.identity());
+        final TransferHistoryPageDto<Long> second = pager.page(first.getNextCursor(), 2, this::query,
+                this::cursorOf, Function.identity());
+
+        assertAll(
+                () -> assertEquals(List.of(3L, 2L), first.getContent()),
+                () -> assertEquals(TransferHistoryCursor.of(CREATED_AT, 2L), requested.get(1)),
+                () -> assertEquals(List.of(1L), second.getContent()),
+                () -> assertNull(second.getNextCursor())
+        );
+    }
+
+    @Test
+    @DisplayName("Недопустимый размер страницы и испорченный курсор, негативный сценарий")
+    void validationNegativeTest() {
+        assertAll(
+                () -> assertThrows(ValidationException.class,
+                        () -> pager.page(null, 0, this::query, this::cursorOf, Function.identity())),
+                () -> assertThrows(ValidationException.class,
+                        () -> pager.page(null, TransferHistoryPager.MAX_PAGE_SIZE + 1, this::query,
+                                this::cursorOf, Function.identity())),
+                () -> assertThrows(ValidationException.class, () -> TransferHistoryCursor.decode("not a cursor")),
+                () -> assertThrows(ValidationException.class, () -> TransferHistoryCursor.decode("MTox")),
+                () -> assertThrows(ValidationException.class, () -> TransferHistoryCursor.decode(encode(
+                        Long.MAX_VALUE + ":" + Long.MAX_VALUE + ":1"))),
+                () -> assertThrows(ValidationException.class, () -> TransferHistoryCursor.decode(encode("1:-1:1")))
+        );
+    }
+
+    private List<Long> query(TransferHistoryCursor after, int size) {
+        requested.add(after);
+        return LongStream.iterate(3L, id -> id - 1).limit(3)
+                .filter(id -> id < after.getId())
+                .limit(size)
+                .boxed()
+                .collect(Collectors.toList());
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private TransferHistoryCursor cursorOf(Long id) {
+        return TransferHistoryCursor.of(CREATED_AT, id);
+    }
+}
@@ -0,0 +1,35 @@
+package com.bank.transfer.service.common;
+
+import com.bank.common.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TransferNumberNormalizerTest {
+
+    private final TransferNumberNormalizer normalizer = new TransferNumberNormalizer();
+
+    @Test
+    @DisplayName("Оформление номера карты и телефона отбрасывается")
+    void normalizePositiveTest() {
+        assertAll(
+                () -> assertEquals(4111111111111111L, normalizer.normalize("4111 1111 1111 1111")),
+                () -> assertEquals(79123456789L, normalizer.normalize("+7 (912) 345-67-89")),
+                () -> assertEquals(40817810L, normalizer.normalize("40817810"))
+        );
+    }
+
+    @Test
+    @DisplayName("Буквы, пустой и слишком длинный номер, негативный сценарий")
+    void normalizeNegativeTest() {
+        assertAll(
+                () -> assertThrows(ValidationException.class, () -> normalizer.normalize("4111-abcd")),
+                () -> assertThrows(ValidationException.class, () -> normalizer.normalize(" ")),
+                () -> assertThrows(ValidationException.class, () -> normalizer.normalize(null)),
+                () -> assertThrows(ValidationException.class, () -> normalizer.normalize("1234567890123456789"))
+        );
+    }
+}